@@ -0,0 +1,61 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/* 1년치, 5개 지점 예약을 일자별로 집계하는 비용 (DB 조회 제외)
+ * ./gradlew jmh */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OccupancyAggregatorBenchmark {
+
+	private static final int BRANCH_COUNT = 5;
+	private static final int DAY_COUNT = 366;
+
+	@Param({"10000", "100000"})
+	private int reservationCount;
+
+	private long startEpochDay;
+	private int[] branchIndexes;
+	private long[] checkinEpochDays;
+	private long[] checkoutEpochDays;
+	private long[] paidAmounts;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		startEpochDay = LocalDate.of(2024, 1, 1).toEpochDay();
+
+		branchIndexes = new int[reservationCount];
+		checkinEpochDays = new long[reservationCount];
+		checkoutEpochDays = new long[reservationCount];
+		paidAmounts = new long[reservationCount];
+
+		for (int i = 0; i < reservationCount; i++) {
+			branchIndexes[i] = random.nextInt(BRANCH_COUNT);
+			checkinEpochDays[i] = startEpochDay - 3 + random.nextInt(DAY_COUNT + 3);
+			checkoutEpochDays[i] = checkinEpochDays[i] + 1 + random.nextInt(5);
+			paidAmounts[i] = 80_000L + random.nextInt(400_000);
+		}
+	}
+
+	@Benchmark
+	public OccupancyAggregator aggregateYear() {
+		OccupancyAggregator aggregator = new OccupancyAggregator(startEpochDay, DAY_COUNT, BRANCH_COUNT);
+		for (int i = 0; i < reservationCount; i++) {
+			aggregator.add(branchIndexes[i], checkinEpochDays[i], checkoutEpochDays[i], paidAmounts[i]);
+		}
+		return aggregator;
+	}
+}
@@ -10,9 +10,11 @@ import org.iot.hotelitybackend.chatgpt.dto.ChatGPTResponse;
 import org.iot.hotelitybackend.hotelservice.aggregate.PaymentEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.StayEntity;
+import org.iot.hotelitybackend.hotelservice.dto.PaymentSummaryDTO;
 import org.iot.hotelitybackend.hotelservice.repository.PaymentRepository;
 import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
 import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.service.PaymentSummaryService;
 import org.iot.hotelitybackend.sales.aggregate.NoticeEntity;
 import org.iot.hotelitybackend.sales.aggregate.VocEntity;
 import org.iot.hotelitybackend.sales.repository.NoticeRepository;
@@ -37,16 +39,19 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 	private final PaymentRepository paymentRepository;
 	private final NoticeRepository noticeRepository;
 	private final VocRepository vocRepository;
+	private final PaymentSummaryService paymentSummaryService;
 
 	@Autowired
 	public ChatGPTServiceImpl(RestTemplate template, ReservationRepository reservationRepository, StayRepository stayRepository,
-                              PaymentRepository paymentRepository, NoticeRepository noticeRepository, VocRepository vocRepository) {
+                              PaymentRepository paymentRepository, NoticeRepository noticeRepository, VocRepository vocRepository,
+                              PaymentSummaryService paymentSummaryService) {
 		this.template = template;
 		this.reservationRepository = reservationRepository;
 		this.stayRepository = stayRepository;
 		this.paymentRepository = paymentRepository;
         this.noticeRepository = noticeRepository;
         this.vocRepository = vocRepository;
+        this.paymentSummaryService = paymentSummaryService;
     }
 
 	@Override
@@ -170,7 +175,6 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 	}
 
 	private String getMonthlyDataString(LocalDateTime now, String contentType) {
-		StringBuilder paymentListData = new StringBuilder();
 		StringBuilder reservationListData = new StringBuilder();
 
 		int year = now.getYear();
@@ -183,23 +187,12 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 
 		String data;
 		if (contentType.equals("결제")) {
-			// 해당일자의 월별 결제 데이터 수집
-			List<PaymentEntity> paymentEntityList =
-				paymentRepository.findAllByPaymentDateBetween(
-					java.sql.Timestamp.valueOf(startOfMonth),
-					java.sql.Timestamp.valueOf(endOfMonth)
-				);
-			if (!paymentEntityList.isEmpty()) {
-				for (PaymentEntity paymentEntity : paymentEntityList) {
-					paymentListData.append(paymentEntity.toString()).append("\n");
-				}
-			} else {
-				paymentListData.append("결제 데이터가 없습니다.");
-			}
-			System.out.println("paymentListData = " + paymentListData);
+			// 해당월 결제 합계 (결제 일별 집계 기준)
+			PaymentSummaryDTO paymentSummary =
+				paymentSummaryService.summarize("month", startOfMonth.toLocalDate(), null);
 			data =
-				year + "년" + month + "월 결제: " + paymentEntityList.size() + "건, " +
-					year + "년" + month + "월 결제내용: " + paymentListData + " \n ";
+				year + "년" + month + "월 결제: " + paymentSummary.getPaymentCount() + "건, " +
+					year + "년" + month + "월 결제내용: " + toPaymentSummaryString(paymentSummary) + " \n ";
 		} else {
 			// 해당일자의 월별 예약 데이터 수집
 			List<ReservationEntity> reservationEntityList =
@@ -262,7 +255,6 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 	}
 
 	private String getYearlyDataString(LocalDateTime now, String contentType) {
-		StringBuilder paymentListData = new StringBuilder();
 		StringBuilder reservationListData = new StringBuilder();
 
 		int year = now.getYear();
@@ -274,23 +266,12 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 
 		String data;
 		if (contentType.equals("결제")) {
-			// 해당일자의 연별 결제 데이터 수집
-			List<PaymentEntity> paymentEntityList =
-				paymentRepository.findAllByPaymentDateBetween(
-					java.sql.Timestamp.valueOf(startOfYear),
-					java.sql.Timestamp.valueOf(endOfYear)
-				);
-			if (!paymentEntityList.isEmpty()) {
-				for (PaymentEntity paymentEntity : paymentEntityList) {
-					paymentListData.append(paymentEntity.toString()).append("\n");
-				}
-			} else {
-				paymentListData.append("결제 데이터가 없습니다.");
-			}
-			System.out.println("paymentListData = " + paymentListData);
+			// 해당연도 결제 합계 (결제 일별 집계 기준)
+			PaymentSummaryDTO paymentSummary =
+				paymentSummaryService.summarize("year", startOfYear.toLocalDate(), null);
 			data =
-				year + "년 결제: " + paymentEntityList.size() + "건, " +
-					year + "년 결제내용: " + paymentListData + " \n ";
+				year + "년 결제: " + paymentSummary.getPaymentCount() + "건, " +
+					year + "년 결제내용: " + toPaymentSummaryString(paymentSummary) + " \n ";
 		} else {
 			// 해당일자의 연별 예약 데이터 수집
 			List<ReservationEntity> reservationEntityList =
@@ -311,6 +292,17 @@ public class ChatGPTServiceImpl implements ChatGPTService{
 		return data;
 	}
 
+	// 결제 건별 목록 대신 합계만 프롬프트에 전달
+	private String toPaymentSummaryString(PaymentSummaryDTO paymentSummary) {
+		if (paymentSummary.getPaymentCount() == 0 && paymentSummary.getCanceledCount() == 0) {
+			return "결제 데이터가 없습니다.";
+		}
+		return "결제 금액 총합 " + paymentSummary.getPaymentAmount() + "원, "
+			+ "결제 종류별 금액 " + paymentSummary.getPaymentAmountByPaymentType() + ", "
+			+ "지점별 금액 " + paymentSummary.getPaymentAmountByBranch() + ", "
+			+ "취소 " + paymentSummary.getCanceledCount() + "건(" + paymentSummary.getCanceledAmount() + "원)";
+	}
+
 	@Override
 	public String getYearlyChatGPTResponse(String promptDataString, String contentType) {
 
@@ -6,6 +6,10 @@ public class Constant {
     public static final String KEY_TOTAL_PAGES_COUNT = "totalPagesCount";
     public static final String KEY_CURRENT_PAGE_INDEX = "currentPageIndex";
     public static final String KEY_CONTENT = "content";
+    public static final String KEY_NEXT_CURSOR = "nextCursor";
+    public static final String KEY_HAS_NEXT = "hasNext";
+    public static final String KEY_FACETS = "facets";
+    public static final String KEY_CHECKED_OUT_COUNT = "checkedOutCount";
 
     /* JWT attribute */
     public static final String KEY_ACCESS_TOKEN = "accessToken";
@@ -21,4 +25,14 @@ public class Constant {
 
     public static final String CORS_EXPOSED_HEADER_SET_COOKIE = "Set-Cookie";
     public static final String CORS_EXPOSED_HEADER_COOKIE = "Cookie";
+
+    /* Redis pub/sub channel */
+    public static final String REDIS_CHANNEL_ROOM_AVAILABILITY = "room-availability";
+    public static final String REDIS_CHANNEL_ROOM_SEARCH = "room-search";
+    public static final String REDIS_CHANNEL_REFERENCE_DATA = "reference-data";
+    public static final String REDIS_CHANNEL_OCCUPANCY = "occupancy";
+
+    /* Redis cache key prefix */
+    public static final String REDIS_PREFIX_CUSTOMER_PROFILE = "customer-profile:";
+    public static final String REDIS_PREFIX_JOB = "job:";
 }
@@ -0,0 +1,12 @@
+package org.iot.hotelitybackend.common.event;
+
+import java.util.Set;
+
+/* 목록 전체 건수 변경 알림
+ * 목록 조회 대상 엔티티를 등록/삭제한 서비스가 발행하고, 전체 건수 캐시가 커밋 이후 해당 엔티티의 건수를 삭제한다. */
+public record TotalCountChangedEvent(Set<Class<?>> domainClasses) {
+
+	public static TotalCountChangedEvent of(Class<?>... domainClasses) {
+		return new TotalCountChangedEvent(Set.of(domainClasses));
+	}
+}
@@ -0,0 +1,86 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/* 목록 DTO 의 외래키 이름 채우기
+ * 행마다 findById 를 호출하는 대신, 목록의 서로 다른 외래키 값을 먼저 모아 타입마다 IN 조회(findAllById 등) 한 번으로 읽고
+ * 읽어 둔 Map 을 목록의 모든 DTO 에 적용한다. 한 번의 목록 변환(요청) 동안만 쓰고 버린다.
+ *
+ * BatchFkResolver.of(vocDTOList)
+ *     .resolve(VocDTO::getCustomerCodeFk, customerRepository::findAllById, CustomerEntity::getCustomerCodePk,
+ *         (vocDTO, customer) -> vocDTO.setCustomerName(customer.getCustomerName()));
+ *
+ * 참조하는 행이 없는(삭제된) 경우에는 setter 를 호출하지 않는다. */
+public class BatchFkResolver<D> {
+
+	// IN 절에 한 번에 넣는 키 개수 (엑셀 다운로드 등 전체 목록에서 쿼리가 너무 길어지지 않도록)
+	static final int IN_CLAUSE_SIZE = 1000;
+
+	private final List<D> dtoList;
+
+	private BatchFkResolver(List<D> dtoList) {
+		this.dtoList = dtoList;
+	}
+
+	public static <D> BatchFkResolver<D> of(List<D> dtoList) {
+		return new BatchFkResolver<>(dtoList);
+	}
+
+	/* 외래키 값으로 엔티티를 읽어 각 DTO 에 적용 */
+	public <K, E> BatchFkResolver<D> resolve(
+		Function<D, K> fkGetter,
+		Function<List<K>, ? extends Iterable<E>> loader,
+		Function<E, K> idGetter,
+		BiConsumer<D, E> setter
+	) {
+		return apply(fkGetter, load(fkGetter, loader, idGetter), setter);
+	}
+
+	/* 이미 읽어 둔 Map 을 각 DTO 에 적용 */
+	public <K, E> BatchFkResolver<D> apply(Function<D, K> fkGetter, Map<K, E> entityMap, BiConsumer<D, E> setter) {
+		for (D dto : dtoList) {
+			K key = fkGetter.apply(dto);
+			E entity = key == null ? null : entityMap.get(key);
+			if (entity != null) {
+				setter.accept(dto, entity);
+			}
+		}
+		return this;
+	}
+
+	/* 외래키 값 -> 엔티티 Map (읽은 엔티티의 값으로 다음 외래키를 찾아야 하는 경우 등) */
+	public <K, E> Map<K, E> load(
+		Function<D, K> fkGetter,
+		Function<List<K>, ? extends Iterable<E>> loader,
+		Function<E, K> idGetter
+	) {
+		Set<K> keys = new LinkedHashSet<>();
+		for (D dto : dtoList) {
+			K key = fkGetter.apply(dto);
+			if (key != null) {
+				keys.add(key);
+			}
+		}
+
+		Map<K, E> entityMap = new HashMap<>();
+		List<K> keyList = new ArrayList<>(keys);
+		for (int fromIndex = 0; fromIndex < keyList.size(); fromIndex += IN_CLAUSE_SIZE) {
+			List<K> chunk = keyList.subList(fromIndex, Math.min(fromIndex + IN_CLAUSE_SIZE, keyList.size()));
+			for (E entity : loader.apply(chunk)) {
+				entityMap.put(idGetter.apply(entity), entity);
+			}
+		}
+		return entityMap;
+	}
+
+	public List<D> toList() {
+		return dtoList;
+	}
+}
@@ -0,0 +1,82 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 서버 메모리 캐시/인덱스의 변경을 다른 서버에 알리는 Redis pub/sub 채널 하나
+ * 변경 트랜잭션이 커밋된 뒤 로컬에 반영하고 "nodeId:payload" 를 보낸다.
+ * 수신 측은 remotePayload 로 자기 자신이 보낸 메시지(이미 반영함)를 걸러낸다. */
+@Slf4j
+public class ChangeBroadcaster {
+
+	public static final String MESSAGE_DELIMITER = ":";
+
+	private final StringRedisTemplate redisTemplate;
+	private final String channel;
+
+	// 자기 자신이 보낸 메시지는 이미 반영했으므로 무시하기 위한 서버 식별자
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public ChangeBroadcaster(StringRedisTemplate redisTemplate, String channel) {
+		this.redisTemplate = redisTemplate;
+		this.channel = channel;
+	}
+
+	public String nodeId() {
+		return nodeId;
+	}
+
+	/* 커밋 이후 localChange 를 실행하고 다른 서버에 payload 를 알린다 (트랜잭션 밖이면 바로 실행) */
+	public void afterCommit(Runnable localChange, String payload) {
+		runAfterCommit(() -> {
+			localChange.run();
+			publish(payload);
+		});
+	}
+
+	public void publish(String payload) {
+		try {
+			redisTemplate.convertAndSend(channel, nodeId + MESSAGE_DELIMITER + payload);
+		} catch (RuntimeException e) {
+			// 다른 서버는 매일 새로 만들 때나 TTL 이 지나면 맞춰진다
+			log.warn("{} 변경 알림 전송 실패 [{}]: {}", channel, payload, e.getMessage());
+		}
+	}
+
+	/* 다른 서버가 보낸 메시지의 payload, 자기 자신이 보냈거나 형식이 맞지 않으면 empty */
+	public Optional<String> remotePayload(Message message) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+		if (delimiterIndex < 0 || nodeId.equals(body.substring(0, delimiterIndex))) {
+			return Optional.empty();
+		}
+		return Optional.of(body.substring(delimiterIndex + 1));
+	}
+
+	/* 보낸 서버와 관계없이 메시지의 payload (자기 자신의 변경도 같은 경로로 반영하는 수신 측용) */
+	public static String payload(Message message) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		return body.substring(body.indexOf(MESSAGE_DELIMITER) + 1);
+	}
+
+	public static void runAfterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
+	}
+}
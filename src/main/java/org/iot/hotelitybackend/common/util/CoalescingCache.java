@@ -0,0 +1,83 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/* 짧은 TTL 결과 캐시 + 요청 합치기
+ * 같은 키로 동시에 들어온 요청은 진행 중인 하나의 조회 결과(CompletableFuture)를 함께 기다린다.
+ * 완료된 결과는 조회를 시작한 시점부터 ttlMillis 동안 재사용하고, 실패한 결과는 보관하지 않는다. */
+public class CoalescingCache<K, V> {
+
+	private final long ttlMillis;
+	private final int maxEntries;
+	private final Map<K, Entry<V>> entryMap = new ConcurrentHashMap<>();
+
+	private record Entry<V>(CompletableFuture<V> future, long createdAt) {
+	}
+
+	public CoalescingCache(long ttlMillis, int maxEntries) {
+		this.ttlMillis = ttlMillis;
+		this.maxEntries = maxEntries;
+	}
+
+	/* loader 는 새로 조회해야 하는 경우에만 (키마다 한 번) 호출된다 */
+	public CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> loader) {
+		long now = System.currentTimeMillis();
+		Entry<V> current = entryMap.get(key);
+		if (isUsable(current, now)) {
+			return current.future();
+		}
+
+		if (entryMap.size() >= maxEntries) {
+			entryMap.values().removeIf(entry -> !isUsable(entry, now));
+		}
+
+		// compute 안에서는 자리만 잡고, loader 는 잠금 밖에서 실행한다
+		CompletableFuture<V> placeholder = new CompletableFuture<>();
+		Entry<V> entry = entryMap.compute(key,
+			(k, existing) -> isUsable(existing, now) ? existing : new Entry<>(placeholder, now));
+		if (entry.future() != placeholder) {
+			return entry.future();
+		}
+
+		placeholder.whenComplete((value, throwable) -> {
+			if (throwable != null) {
+				entryMap.remove(key, entry);
+			}
+		});
+		try {
+			loader.get().whenComplete((value, throwable) -> {
+				if (throwable != null) {
+					placeholder.completeExceptionally(throwable);
+				} else {
+					placeholder.complete(value);
+				}
+			});
+		} catch (RuntimeException e) {
+			placeholder.completeExceptionally(e);
+		}
+		return placeholder;
+	}
+
+	public void evict(K key) {
+		entryMap.remove(key);
+	}
+
+	public void clear() {
+		entryMap.clear();
+	}
+
+	// 진행 중이거나, 정상 완료 후 TTL 이 지나지 않은 경우
+	private boolean isUsable(Entry<V> entry, long now) {
+		if (entry == null) {
+			return false;
+		}
+		CompletableFuture<V> future = entry.future();
+		if (!future.isDone()) {
+			return true;
+		}
+		return !future.isCompletedExceptionally() && now - entry.createdAt() < ttlMillis;
+	}
+}
@@ -4,19 +4,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
 import org.iot.hotelitybackend.marketing.repository.TemplateRepository;
 import org.iot.hotelitybackend.sales.aggregate.CouponEntity;
+import org.iot.hotelitybackend.sales.aggregate.CouponIssueEntity;
 import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
 import org.iot.hotelitybackend.sales.repository.CouponIssueRepository;
 import org.iot.hotelitybackend.sales.repository.CouponRepository;
 import org.iot.hotelitybackend.sales.repository.MembershipIssueRepository;
-import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.iot.hotelitybackend.sales.service.CouponIssueServiceImpl;
 import org.iot.hotelitybackend.sales.service.MembershipIssueServiceImpl;
 import org.iot.hotelitybackend.sales.vo.RequestCouponIssue;
 import org.iot.hotelitybackend.smpt.EmailServiceImpl;
 import org.iot.hotelitybackend.smpt.RequestDTO;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -29,26 +32,28 @@ public class ConsoleScheduler {
 	private final CouponIssueRepository couponIssueRepository;
 	private final CustomerRepository customerRepository;
 	private final TemplateRepository templateRepository;
-	private final MembershipRepository membershipRepository;
+	private final ReferenceDataCache referenceDataCache;
 	private final EmailServiceImpl emailService;
 	private final MembershipIssueServiceImpl membershipIssueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private final AtomicBoolean hasRun = new AtomicBoolean(false);
 
 	public ConsoleScheduler(CouponIssueServiceImpl couponIssueService, MembershipIssueRepository membershipIssueRepository,
 		CouponRepository couponRepository, CouponIssueRepository couponIssueRepository,
 		CustomerRepository customerRepository,
-		TemplateRepository templateRepository, MembershipRepository membershipRepository, EmailServiceImpl emailService,
-		MembershipIssueServiceImpl membershipIssueService) {
+		TemplateRepository templateRepository, ReferenceDataCache referenceDataCache, EmailServiceImpl emailService,
+		MembershipIssueServiceImpl membershipIssueService, ApplicationEventPublisher eventPublisher) {
 		this.couponIssueService = couponIssueService;
 		this.membershipIssueRepository = membershipIssueRepository;
 		this.couponRepository = couponRepository;
 		this.couponIssueRepository = couponIssueRepository;
 		this.customerRepository = customerRepository;
 		this.templateRepository = templateRepository;
-		this.membershipRepository = membershipRepository;
+		this.referenceDataCache = referenceDataCache;
 		this.emailService = emailService;
 		this.membershipIssueService = membershipIssueService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	// @Scheduled(initialDelay = 5000, fixedDelay = Long.MAX_VALUE) // 애플리케이션 시작 후 5초 뒤에 한 번 실행
@@ -71,6 +76,8 @@ public class ConsoleScheduler {
 
 	private void executeCouponIssue() {
 		couponIssueRepository.deleteAll();
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.ofAllCustomers());
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(CouponIssueEntity.class));
 
 		List<MembershipIssueEntity> membershipIssues = membershipIssueRepository.findAll();
 		List<CouponEntity> coupons = couponRepository.findAll();
@@ -124,7 +131,7 @@ public class ConsoleScheduler {
 	}
 
 	private String generateEmailTitle(MembershipIssueEntity membershipIssue) {
-		String membershipLevelName = membershipRepository.findById(
+		String membershipLevelName = referenceDataCache.membership(
 				membershipIssueRepository.findByCustomerCodeFk(membershipIssue.getCustomerCodeFk()).getMembershipLevelCodeFk())
 			.orElseThrow(() -> new IllegalArgumentException("Invalid membership level code"))
 			.getMembershipLevelName();
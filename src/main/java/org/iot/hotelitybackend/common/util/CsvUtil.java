@@ -0,0 +1,137 @@
+package org.iot.hotelitybackend.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+/* 목록 CSV 다운로드
+ * 행을 하나씩 받아 재사용하는 StringBuilder 에 한 줄을 만들고, 같은 char 버퍼/인코더 버퍼를 거쳐 바로 스트림에 쓴다.
+ * 목록 전체를 메모리에 올리지 않으므로 커서 조회(Stream) 와 함께 쓰면 건수와 관계없이 메모리 사용량이 일정하다.
+ * 엑셀에서 한글 헤더가 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다. */
+@Slf4j
+public class CsvUtil {
+
+	private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final String LINE_SEPARATOR = "\r\n";
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+
+	/* 쓴 행 수(헤더 제외) 반환, 스트림은 flush 만 하고 닫지 않는다 */
+	public static int writeCsv(OutputStream out, Iterable<?> dtos, String[] headerStrings, String[] fieldNames)
+		throws IOException {
+
+		out.write(UTF8_BOM);
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		StringBuilder line = new StringBuilder(INITIAL_BUFFER_SIZE);
+		char[] chars = new char[INITIAL_BUFFER_SIZE];
+
+		Iterator<?> iterator = dtos.iterator();
+		Object first = iterator.hasNext() ? iterator.next() : null;
+		List<DtoColumns.Column> columns = first == null ? List.of() : DtoColumns.resolve(first.getClass(), fieldNames);
+
+		// header
+		int columnCount = Math.max(columns.size(), headerStrings.length);
+		for (int i = 0; i < columnCount; i++) {
+			if (i > 0) {
+				line.append(',');
+			}
+			appendText(line, i < headerStrings.length ? headerStrings[i] : columns.get(i).name());
+		}
+		chars = writeLine(writer, line, chars);
+
+		int rowCount = 0;
+		Object dto = first;
+		while (dto != null) {
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					line.append(',');
+				}
+				Object value = columns.get(i).get(dto);
+				if (value != null) {
+					appendValue(line, value);
+				}
+			}
+			chars = writeLine(writer, line, chars);
+			rowCount++;
+			dto = iterator.hasNext() ? iterator.next() : null;
+		}
+
+		writer.flush();
+		log.info("[CsvUtil:writeCsv] create CSV list done. row count:[{}]", rowCount);
+		return rowCount;
+	}
+
+	// 한 줄을 버퍼로 옮겨 쓰고 StringBuilder 는 비워서 다음 줄에 재사용 (버퍼가 작으면 늘린 버퍼 반환)
+	private static char[] writeLine(Writer writer, StringBuilder line, char[] chars) throws IOException {
+		line.append(LINE_SEPARATOR);
+		int length = line.length();
+		if (chars.length < length) {
+			chars = new char[Math.max(length, chars.length * 2)];
+		}
+		line.getChars(0, length, chars, 0);
+		writer.write(chars, 0, length);
+		line.setLength(0);
+		return chars;
+	}
+
+	private static void appendValue(StringBuilder line, Object value) {
+		if (value instanceof Double || value instanceof Float) {
+			double number = ((Number)value).doubleValue();
+			// 1.0E7 같은 지수 표기 대신 일반 숫자로
+			line.append(Double.isFinite(number) ? new BigDecimal(value.toString()).toPlainString() : value.toString());
+		} else if (value instanceof Number || value instanceof Boolean) {
+			line.append(value);
+		} else if (value instanceof Date date) {
+			// java.sql.Date 는 toInstant 를 지원하지 않으므로 epoch millis 로 변환
+			line.append(DATE_TIME_FORMATTER.format(
+				LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault())));
+		} else if (value instanceof LocalDateTime localDateTime) {
+			line.append(DATE_TIME_FORMATTER.format(localDateTime));
+		} else if (value instanceof LocalDate localDate) {
+			line.append(localDate);
+		} else {
+			String text = String.valueOf(value);
+			// 엑셀에서 열 때 수식으로 실행되지 않도록 (=, +, -, @ 로 시작하는 문자열)
+			if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+				text = "'" + text;
+			}
+			appendText(line, text);
+		}
+	}
+
+	// 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 쓴다
+	private static void appendText(StringBuilder line, String text) {
+		boolean quote = false;
+		for (int i = 0; i < text.length() && !quote; i++) {
+			char c = text.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			line.append(text);
+			return;
+		}
+
+		line.append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '"') {
+				line.append('"');
+			}
+			line.append(c);
+		}
+		line.append('"');
+	}
+}
@@ -0,0 +1,74 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 목록 다운로드(엑셀, CSV) 에서 사용하는 DTO 컬럼 접근자
+ * 필드 접근자는 클래스당 한 번만 만들어 재사용한다. */
+final class DtoColumns {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	// DTO 클래스별 컬럼 (필드 선언 순서 = 다운로드 파일 컬럼 순서)
+	private static final ClassValue<Map<String, Column>> COLUMNS = new ClassValue<>() {
+		@Override
+		protected Map<String, Column> computeValue(Class<?> type) {
+			Map<String, Column> columns = new LinkedHashMap<>();
+			for (Field field : type.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+					continue;
+				}
+				field.setAccessible(true);
+				try {
+					MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+					columns.put(field.getName(), new Column(field.getName(), field.getType(), getter));
+				} catch (IllegalAccessException e) {
+					throw new IllegalStateException(type.getName() + "." + field.getName() + " 필드에 접근할 수 없습니다.", e);
+				}
+			}
+			return Collections.unmodifiableMap(columns);
+		}
+	};
+
+	record Column(String name, Class<?> type, MethodHandle getter) {
+
+		Object get(Object dto) {
+			try {
+				return (Object)getter.invokeExact(dto);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private DtoColumns() {
+	}
+
+	/* fieldNames 가 null 이면 전체 필드, 아니면 지정한 필드만 지정한 순서대로 */
+	static List<Column> resolve(Class<?> type, String[] fieldNames) {
+		Map<String, Column> columns = COLUMNS.get(type);
+		if (fieldNames == null) {
+			return new ArrayList<>(columns.values());
+		}
+
+		List<Column> selectedColumns = new ArrayList<>(fieldNames.length);
+		for (String fieldName : fieldNames) {
+			Column column = columns.get(fieldName);
+			if (column == null) {
+				throw new IllegalArgumentException(type.getSimpleName() + " 에 " + fieldName + " 필드가 없습니다.");
+			}
+			selectedColumns.add(column);
+		}
+		return selectedColumns;
+	}
+}
@@ -0,0 +1,145 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/* 엑셀 첫 번째 시트를 한 행씩 읽어 셀 문자열 배열로 전달
+ * xlsx 는 시트 XML 을 SAX 로 읽어 워크북 전체를 메모리에 올리지 않는다.
+ * xls 는 이벤트 방식 리더가 없어 워크북을 읽은 뒤 같은 방식으로 전달한다. */
+public class ExcelRowReader {
+
+	@FunctionalInterface
+	public interface RowHandler {
+		/* rowNumber: 엑셀 화면에 보이는 행 번호 (1부터), cells: 빈 셀은 빈 문자열 */
+		void row(int rowNumber, String[] cells) throws IOException;
+	}
+
+	private ExcelRowReader() {
+	}
+
+	public static void read(Path file, String extension, int columnCount, RowHandler handler) throws IOException {
+		if ("xlsx".equalsIgnoreCase(extension)) {
+			readXlsx(file, columnCount, handler);
+		} else if ("xls".equalsIgnoreCase(extension)) {
+			readXls(file, columnCount, handler);
+		} else {
+			throw new IllegalArgumentException("엑셀파일만 업로드 해주세요.");
+		}
+	}
+
+	private static void readXlsx(Path file, int columnCount, RowHandler handler) throws IOException {
+		try (OPCPackage opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+			XSSFReader xssfReader = new XSSFReader(opcPackage);
+			ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+			StylesTable styles = xssfReader.getStylesTable();
+
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator)xssfReader.getSheetsData();
+			if (!sheets.hasNext()) {
+				return;
+			}
+
+			SheetRowCollector rowCollector = new SheetRowCollector(columnCount, handler);
+			try (InputStream sheet = sheets.next()) {
+				XMLReader parser = SAXHelper.newXMLReader();
+				parser.setContentHandler(
+					new XSSFSheetXMLHandler(styles, null, sharedStrings, rowCollector, new DataFormatter(), false));
+				parser.parse(new InputSource(sheet));
+			} catch (RowHandlerException e) {
+				throw e.getCause();
+			}
+		} catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+			throw new IOException("엑셀 파일을 읽을 수 없습니다.", e);
+		}
+	}
+
+	private static void readXls(Path file, int columnCount, RowHandler handler) throws IOException {
+		DataFormatter dataFormatter = new DataFormatter();
+		try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+			Sheet sheet = workbook.getSheetAt(0);
+			for (Row row : sheet) {
+				String[] cells = new String[columnCount];
+				for (int column = 0; column < columnCount; column++) {
+					cells[column] = dataFormatter.formatCellValue(row.getCell(column));
+				}
+				handler.row(row.getRowNum() + 1, cells);
+			}
+		}
+	}
+
+	/* SAX 콜백 안에서 발생한 RowHandler 예외를 parse 밖으로 전달하기 위한 래퍼 */
+	private static class RowHandlerException extends RuntimeException {
+		RowHandlerException(IOException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized IOException getCause() {
+			return (IOException)super.getCause();
+		}
+	}
+
+	private static class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+		private final int columnCount;
+		private final RowHandler handler;
+		private final String[] cells;
+		private int nextColumn;
+
+		SheetRowCollector(int columnCount, RowHandler handler) {
+			this.columnCount = columnCount;
+			this.handler = handler;
+			this.cells = new String[columnCount];
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			Arrays.fill(cells, "");
+			nextColumn = 0;
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			try {
+				handler.row(rowNum + 1, cells.clone());
+			} catch (IOException e) {
+				throw new RowHandlerException(e);
+			}
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			// 셀 주소가 없는 파일은 순서대로 채운다
+			int column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+			nextColumn = column + 1;
+			if (column < columnCount) {
+				cells[column] = formattedValue == null ? "" : formattedValue;
+			}
+		}
+
+		@Override
+		public void headerFooter(String text, boolean isHeader, String tagName) {
+		}
+	}
+}
@@ -55,6 +55,12 @@ public enum ExcelType {
     COUPON_ISSUE("쿠폰발급", new String[]{
             "쿠폰발급코드", "고객코드", "쿠폰코드", "쿠폰발급바코드", "쿠폰발급일자",
             "쿠폰만료일자", "쿠폰사용일자", "멤버십등급명", "고객이름", "쿠폰명", "쿠폰할인율"
+    }),
+
+    /* 영업관리 - VOC */
+    VOC("VOC", new String[]{
+            "VOC코드", "VOC제목", "VOC카테고리", "VOC내용", "고객코드", "고객이름", "VOC작성일시",
+            "VOC최종수정일시", "지점코드", "직원코드", "담당직원명", "VOC처리상태", "VOC답변", "VOC이미지링크"
     });
 
     private final String fileName;          // 파일명
@@ -2,31 +2,83 @@ package org.iot.hotelitybackend.common.util;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.http.HttpHeaders;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.HashMap;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
+/* 목록 엑셀 다운로드
+ * SXSSF 로 최근 행만 메모리에 두고 나머지는 임시 파일로 내려쓴 뒤, 완성된 파일을 주어진 스트림에 바로 쓴다.
+ * DTO 필드 접근자는 DtoColumns 에서 클래스당 한 번만 만들어 재사용하고, 컬럼 너비는 헤더/필드 타입으로 미리 정한다 (autoSizeColumn 미사용). */
 @Slf4j
 public class ExcelUtil {
 
-	public static Map<String, Object> createExcelFile(List<?> dtoList, String title, String[] headerStrings) throws
-		IOException,
-		IllegalAccessException {
+	// 메모리에 유지할 행 수
+	private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+	// 엑셀 셀 하나에 들어갈 수 있는 최대 글자 수
+	private static final int MAX_CELL_TEXT_LENGTH = 32_767;
+	private static final int MIN_COLUMN_CHARS = 10;
+	private static final int MAX_COLUMN_CHARS = 50;
 
-		Workbook workbook = new XSSFWorkbook();
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private record CellStyles(CellStyle header, CellStyle dateTime, CellStyle date) {
+	}
+
+	/* 쓴 행 수(헤더 제외) 반환 */
+	public static int writeExcel(OutputStream out, Iterable<?> dtos, String title, String[] headerStrings,
+		String[] fieldNames) throws IOException {
+
+		SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+		workbook.setCompressTempFiles(true);
+		try {
+			CellStyles cellStyles = createCellStyles(workbook);
+			SXSSFSheet sheet = workbook.createSheet(title);
+
+			Iterator<?> iterator = dtos.iterator();
+			Object first = iterator.hasNext() ? iterator.next() : null;
+			List<DtoColumns.Column> columns = first == null ? List.of() : DtoColumns.resolve(first.getClass(), fieldNames);
+
+			// header (컬럼명 들어갈 맨 첫번째 줄)
+			int columnCount = Math.max(columns.size(), headerStrings.length);
+			Row headerRow = sheet.createRow(0);
+			for (int i = 0; i < columnCount; i++) {
+				String headerString = i < headerStrings.length ? headerStrings[i] : columns.get(i).name();
+				Cell headerCell = headerRow.createCell(i);
+				headerCell.setCellValue(headerString);
+				headerCell.setCellStyle(cellStyles.header());
+				sheet.setColumnWidth(i, columnWidth(headerString, i < columns.size() ? columns.get(i).type() : null));
+			}
+
+			int rowIndex = 1;
+			Object dto = first;
+			while (dto != null) {
+				Row bodyRow = sheet.createRow(rowIndex++);
+				for (int i = 0; i < columns.size(); i++) {
+					Object value = columns.get(i).get(dto);
+					if (value != null) {
+						setCellValue(bodyRow.createCell(i), value, cellStyles);
+					}
+				}
+				dto = iterator.hasNext() ? iterator.next() : null;
+			}
 
+			workbook.write(out);
+			log.info("[ExcelUtil:writeExcel] create Excel list done. title:[{}], row count:[{}]", title, rowIndex - 1);
+			return rowIndex - 1;
+		} finally {
+			// 내려쓴 임시 파일 삭제
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+
+	private static CellStyles createCellStyles(Workbook workbook) {
 		Font headerFont = workbook.createFont();
 		headerFont.setBold(true);
 		headerFont.setColor(IndexedColors.BLACK.getIndex());
@@ -36,73 +88,56 @@ public class ExcelUtil {
 		headerCellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
 		headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
 
-		Sheet sheet = workbook.createSheet(title);
-
-		// 엑셀 시트 만들기
-		createDashboardSheet(dtoList, sheet, headerCellStyle, headerStrings);
-		workbook.write(out);
-		log.info("[ReportService:getExcel] create Excel list done. row count:[{}]", dtoList.size());
-
-		// 파일명에 현재시간 넣기 위한 작업
-		Calendar calendar = Calendar.getInstance();
-		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HHmmss");
-		String time = dateFormat.format(calendar.getTime());
+		CreationHelper creationHelper = workbook.getCreationHelper();
 
-		// UTF8 로 인코딩 해줘야 파일명에 한글 들어갔을 때 오류 발생 안함
-		String fileName = URLEncoder.encode(title + "_" + time + ".xlsx", StandardCharsets.UTF_8);
+		CellStyle dateTimeCellStyle = workbook.createCellStyle();
+		dateTimeCellStyle.setDataFormat(creationHelper.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
 
-		HttpHeaders headers = new HttpHeaders();
-		headers.add("Content-Type", "application/vnd.ms-excel");
-		headers.add("Content-Disposition", "attachment; filename=" + fileName);
+		CellStyle dateCellStyle = workbook.createCellStyle();
+		dateCellStyle.setDataFormat(creationHelper.createDataFormat().getFormat("yyyy-mm-dd"));
 
-		Map<String, Object> result = new HashMap<>();
-		result.put("result", new ByteArrayInputStream(out.toByteArray()));
-		result.put("fileName", fileName);
-		result.put("headers", headers);
-		return result;
+		return new CellStyles(headerCellStyle, dateTimeCellStyle, dateCellStyle);
 	}
 
-	private static void createDashboardSheet(
-		List<?> dtoList,
-		Sheet sheet,
-		CellStyle headerCellStyle,
-		String[] headerStrings
-	) throws IllegalAccessException {
-
-		Row headerRow = sheet.createRow(0);
-		Cell headerCell;
-
-		Row bodyRow;
-		Cell bodyCell;
-
-		// header (컬럼명 들어갈 맨 첫번째 줄)
-		for (int i = 0; i < headerStrings.length; i++) {
-			headerCell = headerRow.createCell(i);
-			headerCell.setCellValue(headerStrings[i]);
-			headerCell.setCellStyle(headerCellStyle);
+	// 숫자/불리언/날짜는 엑셀에서 정렬, 계산이 되도록 타입 그대로 쓴다
+	private static void setCellValue(Cell cell, Object value, CellStyles cellStyles) {
+		if (value instanceof Number number) {
+			cell.setCellValue(number.doubleValue());
+		} else if (value instanceof Boolean bool) {
+			cell.setCellValue(bool);
+		} else if (value instanceof Date date) {
+			cell.setCellValue(date);
+			cell.setCellStyle(cellStyles.dateTime());
+		} else if (value instanceof LocalDateTime localDateTime) {
+			cell.setCellValue(Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant()));
+			cell.setCellStyle(cellStyles.dateTime());
+		} else if (value instanceof LocalDate localDate) {
+			cell.setCellValue(Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+			cell.setCellStyle(cellStyles.date());
+		} else {
+			String text = String.valueOf(value);
+			cell.setCellValue(text.length() > MAX_CELL_TEXT_LENGTH ? text.substring(0, MAX_CELL_TEXT_LENGTH) : text);
 		}
+	}
 
-		//
-		int j = 1;
-		for (Object dto : dtoList) {
-			Field[] fields = dto.getClass().getDeclaredFields();
-			bodyRow = sheet.createRow(j++);
-			for (int k = 0; k < fields.length; k++) {
-				fields[k].setAccessible(true);
-				bodyCell = bodyRow.createCell(k);
-				Object value = fields[k].get(dto);
-				if (value == null) {
-					continue;
-				} else {
-					bodyCell.setCellValue(String.valueOf(fields[k].get(dto)));
-				}
+	// 너비 단위는 글자 폭의 1/256, 한글은 두 글자 폭으로 계산
+	private static int columnWidth(String headerString, Class<?> type) {
+		int headerChars = headerString.codePoints().map(c -> c < 0x1100 ? 1 : 2).sum() + 2;
+		int chars = Math.max(headerChars, typeWidth(type));
+		return Math.min(Math.max(chars, MIN_COLUMN_CHARS), MAX_COLUMN_CHARS) * 256;
+	}
 
-				// 컬럼 너비 조정
-				if (j == dtoList.size()) {
-					sheet.autoSizeColumn(k);
-					sheet.setColumnWidth(k, sheet.getColumnWidth(k) + (short)1024);
-				}
-			}
+	private static int typeWidth(Class<?> type) {
+		if (type == null) {
+			return MIN_COLUMN_CHARS;
+		}
+		if (Date.class.isAssignableFrom(type) || type == LocalDateTime.class) {
+			return 20;
+		}
+		if (type == LocalDate.class || type.isPrimitive() || Number.class.isAssignableFrom(type)
+			|| type == Boolean.class) {
+			return 12;
 		}
+		return 24;
 	}
 }
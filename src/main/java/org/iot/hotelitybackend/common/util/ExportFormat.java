@@ -0,0 +1,32 @@
+package org.iot.hotelitybackend.common.util;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+
+    XLSX("xlsx", "application/vnd.ms-excel"),
+    CSV("csv", "text/csv; charset=UTF-8"),
+    CSV_GZ("csv.gz", "application/gzip");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    /* 요청 파라미터 format (xlsx, csv, csv.gz) 으로 찾기, 지정하지 않으면 xlsx */
+    public static ExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return XLSX;
+        }
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format.trim())) {
+                return exportFormat;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 다운로드 형식입니다: " + format + " (xlsx, csv, csv.gz)");
+    }
+}
@@ -0,0 +1,185 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/* 키셋(seek) 페이징 공통 처리
+ * OFFSET 으로 앞 페이지를 건너뛰지 않고, 직전 페이지 마지막 행의 (정렬 컬럼, PK) 다음부터 조회한다.
+ * 페이지가 깊어져도 인덱스 범위 조회 한 번으로 끝나며 COUNT(*) 쿼리도 실행하지 않는다.
+ * 커서는 정렬 기준과 마지막 행의 값을 URL-safe Base64 로 인코딩한 문자열이며, 클라이언트는 받은 값을 그대로 돌려보낸다. */
+public class KeysetPagination {
+
+	private static final String DELIMITER = "|";
+	private static final String NULL_VALUE = "N";
+
+	public record KeysetPage<T>(List<T> content, String nextCursor) {
+	}
+
+	/* cursor 가 비어 있으면 첫 페이지, 다음 페이지가 없으면 nextCursor 는 null */
+	public static <T> KeysetPage<T> fetch(
+		JpaSpecificationExecutor<T> repository,
+		Specification<T> spec,
+		String sortKey,
+		String idKey,
+		Sort.Direction direction,
+		String cursor,
+		int size
+	) {
+		Specification<T> seekSpec = Specification.where(spec);
+		if (cursor != null && !cursor.isBlank()) {
+			seekSpec = seekSpec.and(seek(sortKey, idKey, direction, decode(cursor, sortKey, direction)));
+		}
+
+		Sort sort = sortKey.equals(idKey)
+			? Sort.by(direction, idKey)
+			: Sort.by(direction, sortKey).and(Sort.by(direction, idKey));
+
+		// 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+		List<T> rows = repository.findBy(seekSpec, query -> query.sortBy(sort).limit(size + 1).all());
+
+		if (rows.size() <= size) {
+			return new KeysetPage<>(rows, null);
+		}
+
+		List<T> content = rows.subList(0, size);
+		T last = content.get(size - 1);
+		return new KeysetPage<>(content, encode(sortKey, direction, readValue(last, sortKey), readValue(last, idKey)));
+	}
+
+	/* 오름차순: (sortKey, pk) > (v, p), 내림차순: (sortKey, pk) < (v, p)
+	 * null 은 MariaDB 기본 정렬과 같이 오름차순에서는 가장 앞, 내림차순에서는 가장 뒤에 위치한다. */
+	private static <T> Specification<T> seek(String sortKey, String idKey, Sort.Direction direction, Cursor cursor) {
+		return (root, query, criteriaBuilder) -> {
+			Path<Comparable<Object>> idPath = root.get(idKey);
+			Predicate idAfter = after(criteriaBuilder, idPath, cursor.id(), direction);
+
+			if (sortKey.equals(idKey)) {
+				return idAfter;
+			}
+
+			Path<Comparable<Object>> sortPath = root.get(sortKey);
+
+			if (cursor.value() == null) {
+				Predicate sameNull = criteriaBuilder.and(criteriaBuilder.isNull(sortPath), idAfter);
+				return direction.isAscending()
+					? criteriaBuilder.or(sameNull, criteriaBuilder.isNotNull(sortPath))
+					: sameNull;
+			}
+
+			Predicate seek = criteriaBuilder.or(
+				after(criteriaBuilder, sortPath, cursor.value(), direction),
+				criteriaBuilder.and(criteriaBuilder.equal(sortPath, cursor.value()), idAfter)
+			);
+			return direction.isAscending() ? seek : criteriaBuilder.or(seek, criteriaBuilder.isNull(sortPath));
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Predicate after(
+		CriteriaBuilder criteriaBuilder, Expression<Comparable<Object>> expression, Comparable<?> value,
+		Sort.Direction direction
+	) {
+		Comparable<Object> bound = (Comparable<Object>)value;
+		return direction.isAscending()
+			? criteriaBuilder.greaterThan(expression, bound)
+			: criteriaBuilder.lessThan(expression, bound);
+	}
+
+	private static Comparable<?> readValue(Object entity, String attributeName) {
+		Object value = PropertyAccessorFactory.forDirectFieldAccess(entity).getPropertyValue(attributeName);
+		if (value != null && !(value instanceof Comparable<?>)) {
+			throw new IllegalArgumentException(attributeName + "은(는) 정렬 기준으로 사용할 수 없는 필드입니다.");
+		}
+		return (Comparable<?>)value;
+	}
+
+	private record Cursor(Comparable<?> value, Comparable<?> id) {
+	}
+
+	// 정렬컬럼|방향|PK|정렬 값 (정렬 값에 구분자가 들어 있을 수 있으므로 마지막에 둔다)
+	private static String encode(String sortKey, Sort.Direction direction, Comparable<?> value, Comparable<?> id) {
+		String raw = String.join(DELIMITER, sortKey, direction.name(), toToken(id), toToken(value));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Cursor decode(String cursor, String sortKey, Sort.Direction direction) {
+		String[] parts;
+		try {
+			parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+		}
+
+		if (parts.length != 4) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+		}
+		if (!parts[0].equals(sortKey) || !parts[1].equals(direction.name())) {
+			throw new IllegalArgumentException("커서의 정렬 기준이 요청한 정렬 기준과 다릅니다.");
+		}
+
+		Comparable<?> id = fromToken(parts[2]);
+		if (id == null) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+		}
+		return new Cursor(fromToken(parts[3]), id);
+	}
+
+	// 타입 접두어 + 값 (I: Integer, L: Long, D: BigDecimal, S: String, T: LocalDateTime, A: LocalDate, U: java.util.Date)
+	private static String toToken(Comparable<?> value) {
+		if (value == null) {
+			return NULL_VALUE;
+		} else if (value instanceof Integer) {
+			return "I" + value;
+		} else if (value instanceof Long) {
+			return "L" + value;
+		} else if (value instanceof BigDecimal bigDecimal) {
+			return "D" + bigDecimal.toPlainString();
+		} else if (value instanceof String) {
+			return "S" + value;
+		} else if (value instanceof LocalDateTime) {
+			return "T" + value;
+		} else if (value instanceof LocalDate) {
+			return "A" + value;
+		} else if (value instanceof Date date) {
+			return "U" + date.getTime();
+		}
+		throw new IllegalArgumentException(value.getClass().getSimpleName() + " 타입은 정렬 기준으로 사용할 수 없습니다.");
+	}
+
+	private static Comparable<?> fromToken(String token) {
+		if (NULL_VALUE.equals(token)) {
+			return null;
+		}
+
+		try {
+			String value = token.substring(1);
+			return switch (token.charAt(0)) {
+				case 'I' -> Integer.valueOf(value);
+				case 'L' -> Long.valueOf(value);
+				case 'D' -> new BigDecimal(value);
+				case 'S' -> value;
+				case 'T' -> LocalDateTime.parse(value);
+				case 'A' -> LocalDate.parse(value);
+				case 'U' -> new Date(Long.parseLong(value));
+				default -> throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+			};
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+		}
+	}
+}
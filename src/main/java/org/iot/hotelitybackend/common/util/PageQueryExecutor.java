@@ -0,0 +1,211 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/* 페이징 목록 조회 공통 처리
+ * repository.findAll(spec, pageable) 은 페이지를 넘길 때마다 같은 조건의 COUNT(*) 를 함께 실행한다.
+ * 여기서는 목록 조회와 건수 조회를 분리해
+ *  - hasNextOnly 인 경우 COUNT 없이 한 건 더 조회해서 다음 페이지 존재 여부만 판단하고
+ *  - 그 외에는 TotalCountCache 에 보관된 건수를 사용한다. */
+@Component
+public class PageQueryExecutor {
+
+	/* select 절 지정 (엔티티 대신 DTO 생성자 등으로 바로 조회할 때 사용) */
+	@FunctionalInterface
+	public interface Projection<T, R> {
+		Selection<R> select(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+	}
+
+	private final EntityManager entityManager;
+	private final TotalCountCache totalCountCache;
+
+	@Autowired
+	public PageQueryExecutor(EntityManager entityManager, TotalCountCache totalCountCache) {
+		this.entityManager = entityManager;
+		this.totalCountCache = totalCountCache;
+	}
+
+	/* hasNextOnly 가 true 이면 Slice, 아니면 Page 반환
+	 * countKeys: 전체 건수 캐시 키 (검색 조건 객체, Specification 에 반영된 그 외 값) */
+	public <T> Slice<T> findPage(
+		Class<T> domainClass,
+		Specification<T> spec,
+		Pageable pageable,
+		Boolean hasNextOnly,
+		Object... countKeys
+	) {
+		return findPage(domainClass, domainClass, (root, query, criteriaBuilder) -> root, spec, pageable,
+			hasNextOnly, countKeys);
+	}
+
+	/* 엔티티 대신 projection 결과로 페이지 조회 (건수는 domainClass 기준으로 센다) */
+	public <T, R> Slice<R> findPage(
+		Class<T> domainClass,
+		Class<R> resultClass,
+		Projection<T, R> projection,
+		Specification<T> spec,
+		Pageable pageable,
+		Boolean hasNextOnly,
+		Object... countKeys
+	) {
+		int pageSize = pageable.getPageSize();
+
+		if (Boolean.TRUE.equals(hasNextOnly)) {
+			List<R> rows = createSelectQuery(domainClass, resultClass, projection, spec, pageable.getSort())
+				.setFirstResult(Math.toIntExact(pageable.getOffset()))
+				.setMaxResults(pageSize + 1)
+				.getResultList();
+			boolean hasNext = rows.size() > pageSize;
+			return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, pageable, hasNext);
+		}
+
+		List<R> content = createSelectQuery(domainClass, resultClass, projection, spec, pageable.getSort())
+			.setFirstResult(Math.toIntExact(pageable.getOffset()))
+			.setMaxResults(pageSize)
+			.getResultList();
+
+		// 첫 페이지가 다 차지 않으면 조회 건수가 곧 전체 건수
+		if (pageable.getOffset() == 0 && content.size() < pageSize) {
+			return new PageImpl<>(content, pageable, content.size());
+		}
+
+		long total = totalCountCache.count(domainClass, countKeys, () -> count(domainClass, spec));
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	/* 응답 Map 에 담을 페이지 정보 (Page 인 경우에만 전체 페이지 수 포함) */
+	public static Map<String, Object> toPageInfo(Slice<?> slice) {
+		Map<String, Object> pageInfo = new HashMap<>();
+		pageInfo.put(KEY_CURRENT_PAGE_INDEX, slice.getNumber());
+		pageInfo.put(KEY_HAS_NEXT, slice.hasNext());
+		if (slice instanceof Page<?> page) {
+			pageInfo.put(KEY_TOTAL_PAGES_COUNT, page.getTotalPages());
+		}
+		return pageInfo;
+	}
+
+	/* 페이징 없이 전체 조회
+	 * fetchSize 는 드라이버가 DB 에서 한 번에 받아오는 행 수일 뿐이고, 결과는 모두 List 로 모아 반환하므로
+	 * 조회 건수만큼 메모리를 사용한다. 결과를 모으지 않아도 되는 대량 조회(다운로드 등)는 stream 을 사용한다. */
+	public <T, R> List<R> findAll(
+		Class<T> domainClass,
+		Class<R> resultClass,
+		Projection<T, R> projection,
+		Specification<T> spec,
+		Sort sort,
+		int fetchSize
+	) {
+		return createSelectQuery(domainClass, resultClass, projection, spec, sort)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.getResultList();
+	}
+
+	/* 커서로 한 건씩 조회 (CSV/엑셀 다운로드 등 결과를 목록으로 모으지 않는 대량 조회)
+	 * fetchSize 만큼씩 드라이버에서 받아오고, mapper 로 변환한 엔티티는 바로 영속성 컨텍스트에서 분리해
+	 * 조회 건수와 관계없이 메모리 사용량을 일정하게 유지한다. 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 한다. */
+	public <T, R> Stream<R> stream(
+		Class<T> domainClass,
+		Specification<T> spec,
+		Sort sort,
+		int fetchSize,
+		Function<? super T, ? extends R> mapper
+	) {
+		return createStreamQuery(domainClass, domainClass, (root, query, criteriaBuilder) -> root, spec, sort,
+			fetchSize)
+			.getResultStream()
+			.map(entity -> {
+				R row = mapper.apply(entity);
+				entityManager.detach(entity);
+				return row;
+			});
+	}
+
+	/* projection 결과로 커서 조회 (DTO 생성자로 조회하므로 영속성 컨텍스트에 쌓이지 않는다) */
+	public <T, R> Stream<R> stream(
+		Class<T> domainClass,
+		Class<R> resultClass,
+		Projection<T, R> projection,
+		Specification<T> spec,
+		Sort sort,
+		int fetchSize
+	) {
+		return createStreamQuery(domainClass, resultClass, projection, spec, sort, fetchSize).getResultStream();
+	}
+
+	private <T, R> TypedQuery<R> createStreamQuery(
+		Class<T> domainClass, Class<R> resultClass, Projection<T, R> projection, Specification<T> spec, Sort sort,
+		int fetchSize
+	) {
+		return createSelectQuery(domainClass, resultClass, projection, spec, sort)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true);
+	}
+
+	private <T, R> TypedQuery<R> createSelectQuery(
+		Class<T> domainClass, Class<R> resultClass, Projection<T, R> projection, Specification<T> spec, Sort sort
+	) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<R> query = criteriaBuilder.createQuery(resultClass);
+		Root<T> root = query.from(domainClass);
+
+		applySpecification(spec, root, query, criteriaBuilder);
+		query.select(projection.select(root, query, criteriaBuilder));
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+		}
+
+		return entityManager.createQuery(query);
+	}
+
+	private <T> long count(Class<T> domainClass, Specification<T> spec) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+		Root<T> root = query.from(domainClass);
+
+		applySpecification(spec, root, query, criteriaBuilder);
+		query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+		query.orderBy(Collections.emptyList());
+
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private <T> void applySpecification(
+		Specification<T> spec, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder
+	) {
+		if (spec == null) {
+			return;
+		}
+
+		Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+	}
+}
@@ -0,0 +1,263 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.iot.hotelitybackend.customer.aggregate.NationEntity;
+import org.iot.hotelitybackend.customer.repository.NationRepository;
+import org.iot.hotelitybackend.employee.aggregate.DepartmentEntity;
+import org.iot.hotelitybackend.employee.aggregate.PermissionEntity;
+import org.iot.hotelitybackend.employee.aggregate.PositionEntity;
+import org.iot.hotelitybackend.employee.aggregate.RankEntity;
+import org.iot.hotelitybackend.employee.repository.DepartmentRepository;
+import org.iot.hotelitybackend.employee.repository.PermissionRepository;
+import org.iot.hotelitybackend.employee.repository.PositionRepository;
+import org.iot.hotelitybackend.employee.repository.RankRepository;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.AncillaryCategoryEntity;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.BranchEntity;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomCategoryEntity;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomLevelEntity;
+import org.iot.hotelitybackend.hotelmanagement.repository.AncillaryCategoryRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomCategoryRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomLevelRepository;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentTypeEntity;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentTypeRepository;
+import org.iot.hotelitybackend.sales.aggregate.MembershipEntity;
+import org.iot.hotelitybackend.sales.repository.MembershipRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/* 기준 정보(지점, 국적, 객실 카테고리/등급, 멤버십, 결제 수단, 부대시설 카테고리, 권한, 직책, 직급, 부서) 로컬 캐시
+ * 1년에 몇 번 바뀌지 않는 데이터를 목록 변환마다 findById 로 읽지 않도록, 서버 시작 시 종류별로 전체를 읽어 메모리에 둔다.
+ * 기준 정보를 변경한 서비스가 notifyChanged 를 호출하면 커밋 이후 해당 종류를 다시 읽고, 다른 서버에는 Redis pub/sub 으로 알린다.
+ * 조회 결과 엔티티는 여러 요청이 함께 쓰므로 값을 바꾸거나 저장하는 용도로 쓰지 않는다. */
+@Slf4j
+@Component
+public class ReferenceDataCache implements MessageListener {
+
+
+	private static final String METRIC_CACHE_NAME = "reference.data";
+	private static final String METRIC_HIT_RATIO = "reference.data.cache.hit.ratio";
+
+	private final ReferenceTable<String, BranchEntity> branchTable;
+	private final ReferenceTable<Integer, NationEntity> nationTable;
+	private final ReferenceTable<Integer, RoomCategoryEntity> roomCategoryTable;
+	private final ReferenceTable<Integer, RoomLevelEntity> roomLevelTable;
+	private final ReferenceTable<Integer, MembershipEntity> membershipTable;
+	private final ReferenceTable<Integer, PaymentTypeEntity> paymentTypeTable;
+	private final ReferenceTable<Integer, AncillaryCategoryEntity> ancillaryCategoryTable;
+	private final ReferenceTable<Integer, PermissionEntity> permissionTable;
+	private final ReferenceTable<Integer, PositionEntity> positionTable;
+	private final ReferenceTable<Integer, RankEntity> rankTable;
+	private final ReferenceTable<Integer, DepartmentEntity> departmentTable;
+	private final Map<ReferenceType, ReferenceTable<?, ?>> tableMap = new EnumMap<>(ReferenceType.class);
+
+	private final ChangeBroadcaster changeBroadcaster;
+
+	@Autowired
+	public ReferenceDataCache(
+		BranchRepository branchRepository,
+		NationRepository nationRepository,
+		RoomCategoryRepository roomCategoryRepository,
+		RoomLevelRepository roomLevelRepository,
+		MembershipRepository membershipRepository,
+		PaymentTypeRepository paymentTypeRepository,
+		AncillaryCategoryRepository ancillaryCategoryRepository,
+		PermissionRepository permissionRepository,
+		PositionRepository positionRepository,
+		RankRepository rankRepository,
+		DepartmentRepository departmentRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		MeterRegistry meterRegistry
+	) {
+		this.branchTable = register(ReferenceType.BRANCH, new ReferenceTable<>(
+			branchRepository::findAll, branchRepository::findById, BranchEntity::getBranchCodePk));
+		this.nationTable = register(ReferenceType.NATION, new ReferenceTable<>(
+			nationRepository::findAll, nationRepository::findById, NationEntity::getNationCodePk));
+		this.roomCategoryTable = register(ReferenceType.ROOM_CATEGORY, new ReferenceTable<>(
+			roomCategoryRepository::findAll, roomCategoryRepository::findById, RoomCategoryEntity::getRoomCategoryCodePk));
+		this.roomLevelTable = register(ReferenceType.ROOM_LEVEL, new ReferenceTable<>(
+			roomLevelRepository::findAll, roomLevelRepository::findById, RoomLevelEntity::getRoomLevelCodePk));
+		this.membershipTable = register(ReferenceType.MEMBERSHIP, new ReferenceTable<>(
+			membershipRepository::findAll, membershipRepository::findById, MembershipEntity::getMembershipLevelCodePk));
+		this.paymentTypeTable = register(ReferenceType.PAYMENT_TYPE, new ReferenceTable<>(
+			paymentTypeRepository::findAll, paymentTypeRepository::findById, PaymentTypeEntity::getPaymentTypeCodePk));
+		this.ancillaryCategoryTable = register(ReferenceType.ANCILLARY_CATEGORY, new ReferenceTable<>(
+			ancillaryCategoryRepository::findAll, ancillaryCategoryRepository::findById,
+			AncillaryCategoryEntity::getAncillaryCategoryCodePk));
+		this.permissionTable = register(ReferenceType.PERMISSION, new ReferenceTable<>(
+			permissionRepository::findAll, permissionRepository::findById, PermissionEntity::getPermissionCodePk));
+		this.positionTable = register(ReferenceType.POSITION, new ReferenceTable<>(
+			positionRepository::findAll, positionRepository::findById, PositionEntity::getPositionCodePk));
+		this.rankTable = register(ReferenceType.RANK, new ReferenceTable<>(
+			rankRepository::findAll, rankRepository::findById, RankEntity::getRankCodePk));
+		this.departmentTable = register(ReferenceType.DEPARTMENT, new ReferenceTable<>(
+			departmentRepository::findAll, departmentRepository::findById, DepartmentEntity::getDepartmentCodePk));
+		this.changeBroadcaster = new ChangeBroadcaster(redisTemplate, REDIS_CHANNEL_REFERENCE_DATA);
+
+		// 종류별 cache.gets{result=hit|miss}, cache.size 등과 적중률 게이지
+		tableMap.forEach((type, table) -> {
+			String typeTag = type.name().toLowerCase(Locale.ROOT);
+			CaffeineCacheMetrics.monitor(meterRegistry, table.cache(), METRIC_CACHE_NAME, "type", typeTag);
+			Gauge.builder(METRIC_HIT_RATIO, table, referenceTable -> referenceTable.cache().stats().hitRate())
+				.tag("type", typeTag)
+				.register(meterRegistry);
+		});
+
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_REFERENCE_DATA));
+	}
+
+	public Optional<BranchEntity> branch(String branchCodePk) {
+		return branchTable.get(branchCodePk);
+	}
+
+	public String branchName(String branchCodePk) {
+		return branch(branchCodePk).map(BranchEntity::getBranchName).orElse(null);
+	}
+
+	public Optional<NationEntity> nation(Integer nationCodePk) {
+		return nationTable.get(nationCodePk);
+	}
+
+	public String nationName(Integer nationCodePk) {
+		return nation(nationCodePk).map(NationEntity::getNationName).orElse(null);
+	}
+
+	public Optional<RoomCategoryEntity> roomCategory(Integer roomCategoryCodePk) {
+		return roomCategoryTable.get(roomCategoryCodePk);
+	}
+
+	public Optional<RoomLevelEntity> roomLevel(Integer roomLevelCodePk) {
+		return roomLevelTable.get(roomLevelCodePk);
+	}
+
+	public String roomLevelName(Integer roomLevelCodePk) {
+		return roomLevel(roomLevelCodePk).map(RoomLevelEntity::getRoomLevelName).orElse(null);
+	}
+
+	public Optional<MembershipEntity> membership(Integer membershipLevelCodePk) {
+		return membershipTable.get(membershipLevelCodePk);
+	}
+
+	public String membershipLevelName(Integer membershipLevelCodePk) {
+		return membership(membershipLevelCodePk).map(MembershipEntity::getMembershipLevelName).orElse(null);
+	}
+
+	public Optional<PaymentTypeEntity> paymentType(Integer paymentTypeCodePk) {
+		return paymentTypeTable.get(paymentTypeCodePk);
+	}
+
+	public String paymentTypeName(Integer paymentTypeCodePk) {
+		return paymentType(paymentTypeCodePk).map(PaymentTypeEntity::getPaymentTypeName).orElse(null);
+	}
+
+	public Optional<AncillaryCategoryEntity> ancillaryCategory(Integer ancillaryCategoryCodePk) {
+		return ancillaryCategoryTable.get(ancillaryCategoryCodePk);
+	}
+
+	public String ancillaryCategoryName(Integer ancillaryCategoryCodePk) {
+		return ancillaryCategory(ancillaryCategoryCodePk)
+			.map(AncillaryCategoryEntity::getAncillaryCategoryName)
+			.orElse(null);
+	}
+
+	public Optional<PermissionEntity> permission(Integer permissionCodePk) {
+		return permissionTable.get(permissionCodePk);
+	}
+
+	public String permissionName(Integer permissionCodePk) {
+		return permission(permissionCodePk).map(PermissionEntity::getPermissionName).orElse(null);
+	}
+
+	public Optional<PositionEntity> position(Integer positionCodePk) {
+		return positionTable.get(positionCodePk);
+	}
+
+	public String positionName(Integer positionCodePk) {
+		return position(positionCodePk).map(PositionEntity::getPositionName).orElse(null);
+	}
+
+	public Optional<RankEntity> rank(Integer rankCodePk) {
+		return rankTable.get(rankCodePk);
+	}
+
+	public String rankName(Integer rankCodePk) {
+		return rank(rankCodePk).map(RankEntity::getRankName).orElse(null);
+	}
+
+	public Optional<DepartmentEntity> department(Integer departmentCodePk) {
+		return departmentTable.get(departmentCodePk);
+	}
+
+	public String departmentName(Integer departmentCodePk) {
+		return department(departmentCodePk).map(DepartmentEntity::getDepartmentName).orElse(null);
+	}
+
+	/* 기준 정보 등록/수정/삭제 알림 (트랜잭션 커밋 이후 다시 읽고 다른 서버에 전파) */
+	public void notifyChanged(ReferenceType type) {
+		changeBroadcaster.afterCommit(() -> reload(type), type.name());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		reloadAll();
+	}
+
+	/* 놓친 변경 알림이 있더라도 맞춰지도록 매일 다시 읽는다 */
+	@Scheduled(cron = "0 40 4 * * *")
+	public void reloadAll() {
+		for (ReferenceType type : ReferenceType.values()) {
+			reload(type);
+		}
+	}
+
+	public void reload(ReferenceType type) {
+		try {
+			int size = tableMap.get(type).reload();
+			log.info("기준 정보 캐시 적재 완료 [{}]: {}건", type, size);
+		} catch (RuntimeException e) {
+			// 적재하지 못한 키는 조회 시 findById 로 채워진다
+			log.error("기준 정보 캐시 적재 실패 [{}]: {}", type, e.getMessage(), e);
+		}
+	}
+
+	/* 다른 서버에서 보낸 변경 알림 수신 (nodeId:종류) */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String payload = changeBroadcaster.remotePayload(message).orElse(null);
+		if (payload == null) {
+			return;
+		}
+
+		try {
+			reload(ReferenceType.valueOf(payload));
+		} catch (IllegalArgumentException e) {
+			log.warn("알 수 없는 기준 정보 변경 알림 [{}]", payload);
+		}
+	}
+
+	private <K, E> ReferenceTable<K, E> register(ReferenceType type, ReferenceTable<K, E> table) {
+		tableMap.put(type, table);
+		return table;
+	}
+
+}
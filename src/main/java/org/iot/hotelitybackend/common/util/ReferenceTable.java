@@ -0,0 +1,53 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/* 기준 정보 한 종류(지점, 국적 등)의 로컬 캐시
+ * 전체 행을 한 번에 읽어 두고 기본키로 조회한다. 캐시에 없는 키는 findById 로 읽어 채운다.
+ * 조회 결과 엔티티는 여러 요청이 함께 쓰므로 읽기 전용으로만 사용한다. */
+class ReferenceTable<K, E> {
+
+	private final Supplier<List<E>> allLoader;
+	private final Function<K, Optional<E>> loader;
+	private final Function<E, K> idGetter;
+	private final Cache<K, E> cache = Caffeine.newBuilder().recordStats().build();
+
+	ReferenceTable(Supplier<List<E>> allLoader, Function<K, Optional<E>> loader, Function<E, K> idGetter) {
+		this.allLoader = allLoader;
+		this.loader = loader;
+		this.idGetter = idGetter;
+	}
+
+	Optional<E> get(K key) {
+		if (key == null) {
+			return Optional.empty();
+		}
+		// DB 에도 없는 키는 캐시에 넣지 않는다
+		return Optional.ofNullable(cache.get(key, missingKey -> loader.apply(missingKey).orElse(null)));
+	}
+
+	/* 전체 다시 읽기
+	 * 새 값을 먼저 덮어쓰고 없어진 키만 지워서, 갱신 중인 요청이 빈 캐시를 보고 DB 를 읽지 않도록 한다. */
+	int reload() {
+		Map<K, E> entityMap = new HashMap<>();
+		for (E entity : allLoader.get()) {
+			entityMap.put(idGetter.apply(entity), entity);
+		}
+
+		cache.putAll(entityMap);
+		cache.asMap().keySet().removeIf(key -> !entityMap.containsKey(key));
+		return entityMap.size();
+	}
+
+	Cache<K, E> cache() {
+		return cache;
+	}
+}
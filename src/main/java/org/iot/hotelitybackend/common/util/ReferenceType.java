@@ -0,0 +1,17 @@
+package org.iot.hotelitybackend.common.util;
+
+/* ReferenceDataCache 에 올려 두는 기준 정보 종류 (Redis 변경 알림에는 이름으로 실어 보낸다) */
+public enum ReferenceType {
+
+	BRANCH,
+	NATION,
+	ROOM_CATEGORY,
+	ROOM_LEVEL,
+	MEMBERSHIP,
+	PAYMENT_TYPE,
+	ANCILLARY_CATEGORY,
+	PERMISSION,
+	POSITION,
+	RANK,
+	DEPARTMENT
+}
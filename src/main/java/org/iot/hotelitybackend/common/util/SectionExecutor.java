@@ -0,0 +1,93 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 화면 하나를 구성하는 여러 조회(섹션)를 동시에 실행
+ * 섹션마다 별도의 읽기 전용 트랜잭션에서 실행하고, 실패하거나 시간 안에 끝나지 않은 섹션은 failed 로 돌려준다.
+ * 시간이 지난 섹션은 작업 스레드를 interrupt 하고, 트랜잭션 timeout 으로 실행 중인 쿼리도 DB 에서 끊는다.
+ * 스레드 수와 대기열을 제한하고, 대기열이 가득 차면 요청 스레드에서 직접 실행한다. */
+@Slf4j
+@Component
+public class SectionExecutor {
+
+	// 섹션이 커넥션 풀(hikari maximumPoolSize 15)을 모두 잡아 요청 스레드의 조회가 막히지 않도록 절반 정도로 제한
+	private static final int POOL_SIZE = 8;
+	private static final int QUEUE_CAPACITY = 200;
+
+	private final PlatformTransactionManager transactionManager;
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE,
+		60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(QUEUE_CAPACITY), new SectionThreadFactory(),
+		new ThreadPoolExecutor.CallerRunsPolicy());
+
+	public record SectionResult<T>(String name, T value, boolean failed) {
+	}
+
+	@Autowired
+	public SectionExecutor(PlatformTransactionManager transactionManager) {
+		this.transactionManager = transactionManager;
+	}
+
+	/* DB 조회 섹션 (읽기 전용 트랜잭션, 섹션 시간을 초 단위로 올림해 쿼리 timeout 으로 적용) */
+	public <T> CompletableFuture<SectionResult<T>> submit(String name, long timeoutMillis, Supplier<T> loader) {
+		TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		readOnlyTransaction.setTimeout((int)Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+		return submitWithoutTransaction(name, timeoutMillis, () -> readOnlyTransaction.execute(status -> loader.get()));
+	}
+
+	/* 외부 API 호출 등 DB 커넥션을 잡고 있을 필요가 없는 섹션 */
+	public <T> CompletableFuture<SectionResult<T>> submitWithoutTransaction(String name, long timeoutMillis,
+		Supplier<T> loader) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Future<?> task = executor.submit(() -> {
+			try {
+				result.complete(loader.get());
+			} catch (Throwable throwable) {
+				result.completeExceptionally(throwable);
+			}
+		});
+
+		return result
+			.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+			.handle((value, throwable) -> {
+				if (throwable != null) {
+					// 응답은 failed 로 돌려주고, 아직 실행 중이면 스레드와 커넥션을 돌려받도록 중단
+					task.cancel(true);
+					log.warn("{} 조회 실패: {}", name, throwable.toString());
+					return new SectionResult<>(name, null, true);
+				}
+				return new SectionResult<>(name, value, false);
+			});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static class SectionThreadFactory implements ThreadFactory {
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "section-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 백그라운드 작업(엑셀 다운로드, 고객 가져오기)의 상태와 결과 파일을 모든 서버가 보도록 보관
+ * 작업을 실행하는 서버가 상태가 바뀔 때마다 "job:{작업 종류}:{jobId}" 해시에 작업 DTO(JSON) 와 실행 서버를 쓰고,
+ * 결과 파일은 S3 의 "jobs/{작업 종류}/{jobId}" 에 올린다. 다른 서버로 온 조회/다운로드는 여기서 읽는다.
+ * Redis/S3 장애 시 실행 서버는 자기 메모리와 디스크로 계속 응답한다. */
+@Slf4j
+@Component
+public class SharedJobStore {
+
+	private static final String FIELD_OWNER = "owner";
+	private static final String FIELD_JOB = "job";
+	private static final String FILE_KEY_PREFIX = "jobs/";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final AmazonS3 amazonS3;
+	private final String bucketName;
+
+	// 작업을 실행한 서버 (쿠버네티스에서는 파드 이름)
+	private final String nodeId = Optional.ofNullable(System.getenv("HOSTNAME"))
+		.orElseGet(() -> UUID.randomUUID().toString());
+
+	@Autowired
+	public SharedJobStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, AmazonS3 amazonS3,
+		@Value("${aws.s3.bucket}") String bucketName) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.amazonS3 = amazonS3;
+		this.bucketName = bucketName;
+	}
+
+	public String nodeId() {
+		return nodeId;
+	}
+
+	public void save(String jobType, String jobId, Object job, Duration timeToLive) {
+		String key = key(jobType, jobId);
+		try {
+			redisTemplate.opsForHash().putAll(key,
+				Map.of(FIELD_OWNER, nodeId, FIELD_JOB, objectMapper.writeValueAsString(job)));
+			redisTemplate.expire(key, timeToLive);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("작업 상태 저장 실패 [{}]: {}", key, e.getMessage());
+		}
+	}
+
+	/* 다른 서버가 실행 중이거나 실행한 작업, 없거나 만료됐으면 empty */
+	public <T> Optional<T> find(String jobType, String jobId, Class<T> jobClass) {
+		String key = key(jobType, jobId);
+		try {
+			List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(FIELD_OWNER, FIELD_JOB));
+			if (values.get(1) == null) {
+				return Optional.empty();
+			}
+			log.debug("작업 상태 조회 [{}] owner={}", key, values.get(0));
+			return Optional.of(objectMapper.readValue((String)values.get(1), jobClass));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("작업 상태 조회 실패 [{}]: {}", key, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/* 결과 파일을 다른 서버도 내려줄 수 있도록 올린다, 실패하면 실행 서버만 내려줄 수 있다 */
+	public boolean uploadFile(String jobType, String jobId, Path file) {
+		try {
+			amazonS3.putObject(bucketName, fileKey(jobType, jobId), file.toFile());
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("작업 결과 파일 업로드 실패 [{}]: {}", fileKey(jobType, jobId), e.getMessage());
+			return false;
+		}
+	}
+
+	public Resource openFile(String jobType, String jobId) {
+		try {
+			return new InputStreamResource(amazonS3.getObject(bucketName, fileKey(jobType, jobId)).getObjectContent());
+		} catch (RuntimeException e) {
+			log.warn("작업 결과 파일 조회 실패 [{}]: {}", fileKey(jobType, jobId), e.getMessage());
+			throw new IllegalArgumentException("작업 결과 파일을 찾을 수 없습니다.");
+		}
+	}
+
+	/* 만료된 작업 정리, 실행 서버가 정리하지 못한 파일은 버킷의 jobs/ 수명 주기 규칙으로 지운다 */
+	public void delete(String jobType, String jobId) {
+		try {
+			redisTemplate.delete(key(jobType, jobId));
+			amazonS3.deleteObject(bucketName, fileKey(jobType, jobId));
+		} catch (RuntimeException e) {
+			log.warn("작업 정리 실패 [{}]: {}", key(jobType, jobId), e.getMessage());
+		}
+	}
+
+	private static String key(String jobType, String jobId) {
+		return REDIS_PREFIX_JOB + jobType + ":" + jobId;
+	}
+
+	private static String fileKey(String jobType, String jobId) {
+		return FILE_KEY_PREFIX + jobType + "/" + jobId;
+	}
+}
@@ -0,0 +1,26 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+/* 목록 조회의 정렬 조건(orderBy, sortBy) 해석
+ * 오프셋 페이징과 키셋 페이징이 같은 규칙을 쓰도록 한 곳에서 처리한다. */
+public final class SortResolver {
+
+	private SortResolver() {
+	}
+
+	/* 정렬 방향 (sortBy 가 없거나 1 이면 오름차순, 그 외는 내림차순) */
+	public static Sort.Direction direction(Integer sortBy) {
+		return sortBy == null || sortBy == 1 ? Sort.Direction.ASC : Sort.Direction.DESC;
+	}
+
+	/* 정렬 기준 필드 (허용되지 않은 필드는 쿼리 실행 전에 IllegalArgumentException) */
+	public static String orderBy(String orderBy, Set<String> sortableFields) {
+		if (orderBy != null && !sortableFields.contains(orderBy)) {
+			throw new IllegalArgumentException(orderBy + "에 해당하는 필드가 존재하지 않습니다.");
+		}
+		return orderBy;
+	}
+}
@@ -0,0 +1,60 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/* 날짜/시간 컬럼 조건 공통 빌더
+ * 컬럼을 함수(CAST, DATE 등)로 감싸면 인덱스를 사용할 수 없으므로
+ * 항상 원본 컬럼에 대해 start <= 컬럼 < end (반열린 구간) 비교만 만든다. */
+public class TemporalSpecification {
+
+	// [start, end) 구간
+	public static <T, Y extends Comparable<? super Y>> Specification<T> halfOpen(
+		String attributeName, Y start, Y end) {
+		return (root, query, criteriaBuilder) -> halfOpen(criteriaBuilder, root.<Y>get(attributeName), start, end);
+	}
+
+	// 해당 일자 하루 전체 (LocalDateTime 컬럼)
+	public static <T> Specification<T> onDate(String attributeName, LocalDateTime dateTime) {
+		LocalDate date = dateTime.toLocalDate();
+		return halfOpen(attributeName, startOfDay(date), startOfNextDay(date));
+	}
+
+	// 해당 일자 하루 전체 (java.util.Date 컬럼)
+	public static <T> Specification<T> onLegacyDate(String attributeName, LocalDateTime dateTime) {
+		LocalDate date = dateTime.toLocalDate();
+		return halfOpen(attributeName, (Date)Timestamp.valueOf(startOfDay(date)),
+			(Date)Timestamp.valueOf(startOfNextDay(date)));
+	}
+
+	// join 한 컬럼에 조건을 걸 때 사용
+	public static <Y extends Comparable<? super Y>> Predicate halfOpen(
+		CriteriaBuilder criteriaBuilder, Expression<? extends Y> expression, Y start, Y end) {
+		return criteriaBuilder.and(
+			criteriaBuilder.greaterThanOrEqualTo(expression, start),
+			criteriaBuilder.lessThan(expression, end)
+		);
+	}
+
+	public static Predicate onDate(
+		CriteriaBuilder criteriaBuilder, Expression<? extends LocalDateTime> expression, LocalDateTime dateTime) {
+		LocalDate date = dateTime.toLocalDate();
+		return halfOpen(criteriaBuilder, expression, startOfDay(date), startOfNextDay(date));
+	}
+
+	public static LocalDateTime startOfDay(LocalDate date) {
+		return date.atStartOfDay();
+	}
+
+	public static LocalDateTime startOfNextDay(LocalDate date) {
+		return date.plusDays(1).atStartOfDay();
+	}
+}
@@ -0,0 +1,151 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 목록 조회 전체 건수 캐시
+ * 같은 검색 조건으로 페이지만 넘기는 경우 COUNT(*) 를 다시 실행하지 않도록 (엔티티, 검색 조건) 별로 건수를 보관한다.
+ * FRESH 시간 안에는 캐시값을 그대로 쓰고, STALE 시간까지는 캐시값을 돌려주면서 백그라운드에서 다시 센다.
+ * 등록/삭제한 서비스가 TotalCountChangedEvent 를 발행하면 커밋 이후 해당 엔티티의 건수를 모두 지운다.
+ * 보관 건수가 MAX_ENTRIES 를 넘으면 오래 쓰이지 않은 조건부터 밀어낸다. */
+@Slf4j
+@Component
+public class TotalCountCache {
+
+	private static final long FRESH_MILLIS = 30_000;
+	private static final long STALE_MILLIS = 300_000;
+	private static final int MAX_ENTRIES = 10_000;
+
+	// 페이지 이동, 정렬만 바뀌는 경우 같은 건수를 사용하도록 키에서 제외
+	private static final Set<String> PAGING_PROPERTIES =
+		Set.of("class", "pageNum", "pageSize", "orderBy", "sortBy", "cursor", "hasNextOnly");
+
+	private final Cache<String, CountEntry> countCache = Caffeine.newBuilder()
+		.maximumSize(MAX_ENTRIES)
+		.expireAfterWrite(Duration.ofMillis(STALE_MILLIS))
+		.build();
+	// 건수를 세는 동안 evict 된 경우 이전 건수를 다시 넣지 않도록 evict 할 때마다 올린다
+	private final AtomicLong evictGeneration = new AtomicLong();
+	private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, new RefreshThreadFactory());
+
+	private record CountEntry(long count, long loadedAt, AtomicBoolean refreshing) {
+	}
+
+	public long count(Class<?> domainClass, Object[] keyParts, Supplier<Long> counter) {
+		String key = buildKey(domainClass, keyParts);
+		long now = System.currentTimeMillis();
+		CountEntry entry = countCache.getIfPresent(key);
+
+		if (entry == null || now - entry.loadedAt() >= STALE_MILLIS) {
+			return load(key, counter);
+		}
+
+		if (now - entry.loadedAt() >= FRESH_MILLIS && entry.refreshing().compareAndSet(false, true)) {
+			refreshExecutor.execute(() -> {
+				try {
+					load(key, counter);
+				} catch (RuntimeException e) {
+					log.warn("전체 건수 갱신 실패: {}", e.getMessage());
+				} finally {
+					// 새 건수로 바뀌지 않은 경우(실패, evict) 다음 요청에서 다시 갱신할 수 있도록
+					entry.refreshing().set(false);
+				}
+			});
+		}
+
+		return entry.count();
+	}
+
+	/* 등록, 삭제 직후 건수를 바로 반영해야 하는 경우 사용 */
+	public void evict(Class<?> domainClass) {
+		String name = domainClass.getName();
+		evictGeneration.incrementAndGet();
+		countCache.asMap().keySet().removeIf(key -> key.equals(name) || key.startsWith(name + "|"));
+	}
+
+	/* 변경 트랜잭션이 커밋된 뒤 삭제 (커밋 전에 지우면 다른 요청이 변경 전 건수로 다시 채울 수 있음)
+	 * 트랜잭션 없이 호출된 서비스에서 발행한 이벤트는 바로 처리한다. */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTotalCountChanged(TotalCountChangedEvent event) {
+		event.domainClasses().forEach(this::evict);
+	}
+
+	private long load(String key, Supplier<Long> counter) {
+		long generation = evictGeneration.get();
+		long count = counter.get();
+
+		if (generation == evictGeneration.get()) {
+			countCache.put(key, new CountEntry(count, System.currentTimeMillis(), new AtomicBoolean(false)));
+		}
+		return count;
+	}
+
+	private String buildKey(Class<?> domainClass, Object[] keyParts) {
+		StringBuilder key = new StringBuilder(domainClass.getName());
+		for (Object keyPart : keyParts) {
+			key.append('|').append(describe(keyPart));
+		}
+		return key.toString();
+	}
+
+	// 검색 조건 객체는 값이 있는 필드만 이름 순으로 나열
+	private String describe(Object keyPart) {
+		if (keyPart == null || BeanUtils.isSimpleValueType(keyPart.getClass())) {
+			return String.valueOf(keyPart);
+		}
+
+		BeanWrapper wrapper = new BeanWrapperImpl(keyPart);
+		Map<String, Object> values = new TreeMap<>();
+		for (PropertyDescriptor descriptor : wrapper.getPropertyDescriptors()) {
+			String name = descriptor.getName();
+			if (descriptor.getReadMethod() == null || PAGING_PROPERTIES.contains(name)) {
+				continue;
+			}
+
+			Object value = wrapper.getPropertyValue(name);
+			if (value != null) {
+				values.put(name, value);
+			}
+		}
+		return values.toString();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+
+	private static class RefreshThreadFactory implements ThreadFactory {
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "total-count-refresh-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.hibernate.annotations.Formula;
 import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
 
 import jakarta.persistence.Column;
@@ -66,8 +65,7 @@ public class CustomerEntity {
 		Date customerRegisteredDate,
 		String customerType,
 		Integer nationCodeFk,
-		String customerGender,
-		String membershipLevelName
+		String customerGender
 	) {
 		this.customerCodePk = customerCodePk;
 		this.customerName = customerName;
@@ -81,28 +79,12 @@ public class CustomerEntity {
 		this.customerType = customerType;
 		this.nationCodeFk = nationCodeFk;
 		this.customerGender = customerGender;
-		this.membershipLevelName = membershipLevelName;
 	}
 
 	@OneToMany(mappedBy = "customer")
 	private List<MembershipIssueEntity> membershipIssues;
 
-
-
-	@Formula(
-		"(SELECT m.membership_level_name "
-			+ "FROM membership_tb m "
-			+ "JOIN membership_issue_tb mi ON m.membership_level_code_pk = mi.membership_level_code_fk "
-			+ "WHERE mi.customer_code_fk = customer_code_pk)"
-	)
-	private String membershipLevelName;
-
-	@Formula(
-		"(SELECT n.nation_name "
-			+ "FROM nationality_tb n "
-			+ "WHERE n.nation_code_pk = nation_code_fk)"
-	)
-	private String nationName;
+	/* 국적명, 멤버십 등급명이 필요한 조회는 CustomerViewEntity 를 사용 */
 
 	public CustomerEntity() {
 
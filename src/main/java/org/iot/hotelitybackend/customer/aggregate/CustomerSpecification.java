@@ -2,75 +2,63 @@ package org.iot.hotelitybackend.customer.aggregate;
 
 import java.util.Date;
 
-import org.iot.hotelitybackend.sales.aggregate.MembershipEntity;
-import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
 import org.springframework.data.jpa.domain.Specification;
 
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-
+/* CustomerViewEntity 는 국적명, 멤버십 등급명을 컬럼으로 갖고 있으므로 별도의 join 없이 바로 조건을 건다 */
 public class CustomerSpecification {
-	public static Specification<CustomerEntity> equalsCustomerType(String customerType) {
+	public static Specification<CustomerViewEntity> equalsCustomerType(String customerType) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerType"), customerType);
 	}
 
-	public static Specification<CustomerEntity> equalsMembershipLevelName(String membershipLevelName) {
-		return (root, query, criteriaBuilder) -> {
-			Join<CustomerEntity, MembershipIssueEntity> issueJoin = root.join("membershipIssues", JoinType.LEFT);
-			Join<MembershipIssueEntity, MembershipEntity> membershipJoin = issueJoin.join("membership", JoinType.LEFT);
-			return criteriaBuilder.equal(membershipJoin.get("membershipLevelName"), membershipLevelName);
-		};
+	public static Specification<CustomerViewEntity> equalsMembershipLevelName(String membershipLevelName) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("membershipLevelName"), membershipLevelName);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerCodePk(int customerCodePk) {
+	public static Specification<CustomerViewEntity> equalsCustomerCodePk(int customerCodePk) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerCodePk"), customerCodePk);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerName(String customerName) {
+	public static Specification<CustomerViewEntity> equalsCustomerName(String customerName) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("customerName"), "%" + customerName + "%");
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerEmail(String customerEmail) {
+	public static Specification<CustomerViewEntity> equalsCustomerEmail(String customerEmail) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerEmail"), customerEmail);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerPhoneNumber(String customerPhoneNumber) {
+	public static Specification<CustomerViewEntity> equalsCustomerPhoneNumber(String customerPhoneNumber) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("customerPhoneNumber"), "%" + customerPhoneNumber + "%");
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerEnglishName(String customerEnglishName) {
+	public static Specification<CustomerViewEntity> equalsCustomerEnglishName(String customerEnglishName) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerEnglishName"), customerEnglishName);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerAddress(String customerAddress) {
+	public static Specification<CustomerViewEntity> equalsCustomerAddress(String customerAddress) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerAddress"), customerAddress);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerInfoAgreement(int customerInfoAgreement) {
+	public static Specification<CustomerViewEntity> equalsCustomerInfoAgreement(int customerInfoAgreement) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerInfoAgreement"), customerInfoAgreement);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerStatus(int customerStatus) {
+	public static Specification<CustomerViewEntity> equalsCustomerStatus(int customerStatus) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerStatus"), customerStatus);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerRegisteredDate(Date customerRegisteredDate) {
+	public static Specification<CustomerViewEntity> equalsCustomerRegisteredDate(Date customerRegisteredDate) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerRegisteredDate"), customerRegisteredDate);
 	}
 
-	public static Specification<CustomerEntity> equalsNationCodeFk(int nationCodeFk) {
+	public static Specification<CustomerViewEntity> equalsNationCodeFk(int nationCodeFk) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("nationCodeFk"), nationCodeFk);
 	}
 
-	public static Specification<CustomerEntity> equalsCustomerGender(String customerGender) {
+	public static Specification<CustomerViewEntity> equalsCustomerGender(String customerGender) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerGender"), customerGender);
 	}
 
-	public static Specification<CustomerEntity> equalsNationName(String nationName) {
-		return (root, query, criteriaBuilder) ->
-		{
-			Join<CustomerEntity, NationEntity> joinNation = root.join("nation");
-			return criteriaBuilder.equal(joinNation.get("nationName"), nationName);
-		};
+	public static Specification<CustomerViewEntity> equalsNationName(String nationName) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("nationName"), nationName);
 	}
 }
@@ -0,0 +1,90 @@
+package org.iot.hotelitybackend.customer.aggregate;
+
+import java.util.Date;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 고객 조회 전용 엔티티 (읽기 전용)
+ * 국적명과 현재 멤버십 등급(가장 최근 발급 건)을 한 번의 조인 쿼리로 가져온다.
+ * 고객 1건마다 국적/멤버십 발급/멤버십 테이블을 따로 조회하던 N+1 문제와
+ * CustomerEntity 의 @Formula 서브쿼리를 목록, 엑셀 다운로드에서 사용하지 않기 위해 사용 */
+@Entity
+@Immutable
+@Subselect(
+	"SELECT "
+		+ "c.customer_code_pk AS customer_code_pk, "
+		+ "c.customer_name AS customer_name, "
+		+ "c.customer_email AS customer_email, "
+		+ "c.customer_phone_number AS customer_phone_number, "
+		+ "c.customer_english_name AS customer_english_name, "
+		+ "c.customer_address AS customer_address, "
+		+ "c.customer_info_agreement AS customer_info_agreement, "
+		+ "c.customer_status AS customer_status, "
+		+ "c.customer_registered_date AS customer_registered_date, "
+		+ "c.customer_type AS customer_type, "
+		+ "c.nation_code_fk AS nation_code_fk, "
+		+ "c.customer_gender AS customer_gender, "
+		+ "n.nation_name AS nation_name, "
+		+ "mi.membership_level_code_fk AS membership_level_code_fk, "
+		+ "m.membership_level_name AS membership_level_name "
+		+ "FROM customer_tb c "
+		+ "LEFT JOIN nationality_tb n ON n.nation_code_pk = c.nation_code_fk "
+		+ "LEFT JOIN membership_issue_tb mi ON mi.membership_issue_code_pk = ("
+		+ "SELECT MAX(mi2.membership_issue_code_pk) FROM membership_issue_tb mi2 "
+		+ "WHERE mi2.customer_code_fk = c.customer_code_pk"
+		+ ") "
+		+ "LEFT JOIN membership_tb m ON m.membership_level_code_pk = mi.membership_level_code_fk"
+)
+@Synchronize({"customer_tb", "nationality_tb", "membership_issue_tb", "membership_tb"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CustomerViewEntity {
+
+	@Id
+	private Integer customerCodePk;
+	private String customerName;
+	private String customerEmail;
+	private String customerPhoneNumber;
+	private String customerEnglishName;
+	private String customerAddress;
+	private Integer customerInfoAgreement;
+	private Integer customerStatus;
+	private Date customerRegisteredDate;
+	private String customerType;
+	private Integer nationCodeFk;
+	private String customerGender;
+	private String nationName;
+	private Integer membershipLevelCodeFk;
+	private String membershipLevelName;
+
+	@Builder
+	public CustomerViewEntity(Integer customerCodePk, String customerName, String customerEmail,
+		String customerPhoneNumber, String customerEnglishName, String customerAddress, Integer customerInfoAgreement,
+		Integer customerStatus, Date customerRegisteredDate, String customerType, Integer nationCodeFk,
+		String customerGender, String nationName, Integer membershipLevelCodeFk, String membershipLevelName) {
+		this.customerCodePk = customerCodePk;
+		this.customerName = customerName;
+		this.customerEmail = customerEmail;
+		this.customerPhoneNumber = customerPhoneNumber;
+		this.customerEnglishName = customerEnglishName;
+		this.customerAddress = customerAddress;
+		this.customerInfoAgreement = customerInfoAgreement;
+		this.customerStatus = customerStatus;
+		this.customerRegisteredDate = customerRegisteredDate;
+		this.customerType = customerType;
+		this.nationCodeFk = nationCodeFk;
+		this.customerGender = customerGender;
+		this.nationName = nationName;
+		this.membershipLevelCodeFk = membershipLevelCodeFk;
+		this.membershipLevelName = membershipLevelName;
+	}
+}
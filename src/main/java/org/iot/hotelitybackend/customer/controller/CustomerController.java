@@ -1,34 +1,34 @@
 package org.iot.hotelitybackend.customer.controller;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.CustomerCriteria;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
 import org.iot.hotelitybackend.customer.dto.CustomerDTO;
+import org.iot.hotelitybackend.customer.dto.CustomerImportJobDTO;
 import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.iot.hotelitybackend.customer.service.CustomerImportService;
 import org.iot.hotelitybackend.customer.service.CustomerService;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyCustomer;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import static org.iot.hotelitybackend.common.util.ExcelType.CUSTOMER;
 
@@ -36,31 +36,63 @@ import static org.iot.hotelitybackend.common.util.ExcelType.CUSTOMER;
 @RestController
 @RequestMapping("/customers")
 public class CustomerController {
+    // CUSTOMER 헤더 순서에 맞춘 CustomerDTO 필드
+    private static final String[] CUSTOMER_EXCEL_FIELDS = {
+        "customerCodePk", "customerType", "nationName", "customerEnglishName", "customerName", "customerGender",
+        "customerEmail", "customerPhoneNumber", "customerAddress", "membershipLevelName"
+    };
+
     private final CustomerService customerService;
+    private final CustomerImportService customerImportService;
+    private final ExcelExportService excelExportService;
     private final ModelMapper mapper;
 
     @Autowired
-    public CustomerController(CustomerService customerService, ModelMapper mapper) {
+    public CustomerController(CustomerService customerService, CustomerImportService customerImportService,
+        ExcelExportService excelExportService, ModelMapper mapper) {
         this.customerService = customerService;
+        this.customerImportService = customerImportService;
+        this.excelExportService = excelExportService;
         this.mapper = mapper;
     }
 
     @GetMapping("/page")
     public ResponseEntity<ResponseVO> selectCustomersList(@ModelAttribute CustomerCriteria criteria) {
-        Map<String, Object> customerPageInfo = customerService.selectCustomersList(criteria);
+        ResponseVO response;
+        try {
+            Map<String, Object> customerPageInfo = customerService.selectCustomersList(criteria);
 
-        ResponseVO response = ResponseVO.builder()
-                .data(customerPageInfo)
-                .resultCode(HttpStatus.OK.value())
-                .build();
+            response = ResponseVO.builder()
+                    .data(customerPageInfo)
+                    .resultCode(HttpStatus.OK.value())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                    .resultCode(HttpStatus.BAD_REQUEST.value())
+                    .message(e.getMessage())
+                    .build();
+        }
 
         return ResponseEntity.status(response.getResultCode()).body(response);
     }
 
     @GetMapping("/{customerCodePk}/customer")
-    public ResponseEntity<SelectCustomerDTO> selectCustomerByCustomerCodePk(@PathVariable("customerCodePk") Integer customerCodePk){
+    public ResponseEntity<SelectCustomerDTO> selectCustomerByCustomerCodePk(
+        @PathVariable("customerCodePk") Integer customerCodePk,
+        @RequestParam(value = "sections", required = false) List<String> sections
+    ){
 
-        SelectCustomerDTO customer = customerService.selectCustomerByCustomerCodePk(customerCodePk);
+        SelectCustomerDTO customer;
+        try {
+            // sections 미지정 시 payment, voc, stay, couponIssue 모두 조회
+            customer = customerService.selectCustomerByCustomerCodePk(customerCodePk,
+                sections == null ? null : new HashSet<>(sections));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 섹션
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
         // ResponseCustomer responseCustomer = mapper.map(customer, ResponseCustomer.class);
 
         return ResponseEntity.status(HttpStatus.OK).body(customer);
@@ -113,61 +145,99 @@ public class CustomerController {
         return ResponseEntity.status(response.getResultCode()).body(response);
     }
 
+    /* 고객 엑셀 가져오기 작업 등록 (작업 ID 를 바로 반환하고, 진행 상황은 /excel/read/{jobId} 로 조회) */
     @PostMapping("/excel/read")
-    public ResponseEntity<ResponseVO> readExcel(@RequestParam("file") MultipartFile file, Model model) throws IOException {
-
-        String extension = FilenameUtils.getExtension(file.getOriginalFilename());
-
-        if (!extension.equals("xlsx") && !extension.equals("xls")) {
-            throw new IOException("엑셀파일만 업로드 해주세요.");
-        }
-        Workbook workbook = null;
-
-        if (extension.equals("xlsx")) {
-            workbook = new XSSFWorkbook(file.getInputStream());
-        } else if (extension.equals("xls")) {
-            workbook = new HSSFWorkbook(file.getInputStream());
+    public ResponseEntity<ResponseVO> readExcel(@RequestParam("file") MultipartFile file) throws IOException {
+        ResponseVO response;
+        try {
+            CustomerImportJobDTO importJob =
+                customerImportService.startImport(file.getOriginalFilename(), file.getInputStream());
+            response = ResponseVO.builder()
+                .data(importJob)
+                .resultCode(HttpStatus.ACCEPTED.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        } catch (IllegalStateException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
         }
 
-        Map<String, Object> excelTest = customerService.readExcel(workbook);
+        return ResponseEntity.status(response.getResultCode()).body(response);
+    }
 
-        ResponseVO response = ResponseVO.builder()
-            .data(excelTest)
-            .resultCode(HttpStatus.OK.value())
-            .build();
+    @GetMapping("/excel/read/{jobId}")
+    public ResponseEntity<ResponseVO> selectImportJob(@PathVariable("jobId") String jobId) {
+        ResponseVO response;
+        try {
+            response = ResponseVO.builder()
+                .data(customerImportService.selectImportJob(jobId))
+                .resultCode(HttpStatus.OK.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.NOT_FOUND.value())
+                .message(e.getMessage())
+                .build();
+        }
 
         return ResponseEntity.status(response.getResultCode()).body(response);
     }
 
-    @GetMapping("/excel/download")
-    public ResponseEntity<InputStreamResource> downloadExcel(
-        @ModelAttribute CustomerCriteria criteria
-    ){
-        try{
-            ByteArrayInputStream result = customerService.downloadExcel(criteria);
-
-            // 파일명에 현재시간 넣기 위한 작업
-            Calendar calendar = Calendar.getInstance();
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HHmmss");
-            String time = dateFormat.format(calendar.getTime());
+    /* 가져오기 실패 행 내역 (행 번호, 사유) CSV 다운로드 */
+    @GetMapping("/excel/read/{jobId}/errors")
+    public ResponseEntity<Resource> downloadImportErrors(@PathVariable("jobId") String jobId) {
+        Resource errorReport;
+        try {
+            errorReport = customerImportService.getErrorReport(jobId);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
 
-            // UTF8 로 인코딩 해줘야 파일명에 한글 들어갔을 때 오류 발생 안함
-            String fileName = URLEncoder.encode(
-                    CUSTOMER.getFileName() + "_" + time + ".xlsx", StandardCharsets.UTF_8);
+        String fileName = URLEncoder.encode(
+            CUSTOMER.getFileName() + "_가져오기_오류_" + jobId + ".csv", StandardCharsets.UTF_8);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Content-Type", "application/vnd.ms-excel");
-            headers.add("Content-Disposition", "attachment; filename=" + fileName);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Type", "text/csv; charset=UTF-8");
+        headers.add("Content-Disposition", "attachment; filename=" + fileName);
 
-            return ResponseEntity
-                .ok()
-                .headers(headers)
-                .body(new InputStreamResource(result));
+        return ResponseEntity
+            .ok()
+            .headers(headers)
+            .body(errorReport);
+    }
 
-        } catch(Exception e){
-            log.info(e.getMessage());
+    @GetMapping("/excel/download")
+    public ResponseEntity<ResponseVO> downloadExcel(
+        @ModelAttribute CustomerCriteria criteria,
+        @RequestParam(value = "format", required = false) String format
+    ) {
+        ResponseVO response;
+        try {
+            // 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+            ExcelExportJobDTO exportJob = excelExportService.requestExport(CUSTOMER, ExportFormat.from(format), criteria,
+                () -> customerService.streamCustomersForExcel(criteria), CUSTOMER_EXCEL_FIELDS);
+            response = ResponseVO.builder()
+                .data(exportJob)
+                .resultCode(HttpStatus.ACCEPTED.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        } catch (IllegalStateException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
         }
 
-        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(response.getResultCode()).body(response);
     }
 }
@@ -0,0 +1,27 @@
+package org.iot.hotelitybackend.customer.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class CustomerImportJobDTO {
+	public static final String STATUS_QUEUED = "QUEUED";
+	public static final String STATUS_RUNNING = "RUNNING";
+	public static final String STATUS_COMPLETED = "COMPLETED";
+	public static final String STATUS_FAILED = "FAILED";
+
+	private String jobId;
+	private String fileName;
+	private String status;
+	// 헤더, 빈 행을 제외한 읽은 행 수
+	private Integer totalRows;
+	private Integer importedRows;
+	private Integer failedRows;
+	// 실패 행이 있는 경우 오류 내역 다운로드 가능
+	private Boolean errorReportAvailable;
+	private String message;
+	private LocalDateTime requestedAt;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+}
@@ -32,4 +32,6 @@ public class SelectCustomerDTO {
 	private List<VocDTO> voc;
 	private List<StayDTO> stay;
 	private List<CouponIssueDTO> couponIssue;
+	// 시간 안에 조회되지 않은 섹션 (payment, voc, stay, couponIssue)
+	private List<String> failedSections;
 }
@@ -0,0 +1,26 @@
+package org.iot.hotelitybackend.customer.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* 고객 상세(기본 정보, 멤버십, 결제/VOC/투숙/쿠폰 내역) 변경 알림
+ * 변경한 서비스가 발행하고, 고객 상세 캐시가 커밋 이후 해당 고객만 삭제한다.
+ * allCustomers 는 멤버십 일괄 갱신처럼 대상 고객을 특정하기 어려운 변경에 사용한다. */
+public record CustomerProfileChangedEvent(Set<Integer> customerCodePks, boolean allCustomers) {
+
+	public static CustomerProfileChangedEvent of(Integer customerCodePk) {
+		return of(Collections.singletonList(customerCodePk));
+	}
+
+	public static CustomerProfileChangedEvent of(Collection<Integer> customerCodePks) {
+		return new CustomerProfileChangedEvent(
+			customerCodePks.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()), false);
+	}
+
+	public static CustomerProfileChangedEvent ofAllCustomers() {
+		return new CustomerProfileChangedEvent(Set.of(), true);
+	}
+}
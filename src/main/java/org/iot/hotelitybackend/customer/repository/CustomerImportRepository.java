@@ -0,0 +1,94 @@
+package org.iot.hotelitybackend.customer.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+/* 엑셀 가져오기용 고객/최초 멤버십 일괄 등록
+ * IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치로 실행하고,
+ * 배치 결과로 받은 고객 코드로 멤버십 발급 내역을 다시 배치로 등록한다. */
+@Repository
+public class CustomerImportRepository {
+
+	private static final String INSERT_CUSTOMER_SQL =
+		"INSERT INTO customer_tb (customer_name, customer_email, customer_phone_number, customer_english_name, "
+			+ "customer_address, customer_info_agreement, customer_status, customer_registered_date, customer_type, "
+			+ "nation_code_fk, customer_gender) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_MEMBERSHIP_ISSUE_SQL =
+		"INSERT INTO membership_issue_tb (customer_code_fk, membership_level_code_fk, membership_issue_date) "
+			+ "VALUES (?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public CustomerImportRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/* customerList 순서대로 생성된 고객 코드 반환 */
+	public List<Integer> insertCustomers(List<CustomerEntity> customerList) {
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_CUSTOMER_SQL, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+					CustomerEntity customer = customerList.get(i);
+					preparedStatement.setString(1, customer.getCustomerName());
+					preparedStatement.setString(2, customer.getCustomerEmail());
+					preparedStatement.setString(3, customer.getCustomerPhoneNumber());
+					preparedStatement.setString(4, customer.getCustomerEnglishName());
+					preparedStatement.setString(5, customer.getCustomerAddress());
+					preparedStatement.setObject(6, customer.getCustomerInfoAgreement(), Types.INTEGER);
+					preparedStatement.setObject(7, customer.getCustomerStatus(), Types.INTEGER);
+					preparedStatement.setTimestamp(8, new Timestamp(customer.getCustomerRegisteredDate().getTime()));
+					preparedStatement.setString(9, customer.getCustomerType());
+					preparedStatement.setObject(10, customer.getNationCodeFk(), Types.INTEGER);
+					preparedStatement.setString(11, customer.getCustomerGender());
+				}
+
+				@Override
+				public int getBatchSize() {
+					return customerList.size();
+				}
+			},
+			keyHolder);
+
+		List<Integer> customerCodePkList = keyHolder.getKeyList().stream()
+			.map(Map::values)
+			.map(values -> ((Number)values.iterator().next()).intValue())
+			.toList();
+
+		// 드라이버가 배치 키를 모두 돌려주지 않으면 멤버십을 잘못 연결하지 않도록 실패 처리 (트랜잭션 롤백)
+		if (customerCodePkList.size() != customerList.size()) {
+			throw new IllegalStateException(
+				"생성된 고객 코드 수가 일치하지 않습니다: " + customerCodePkList.size() + "/" + customerList.size());
+		}
+		return customerCodePkList;
+	}
+
+	public void insertMembershipIssues(List<Integer> customerCodePkList, Integer membershipLevelCodeFk,
+		Date membershipIssueDate) {
+		Timestamp issueTimestamp = new Timestamp(membershipIssueDate.getTime());
+
+		jdbcTemplate.batchUpdate(INSERT_MEMBERSHIP_ISSUE_SQL, customerCodePkList, customerCodePkList.size(),
+			(preparedStatement, customerCodePk) -> {
+				preparedStatement.setInt(1, customerCodePk);
+				preparedStatement.setInt(2, membershipLevelCodeFk);
+				preparedStatement.setTimestamp(3, issueTimestamp);
+			});
+	}
+}
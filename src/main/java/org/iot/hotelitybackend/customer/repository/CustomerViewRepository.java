@@ -0,0 +1,9 @@
+package org.iot.hotelitybackend.customer.repository;
+
+import org.iot.hotelitybackend.customer.aggregate.CustomerViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface CustomerViewRepository extends JpaRepository<CustomerViewEntity, Integer>,
+	JpaSpecificationExecutor<CustomerViewEntity> {
+}
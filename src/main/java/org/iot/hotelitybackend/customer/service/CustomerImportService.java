@@ -0,0 +1,16 @@
+package org.iot.hotelitybackend.customer.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.iot.hotelitybackend.customer.dto.CustomerImportJobDTO;
+import org.springframework.core.io.Resource;
+
+public interface CustomerImportService {
+
+	CustomerImportJobDTO startImport(String fileName, InputStream inputStream) throws IOException;
+
+	CustomerImportJobDTO selectImportJob(String jobId);
+
+	Resource getErrorReport(String jobId);
+}
@@ -0,0 +1,404 @@
+package org.iot.hotelitybackend.customer.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FilenameUtils;
+import org.iot.hotelitybackend.common.util.ExcelRowReader;
+import org.iot.hotelitybackend.common.util.SharedJobStore;
+import org.iot.hotelitybackend.common.util.TotalCountCache;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.aggregate.CustomerViewEntity;
+import org.iot.hotelitybackend.customer.aggregate.NationEntity;
+import org.iot.hotelitybackend.customer.dto.CustomerImportJobDTO;
+import org.iot.hotelitybackend.customer.repository.CustomerImportRepository;
+import org.iot.hotelitybackend.customer.repository.NationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 고객 엑셀 가져오기 (백그라운드 작업)
+ * 업로드 파일을 임시 파일로 옮긴 뒤 작업 ID 를 바로 반환하고, 전용 스레드에서 행 단위로 읽는다.
+ * 검증을 통과한 행은 CHUNK_SIZE 만큼 모아 고객/최초 멤버십을 JDBC 배치로 등록하며 (청크 단위 트랜잭션)
+ * 검증이나 저장에 실패한 행은 행 번호와 사유를 오류 내역 CSV 에 기록한다.
+ * 작업 상태는 이 서버 메모리에 두고 JOB_RETENTION 이 지나면 오류 내역 파일과 함께 정리한다.
+ * 다른 서버로 온 조회/다운로드를 위해 상태는 청크마다, 오류 내역은 끝날 때 SharedJobStore(Redis, S3) 에도 올린다. */
+@Slf4j
+@Service
+public class CustomerImportServiceImpl implements CustomerImportService {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final int COLUMN_COUNT = 11;
+	private static final int MAX_QUEUED_JOBS = 10;
+	private static final Duration JOB_RETENTION = Duration.ofHours(24);
+	private static final int INITIAL_MEMBERSHIP_LEVEL_CODE = 1;
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+	private static final String JOB_TYPE = "customer-import";
+	private static final String ERROR_REPORT_HEADER = "\uFEFF행 번호,한글 이름,이메일,오류 내용\n";
+
+	private final CustomerImportRepository customerImportRepository;
+	private final NationRepository nationRepository;
+	private final TotalCountCache totalCountCache;
+	private final TransactionTemplate transactionTemplate;
+	private final SharedJobStore sharedJobStore;
+
+	private final Map<String, ImportJob> jobMap = new ConcurrentHashMap<>();
+
+	// 가져오기는 한 번에 하나씩 실행해 커넥션 풀을 점유하지 않도록 한다
+	private final ThreadPoolExecutor importExecutor = new ThreadPoolExecutor(1, 1,
+		0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_JOBS), runnable -> {
+		Thread thread = new Thread(runnable, "customer-import");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Autowired
+	public CustomerImportServiceImpl(CustomerImportRepository customerImportRepository,
+		NationRepository nationRepository, TotalCountCache totalCountCache,
+		PlatformTransactionManager transactionManager, SharedJobStore sharedJobStore) {
+		this.customerImportRepository = customerImportRepository;
+		this.nationRepository = nationRepository;
+		this.totalCountCache = totalCountCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.sharedJobStore = sharedJobStore;
+	}
+
+	private record ImportRow(int rowNumber, CustomerEntity customer) {
+	}
+
+	@Override
+	public CustomerImportJobDTO startImport(String fileName, InputStream inputStream) throws IOException {
+		String extension = FilenameUtils.getExtension(fileName);
+		if (!"xlsx".equals(extension) && !"xls".equals(extension)) {
+			throw new IllegalArgumentException("엑셀파일만 업로드 해주세요.");
+		}
+
+		removeExpiredJobs();
+
+		Path file = Files.createTempFile("customer-import-", "." + extension);
+		Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+
+		ImportJob job = new ImportJob(UUID.randomUUID().toString(), fileName);
+		jobMap.put(job.jobId, job);
+		share(job);
+
+		try {
+			importExecutor.execute(() -> runImport(job, file, extension));
+		} catch (RejectedExecutionException e) {
+			jobMap.remove(job.jobId);
+			sharedJobStore.delete(JOB_TYPE, job.jobId);
+			Files.deleteIfExists(file);
+			throw new IllegalStateException("대기 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		return job.toDTO();
+	}
+
+	@Override
+	public CustomerImportJobDTO selectImportJob(String jobId) {
+		ImportJob job = jobMap.get(jobId);
+		if (job != null) {
+			return job.toDTO();
+		}
+		// 다른 서버가 실행한 작업
+		return sharedJobStore.find(JOB_TYPE, jobId, CustomerImportJobDTO.class)
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 가져오기 작업입니다."));
+	}
+
+	@Override
+	public Resource getErrorReport(String jobId) {
+		CustomerImportJobDTO jobDTO = selectImportJob(jobId);
+		if (jobDTO.getFinishedAt() == null) {
+			throw new IllegalArgumentException("가져오기 작업이 끝난 뒤 다운로드할 수 있습니다.");
+		}
+		if (!jobDTO.getErrorReportAvailable()) {
+			throw new IllegalArgumentException("오류 내역이 없습니다.");
+		}
+
+		ImportJob job = jobMap.get(jobId);
+		if (job != null) {
+			return new FileSystemResource(job.errorReport);
+		}
+		return sharedJobStore.openFile(JOB_TYPE, jobId);
+	}
+
+	void runImport(ImportJob job, Path file, String extension) {
+		job.status = CustomerImportJobDTO.STATUS_RUNNING;
+		job.startedAt = LocalDateTime.now();
+		share(job);
+
+		try {
+			job.errorReport = Files.createTempFile("customer-import-errors-", ".csv");
+			Set<Integer> nationCodes = nationRepository.findAll().stream()
+				.map(NationEntity::getNationCodePk)
+				.collect(Collectors.toSet());
+			Date registeredDate = new Date();
+
+			try (BufferedWriter errorWriter = Files.newBufferedWriter(job.errorReport, StandardCharsets.UTF_8)) {
+				errorWriter.write(ERROR_REPORT_HEADER);
+
+				List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+				ExcelRowReader.read(file, extension, COLUMN_COUNT, (rowNumber, cells) -> {
+					// 첫 행은 헤더
+					if (rowNumber == 1 || isBlankRow(cells)) {
+						return;
+					}
+
+					job.totalRows.incrementAndGet();
+					try {
+						chunk.add(new ImportRow(rowNumber, toCustomerEntity(cells, nationCodes, registeredDate)));
+					} catch (IllegalArgumentException e) {
+						writeError(errorWriter, rowNumber, cells[0], cells[1], e.getMessage());
+						job.failedRows.incrementAndGet();
+					}
+
+					if (chunk.size() >= CHUNK_SIZE) {
+						saveChunk(job, chunk, registeredDate, errorWriter);
+						chunk.clear();
+					}
+				});
+				saveChunk(job, chunk, registeredDate, errorWriter);
+			}
+
+			shareErrorReport(job);
+			job.finish(CustomerImportJobDTO.STATUS_COMPLETED, null);
+		} catch (IOException | RuntimeException e) {
+			log.warn("고객 엑셀 가져오기 실패 jobId={}: {}", job.jobId, e.toString());
+			shareErrorReport(job);
+			job.finish(CustomerImportJobDTO.STATUS_FAILED, e.getMessage());
+		} finally {
+			share(job);
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				log.warn("가져오기 임시 파일 삭제 실패: {}", file);
+			}
+			if (job.importedRows.get() > 0) {
+				totalCountCache.evict(CustomerViewEntity.class);
+			}
+		}
+	}
+
+	/* 청크 단위로 고객과 최초 멤버십을 함께 등록, 실패 시 청크 전체를 오류 내역에 기록 */
+	private void saveChunk(ImportJob job, List<ImportRow> chunk, Date registeredDate, BufferedWriter errorWriter)
+		throws IOException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		List<CustomerEntity> customerList = chunk.stream().map(ImportRow::customer).toList();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				List<Integer> customerCodePkList = customerImportRepository.insertCustomers(customerList);
+				customerImportRepository.insertMembershipIssues(
+					customerCodePkList, INITIAL_MEMBERSHIP_LEVEL_CODE, registeredDate);
+			});
+			job.importedRows.addAndGet(chunk.size());
+			share(job);
+		} catch (RuntimeException e) {
+			log.warn("고객 엑셀 가져오기 저장 실패 jobId={}, rows={}~{}: {}", job.jobId,
+				chunk.get(0).rowNumber(), chunk.get(chunk.size() - 1).rowNumber(), e.toString());
+			for (ImportRow importRow : chunk) {
+				writeError(errorWriter, importRow.rowNumber(), importRow.customer().getCustomerName(),
+					importRow.customer().getCustomerEmail(), "저장 실패: " + e.getMessage());
+			}
+			job.failedRows.addAndGet(chunk.size());
+			share(job);
+		}
+	}
+
+	/* 다른 서버에서도 진행 상황을 조회할 수 있도록 공유 */
+	private void share(ImportJob job) {
+		CustomerImportJobDTO jobDTO = job.toDTO();
+		// 오류 내역을 올리지 못했으면 다른 서버에서는 내려줄 수 없다
+		jobDTO.setErrorReportAvailable(jobDTO.getErrorReportAvailable() && job.errorReportShared);
+		sharedJobStore.save(JOB_TYPE, job.jobId, jobDTO, JOB_RETENTION);
+	}
+
+	// 완료 상태보다 먼저 올려 다른 서버에서 오류 내역이 있다고 보이는 시점에는 내려받을 수 있도록 한다
+	private void shareErrorReport(ImportJob job) {
+		if (job.errorReport != null && job.failedRows.get() > 0) {
+			job.errorReportShared = sharedJobStore.uploadFile(JOB_TYPE, job.jobId, job.errorReport);
+		}
+	}
+
+	/* 열 순서: 한글 이름, 이메일, 전화번호, 영문 이름, 주소, 정보 동의 여부, 고객 상태, 등록일(사용 안 함),
+	 * 고객 타입, 국가 코드, 성별 */
+	private CustomerEntity toCustomerEntity(String[] cells, Set<Integer> nationCodes, Date registeredDate) {
+		String customerName = cells[0].trim();
+		if (customerName.isEmpty()) {
+			throw new IllegalArgumentException("한글 이름이 비어 있습니다.");
+		}
+
+		String customerEmail = cells[1].trim();
+		if (!customerEmail.isEmpty() && !EMAIL_PATTERN.matcher(customerEmail).matches()) {
+			throw new IllegalArgumentException("이메일 형식이 올바르지 않습니다: " + customerEmail);
+		}
+
+		Integer customerInfoAgreement = parseInteger(cells[5], "정보 동의 여부");
+		if (customerInfoAgreement != 0 && customerInfoAgreement != 1) {
+			throw new IllegalArgumentException("정보 동의 여부는 0 또는 1 이어야 합니다.");
+		}
+
+		Integer nationCodeFk = parseInteger(cells[9], "국가 코드");
+		if (!nationCodes.contains(nationCodeFk)) {
+			throw new IllegalArgumentException("존재하지 않는 국가 코드입니다: " + nationCodeFk);
+		}
+
+		return CustomerEntity.builder()
+			.customerName(customerName)
+			.customerEmail(emptyToNull(customerEmail))
+			.customerPhoneNumber(emptyToNull(cells[2].trim()))
+			.customerEnglishName(emptyToNull(cells[3].trim()))
+			.customerAddress(emptyToNull(cells[4].trim()))
+			.customerInfoAgreement(customerInfoAgreement)
+			.customerStatus(parseInteger(cells[6], "고객 상태"))
+			.customerRegisteredDate(registeredDate)
+			.customerType(emptyToNull(cells[8].trim()))
+			.nationCodeFk(nationCodeFk)
+			.customerGender(emptyToNull(cells[10].trim()))
+			.build();
+	}
+
+	private Integer parseInteger(String value, String columnName) {
+		try {
+			return Integer.valueOf(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(columnName + " 값이 숫자가 아닙니다: " + value);
+		}
+	}
+
+	private String emptyToNull(String value) {
+		return value.isEmpty() ? null : value;
+	}
+
+	private boolean isBlankRow(String[] cells) {
+		for (String cell : cells) {
+			if (!cell.isBlank()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void writeError(BufferedWriter errorWriter, int rowNumber, String customerName, String customerEmail,
+		String message) throws IOException {
+		errorWriter.write(rowNumber + "," + csv(customerName) + "," + csv(customerEmail) + "," + csv(message) + "\n");
+	}
+
+	private String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+
+	private void removeExpiredJobs() {
+		LocalDateTime expiredBefore = LocalDateTime.now().minus(JOB_RETENTION);
+		jobMap.values().removeIf(job -> {
+			if (job.finishedAt == null || job.finishedAt.isAfter(expiredBefore)) {
+				return false;
+			}
+			deleteErrorReport(job);
+			sharedJobStore.delete(JOB_TYPE, job.jobId);
+			return true;
+		});
+	}
+
+	private void deleteErrorReport(ImportJob job) {
+		if (job.errorReport == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(job.errorReport);
+		} catch (IOException e) {
+			log.warn("가져오기 오류 내역 삭제 실패: {}", job.errorReport);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		importExecutor.shutdownNow();
+		jobMap.values().forEach(job -> {
+			// 끝나지 않은 작업은 다른 서버에서 계속 진행 중으로 보이지 않도록 실패로 남긴다
+			if (job.finishedAt == null) {
+				job.finish(CustomerImportJobDTO.STATUS_FAILED, "서버가 종료되어 작업이 중단되었습니다.");
+				share(job);
+			}
+			deleteErrorReport(job);
+		});
+	}
+
+	static class ImportJob {
+		private final String jobId;
+		private final String fileName;
+		private final LocalDateTime requestedAt = LocalDateTime.now();
+		private final AtomicInteger totalRows = new AtomicInteger();
+		private final AtomicInteger importedRows = new AtomicInteger();
+		private final AtomicInteger failedRows = new AtomicInteger();
+		private volatile String status = CustomerImportJobDTO.STATUS_QUEUED;
+		private volatile String message;
+		private volatile LocalDateTime startedAt;
+		private volatile LocalDateTime finishedAt;
+		private volatile Path errorReport;
+		private volatile boolean errorReportShared;
+
+		ImportJob(String jobId, String fileName) {
+			this.jobId = jobId;
+			this.fileName = fileName;
+		}
+
+		// 상태 조회 시 완료 상태와 종료 시간이 어긋나지 않도록 상태를 마지막에 변경
+		private void finish(String finalStatus, String finalMessage) {
+			finishedAt = LocalDateTime.now();
+			message = finalMessage;
+			status = finalStatus;
+		}
+
+		CustomerImportJobDTO toDTO() {
+			CustomerImportJobDTO jobDTO = new CustomerImportJobDTO();
+			jobDTO.setJobId(jobId);
+			jobDTO.setFileName(fileName);
+			jobDTO.setStatus(status);
+			jobDTO.setTotalRows(totalRows.get());
+			jobDTO.setImportedRows(importedRows.get());
+			jobDTO.setFailedRows(failedRows.get());
+			jobDTO.setErrorReportAvailable(finishedAt != null && errorReport != null && failedRows.get() > 0);
+			jobDTO.setMessage(message);
+			jobDTO.setRequestedAt(requestedAt);
+			jobDTO.setStartedAt(startedAt);
+			jobDTO.setFinishedAt(finishedAt);
+			return jobDTO;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package org.iot.hotelitybackend.customer.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/* 고객 상세(SelectCustomerDTO) Redis 캐시
+ * 조립이 끝난 고객 상세를 Smile(바이너리 JSON) 로 인코딩해 고객 단위 키에 저장한다.
+ * 고객, 멤버십, 결제/VOC/투숙/쿠폰 내역을 변경한 서비스가 CustomerProfileChangedEvent 를 발행하면
+ * 커밋 이후 해당 고객 키만 삭제하고, 이벤트 없이 바뀌는 데이터는 TTL 로 정리한다.
+ * 조립하는 동안 삭제가 일어나면 변경 전에 읽은 값일 수 있으므로 저장하지 않는다. 여러 서버가 같은 키를 쓰므로
+ * 삭제할 때 Redis 의 고객별 버전 키(전체 삭제는 전체 버전 키)를 INCR 하고, 저장은 조립 전에 읽은 버전과 같을 때만
+ * 하나의 스크립트로 비교 후 SET 한다.
+ * Redis 장애 시에는 캐시 미적중으로 처리해 DB 조회로 응답한다. */
+@Slf4j
+@Component
+public class CustomerProfileCache {
+
+	// DTO 구조가 바뀌면 올려서 이전 형식의 값을 읽지 않도록 한다
+	private static final String FORMAT_VERSION = "v1:";
+	private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+	private static final int SCAN_COUNT = 500;
+	// 고객 상세 키(customer-profile:*) 전체 삭제의 SCAN 에 걸리지 않도록 다른 접두사를 쓴다
+	private static final String VERSION_PREFIX = "customer-profile-version:";
+	private static final String ALL_VERSION_KEY = VERSION_PREFIX + "all";
+	// 조립 중인 요청이 버전을 다시 읽기 전에 고객별 버전 키가 사라지지 않을 만큼 보관
+	private static final Duration VERSION_TIME_TO_LIVE = Duration.ofHours(1);
+	private static final String NO_VERSION = "0";
+
+	// KEYS: 고객 상세 키, 전체 버전 키, 고객 버전 키 / ARGV: 조립 전 버전, 값, TTL(ms)
+	private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+		"local version = (redis.call('GET', KEYS[2]) or '0') .. ':' .. (redis.call('GET', KEYS[3]) or '0') "
+			+ "if version ~= ARGV[1] then return 0 end "
+			+ "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+			+ "return 1", Long.class);
+
+	// KEYS: (고객 상세 키, 고객 버전 키) 반복 / ARGV: 버전 키 TTL(ms)
+	private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+		"for i = 1, #KEYS, 2 do "
+			+ "redis.call('INCR', KEYS[i + 1]) "
+			+ "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) "
+			+ "redis.call('DEL', KEYS[i]) "
+			+ "end "
+			+ "return #KEYS / 2", Long.class);
+
+	private static final String METRIC_REQUESTS = "customer.profile.cache.requests";
+	private static final String METRIC_LATENCY = "customer.profile.cache.latency";
+
+	private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+	private final ObjectMapper smileMapper = SmileMapper.builder()
+		.addModule(new JavaTimeModule())
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.build();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter errorCounter;
+	private final Counter evictionCounter;
+	private final Timer getTimer;
+	private final Timer putTimer;
+	private final Timer loadTimer;
+	private final DistributionSummary payloadSummary;
+
+	@Autowired
+	public CustomerProfileCache(RedisTemplate<String, byte[]> binaryRedisTemplate, MeterRegistry meterRegistry) {
+		this.binaryRedisTemplate = binaryRedisTemplate;
+
+		this.hitCounter = Counter.builder(METRIC_REQUESTS).tag("result", "hit").register(meterRegistry);
+		this.missCounter = Counter.builder(METRIC_REQUESTS).tag("result", "miss").register(meterRegistry);
+		this.errorCounter = Counter.builder(METRIC_REQUESTS).tag("result", "error").register(meterRegistry);
+		this.evictionCounter = Counter.builder("customer.profile.cache.evictions").register(meterRegistry);
+		this.getTimer = Timer.builder(METRIC_LATENCY).tag("operation", "get").register(meterRegistry);
+		this.putTimer = Timer.builder(METRIC_LATENCY).tag("operation", "put").register(meterRegistry);
+		// 캐시 미적중 시 DB 에서 고객 상세를 조립하는 시간
+		this.loadTimer = Timer.builder(METRIC_LATENCY).tag("operation", "load").register(meterRegistry);
+		this.payloadSummary = DistributionSummary.builder("customer.profile.cache.payload")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	public Optional<SelectCustomerDTO> get(Integer customerCodePk) {
+		Timer.Sample sample = Timer.start();
+		try {
+			byte[] payload = binaryRedisTemplate.opsForValue().get(key(customerCodePk));
+			if (payload == null) {
+				missCounter.increment();
+				return Optional.empty();
+			}
+
+			SelectCustomerDTO selectCustomerDTO = smileMapper.readValue(payload, SelectCustomerDTO.class);
+			hitCounter.increment();
+			return Optional.of(selectCustomerDTO);
+		} catch (IOException | RuntimeException e) {
+			errorCounter.increment();
+			log.warn("고객 상세 캐시 조회 실패 customerCodePk={}: {}", customerCodePk, e.toString());
+			return Optional.empty();
+		} finally {
+			sample.stop(getTimer);
+		}
+	}
+
+	public SelectCustomerDTO load(Supplier<SelectCustomerDTO> loader) {
+		return loadTimer.record(loader);
+	}
+
+	/* 조립을 시작하기 전에 받아두고 put 에 넘긴다, Redis 장애 시 null (저장하지 않음) */
+	public String version(Integer customerCodePk) {
+		try {
+			List<byte[]> versions = binaryRedisTemplate.opsForValue()
+				.multiGet(List.of(ALL_VERSION_KEY, versionKey(customerCodePk)));
+			return versionString(versions.get(0)) + ":" + versionString(versions.get(1));
+		} catch (RuntimeException e) {
+			log.warn("고객 상세 캐시 버전 조회 실패 customerCodePk={}: {}", customerCodePk, e.toString());
+			return null;
+		}
+	}
+
+	/* loadedVersion 이후에 (어느 서버에서든) 삭제가 있었으면 저장하지 않는다 */
+	public void put(SelectCustomerDTO selectCustomerDTO, String loadedVersion) {
+		if (loadedVersion == null) {
+			return;
+		}
+
+		Integer customerCodePk = selectCustomerDTO.getCustomerCodePk();
+		Timer.Sample sample = Timer.start();
+		try {
+			byte[] payload = smileMapper.writeValueAsBytes(selectCustomerDTO);
+			Long stored = binaryRedisTemplate.execute(PUT_IF_VERSION_SCRIPT,
+				List.of(key(customerCodePk), ALL_VERSION_KEY, versionKey(customerCodePk)),
+				bytes(loadedVersion), payload, bytes(String.valueOf(TIME_TO_LIVE.toMillis())));
+			if (stored != null && stored == 1) {
+				payloadSummary.record(payload.length);
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("고객 상세 캐시 저장 실패 customerCodePk={}: {}", selectCustomerDTO.getCustomerCodePk(),
+				e.toString());
+		} finally {
+			sample.stop(putTimer);
+		}
+	}
+
+	public void evict(Collection<Integer> customerCodePks) {
+		if (customerCodePks.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(customerCodePks.size() * 2);
+		for (Integer customerCodePk : customerCodePks) {
+			keys.add(key(customerCodePk));
+			keys.add(versionKey(customerCodePk));
+		}
+		try {
+			binaryRedisTemplate.execute(EVICT_SCRIPT, keys, bytes(String.valueOf(VERSION_TIME_TO_LIVE.toMillis())));
+			evictionCounter.increment(customerCodePks.size());
+		} catch (RuntimeException e) {
+			log.warn("고객 상세 캐시 삭제 실패 customerCodePks={}: {}", customerCodePks, e.toString());
+		}
+	}
+
+	/* 전체 삭제 (KEYS 대신 SCAN 으로 나눠서 조회) */
+	public void evictAll() {
+		try {
+			binaryRedisTemplate.opsForValue().increment(ALL_VERSION_KEY);
+		} catch (RuntimeException e) {
+			log.warn("고객 상세 캐시 전체 버전 변경 실패: {}", e.toString());
+		}
+
+		ScanOptions options = ScanOptions.scanOptions()
+			.match(REDIS_PREFIX_CUSTOMER_PROFILE + "*")
+			.count(SCAN_COUNT)
+			.build();
+
+		List<String> keys = new ArrayList<>();
+		try (Cursor<String> cursor = binaryRedisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				keys.add(cursor.next());
+				if (keys.size() >= SCAN_COUNT) {
+					binaryRedisTemplate.delete(keys);
+					evictionCounter.increment(keys.size());
+					keys.clear();
+				}
+			}
+			if (!keys.isEmpty()) {
+				binaryRedisTemplate.delete(keys);
+				evictionCounter.increment(keys.size());
+			}
+		} catch (RuntimeException e) {
+			log.warn("고객 상세 캐시 전체 삭제 실패: {}", e.toString());
+		}
+	}
+
+	/* 변경 트랜잭션이 커밋된 뒤 삭제 (커밋 전에 지우면 다른 요청이 변경 전 데이터로 다시 채울 수 있음)
+	 * 트랜잭션 없이 호출된 서비스에서 발행한 이벤트는 바로 처리한다. */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCustomerProfileChanged(CustomerProfileChangedEvent event) {
+		if (event.allCustomers()) {
+			evictAll();
+			return;
+		}
+		evict(event.customerCodePks());
+	}
+
+	private String key(Integer customerCodePk) {
+		return REDIS_PREFIX_CUSTOMER_PROFILE + FORMAT_VERSION + customerCodePk;
+	}
+
+	private static String versionKey(Integer customerCodePk) {
+		return VERSION_PREFIX + customerCodePk;
+	}
+
+	private static String versionString(byte[] version) {
+		return version == null ? NO_VERSION : new String(version, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
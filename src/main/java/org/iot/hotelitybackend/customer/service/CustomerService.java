@@ -1,11 +1,10 @@
 package org.iot.hotelitybackend.customer.service;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.util.Date;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.apache.poi.ss.usermodel.Workbook;
 import org.iot.hotelitybackend.common.vo.CustomerCriteria;
 import org.iot.hotelitybackend.customer.dto.CustomerDTO;
 import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
@@ -15,9 +14,9 @@ public interface CustomerService {
 
     SelectCustomerDTO selectCustomerByCustomerCodePk(Integer customerCodePk);
 
-	Map<String, Object> readExcel(Workbook workbook);
+	SelectCustomerDTO selectCustomerByCustomerCodePk(Integer customerCodePk, Set<String> sections);
 
-	ByteArrayInputStream downloadExcel(CustomerCriteria criteria) throws IOException;
+	Stream<CustomerDTO> streamCustomersForExcel(CustomerCriteria criteria);
 
 	Map<String, Object> deleteCustomerByCustomerCodePk(int customerCodePk);
 
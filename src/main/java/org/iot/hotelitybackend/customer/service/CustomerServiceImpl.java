@@ -2,17 +2,20 @@ package org.iot.hotelitybackend.customer.service;
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.iot.hotelitybackend.common.util.ExcelType;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SectionExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
 import org.iot.hotelitybackend.common.vo.CustomerCriteria;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.customer.aggregate.CustomerSpecification;
-import org.iot.hotelitybackend.customer.aggregate.NationEntity;
+import org.iot.hotelitybackend.customer.aggregate.CustomerViewEntity;
 import org.iot.hotelitybackend.customer.dto.CustomerDTO;
 import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-import org.iot.hotelitybackend.customer.repository.NationRepository;
+import org.iot.hotelitybackend.customer.repository.CustomerViewRepository;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyCustomer;
 import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
 import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
@@ -32,102 +35,159 @@ import org.iot.hotelitybackend.sales.vo.CouponIssueSearchCriteria;
 import org.iot.hotelitybackend.sales.vo.VocSearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
 
 @Slf4j
 @Service
 public class CustomerServiceImpl implements CustomerService {
+    private static final String SECTION_PAYMENT = "payment";
+    private static final String SECTION_VOC = "voc";
+    private static final String SECTION_STAY = "stay";
+    private static final String SECTION_COUPON_ISSUE = "couponIssue";
+    private static final Set<String> CUSTOMER_DETAIL_SECTIONS =
+        Set.of(SECTION_PAYMENT, SECTION_VOC, SECTION_STAY, SECTION_COUPON_ISSUE);
+    private static final long SECTION_TIMEOUT_MILLIS = 5_000;
+    // 커서 조회(다운로드)에서 드라이버가 한 번에 받아오는 행 수
+    private static final int LIST_FETCH_SIZE = 1000;
+    // 정렬 기준으로 허용하는 고객 조회용 뷰의 필드
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+        "customerCodePk", "customerName", "customerEmail", "customerPhoneNumber", "customerEnglishName",
+        "customerAddress", "customerInfoAgreement", "customerStatus", "customerRegisteredDate", "customerType",
+        "nationCodeFk", "customerGender", "nationName", "membershipLevelCodeFk", "membershipLevelName"
+    );
+
     private final ModelMapper mapper;
     private final CustomerRepository customerRepository;
-    private final NationRepository nationRepository;
     private final MembershipRepository membershipRepository;
     private final MembershipIssueRepository membershipIssueRepository;
     private final PaymentServiceImpl paymentService;
     private final VocServiceImpl vocService;
     private final StayServiceImpl stayService;
     private final CouponIssueServiceImpl couponIssueService;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final CustomerViewRepository customerViewRepository;
+    private final SectionExecutor sectionExecutor;
+    private final CustomerProfileCache customerProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CustomerServiceImpl(
-        ModelMapper mapper, CustomerRepository customerRepository,
-        NationRepository nationRepository,
+        ModelMapper mapper, CustomerRepository customerRepository, CustomerViewRepository customerViewRepository,
         MembershipRepository membershipRepository, MembershipIssueRepository membershipIssueRepository,
         PaymentServiceImpl paymentService, VocServiceImpl vocService, StayServiceImpl stayService,
-        CouponIssueServiceImpl couponIssueService
+        CouponIssueServiceImpl couponIssueService, PageQueryExecutor pageQueryExecutor,
+        SectionExecutor sectionExecutor, CustomerProfileCache customerProfileCache,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.customerRepository = customerRepository;
-        this.nationRepository = nationRepository;
+        this.customerViewRepository = customerViewRepository;
         this.membershipRepository = membershipRepository;
         this.membershipIssueRepository = membershipIssueRepository;
         this.paymentService = paymentService;
         this.vocService = vocService;
         this.stayService = stayService;
         this.couponIssueService = couponIssueService;
+        this.pageQueryExecutor = pageQueryExecutor;
+        this.sectionExecutor = sectionExecutor;
+        this.customerProfileCache = customerProfileCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Map<String, Object> selectCustomersList(CustomerCriteria criteria) {
+        Specification<CustomerViewEntity> spec = spec(criteria);
+        String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+        Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
+
+        Map<String, Object> customerPageInfo = new HashMap<>();
+
+        // 키셋 페이징 (cursor 를 전달한 경우)
+        if (criteria.getCursor() != null) {
+            KeysetPagination.KeysetPage<CustomerViewEntity> customerKeysetPage = KeysetPagination.fetch(
+                customerViewRepository, spec,
+                orderBy == null ? "customerCodePk" : orderBy, "customerCodePk",
+                orderBy == null ? Sort.Direction.ASC : direction,
+                criteria.getCursor(), PAGE_SIZE
+            );
+            customerPageInfo.put(KEY_CONTENT, toCustomerDTOList(customerKeysetPage.content()));
+            customerPageInfo.put(KEY_NEXT_CURSOR, customerKeysetPage.nextCursor());
+
+            return customerPageInfo;
+        }
+
         Pageable pageable;
 
-        if (criteria.getOrderBy() == null) {
+        if (orderBy == null) {
             pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE, Sort.by("customerCodePk"));
         } else {
-            if (criteria.getSortBy() == 1) {
-                pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE, Sort.by(criteria.getOrderBy()));
-            } else {
-                pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE,
-                    Sort.by(criteria.getOrderBy()).descending());
-            }
+            pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE, Sort.by(direction, orderBy));
         }
 
-        Specification<CustomerEntity> spec = spec(criteria);
-
-        // 필터 조건에 따라 고객 정보 조회
-        Page<CustomerEntity> customerPage = customerRepository.findAll(spec, pageable);
-        List<CustomerDTO> customerDTOList = customerPage.stream()
-            .map(customerEntity -> mapper.map(customerEntity, CustomerDTO.class))
-            .peek(customerDTO -> {
-                customerDTO.setNationName(nationRepository.findById(customerDTO.getNationCodeFk())
-                    .map(NationEntity::getNationName)
-                    .orElse(null));
-                MembershipIssueEntity issue = membershipIssueRepository.findByCustomerCodeFk(
-                    customerDTO.getCustomerCodePk());
-                if (issue != null) {
-                    customerDTO.setMembershipLevelName(membershipRepository.findById(issue.getMembershipLevelCodeFk())
-                        .map(MembershipEntity::getMembershipLevelName)
-                        .orElse(null));
-                } else {
-                    customerDTO.setMembershipLevelName(null); // issue가 null인 경우 null로 설정
-                }
-            })
-            .collect(Collectors.toList());
+        // 필터 조건에 따라 고객 정보 조회 (국적명, 멤버십 등급명 포함)
+        Slice<CustomerViewEntity> customerPage = pageQueryExecutor.findPage(
+            CustomerViewEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
+        List<CustomerDTO> customerDTOList = toCustomerDTOList(customerPage.getContent());
 
-        Map<String, Object> customerPageInfo = new HashMap<>();
-        customerPageInfo.put(KEY_TOTAL_PAGES_COUNT, customerPage.getTotalPages());
-        customerPageInfo.put(KEY_CURRENT_PAGE_INDEX, customerPage.getNumber());
+        customerPageInfo.putAll(PageQueryExecutor.toPageInfo(customerPage));
         customerPageInfo.put(KEY_CONTENT, customerDTOList);
 
         return customerPageInfo;
     }
 
+    /* 국적명, 멤버십 등급명은 고객 조회용 뷰에 있으므로 고객 건마다 추가 조회하지 않는다 */
+    private List<CustomerDTO> toCustomerDTOList(List<CustomerViewEntity> customerViewList) {
+        return customerViewList.stream()
+            .map(CustomerServiceImpl::toCustomerDTO)
+            .collect(Collectors.toList());
+    }
+
+    private static CustomerDTO toCustomerDTO(CustomerViewEntity customerView) {
+        CustomerDTO customerDTO = new CustomerDTO();
+        customerDTO.setCustomerCodePk(customerView.getCustomerCodePk());
+        customerDTO.setCustomerName(customerView.getCustomerName());
+        customerDTO.setCustomerEmail(customerView.getCustomerEmail());
+        customerDTO.setCustomerPhoneNumber(customerView.getCustomerPhoneNumber());
+        customerDTO.setCustomerEnglishName(customerView.getCustomerEnglishName());
+        customerDTO.setCustomerAddress(customerView.getCustomerAddress());
+        if (customerView.getCustomerInfoAgreement() != null) {
+            customerDTO.setCustomerInfoAgreement(customerView.getCustomerInfoAgreement());
+        }
+        if (customerView.getCustomerStatus() != null) {
+            customerDTO.setCustomerStatus(customerView.getCustomerStatus());
+        }
+        customerDTO.setCustomerRegisteredDate(customerView.getCustomerRegisteredDate());
+        customerDTO.setCustomerType(customerView.getCustomerType());
+        if (customerView.getNationCodeFk() != null) {
+            customerDTO.setNationCodeFk(customerView.getNationCodeFk());
+        }
+        customerDTO.setCustomerGender(customerView.getCustomerGender());
+        customerDTO.setNationName(customerView.getNationName());
+        customerDTO.setMembershipLevelName(customerView.getMembershipLevelName());
+        return customerDTO;
+    }
+
 	@Transactional
 	@Override
 	public CustomerDTO modifyCustomerByCustomerCodePk(int customerCodePk, RequestModifyCustomer requestModifyCustomer) {
@@ -158,93 +218,134 @@ public class CustomerServiceImpl implements CustomerService {
 		membershipIssueRepository.deleteByCustomerCodeFk(customerCodePk);
 
 		// 멤버십 새로 발급
-		membershipIssueRepository.save(membershipIssueEntity);
+		membershipIssueRepository.saveAndFlush(membershipIssueEntity);
+		customerRepository.saveAndFlush(customerEntity);
+
+		// 국적명, 멤버십 등급명은 고객 엔티티에 없으므로 반영된 내용을 고객 조회용 뷰에서 다시 읽는다
+		CustomerDTO customerDTO = customerViewRepository.findById(customerCodePk)
+			.map(CustomerServiceImpl::toCustomerDTO)
+			.orElseThrow(IllegalArgumentException::new);
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(customerCodePk));
 
-		return mapper.map(customerRepository.save(customerEntity), CustomerDTO.class);
+		return customerDTO;
 	}
 
 	@Override
     public SelectCustomerDTO selectCustomerByCustomerCodePk(Integer customerCodePk) {
+        return selectCustomerByCustomerCodePk(customerCodePk, CUSTOMER_DETAIL_SECTIONS);
+    }
+
+    /* 고객 상세 (결제/VOC/투숙/쿠폰 내역은 요청한 섹션만 동시에 조회)
+     * 캐시에 있으면 요청한 섹션만 남겨 반환하고, 없으면 조회 후 모든 섹션이 조회된 경우에만 캐시에 저장한다.
+     * 시간 안에 조회되지 않은 섹션은 비워두고 failedSections 에 담는다. */
+    @Override
+    public SelectCustomerDTO selectCustomerByCustomerCodePk(Integer customerCodePk, Set<String> sections) {
+        Set<String> requestedSections = sections == null || sections.isEmpty() ? CUSTOMER_DETAIL_SECTIONS : sections;
+        for (String section : requestedSections) {
+            if (!CUSTOMER_DETAIL_SECTIONS.contains(section)) {
+                throw new IllegalArgumentException("존재하지 않는 섹션입니다: " + section);
+            }
+        }
+
+        Optional<SelectCustomerDTO> cachedCustomer = customerProfileCache.get(customerCodePk);
+        if (cachedCustomer.isPresent()) {
+            return retainSections(cachedCustomer.get(), requestedSections);
+        }
 
+        String cacheVersion = customerProfileCache.version(customerCodePk);
         SelectCustomerDTO selectCustomerDTO =
-            mapper.map(customerRepository.findById(customerCodePk).get(), SelectCustomerDTO.class);
-
-        selectCustomerDTO.setPayment(
-            (List<PaymentDTO>)paymentService.selectPaymentLogList(
-				new PaymentSearchCriteria(0, customerCodePk, null, null, null, null, null, null, null, null, null)
-				).get(KEY_CONTENT)
-        );
-        selectCustomerDTO.setVoc(
-            (List<VocDTO>)vocService.selectVocsList(
-				// 0, null, null, null, customerCodePk,
-				// null, null, null, null, null,
-				// null, null, null, null
-				new VocSearchCriteria(0, null, null, null, customerCodePk,
-					null, null, null, null, null,
-					null, null, null, null)
-			).get(KEY_CONTENT)
-        );
-        selectCustomerDTO.setStay(
-            (List<StayDTO>)stayService.selectStaysList(
-				new StaySearchCriteria(
-					0, null, customerCodePk, null, null,
-					null, null, null, null,
-					null, null, null, null, null,
-					null, null, null, null, null, null)
-			).get(KEY_CONTENT)
-        );
-        selectCustomerDTO.setCouponIssue(
-            (List<CouponIssueDTO>)couponIssueService.selectCouponIssueList(
-				new CouponIssueSearchCriteria(
-					0, null, null, null, customerCodePk,
-					null, null, null, null, null, null
-				)
-            ).get(KEY_CONTENT)
-        );
+            customerProfileCache.load(() -> loadCustomerDetail(customerCodePk, requestedSections));
+        if (requestedSections.containsAll(CUSTOMER_DETAIL_SECTIONS) && selectCustomerDTO.getFailedSections().isEmpty()) {
+            customerProfileCache.put(selectCustomerDTO, cacheVersion);
+        }
 
         return selectCustomerDTO;
-
     }
 
-    @Override
-    public Map<String, Object> readExcel(Workbook workbook) {
-        Sheet worksheet = workbook.getSheetAt(0);
-
-        for (int i = 1; i < worksheet.getPhysicalNumberOfRows(); i++) {
-            Row row = worksheet.getRow(i);
-
-            CustomerEntity customerEntity = CustomerEntity.builder()
-                .customerName(row.getCell(0).getStringCellValue())
-                .customerEmail(row.getCell(1).getStringCellValue())
-                .customerPhoneNumber(row.getCell(2).getStringCellValue())
-                .customerEnglishName(row.getCell(3).getStringCellValue())
-                .customerAddress(row.getCell(4).getStringCellValue())
-                .customerInfoAgreement((int)row.getCell(5).getNumericCellValue())
-                .customerStatus((int)row.getCell(6).getNumericCellValue())
-                .customerRegisteredDate(new Date())
-                .customerType(row.getCell(8).getStringCellValue())
-                .nationCodeFk((int)row.getCell(9).getNumericCellValue())
-                .customerGender(row.getCell(10).getStringCellValue())
-                .build();
-            CustomerEntity savedCustomer = customerRepository.save(customerEntity);
-
-            MembershipIssueEntity membershipIssueEntity = MembershipIssueEntity.builder()
-                .customerCodeFk(savedCustomer.getCustomerCodePk())
-                .membershipLevelCodeFk(1)
-                .membershipIssueDate(new Date())
-                .build();
-            membershipIssueRepository.save(membershipIssueEntity);
+    private SelectCustomerDTO loadCustomerDetail(Integer customerCodePk, Set<String> requestedSections) {
+        CustomerViewEntity customerViewEntity = customerViewRepository.findById(customerCodePk)
+            .orElseThrow(() -> new NoSuchElementException("존재하지 않는 고객입니다."));
+
+        List<CompletableFuture<? extends SectionExecutor.SectionResult<?>>> sectionList = new ArrayList<>();
+        if (requestedSections.contains(SECTION_PAYMENT)) {
+            sectionList.add(sectionExecutor.submit(SECTION_PAYMENT, SECTION_TIMEOUT_MILLIS,
+                () -> paymentService.selectPaymentLogList(
+                    new PaymentSearchCriteria(0, customerCodePk, null, null, null, null, null, null, null, null, null)
+                ).get(KEY_CONTENT)));
+        }
+        if (requestedSections.contains(SECTION_VOC)) {
+            sectionList.add(sectionExecutor.submit(SECTION_VOC, SECTION_TIMEOUT_MILLIS,
+                () -> vocService.selectVocsList(
+                    new VocSearchCriteria(0, null, null, null, customerCodePk,
+                        null, null, null, null, null,
+                        null, null, null, null)
+                ).get(KEY_CONTENT)));
+        }
+        if (requestedSections.contains(SECTION_STAY)) {
+            sectionList.add(sectionExecutor.submit(SECTION_STAY, SECTION_TIMEOUT_MILLIS,
+                () -> stayService.selectStaysList(
+                    new StaySearchCriteria(
+                        0, null, customerCodePk, null, null,
+                        null, null, null, null,
+                        null, null, null, null, null,
+                        null, null, null, null, null, null)
+                ).get(KEY_CONTENT)));
+        }
+        if (requestedSections.contains(SECTION_COUPON_ISSUE)) {
+            sectionList.add(sectionExecutor.submit(SECTION_COUPON_ISSUE, SECTION_TIMEOUT_MILLIS,
+                () -> couponIssueService.selectCouponIssueList(
+                    new CouponIssueSearchCriteria(
+                        0, null, null, null, customerCodePk,
+                        null, null, null, null, null, null
+                    )
+                ).get(KEY_CONTENT)));
         }
 
-        Map<String, Object> modifiedCustomerInfo = new HashMap<>();
-        modifiedCustomerInfo.put(KEY_CONTENT, "success");
-        return modifiedCustomerInfo;
+        SelectCustomerDTO selectCustomerDTO = mapper.map(customerViewEntity, SelectCustomerDTO.class);
+        List<String> failedSections = new ArrayList<>();
+        for (CompletableFuture<? extends SectionExecutor.SectionResult<?>> future : sectionList) {
+            SectionExecutor.SectionResult<?> sectionResult = future.join();
+            if (sectionResult.failed()) {
+                failedSections.add(sectionResult.name());
+                continue;
+            }
+            switch (sectionResult.name()) {
+                case SECTION_PAYMENT -> selectCustomerDTO.setPayment((List<PaymentDTO>)sectionResult.value());
+                case SECTION_VOC -> selectCustomerDTO.setVoc((List<VocDTO>)sectionResult.value());
+                case SECTION_STAY -> selectCustomerDTO.setStay((List<StayDTO>)sectionResult.value());
+                case SECTION_COUPON_ISSUE ->
+                    selectCustomerDTO.setCouponIssue((List<CouponIssueDTO>)sectionResult.value());
+                default -> throw new IllegalStateException(sectionResult.name());
+            }
+        }
+        selectCustomerDTO.setFailedSections(failedSections);
+
+        return selectCustomerDTO;
+    }
+
+    private SelectCustomerDTO retainSections(SelectCustomerDTO selectCustomerDTO, Set<String> requestedSections) {
+        if (!requestedSections.contains(SECTION_PAYMENT)) {
+            selectCustomerDTO.setPayment(null);
+        }
+        if (!requestedSections.contains(SECTION_VOC)) {
+            selectCustomerDTO.setVoc(null);
+        }
+        if (!requestedSections.contains(SECTION_STAY)) {
+            selectCustomerDTO.setStay(null);
+        }
+        if (!requestedSections.contains(SECTION_COUPON_ISSUE)) {
+            selectCustomerDTO.setCouponIssue(null);
+        }
+        selectCustomerDTO.setFailedSections(List.of());
+        return selectCustomerDTO;
     }
 
     @Override
     @Transactional
     public Map<String, Object> deleteCustomerByCustomerCodePk(int customerCodePk) {
         customerRepository.deleteById(customerCodePk);
+        eventPublisher.publishEvent(CustomerProfileChangedEvent.of(customerCodePk));
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(CustomerViewEntity.class));
 
         Map<String, Object> modifiedCustomerInfo = new HashMap<>();
         modifiedCustomerInfo.put(KEY_CONTENT, "success");
@@ -273,6 +374,7 @@ public class CustomerServiceImpl implements CustomerService {
 			.membershipIssueDate(new Date())
 			.build();
 		membershipIssueRepository.save(membershipIssueEntity);
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(CustomerViewEntity.class));
 
         Map<String, Object> modifiedCustomerInfo = new HashMap<>();
         if (customerRepository.findById(savedCustomer.getCustomerCodePk()).isPresent()) {
@@ -283,102 +385,17 @@ public class CustomerServiceImpl implements CustomerService {
         return modifiedCustomerInfo;
     }
 
+	/* 필터 조건에 따라 고객 정보 커서 조회 (국적명, 멤버십 등급명 포함, CSV/엑셀 다운로드)
+	 * 호출 측 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 한다. */
 	@Override
-	public ByteArrayInputStream downloadExcel(CustomerCriteria criteria) throws IOException {
-
-		Specification<CustomerEntity> spec = spec(criteria);
-
-		// 필터 조건에 따라 고객 정보 조회
-		List<CustomerEntity> customerPage = customerRepository.findAll(spec);
-		List<CustomerDTO> customerDTOList = customerPage.stream()
-			.map(customerEntity -> mapper.map(customerEntity, CustomerDTO.class))
-			.peek(customerDTO -> {
-				customerDTO.setNationName(nationRepository.findById(customerDTO.getNationCodeFk())
-					.map(NationEntity::getNationName)
-					.orElse(null));
-				MembershipIssueEntity issue = membershipIssueRepository.findByCustomerCodeFk(
-					customerDTO.getCustomerCodePk());
-				if (issue != null) {
-					customerDTO.setMembershipLevelName(membershipRepository.findById(issue.getMembershipLevelCodeFk())
-						.map(MembershipEntity::getMembershipLevelName)
-						.orElse(null));
-				} else {
-					customerDTO.setMembershipLevelName(null); // issue가 null인 경우 null로 설정
-				}
-			})
-			.collect(Collectors.toList());
-
-		Workbook workbook = new XSSFWorkbook();
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-		Font headerFont = workbook.createFont();
-		headerFont.setBold(true);
-		headerFont.setColor(IndexedColors.BLACK.getIndex());
-
-		CellStyle headerCellStyle = workbook.createCellStyle();
-		headerCellStyle.setFont(headerFont);
-		headerCellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-		headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-		Sheet customerSheet = workbook.createSheet(ExcelType.CUSTOMER.getFileName());
-
-		createDashboardSheet(customerDTOList, customerSheet, headerCellStyle);
-
-		workbook.write(out);
-		log.info("[ReportService:getCustomerToExcel] create Customer list done. row count:[{}]",
-			customerDTOList.size());
-
-		return new ByteArrayInputStream(out.toByteArray());
-	}
-
-	private void createDashboardSheet(List<CustomerDTO> customer, Sheet customerSheet, CellStyle headerCellStyle) {
-		Row headerRow = customerSheet.createRow(0);
-		String[] headerStrings = ExcelType.CUSTOMER.getHeaderStrings();
-
-		int idx = 0;
-		Cell headerCell = null;
-		for (String s : headerStrings) {
-			headerCell = headerRow.createCell(idx++);
-			headerCell.setCellValue(s);
-			headerCell.setCellStyle(headerCellStyle);
-		}
-
-		Row bodyRow = null;
-		Cell bodyCell = null;
-		int index = 1;
-		for (CustomerDTO data : customer) {
-			bodyRow = customerSheet.createRow(index++);
-			bodyCell = bodyRow.createCell(0);
-			bodyCell.setCellValue(data.getCustomerCodePk());
-			bodyCell = bodyRow.createCell(1);
-			bodyCell.setCellValue(data.getCustomerType());
-			bodyCell = bodyRow.createCell(2);
-			bodyCell.setCellValue(data.getNationName());
-			bodyCell = bodyRow.createCell(3);
-			bodyCell.setCellValue(data.getCustomerEnglishName());
-			bodyCell = bodyRow.createCell(4);
-			bodyCell.setCellValue(data.getCustomerName());
-			bodyCell = bodyRow.createCell(5);
-			bodyCell.setCellValue(data.getCustomerGender());
-			bodyCell = bodyRow.createCell(6);
-			bodyCell.setCellValue(data.getCustomerEmail());
-			bodyCell = bodyRow.createCell(7);
-			bodyCell.setCellValue(data.getCustomerPhoneNumber());
-			bodyCell = bodyRow.createCell(8);
-			bodyCell.setCellValue(data.getCustomerAddress());
-			bodyCell = bodyRow.createCell(9);
-			bodyCell.setCellValue(data.getMembershipLevelName());
-		}
-
-		for (int i = 0; i < headerStrings.length; i++) {
-			customerSheet.autoSizeColumn(i);
-			customerSheet.setColumnWidth(i, (customerSheet.getColumnWidth(i)) + (short)1024);
-		}
-
+	public Stream<CustomerDTO> streamCustomersForExcel(CustomerCriteria criteria) {
+		return pageQueryExecutor.stream(
+			CustomerViewEntity.class, spec(criteria), Sort.by("customerCodePk"), LIST_FETCH_SIZE,
+			CustomerServiceImpl::toCustomerDTO);
 	}
 
-    private Specification<CustomerEntity> spec(CustomerCriteria criteria) {
-        Specification<CustomerEntity> spec = Specification.where(null);
+    private Specification<CustomerViewEntity> spec(CustomerCriteria criteria) {
+        Specification<CustomerViewEntity> spec = Specification.where(null);
 
         Integer customerCodePk = criteria.getCustomerCodePk();
         String customerName = criteria.getCustomerName();
@@ -0,0 +1,42 @@
+package org.iot.hotelitybackend.dashboard.controller;
+
+import java.util.Map;
+
+import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.dashboard.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+	private final DashboardService dashboardService;
+
+	@Autowired
+	public DashboardController(DashboardService dashboardService) {
+		this.dashboardService = dashboardService;
+	}
+
+	/* 메인페이지 대시보드 (최근 예약/VOC/공지, 금일 투숙/결제/점유율, includeSummary=true 인 경우 GPT 요약 포함) */
+	@GetMapping
+	public ResponseEntity<ResponseVO> selectDashboard(
+		@RequestParam(value = "branchCodeFk", required = false) String branchCodeFk,
+		@RequestParam(value = "includeSummary", defaultValue = "false") boolean includeSummary) {
+
+		Map<String, Object> dashboardInfo = dashboardService.selectDashboard(branchCodeFk, includeSummary);
+
+		ResponseVO response = ResponseVO.builder()
+			.data(dashboardInfo)
+			.resultCode(HttpStatus.OK.value())
+			.message("조회 성공")
+			.build();
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+}
@@ -0,0 +1,8 @@
+package org.iot.hotelitybackend.dashboard.service;
+
+import java.util.Map;
+
+public interface DashboardService {
+
+	Map<String, Object> selectDashboard(String branchCodeFk, boolean includeSummary);
+}
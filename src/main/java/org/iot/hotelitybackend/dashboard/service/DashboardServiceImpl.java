@@ -0,0 +1,164 @@
+package org.iot.hotelitybackend.dashboard.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.iot.hotelitybackend.chatgpt.service.ChatGPTService;
+import org.iot.hotelitybackend.common.util.CoalescingCache;
+import org.iot.hotelitybackend.common.util.SectionExecutor;
+import org.iot.hotelitybackend.hotelservice.service.OccupancyAnalyticsService;
+import org.iot.hotelitybackend.hotelservice.service.PaymentSummaryService;
+import org.iot.hotelitybackend.hotelservice.service.ReservationService;
+import org.iot.hotelitybackend.hotelservice.service.StayService;
+import org.iot.hotelitybackend.sales.service.NoticeService;
+import org.iot.hotelitybackend.sales.service.VocService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 메인 대시보드 (최근 예약/VOC/공지, 금일 투숙, 금일 결제 합계, 금일 객실 점유율, GPT 요약)
+ * 각 항목을 SectionExecutor 에서 동시에 조회해 하나의 응답으로 합친다. 지점코드는 항목별 조회 조건으로 그대로 넘긴다.
+ * 지점별 결과는 DASHBOARD_TTL_MILLIS 동안 재사용하고, 그 사이 동시에 들어온 요청은 한 번의 조회 결과를 함께 기다린다.
+ * GPT 요약은 외부 API 호출이라 별도로 더 오래 보관하며 includeSummary=true 인 경우에만 포함한다. */
+@Slf4j
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+	private static final long DASHBOARD_TTL_MILLIS = 5_000;
+	private static final long SUMMARY_TTL_MILLIS = 10 * 60 * 1000L;
+	private static final long SECTION_TIMEOUT_MILLIS = 5_000;
+	private static final long SUMMARY_TIMEOUT_MILLIS = 20_000;
+	private static final String ALL_BRANCHES = "*";
+	private static final String KEY_FAILED_SECTIONS = "failedSections";
+
+	private final ReservationService reservationService;
+	private final StayService stayService;
+	private final VocService vocService;
+	private final NoticeService noticeService;
+	private final PaymentSummaryService paymentSummaryService;
+	private final OccupancyAnalyticsService occupancyAnalyticsService;
+	private final ChatGPTService chatGPTService;
+	private final SectionExecutor sectionExecutor;
+
+	private final CoalescingCache<String, Map<String, Object>> dashboardCache =
+		new CoalescingCache<>(DASHBOARD_TTL_MILLIS, 1000);
+	private final CoalescingCache<LocalDate, Map<String, Object>> summaryCache =
+		new CoalescingCache<>(SUMMARY_TTL_MILLIS, 10);
+
+	@Autowired
+	public DashboardServiceImpl(ReservationService reservationService, StayService stayService,
+		VocService vocService, NoticeService noticeService, PaymentSummaryService paymentSummaryService,
+		OccupancyAnalyticsService occupancyAnalyticsService, ChatGPTService chatGPTService,
+		SectionExecutor sectionExecutor) {
+		this.reservationService = reservationService;
+		this.stayService = stayService;
+		this.vocService = vocService;
+		this.noticeService = noticeService;
+		this.paymentSummaryService = paymentSummaryService;
+		this.occupancyAnalyticsService = occupancyAnalyticsService;
+		this.chatGPTService = chatGPTService;
+		this.sectionExecutor = sectionExecutor;
+	}
+
+	/* 조회에 실패하거나 시간 안에 끝나지 않은 항목은 null 로 채우고 failedSections 에 이름을 담는다 */
+	@Override
+	public Map<String, Object> selectDashboard(String branchCodeFk, boolean includeSummary) {
+		String branchKey = branchCodeFk == null ? ALL_BRANCHES : branchCodeFk;
+		Map<String, Object> dashboardInfo =
+			new HashMap<>(join(dashboardCache.get(branchKey, () -> loadDashboard(branchCodeFk))));
+
+		if (includeSummary) {
+			LocalDate today = LocalDate.now();
+			Map<String, Object> summaryInfo = join(summaryCache.get(today, this::loadSummary));
+			List<Object> failedSections = mergeFailedSections(dashboardInfo, summaryInfo);
+
+			// 일부라도 실패한 요약은 다음 요청에서 다시 조회하도록 보관하지 않는다
+			if (!((List<?>)summaryInfo.get(KEY_FAILED_SECTIONS)).isEmpty()) {
+				summaryCache.evict(today);
+			}
+
+			dashboardInfo.putAll(summaryInfo);
+			dashboardInfo.put(KEY_FAILED_SECTIONS, failedSections);
+		}
+
+		return dashboardInfo;
+	}
+
+	private CompletableFuture<Map<String, Object>> loadDashboard(String branchCodeFk) {
+		LocalDate today = LocalDate.now();
+
+		return merge(List.of(
+			sectionExecutor.submit("latestReservations", SECTION_TIMEOUT_MILLIS,
+				() -> reservationService.selectLatestReservationList(branchCodeFk).get(KEY_CONTENT)),
+			sectionExecutor.submit("latestVocs", SECTION_TIMEOUT_MILLIS,
+				() -> vocService.selectLatestVocList(branchCodeFk).get(KEY_CONTENT)),
+			sectionExecutor.submit("latestNotices", SECTION_TIMEOUT_MILLIS,
+				() -> noticeService.selectLatestNoticeList(branchCodeFk).get(KEY_CONTENT)),
+			sectionExecutor.submit("todayStays", SECTION_TIMEOUT_MILLIS,
+				() -> stayService.selectStayByReservationCheckinDate(today.toString(), branchCodeFk).get(KEY_CONTENT)),
+			sectionExecutor.submit("todayPayments", SECTION_TIMEOUT_MILLIS,
+				() -> paymentSummaryService.summarize("day", today, branchCodeFk)),
+			sectionExecutor.submit("todayOccupancy", SECTION_TIMEOUT_MILLIS,
+				() -> occupancyAnalyticsService.selectOccupancy(today, today, branchCodeFk).get("summary"))
+		));
+	}
+
+	private CompletableFuture<Map<String, Object>> loadSummary() {
+		LocalDateTime now = LocalDateTime.now();
+
+		// 프롬프트 데이터 조회 후 외부 API 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+		return merge(List.of(
+			sectionExecutor.submitWithoutTransaction("reservationSummary", SUMMARY_TIMEOUT_MILLIS, () -> {
+				Map<String, String> promptDataMap = chatGPTService.getReservationsDataOfToday(now);
+				return chatGPTService.getDailyChatGPTResponse(
+					promptDataMap.get("reservationListData"), promptDataMap.get("contentType"));
+			}),
+			sectionExecutor.submitWithoutTransaction("paymentSummary", SUMMARY_TIMEOUT_MILLIS, () -> {
+				Map<String, String> promptDataMap = chatGPTService.getPaymentsDataOfToday(now);
+				return chatGPTService.getDailyChatGPTResponse(
+					promptDataMap.get("paymentListData"), promptDataMap.get("contentType"));
+			})
+		));
+	}
+
+	private CompletableFuture<Map<String, Object>> merge(
+		List<CompletableFuture<? extends SectionExecutor.SectionResult<?>>> sectionList) {
+		return CompletableFuture.allOf(sectionList.toArray(new CompletableFuture[0]))
+			.thenApply(ignored -> {
+				Map<String, Object> mergedInfo = new HashMap<>();
+				List<String> failedSections = new ArrayList<>();
+				for (CompletableFuture<? extends SectionExecutor.SectionResult<?>> future : sectionList) {
+					SectionExecutor.SectionResult<?> sectionResult = future.join();
+					mergedInfo.put(sectionResult.name(), sectionResult.value());
+					if (sectionResult.failed()) {
+						failedSections.add(sectionResult.name());
+					}
+				}
+				mergedInfo.put(KEY_FAILED_SECTIONS, List.copyOf(failedSections));
+				return mergedInfo;
+			});
+	}
+
+	private List<Object> mergeFailedSections(Map<String, Object> dashboardInfo, Map<String, Object> summaryInfo) {
+		List<Object> failedSections = new ArrayList<>((List<?>)dashboardInfo.get(KEY_FAILED_SECTIONS));
+		failedSections.addAll((List<?>)summaryInfo.get(KEY_FAILED_SECTIONS));
+		return failedSections;
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+		}
+	}
+}
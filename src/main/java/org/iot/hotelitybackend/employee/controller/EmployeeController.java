@@ -1,29 +1,27 @@
 package org.iot.hotelitybackend.employee.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
 import org.iot.hotelitybackend.employee.dto.EmployeeDTO;
 import org.iot.hotelitybackend.employee.service.AwsS3Service;
 import org.iot.hotelitybackend.employee.service.EmployeeService;
 import org.iot.hotelitybackend.employee.vo.EmployeeSearchCriteria;
 import org.iot.hotelitybackend.employee.vo.RequestEmployee;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.EMPLOYEE;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -32,12 +30,15 @@ public class EmployeeController {
     private final ModelMapper mapper;
     private final EmployeeService employeeService;
     private final AwsS3Service awsS3Service;
+    private final ExcelExportService excelExportService;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService, ModelMapper mapper, AwsS3Service awsS3Service) {
+    public EmployeeController(EmployeeService employeeService, ModelMapper mapper, AwsS3Service awsS3Service,
+        ExcelExportService excelExportService) {
         this.mapper = mapper;
         this.employeeService = employeeService;
         this.awsS3Service = awsS3Service;
+        this.excelExportService = excelExportService;
     }
 
     /* 조건별 전체 직원 페이지 리스트 조회 */
@@ -143,27 +144,32 @@ public class EmployeeController {
 
     /* 직원 리스트 엑셀 파일 다운로드 */
     @GetMapping("/excel")
-    public ResponseEntity<InputStreamResource> downloadEmployeeList(@ModelAttribute EmployeeSearchCriteria criteria) {
-        Map<String, Object> employeeList = employeeService.selectEmployeesList(
-                criteria);
-
+    public ResponseEntity<ResponseVO> downloadEmployeeList(
+        @ModelAttribute EmployeeSearchCriteria criteria,
+        @RequestParam(value = "format", required = false) String format
+    ) {
+        ResponseVO response;
         try {
-            Map<String, Object> result = createExcelFile(
-                    (List<EmployeeDTO>) employeeList.get(KEY_CONTENT),
-                    EMPLOYEE.getFileName(),
-                    EMPLOYEE.getHeaderStrings()
-            );
-
-            return ResponseEntity
-                    .ok()
-                    .headers((HttpHeaders) result.get("headers"))
-                    .body(new InputStreamResource((ByteArrayInputStream) result.get("result")));
-
-        } catch (IOException | IllegalAccessException e) {
-            log.info(e.getMessage());
+            // 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+            ExcelExportJobDTO exportJob = excelExportService.requestExport(EMPLOYEE, ExportFormat.from(format), criteria,
+                () -> ((List<EmployeeDTO>)employeeService.selectEmployeesList(criteria).get(KEY_CONTENT)).stream());
+            response = ResponseVO.builder()
+                .data(exportJob)
+                .resultCode(HttpStatus.ACCEPTED.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        } catch (IllegalStateException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
         }
 
-        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(response.getResultCode()).body(response);
     }
 
     /* S3 이미지 업로드 */
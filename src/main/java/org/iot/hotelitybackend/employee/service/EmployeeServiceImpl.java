@@ -1,6 +1,8 @@
 package org.iot.hotelitybackend.employee.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
 import org.iot.hotelitybackend.employee.aggregate.*;
 import org.iot.hotelitybackend.employee.dto.EmployeeDTO;
 import org.iot.hotelitybackend.employee.repository.*;
@@ -10,9 +12,10 @@ import org.iot.hotelitybackend.hotelmanagement.aggregate.BranchEntity;
 import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -36,6 +39,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final DepartmentRepository departmentRepository;
     private final BranchRepository branchRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public EmployeeServiceImpl(
@@ -46,7 +51,9 @@ public class EmployeeServiceImpl implements EmployeeService {
             RankRepository rankRepository,
             DepartmentRepository departmentRepository,
             BranchRepository branchRepository,
-            BCryptPasswordEncoder bCryptPasswordEncoder
+            BCryptPasswordEncoder bCryptPasswordEncoder,
+            PageQueryExecutor pageQueryExecutor,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.employeeRepository = employeeRepository;
@@ -56,6 +63,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         this.departmentRepository = departmentRepository;
         this.branchRepository = branchRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.pageQueryExecutor = pageQueryExecutor;
+        this.eventPublisher = eventPublisher;
 
         /* custom mapping */
         this.mapper.typeMap(EmployeeEntity.class, EmployeeDTO.class).addMappings(modelMapper -> {
@@ -90,18 +99,15 @@ public class EmployeeServiceImpl implements EmployeeService {
             } else {
                 pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE);
             }
-            Page<EmployeeEntity> employeePage = employeeRepository.findAll(spec, pageable);
+            Slice<EmployeeEntity> employeePage = pageQueryExecutor.findPage(
+                    EmployeeEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
 
             employeeDTOList = employeePage
                     .stream()
                     .map(employeeEntity -> mapper.map(employeeEntity, EmployeeDTO.class))
                     .toList();
 
-            int totalPagesCount = employeePage.getTotalPages();
-            int currentPageIndex = employeePage.getNumber();
-
-            employeePageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-            employeePageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+            employeePageInfo.putAll(PageQueryExecutor.toPageInfo(employeePage));
         } else {
             List<EmployeeEntity> employeeEntityList = employeeRepository.findAll(spec);
             employeeDTOList = employeeEntityList
@@ -232,6 +238,7 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .build();
 
         EmployeeEntity createdEmployeeEntity = employeeRepository.save(employeeEntity);
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(EmployeeEntity.class));
 
         return mapper.map(createdEmployeeEntity, EmployeeDTO.class);
     }
@@ -279,6 +286,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         try {
             if (employeeRepository.existsById(employCode)) {
                 employeeRepository.deleteById(employCode);
+                eventPublisher.publishEvent(TotalCountChangedEvent.of(EmployeeEntity.class));
                 return 1;
             }
 
@@ -19,4 +19,6 @@ public class EmployeeSearchCriteria {
 	private String branchCodeFk;
 	private String orderBy;
 	private Integer sortBy;
+	// true 인 경우 전체 페이지 수(COUNT) 없이 다음 페이지 존재 여부(hasNext)만 반환
+	private Boolean hasNextOnly;
 }
@@ -0,0 +1,77 @@
+package org.iot.hotelitybackend.filedownload.controller;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.iot.hotelitybackend.common.util.ExportFormat;
+import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 각 목록의 /excel/download 로 등록한 엑셀/CSV 다운로드 작업 조회, 완료된 파일 다운로드 */
+@Slf4j
+@RestController
+@RequestMapping("/file/export")
+public class ExcelExportController {
+
+	private final ExcelExportService excelExportService;
+
+	@Autowired
+	public ExcelExportController(ExcelExportService excelExportService) {
+		this.excelExportService = excelExportService;
+	}
+
+	@GetMapping("/{jobId}")
+	public ResponseEntity<ResponseVO> selectExportJob(@PathVariable("jobId") String jobId) {
+		ResponseVO response;
+		try {
+			response = ResponseVO.builder()
+				.data(excelExportService.selectExportJob(jobId))
+				.resultCode(HttpStatus.OK.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.NOT_FOUND.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
+	@GetMapping("/{jobId}/download")
+	public ResponseEntity<Resource> downloadExportFile(@PathVariable("jobId") String jobId) {
+		ExcelExportJobDTO exportJob;
+		Resource exportFile;
+		try {
+			exportJob = excelExportService.selectExportJob(jobId);
+			exportFile = excelExportService.getExportFile(jobId);
+		} catch (IllegalArgumentException e) {
+			log.info(e.getMessage());
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+
+		// UTF8 로 인코딩 해줘야 파일명에 한글 들어갔을 때 오류 발생 안함
+		String fileName = URLEncoder.encode(exportJob.getFileName(), StandardCharsets.UTF_8);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Content-Type", ExportFormat.from(exportJob.getFormat()).getContentType());
+		headers.add("Content-Disposition", "attachment; filename=" + fileName);
+
+		return ResponseEntity
+			.ok()
+			.headers(headers)
+			.body(exportFile);
+	}
+}
@@ -0,0 +1,29 @@
+package org.iot.hotelitybackend.filedownload.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class ExcelExportJobDTO {
+	public static final String STATUS_QUEUED = "QUEUED";
+	public static final String STATUS_RUNNING = "RUNNING";
+	public static final String STATUS_COMPLETED = "COMPLETED";
+	public static final String STATUS_FAILED = "FAILED";
+
+	private String jobId;
+	// ExcelType 이름 (CUSTOMER, PAYMENT ...)
+	private String exportType;
+	// ExportFormat 확장자 (xlsx, csv, csv.gz)
+	private String format;
+	private String fileName;
+	private String status;
+	private Integer rowCount;
+	// 완료된 파일은 만료 시간 전까지 /file/export/{jobId}/download 로 다운로드 가능
+	private Boolean downloadAvailable;
+	private String message;
+	private LocalDateTime requestedAt;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,22 @@
+package org.iot.hotelitybackend.filedownload.service;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.iot.hotelitybackend.common.util.ExcelType;
+import org.iot.hotelitybackend.common.util.ExportFormat;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.springframework.core.io.Resource;
+
+public interface ExcelExportService {
+
+	ExcelExportJobDTO requestExport(ExcelType excelType, ExportFormat format, Object criteria,
+		Supplier<? extends Stream<?>> loader);
+
+	ExcelExportJobDTO requestExport(ExcelType excelType, ExportFormat format, Object criteria,
+		Supplier<? extends Stream<?>> loader, String[] fieldNames);
+
+	ExcelExportJobDTO selectExportJob(String jobId);
+
+	Resource getExportFile(String jobId);
+}
@@ -0,0 +1,368 @@
+package org.iot.hotelitybackend.filedownload.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.iot.hotelitybackend.common.util.CsvUtil;
+import org.iot.hotelitybackend.common.util.ExcelType;
+import org.iot.hotelitybackend.common.util.ExcelUtil;
+import org.iot.hotelitybackend.common.util.ExportFormat;
+import org.iot.hotelitybackend.common.util.SharedJobStore;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 엑셀/CSV 다운로드 (백그라운드 작업)
+ * 요청은 (엑셀 종류, 파일 형식, 검색 조건 해시) 로 묶어 작업 ID 를 바로 반환하고, 크기가 제한된 전용 스레드에서
+ * 읽기 전용 트랜잭션 안에서 커서로 읽은 행을 바로 서버 디스크의 파일로 쓴다 (csv.gz 는 쓰면서 압축). 톰캣 스레드와 커넥션 풀을 오래 점유하지 않도록
+ * 동시에 만드는 파일 수를 poolSize 로 제한하고, 대기열이 가득 차면 요청을 거절한다.
+ * 같은 조건의 요청은 진행 중이거나 만료 전인 작업을 그대로 돌려주며, 만료된 작업은 파일과 함께 정리한다.
+ * 여러 서버로 나눠 받는 조회/다운로드를 위해 작업 상태와 완료된 파일은 SharedJobStore(Redis, S3) 에도 올리고,
+ * 이 서버가 실행하지 않은 작업은 거기서 읽는다. 같은 조건 요청의 합류는 서버 단위다. */
+@Slf4j
+@Service
+public class ExcelExportServiceImpl implements ExcelExportService {
+
+	private static final DateTimeFormatter FILE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HHmmss");
+	private static final int FILE_BUFFER_SIZE = 64 * 1024;
+	private static final String JOB_TYPE = "excel-export";
+	// 대기/실행 중인 작업 상태를 공유 저장소에 남겨두는 시간 (실행 서버가 종료돼도 결국 사라지도록)
+	private static final Duration UNFINISHED_JOB_TTL = Duration.ofHours(6);
+
+	private final TransactionTemplate readOnlyTransaction;
+	private final ObjectMapper criteriaMapper;
+	private final Duration resultTtl;
+	private final Path exportDirectory;
+	private final ThreadPoolExecutor exportExecutor;
+	private final SharedJobStore sharedJobStore;
+
+	private final Map<String, ExportJob> jobMap = new ConcurrentHashMap<>();
+	// (엑셀 종류, 파일 형식, 검색 조건 해시) -> 작업
+	private final Map<String, ExportJob> jobByKey = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ExcelExportServiceImpl(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+		@Value("${excel.export.pool-size:2}") int poolSize,
+		@Value("${excel.export.queue-capacity:20}") int queueCapacity,
+		@Value("${excel.export.result-ttl-minutes:30}") long resultTtlMinutes,
+		@Value("${excel.export.directory:}") String exportDirectory, SharedJobStore sharedJobStore) throws IOException {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+
+		// 필드/맵 순서와 관계없이 같은 조건이면 같은 해시가 나오도록 정렬해서 직렬화
+		this.criteriaMapper = objectMapper.copy()
+			.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+			.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+			.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+		this.resultTtl = Duration.ofMinutes(resultTtlMinutes);
+		this.exportDirectory = Files.createDirectories(exportDirectory.isBlank()
+			? Path.of(System.getProperty("java.io.tmpdir"), "hotelity-excel-export")
+			: Path.of(exportDirectory));
+		this.exportExecutor = new ThreadPoolExecutor(poolSize, poolSize,
+			0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), new ExportThreadFactory());
+		this.sharedJobStore = sharedJobStore;
+	}
+
+	@Override
+	public ExcelExportJobDTO requestExport(ExcelType excelType, ExportFormat format, Object criteria,
+		Supplier<? extends Stream<?>> loader) {
+		return requestExport(excelType, format, criteria, loader, null);
+	}
+
+	@Override
+	public ExcelExportJobDTO requestExport(ExcelType excelType, ExportFormat format, Object criteria,
+		Supplier<? extends Stream<?>> loader, String[] fieldNames) {
+		String jobKey = excelType.name() + ":" + format.name() + ":" + hash(criteria);
+		LocalDateTime now = LocalDateTime.now();
+
+		ExportJob[] createdJob = new ExportJob[1];
+		ExportJob job = jobByKey.compute(jobKey, (key, existingJob) -> {
+			if (existingJob != null && existingJob.isReusable(now)) {
+				return existingJob;
+			}
+			// 실패했거나 만료된 이전 작업은 새 작업으로 교체
+			if (existingJob != null) {
+				jobMap.remove(existingJob.jobId);
+				deleteFile(existingJob.file);
+			}
+			createdJob[0] = new ExportJob(UUID.randomUUID().toString(), key, excelType, format, now);
+			jobMap.put(createdJob[0].jobId, createdJob[0]);
+			return createdJob[0];
+		});
+
+		if (createdJob[0] != null) {
+			share(job);
+			try {
+				exportExecutor.execute(() -> runExport(job, loader, fieldNames));
+			} catch (RejectedExecutionException e) {
+				jobByKey.remove(jobKey, job);
+				jobMap.remove(job.jobId);
+				sharedJobStore.delete(JOB_TYPE, job.jobId);
+				throw new IllegalStateException("대기 중인 엑셀 다운로드 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+			}
+		}
+
+		return job.toDTO();
+	}
+
+	@Override
+	public ExcelExportJobDTO selectExportJob(String jobId) {
+		ExportJob job = jobMap.get(jobId);
+		if (job != null) {
+			return job.toDTO();
+		}
+
+		// 다른 서버가 실행한 작업, 저장된 뒤 만료 시간이 지났을 수 있으므로 다운로드 가능 여부는 다시 계산
+		ExcelExportJobDTO jobDTO = sharedJobStore.find(JOB_TYPE, jobId, ExcelExportJobDTO.class)
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 엑셀 다운로드 작업입니다."));
+		jobDTO.setDownloadAvailable(ExcelExportJobDTO.STATUS_COMPLETED.equals(jobDTO.getStatus())
+			&& jobDTO.getExpiresAt() != null && jobDTO.getExpiresAt().isAfter(LocalDateTime.now()));
+		return jobDTO;
+	}
+
+	@Override
+	public Resource getExportFile(String jobId) {
+		ExcelExportJobDTO jobDTO = selectExportJob(jobId);
+		if (!ExcelExportJobDTO.STATUS_COMPLETED.equals(jobDTO.getStatus())) {
+			throw new IllegalArgumentException("엑셀 파일이 아직 준비되지 않았습니다.");
+		}
+		if (!jobDTO.getDownloadAvailable()) {
+			throw new IllegalArgumentException("다운로드 기간이 지난 엑셀 파일입니다.");
+		}
+
+		ExportJob job = jobMap.get(jobId);
+		if (job != null && job.file != null) {
+			return new FileSystemResource(job.file);
+		}
+		return sharedJobStore.openFile(JOB_TYPE, jobId);
+	}
+
+	void runExport(ExportJob job, Supplier<? extends Stream<?>> loader, String[] fieldNames) {
+		job.status = ExcelExportJobDTO.STATUS_RUNNING;
+		job.startedAt = LocalDateTime.now();
+		share(job);
+
+		Path file = null;
+		try {
+			file = Files.createTempFile(exportDirectory, job.excelType.name().toLowerCase() + "-",
+				"." + job.format.getExtension());
+			Path exportFile = file;
+
+			// 커서를 다 읽을 때까지 트랜잭션을 유지하고, 읽은 행은 모아두지 않고 바로 파일에 쓴다
+			Integer rowCount = readOnlyTransaction.execute(status -> writeRows(job, exportFile, loader, fieldNames));
+
+			// 다른 서버로 온 다운로드 요청도 받을 수 있도록 완료 상태보다 파일을 먼저 올린다
+			sharedJobStore.uploadFile(JOB_TYPE, job.jobId, file);
+			job.file = file;
+			job.rowCount = rowCount;
+			job.finish(ExcelExportJobDTO.STATUS_COMPLETED, null, resultTtl);
+			share(job);
+		} catch (IOException | RuntimeException e) {
+			log.warn("엑셀 다운로드 파일 생성 실패 jobId={}, type={}, format={}: {}", job.jobId, job.excelType,
+				job.format, e.toString());
+			deleteFile(file);
+			job.finish(ExcelExportJobDTO.STATUS_FAILED, e.getMessage(), resultTtl);
+			share(job);
+		}
+	}
+
+	/* 만료 시간까지 다른 서버가 작업 상태를 조회할 수 있도록 공유 */
+	private void share(ExportJob job) {
+		Duration timeToLive = job.expiresAt == null
+			? UNFINISHED_JOB_TTL
+			: Duration.between(LocalDateTime.now(), job.expiresAt);
+		if (!timeToLive.isNegative() && !timeToLive.isZero()) {
+			sharedJobStore.save(JOB_TYPE, job.jobId, job.toDTO(), timeToLive);
+		}
+	}
+
+	private int writeRows(ExportJob job, Path file, Supplier<? extends Stream<?>> loader, String[] fieldNames) {
+		try (Stream<?> rows = loader.get();
+			 OutputStream out = openOutputStream(file, job.format)) {
+			Iterable<?> dtos = rows == null ? List.of() : iterable(rows);
+			String[] headerStrings = job.excelType.getHeaderStrings();
+
+			return switch (job.format) {
+				case XLSX -> ExcelUtil.writeExcel(out, dtos, job.excelType.getFileName(), headerStrings, fieldNames);
+				case CSV, CSV_GZ -> CsvUtil.writeCsv(out, dtos, headerStrings, fieldNames);
+			};
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static <T> Iterable<T> iterable(Stream<T> stream) {
+		return stream::iterator;
+	}
+
+	// csv.gz 는 쓰는 즉시 압축해서 내려쓴다
+	private static OutputStream openOutputStream(Path file, ExportFormat format) throws IOException {
+		OutputStream out = Files.newOutputStream(file);
+		return format == ExportFormat.CSV_GZ
+			? new GZIPOutputStream(out, FILE_BUFFER_SIZE)
+			: new BufferedOutputStream(out, FILE_BUFFER_SIZE);
+	}
+
+	private String hash(Object criteria) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(criteriaMapper.writeValueAsString(criteria).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("검색 조건을 확인할 수 없습니다.", e);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/* 만료된 작업과 파일 정리 */
+	@Scheduled(fixedDelay = 60_000)
+	public void removeExpiredJobs() {
+		LocalDateTime now = LocalDateTime.now();
+		jobMap.values().stream()
+			.filter(job -> job.isExpired(now))
+			.toList()
+			.forEach(this::removeJob);
+	}
+
+	private void removeJob(ExportJob job) {
+		jobByKey.remove(job.jobKey, job);
+		jobMap.remove(job.jobId);
+		deleteFile(job.file);
+		sharedJobStore.delete(JOB_TYPE, job.jobId);
+	}
+
+	private void deleteFile(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("엑셀 다운로드 파일 삭제 실패: {}", file);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		exportExecutor.shutdownNow();
+		jobMap.values().forEach(job -> {
+			// 끝나지 않은 작업은 다른 서버에서 계속 대기 중으로 보이지 않도록 실패로 남긴다
+			if (job.finishedAt == null) {
+				job.finish(ExcelExportJobDTO.STATUS_FAILED, "서버가 종료되어 작업이 중단되었습니다.", resultTtl);
+				share(job);
+			}
+			deleteFile(job.file);
+		});
+	}
+
+	static class ExportJob {
+		private final String jobId;
+		private final String jobKey;
+		private final ExcelType excelType;
+		private final ExportFormat format;
+		private final String fileName;
+		private final LocalDateTime requestedAt;
+		private volatile String status = ExcelExportJobDTO.STATUS_QUEUED;
+		private volatile String message;
+		private volatile Integer rowCount;
+		private volatile Path file;
+		private volatile LocalDateTime startedAt;
+		private volatile LocalDateTime expiresAt;
+		private volatile LocalDateTime finishedAt;
+
+		ExportJob(String jobId, String jobKey, ExcelType excelType, ExportFormat format, LocalDateTime requestedAt) {
+			this.jobId = jobId;
+			this.jobKey = jobKey;
+			this.excelType = excelType;
+			this.format = format;
+			this.requestedAt = requestedAt;
+			this.fileName = excelType.getFileName() + "_" + requestedAt.format(FILE_TIME_FORMATTER) + "."
+				+ format.getExtension();
+		}
+
+		// 상태 조회 시 완료 상태와 파일/만료 시간이 어긋나지 않도록 상태를 마지막에 변경
+		private void finish(String finalStatus, String finalMessage, Duration resultTtl) {
+			finishedAt = LocalDateTime.now();
+			expiresAt = finishedAt.plus(resultTtl);
+			message = finalMessage;
+			status = finalStatus;
+		}
+
+		private boolean isExpired(LocalDateTime now) {
+			return expiresAt != null && !expiresAt.isAfter(now);
+		}
+
+		// 진행 중이거나 만료 전 완료된 작업만 같은 조건의 요청에 재사용
+		private boolean isReusable(LocalDateTime now) {
+			return !ExcelExportJobDTO.STATUS_FAILED.equals(status) && !isExpired(now);
+		}
+
+		ExcelExportJobDTO toDTO() {
+			ExcelExportJobDTO jobDTO = new ExcelExportJobDTO();
+			jobDTO.setJobId(jobId);
+			jobDTO.setExportType(excelType.name());
+			jobDTO.setFormat(format.getExtension());
+			jobDTO.setFileName(fileName);
+			jobDTO.setStatus(status);
+			jobDTO.setRowCount(rowCount);
+			jobDTO.setDownloadAvailable(
+				ExcelExportJobDTO.STATUS_COMPLETED.equals(status) && !isExpired(LocalDateTime.now()));
+			jobDTO.setMessage(message);
+			jobDTO.setRequestedAt(requestedAt);
+			jobDTO.setStartedAt(startedAt);
+			jobDTO.setFinishedAt(finishedAt);
+			jobDTO.setExpiresAt(expiresAt);
+			return jobDTO;
+		}
+	}
+
+	private static class ExportThreadFactory implements ThreadFactory {
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "excel-export-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package org.iot.hotelitybackend.hotelmanagement.aggregate;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 객실 조회 전용 엔티티 (읽기 전용)
+ * 객실 카테고리, 객실 등급, 지점명을 한 번의 조인 쿼리로 가져온다.
+ * RoomEntity 의 컬럼별 상관 서브쿼리(@Formula)와 객실마다 카테고리/지점을 따로 조회하던 N+1 문제를 없애기 위해 사용.
+ * 예약 등에서 연관관계로 RoomEntity 를 읽을 때는 사용되지 않는다. */
+@Entity
+@Immutable
+@Subselect(
+	"SELECT "
+		+ "r.room_code_pk AS room_code_pk, "
+		+ "r.branch_code_fk AS branch_code_fk, "
+		+ "r.room_number AS room_number, "
+		+ "r.room_category_code_fk AS room_category_code_fk, "
+		+ "r.room_current_status AS room_current_status, "
+		+ "r.room_discount_rate AS room_discount_rate, "
+		+ "r.room_image_link AS room_image_link, "
+		+ "r.room_view AS room_view, "
+		+ "rc.room_name AS room_name, "
+		+ "b.branch_name AS branch_name, "
+		+ "rc.room_sub_rooms_count AS room_sub_rooms_count, "
+		+ "rc.room_price AS room_price, "
+		+ "rc.room_capacity AS room_capacity, "
+		+ "rc.room_bathroom_count AS room_bathroom_count, "
+		+ "rc.room_specific_info AS room_specific_info, "
+		+ "rl.room_level_name AS room_level_name "
+		+ "FROM room_tb r "
+		+ "LEFT JOIN room_category_tb rc ON rc.room_category_code_pk = r.room_category_code_fk "
+		+ "LEFT JOIN room_level_tb rl ON rl.room_level_code_pk = rc.room_level_code_fk "
+		+ "LEFT JOIN branch_tb b ON b.branch_code_pk = r.branch_code_fk"
+)
+@Synchronize({"room_tb", "room_category_tb", "room_level_tb", "branch_tb"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class RoomViewEntity {
+
+	@Id
+	private String roomCodePk;
+	private String branchCodeFk;
+	private Integer roomNumber;
+	private Integer roomCategoryCodeFk;
+	private String roomCurrentStatus;
+	private Float roomDiscountRate;
+	private String roomImageLink;
+	private String roomView;
+	private String roomName;
+	private String branchName;
+	private Integer roomSubRoomsCount;
+	private Integer roomPrice;
+	private Integer roomCapacity;
+	private Integer roomBathroomCount;
+	private String roomSpecificInfo;
+	private String roomLevelName;
+
+	@Builder
+	public RoomViewEntity(String roomCodePk, String branchCodeFk, Integer roomNumber, Integer roomCategoryCodeFk,
+		String roomCurrentStatus, Float roomDiscountRate, String roomImageLink, String roomView, String roomName,
+		String branchName, Integer roomSubRoomsCount, Integer roomPrice, Integer roomCapacity,
+		Integer roomBathroomCount, String roomSpecificInfo, String roomLevelName) {
+		this.roomCodePk = roomCodePk;
+		this.branchCodeFk = branchCodeFk;
+		this.roomNumber = roomNumber;
+		this.roomCategoryCodeFk = roomCategoryCodeFk;
+		this.roomCurrentStatus = roomCurrentStatus;
+		this.roomDiscountRate = roomDiscountRate;
+		this.roomImageLink = roomImageLink;
+		this.roomView = roomView;
+		this.roomName = roomName;
+		this.branchName = branchName;
+		this.roomSubRoomsCount = roomSubRoomsCount;
+		this.roomPrice = roomPrice;
+		this.roomCapacity = roomCapacity;
+		this.roomBathroomCount = roomBathroomCount;
+		this.roomSpecificInfo = roomSpecificInfo;
+		this.roomLevelName = roomLevelName;
+	}
+}
@@ -0,0 +1,43 @@
+package org.iot.hotelitybackend.hotelmanagement.aggregate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/* RoomViewEntity 는 객실 카테고리/등급 컬럼을 모두 갖고 있으므로 별도의 조회나 join 없이 바로 조건을 건다 */
+public class RoomViewSpecification {
+	public static Specification<RoomViewEntity> likeRoomCodePk(String roomCodePk) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.like(root.get("roomCodePk"), "%" + roomCodePk + "%");
+	}
+	public static Specification<RoomViewEntity> equalsRoomNumber(Integer roomNumber) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomNumber"), roomNumber);
+	}
+	public static Specification<RoomViewEntity> equalsRoomCategoryCodeFk(Integer roomCategoryCodeFk) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomCategoryCodeFk"), roomCategoryCodeFk);
+	}
+	public static Specification<RoomViewEntity> equalsRoomName(String roomName) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomName"), roomName);
+	}
+	public static Specification<RoomViewEntity> equalsRoomSubRoomsCount(Integer roomSubRoomsCount) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomSubRoomsCount"), roomSubRoomsCount);
+	}
+	public static Specification<RoomViewEntity> equalsRoomLevelName(String roomLevelName) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomLevelName"), roomLevelName);
+	}
+	public static Specification<RoomViewEntity> equalsRoomCapacity(Integer roomCapacity) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomCapacity"), roomCapacity);
+	}
+	public static Specification<RoomViewEntity> equalsRoomCurrentStatus(String roomCurrentStatus) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomCurrentStatus"), roomCurrentStatus);
+	}
+	public static Specification<RoomViewEntity> equalsRoomDiscountRate(Float roomDiscountRate) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("roomDiscountRate"), roomDiscountRate);
+	}
+	public static Specification<RoomViewEntity> equalsBranchCodeFk(String branchCodeFk) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("branchCodeFk"), branchCodeFk);
+	}
+	public static Specification<RoomViewEntity> likeRoomView(String roomView) {
+		return (root, query, CriteriaBuilder) -> CriteriaBuilder.like(root.get("roomView"), "%" + roomView + "%");
+	}
+	public static Specification<RoomViewEntity> isRoomPriceBetween(Integer minPrice, Integer maxPrice) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.between(root.get("roomPrice"), minPrice, maxPrice);
+	}
+}
@@ -1,7 +1,10 @@
 package org.iot.hotelitybackend.hotelmanagement.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.hotelmanagement.dto.AncillaryDTO;
 import org.iot.hotelitybackend.hotelmanagement.service.AncillaryService;
 import org.iot.hotelitybackend.hotelmanagement.vo.AncillarySearchCriteria;
@@ -9,20 +12,16 @@ import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyFacility;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestRegistFacility;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 
 import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.ANCILLARY;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -30,10 +29,13 @@ import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 public class AncillaryController {
 	private AncillaryService ancillaryService;
 	private ModelMapper mapper;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public AncillaryController(AncillaryService ancillaryService, ModelMapper mapper) {
+	public AncillaryController(AncillaryService ancillaryService, ExcelExportService excelExportService,
+		ModelMapper mapper) {
 		this.ancillaryService = ancillaryService;
+		this.excelExportService = excelExportService;
 		this.mapper = mapper;
 	}
 
@@ -103,28 +105,31 @@ public class AncillaryController {
 	}
 
 	@GetMapping("facilities/excel/download")
-	public ResponseEntity<InputStreamResource> downloadAllFacilitiesExcel(@ModelAttribute AncillarySearchCriteria criteria) {
+	public ResponseEntity<ResponseVO> downloadAllFacilitiesExcel(
+		@ModelAttribute AncillarySearchCriteria criteria,
+		@RequestParam(value = "format", required = false) String format
+	) {
+		ResponseVO response;
 		try {
-
-			// 조회해서 DTO 리스트 가져오기
-			Map<String, Object> facilityListInfo = ancillaryService.selectAllFacilities(criteria);
-
-			// 엑셀 시트와 파일 만들기
-			Map<String, Object> result = createExcelFile(
-					(List<AncillaryDTO>)facilityListInfo.get(KEY_CONTENT),
-					ANCILLARY.getFileName(),
-					ANCILLARY.getHeaderStrings()
-			);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)result.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-
-		} catch (Exception e) {
-			log.info(e.getMessage());
-			e.printStackTrace();
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(ANCILLARY, ExportFormat.from(format), criteria,
+				() -> ((List<AncillaryDTO>)ancillaryService.selectAllFacilities(criteria).get(KEY_CONTENT)).stream());
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
 		}
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
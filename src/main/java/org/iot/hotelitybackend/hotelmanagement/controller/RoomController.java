@@ -1,26 +1,25 @@
 package org.iot.hotelitybackend.hotelmanagement.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
 import org.iot.hotelitybackend.hotelmanagement.service.RoomService;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyRoom;
 import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Map;
 
 import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.ROOM;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @RestController
 @RequestMapping("hotel-management")
@@ -29,10 +28,12 @@ public class RoomController {
 
 	private final RoomService roomService;
 	private final ModelMapper mapper;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public RoomController(RoomService roomService, ModelMapper mapper) {
+	public RoomController(RoomService roomService, ExcelExportService excelExportService, ModelMapper mapper) {
 		this.roomService = roomService;
+		this.excelExportService = excelExportService;
 		this.mapper = mapper;
 	}
 
@@ -90,31 +91,31 @@ public class RoomController {
 	}
 
 	@GetMapping("rooms/excel/download")
-	public ResponseEntity<InputStreamResource> downloadSearchedRoomsAsExcel(@ModelAttribute RoomSearchCriteria criteria) {
+	public ResponseEntity<ResponseVO> downloadSearchedRoomsAsExcel(
+		@ModelAttribute RoomSearchCriteria criteria,
+		@RequestParam(value = "format", required = false) String format
+	) {
+		ResponseVO response;
 		try {
-
-			// 조회해서 DTO 리스트 가져오기
-			Map<String, Object> roomListInfo = roomService.selectSearchedRoomsList(
-				criteria
-			);
-
-			// 엑셀 시트와 파일 만들기
-			Map<String, Object> result = createExcelFile(
-					(List<RoomDTO>)roomListInfo.get(KEY_CONTENT),
-					ROOM.getFileName(),
-					ROOM.getHeaderStrings()
-			);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)result.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-
-		} catch (Exception e) {
-			log.info(e.getMessage());
-			e.printStackTrace();
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(ROOM, ExportFormat.from(format), criteria,
+				() -> roomService.streamSearchedRoomsList(criteria));
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
 		}
 
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
@@ -6,7 +6,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface RoomRepository extends JpaRepository<RoomEntity, String>, JpaSpecificationExecutor<RoomEntity> {
 	Page<RoomEntity> findAll(Specification<RoomEntity> spec, Pageable pageable);
+
+	/* 지점별 객실 수 */
+	@Query("SELECT r.branchCodeFk AS branchCodeFk, COUNT(r) AS roomCount FROM RoomEntity r GROUP BY r.branchCodeFk")
+	List<BranchRoomCount> countRoomsByBranch();
+
+	interface BranchRoomCount {
+		String getBranchCodeFk();
+
+		Long getRoomCount();
+	}
 }
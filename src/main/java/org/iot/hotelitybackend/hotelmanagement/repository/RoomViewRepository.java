@@ -0,0 +1,16 @@
+package org.iot.hotelitybackend.hotelmanagement.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface RoomViewRepository extends JpaRepository<RoomViewEntity, String>,
+	JpaSpecificationExecutor<RoomViewEntity> {
+
+	List<RoomViewEntity> findAllByRoomCategoryCodeFkIn(Collection<Integer> roomCategoryCodeFkList);
+
+	List<RoomViewEntity> findAllByBranchCodeFkIn(Collection<String> branchCodeFkList);
+}
@@ -5,7 +5,6 @@ import org.iot.hotelitybackend.hotelmanagement.vo.AncillarySearchCriteria;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyFacility;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestRegistFacility;
 
-import java.io.IOException;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
@@ -21,8 +20,5 @@ public interface AncillaryService {
 
 	List<AncillaryDTO> selectAllFacilitiesForExcel();
 
-	Map<String, Object> createFacilitiesExcelFile(List<AncillaryDTO> ancillaryDTOList) throws IOException,
-		NoSuchFieldException, IllegalAccessException;
-
 	Map<String, Object> selectFacility(int ancillaryCodePk);
 }
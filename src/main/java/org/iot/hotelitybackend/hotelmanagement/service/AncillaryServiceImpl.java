@@ -2,28 +2,15 @@ package org.iot.hotelitybackend.hotelmanagement.service;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.lang.reflect.Field;
-import java.text.SimpleDateFormat;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.IndexedColors;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.ReferenceDataCache;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.AncillaryEntity;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.AncillarySpecification;
 import org.iot.hotelitybackend.hotelmanagement.dto.AncillaryDTO;
@@ -39,12 +26,12 @@ import org.iot.hotelitybackend.hotelmanagement.vo.RequestRegistFacility;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -59,15 +46,22 @@ public class AncillaryServiceImpl implements AncillaryService{
 	private final BranchRepository branchRepository;
 	private final AncillaryImageRepository ancillaryImageRepository;
 	private final ModelMapper mapper;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final ReferenceDataCache referenceDataCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public AncillaryServiceImpl(AncillaryRepository ancillaryRepository, AncillaryCategoryRepository ancillaryCategoryRepository, BranchRepository branchRepository,
-		AncillaryImageRepository ancillaryImageRepository, ModelMapper mapper) {
+		AncillaryImageRepository ancillaryImageRepository, ModelMapper mapper, PageQueryExecutor pageQueryExecutor,
+		ReferenceDataCache referenceDataCache, ApplicationEventPublisher eventPublisher) {
 		this.ancillaryRepository = ancillaryRepository;
 		this.ancillaryCategoryRepository = ancillaryCategoryRepository;
 		this.branchRepository = branchRepository;
 		this.ancillaryImageRepository = ancillaryImageRepository;
 		this.mapper = mapper;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.referenceDataCache = referenceDataCache;
+		this.eventPublisher = eventPublisher;
 		this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
 		this.mapper.typeMap(AncillaryEntity.class, AncillaryDTO.class)
 				.addMappings(mapperNew -> mapperNew.map(
@@ -104,33 +98,12 @@ public class AncillaryServiceImpl implements AncillaryService{
 				pageable = PageRequest.of(pageNum, PAGE_SIZE);
 			}
 
-			Page<AncillaryEntity> ancillaryEntityList = ancillaryRepository.findAll(spec, pageable);
+			Slice<AncillaryEntity> ancillaryEntityList = pageQueryExecutor.findPage(
+				AncillaryEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
 
-			ancillaryDTOList = ancillaryEntityList
-				.stream()
-				.map(ancillaryEntity -> mapper.map(ancillaryEntity, AncillaryDTO.class))
-				.peek(ancillaryDTO -> {
-
-					// 지점 이름 가져와 붙이기
-					ancillaryDTO.setBranchName(
-						branchRepository.findById(
-							ancillaryDTO.getBranchCodeFk()
-						).orElseThrow(IllegalArgumentException::new).getBranchName()
-					);
-
-					// 부대시설 카테고리 이름 가져와 붙이기
-					ancillaryDTO.setAncillaryCategoryName(
-						ancillaryCategoryRepository.findById(
-							ancillaryDTO.getAncillaryCategoryCodeFk()
-						).orElseThrow(IllegalArgumentException::new).getAncillaryCategoryName()
-					);
-				})
-				.toList();
-
-			int totalPagesCount = ancillaryEntityList.getTotalPages();
-			int currentPageIndex = ancillaryEntityList.getNumber();
-			ancillaryListInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-			ancillaryListInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+			ancillaryDTOList = toAncillaryDTOList(ancillaryEntityList.getContent());
+
+			ancillaryListInfo.putAll(PageQueryExecutor.toPageInfo(ancillaryEntityList));
 
 		// 2-2. 페이징 처리 안할 때
 		} else {
@@ -142,26 +115,7 @@ public class AncillaryServiceImpl implements AncillaryService{
 				ancillaryEntityList = ancillaryRepository.findAll(spec);
 			}
 
-			ancillaryDTOList = ancillaryEntityList
-				.stream()
-				.map(ancillaryEntity -> mapper.map(ancillaryEntity, AncillaryDTO.class))
-				.peek(ancillaryDTO -> {
-
-					// 지점 이름 가져와 붙이기
-					ancillaryDTO.setBranchName(
-						branchRepository.findById(
-							ancillaryDTO.getBranchCodeFk()
-						).orElseThrow(IllegalArgumentException::new).getBranchName()
-					);
-
-					// 부대시설 카테고리 이름 가져와 붙이기
-					ancillaryDTO.setAncillaryCategoryName(
-						ancillaryCategoryRepository.findById(
-							ancillaryDTO.getAncillaryCategoryCodeFk()
-						).orElseThrow(IllegalArgumentException::new).getAncillaryCategoryName()
-					);
-				})
-				.toList();
+			ancillaryDTOList = toAncillaryDTOList(ancillaryEntityList);
 		}
 
 		ancillaryListInfo.put(KEY_CONTENT, ancillaryDTOList);
@@ -169,6 +123,20 @@ public class AncillaryServiceImpl implements AncillaryService{
 		return ancillaryListInfo;
 	}
 
+	// 지점 이름, 부대시설 카테고리 이름은 기준 정보 캐시에서 붙인다
+	private List<AncillaryDTO> toAncillaryDTOList(List<AncillaryEntity> ancillaryEntityList) {
+		return ancillaryEntityList
+			.stream()
+			.map(ancillaryEntity -> {
+				AncillaryDTO ancillaryDTO = mapper.map(ancillaryEntity, AncillaryDTO.class);
+				ancillaryDTO.setBranchName(referenceDataCache.branchName(ancillaryDTO.getBranchCodeFk()));
+				ancillaryDTO.setAncillaryCategoryName(
+					referenceDataCache.ancillaryCategoryName(ancillaryDTO.getAncillaryCategoryCodeFk()));
+				return ancillaryDTO;
+			})
+			.toList();
+	}
+
 	private Specification<AncillaryEntity> buildSpecification(AncillarySearchCriteria criteria) {
 		Integer pageNum = criteria.getPageNum();
 		Integer ancillaryCodePk = criteria.getAncillaryCodePk();
@@ -254,6 +222,7 @@ public class AncillaryServiceImpl implements AncillaryService{
 		registFacilityInfo = new HashMap<>();
 
 		registFacilityInfo.put(KEY_CONTENT, mapper.map(ancillaryRepository.save(ancillaryEntity), AncillaryDTO.class));
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(AncillaryEntity.class));
 
 		return registFacilityInfo;
 	}
@@ -279,12 +248,12 @@ public class AncillaryServiceImpl implements AncillaryService{
 		Map<String, Object> modifyFacilityInfo = new HashMap<>();
 		AncillaryDTO ancillaryDTO = mapper.map(ancillaryRepository.save(ancillaryEntity), AncillaryDTO.class);
 		ancillaryDTO.setBranchName(
-			branchRepository.findById(
+			referenceDataCache.branch(
 				ancillaryDTO.getBranchCodeFk()
 			).orElseThrow(IllegalArgumentException::new).getBranchName()
 		);
 		ancillaryDTO.setAncillaryCategoryName(
-			ancillaryCategoryRepository.findById(
+			referenceDataCache.ancillaryCategory(
 				ancillaryDTO.getAncillaryCategoryCodeFk()
 			).orElseThrow(IllegalArgumentException::new).getAncillaryCategoryName()
 		);
@@ -301,6 +270,7 @@ public class AncillaryServiceImpl implements AncillaryService{
 
 		if (ancillaryRepository.existsById(ancillaryCodePk)) {
 			ancillaryRepository.deleteById(ancillaryCodePk);
+			eventPublisher.publishEvent(TotalCountChangedEvent.of(AncillaryEntity.class));
 		} else {
 			System.out.println("해당하는 부대 시설을 찾을 수 없습니다.");
 		}
@@ -310,65 +280,7 @@ public class AncillaryServiceImpl implements AncillaryService{
 
 	@Override
 	public List<AncillaryDTO> selectAllFacilitiesForExcel() {
-		return ancillaryRepository.findAll()
-			.stream()
-			.map(ancillaryEntity -> mapper.map(ancillaryEntity, AncillaryDTO.class))
-			.peek(ancillaryDTO -> {
-
-				// 지점 이름 가져와 붙이기
-				ancillaryDTO.setBranchName(
-					branchRepository.findById(
-						ancillaryDTO.getBranchCodeFk()
-					).orElseThrow(IllegalArgumentException::new).getBranchName()
-				);
-
-				// 부대시설 카테고리 이름 가져와 붙이기
-				ancillaryDTO.setAncillaryCategoryName(
-					ancillaryCategoryRepository.findById(
-						ancillaryDTO.getAncillaryCategoryCodeFk()
-					).orElseThrow(IllegalArgumentException::new).getAncillaryCategoryName()
-				);
-			})
-			.toList();
-	}
-
-	@Override
-	public Map<String, Object> createFacilitiesExcelFile(List<AncillaryDTO> ancillaryDTOList) throws
-		IOException,
-		NoSuchFieldException,
-		IllegalAccessException{
-		Workbook workbook = new XSSFWorkbook();
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-		Font headerFont = workbook.createFont();
-		headerFont.setBold(true);
-		headerFont.setColor(IndexedColors.BLACK.getIndex());
-
-		CellStyle headerCellStyle = workbook.createCellStyle();
-		headerCellStyle.setFont(headerFont);
-		headerCellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-		headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-		Sheet sheet = workbook.createSheet("부대시설");
-
-		createDashboardSheet(ancillaryDTOList, sheet, headerCellStyle);
-
-		workbook.write(out);
-		log.info("[ReportService:getExcel] create Excel list done. row count:[{}]", ancillaryDTOList.size());
-
-		Calendar calendar = Calendar.getInstance();
-		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HHmmss");
-		String time = dateFormat.format(calendar.getTime());
-		String fileName = "Ancillary-facilities_"+ time +".xlsx";
-		HttpHeaders headers = new HttpHeaders();
-		headers.add("Content-Type", "application/vnd.ms-excel");
-		headers.add("Content-Disposition", "attachment; filename=" + fileName);
-
-		Map<String, Object> result = new HashMap<>();
-		result.put("result", new ByteArrayInputStream(out.toByteArray()));
-		result.put("fileName", fileName);
-		result.put("headers", headers);
-		return result;
+		return toAncillaryDTOList(ancillaryRepository.findAll());
 	}
 
 	@Override
@@ -379,12 +291,12 @@ public class AncillaryServiceImpl implements AncillaryService{
 			SelectAncillaryDTO.class
 		);
 		selectAncillaryDTO.setBranchName(
-			branchRepository.findById(selectAncillaryDTO.getBranchCodeFk())
+			referenceDataCache.branch(selectAncillaryDTO.getBranchCodeFk())
 				.orElseThrow(IllegalArgumentException::new)
 				.getBranchName()
 		);
 		selectAncillaryDTO.setAncillaryCategoryName(
-			ancillaryCategoryRepository.findById(selectAncillaryDTO.getAncillaryCategoryCodeFk())
+			referenceDataCache.ancillaryCategory(selectAncillaryDTO.getAncillaryCategoryCodeFk())
 				.orElseThrow(IllegalArgumentException::new)
 				.getAncillaryCategoryName()
 		);
@@ -397,42 +309,4 @@ public class AncillaryServiceImpl implements AncillaryService{
 		facilityInfo.put(KEY_CONTENT, selectAncillaryDTO);
 		return facilityInfo;
 	}
-
-	// 첫번째 인자인 List<RoomDTO> 만 바꿔서 쓰면 됨
-	private void createDashboardSheet(List<AncillaryDTO> ancillaryDTOList, Sheet sheet, CellStyle headerCellStyle) throws
-		NoSuchFieldException, IllegalAccessException {
-		Row headerRow = sheet.createRow(0);
-		AncillaryDTO ancillaryDTO = new AncillaryDTO();
-		int idx1 = 0;
-		Cell headerCell;
-		List<String> headerStrings = new ArrayList<>();
-		for (Field field : ancillaryDTO.getClass().getDeclaredFields()) {
-			field.setAccessible(true);
-			String fieldName = field.getName();
-			headerStrings.add(fieldName);
-			headerCell = headerRow.createCell(idx1++);
-			headerCell.setCellValue(fieldName);
-			headerCell.setCellStyle(headerCellStyle);
-		}
-
-		Row bodyRow;
-		Cell bodyCell;
-		int idx2 = 1;
-		for (AncillaryDTO ancillaryDTOIter : ancillaryDTOList) {
-			bodyRow = sheet.createRow(idx2++);
-			int idx3 = 0;
-			for (String headerString : headerStrings) {
-				Field field = ancillaryDTOIter.getClass().getDeclaredField(headerString);
-				field.setAccessible(true);
-				bodyCell = bodyRow.createCell(idx3);
-				bodyCell.setCellValue(String.valueOf(field.get(ancillaryDTOIter)));
-				idx3++;
-			}
-		}
-
-		for (int i = 0; i < headerStrings.size(); i++) {
-			sheet.autoSizeColumn(i);
-			sheet.setColumnWidth(i, (sheet.getColumnWidth(i)) + (short)1024);
-		}
-	}
 }
@@ -6,6 +6,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.iot.hotelitybackend.common.util.ReferenceDataCache;
+import org.iot.hotelitybackend.common.util.ReferenceType;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.BranchEntity;
 import org.iot.hotelitybackend.hotelmanagement.dto.BranchDTO;
 import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
@@ -23,11 +25,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class BranchServiceImpl implements BranchService{
 
 	private final BranchRepository branchRepository;
+	private final RoomSearchIndex roomSearchIndex;
+	private final ReferenceDataCache referenceDataCache;
 	private final ModelMapper mapper;
 
 	@Autowired
-	public BranchServiceImpl(BranchRepository branchRepository, ModelMapper mapper) {
+	public BranchServiceImpl(BranchRepository branchRepository, RoomSearchIndex roomSearchIndex,
+		ReferenceDataCache referenceDataCache, ModelMapper mapper) {
 		this.branchRepository = branchRepository;
+		this.roomSearchIndex = roomSearchIndex;
+		this.referenceDataCache = referenceDataCache;
 		this.mapper = mapper;
 	}
 
@@ -74,6 +81,7 @@ public class BranchServiceImpl implements BranchService{
 
 		Map<String, Object> registeredBranchInfo = new HashMap<>();
 		registeredBranchInfo.put(KEY_CONTENT, mapper.map(branchRepository.save(branchEntity), BranchDTO.class));
+		referenceDataCache.notifyChanged(ReferenceType.BRANCH);
 		return registeredBranchInfo;
 	}
 
@@ -89,6 +97,9 @@ public class BranchServiceImpl implements BranchService{
 
 		Map<String, Object> modifiedBranchInfo = new HashMap<>();
 		modifiedBranchInfo.put(KEY_CONTENT, mapper.map(branchRepository.save(branchEntity), BranchDTO.class));
+		// 객실 목록에 지점명이 포함되므로 해당 지점 객실을 객실 검색 인덱스에 다시 반영
+		roomSearchIndex.notifyBranchChanged(branchCodePk);
+		referenceDataCache.notifyChanged(ReferenceType.BRANCH);
 		return modifiedBranchInfo;
 	}
 
@@ -99,6 +110,8 @@ public class BranchServiceImpl implements BranchService{
 		Map<String, Object> deleteBranchInfo = new HashMap<>();
 		try {
 			branchRepository.deleteById(branchCodePk);
+			roomSearchIndex.notifyBranchChanged(branchCodePk);
+			referenceDataCache.notifyChanged(ReferenceType.BRANCH);
 			deleteBranchInfo.put(KEY_CONTENT, "Content deleted successfully.");
 		} catch (Exception e) {
 			deleteBranchInfo.put(KEY_CONTENT, "Failed to delete content.");
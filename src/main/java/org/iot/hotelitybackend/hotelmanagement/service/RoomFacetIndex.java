@@ -0,0 +1,407 @@
+package org.iot.hotelitybackend.hotelmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+
+/* 객실 패싯 검색 엔진 (스레드 안전하지 않으므로 RoomSearchIndex 가 잠금을 걸고 사용)
+ * 객실 하나가 슬롯 번호 하나를 갖고, 객실 속성은 슬롯 번호를 인덱스로 하는 컬럼별 배열에 담는다.
+ * 지점/뷰/상태/카테고리/등급/인원/방 개수/가격대는 값마다 해당 슬롯 비트가 켜진 BitSet 을 두어
+ * 조건 검색은 BitSet AND 로, 패싯별 건수는 cardinality 로 계산한다.
+ * 문자열 조건은 DB(MariaDB 기본 collation) 와 같게 대소문자를 구분하지 않는다. */
+class RoomFacetIndex {
+
+	// 가격대 패싯 구간 크기 (0~49999, 50000~99999 ...)
+	static final int PRICE_BUCKET_SIZE = 50_000;
+	// 값이 없는(null) 정수 컬럼 표시, 가장 작은 값이므로 오름차순 정렬 시 DB 와 같이 맨 앞에 온다
+	private static final int NULL_INT = Integer.MIN_VALUE;
+	private static final int INITIAL_CAPACITY = 256;
+
+	enum Facet {
+		BRANCH("branchCodeFk"),
+		VIEW("roomView"),
+		STATUS("roomCurrentStatus"),
+		CATEGORY("roomName"),
+		LEVEL("roomLevelName"),
+		CAPACITY("roomCapacity"),
+		SUB_ROOMS("roomSubRoomsCount"),
+		PRICE("roomPrice");
+
+		// 응답의 패싯 이름 (RoomDTO 필드명)
+		private final String fieldName;
+
+		Facet(String fieldName) {
+			this.fieldName = fieldName;
+		}
+	}
+
+	/* content: 요청한 범위의 객실, totalCount: 조건에 맞는 전체 객실 수
+	 * facetCounts: 패싯 이름 -> (값 -> 객실 수), 각 패싯은 자기 자신의 조건을 뺀 나머지 조건으로 센다 */
+	record SearchResult(List<RoomDTO> content, int totalCount, Map<String, Map<String, Integer>> facetCounts) {
+	}
+
+	private final Map<String, Integer> slotMap = new HashMap<>();
+	private final BitSet live = new BitSet();
+	private final Map<Facet, Map<Object, BitSet>> facetMap = new EnumMap<>(Facet.class);
+
+	private String[] roomCodes = new String[INITIAL_CAPACITY];
+	private String[] branchCodes = new String[INITIAL_CAPACITY];
+	private int[] roomNumbers = new int[INITIAL_CAPACITY];
+	private int[] categoryCodes = new int[INITIAL_CAPACITY];
+	private String[] statuses = new String[INITIAL_CAPACITY];
+	// null 은 NaN
+	private float[] discountRates = new float[INITIAL_CAPACITY];
+	private String[] imageLinks = new String[INITIAL_CAPACITY];
+	private String[] views = new String[INITIAL_CAPACITY];
+	private String[] roomNames = new String[INITIAL_CAPACITY];
+	private String[] branchNames = new String[INITIAL_CAPACITY];
+	private int[] subRoomsCounts = new int[INITIAL_CAPACITY];
+	private int[] prices = new int[INITIAL_CAPACITY];
+	private int[] capacities = new int[INITIAL_CAPACITY];
+	private int[] bathroomCounts = new int[INITIAL_CAPACITY];
+	private String[] specificInfos = new String[INITIAL_CAPACITY];
+	private String[] levelNames = new String[INITIAL_CAPACITY];
+
+	RoomFacetIndex() {
+		for (Facet facet : Facet.values()) {
+			// 패싯 값은 지점코드/뷰 등은 String, 인원/방 개수/가격대는 Integer 로 정렬되어 응답에 나간다
+			facetMap.put(facet, new TreeMap<>());
+		}
+	}
+
+	int size() {
+		return slotMap.size();
+	}
+
+	/* 객실 추가 또는 변경 (같은 객실코드면 같은 슬롯을 덮어쓴다) */
+	void put(RoomViewEntity roomView) {
+		Integer slot = slotMap.get(roomView.getRoomCodePk());
+		if (slot == null) {
+			slot = live.nextClearBit(0);
+			ensureCapacity(slot + 1);
+			slotMap.put(roomView.getRoomCodePk(), slot);
+			live.set(slot);
+		} else {
+			unmarkFacets(slot);
+		}
+
+		roomCodes[slot] = roomView.getRoomCodePk();
+		branchCodes[slot] = roomView.getBranchCodeFk();
+		roomNumbers[slot] = toInt(roomView.getRoomNumber());
+		categoryCodes[slot] = toInt(roomView.getRoomCategoryCodeFk());
+		statuses[slot] = roomView.getRoomCurrentStatus();
+		discountRates[slot] = roomView.getRoomDiscountRate() == null ? Float.NaN : roomView.getRoomDiscountRate();
+		imageLinks[slot] = roomView.getRoomImageLink();
+		views[slot] = roomView.getRoomView();
+		roomNames[slot] = roomView.getRoomName();
+		branchNames[slot] = roomView.getBranchName();
+		subRoomsCounts[slot] = toInt(roomView.getRoomSubRoomsCount());
+		prices[slot] = toInt(roomView.getRoomPrice());
+		capacities[slot] = toInt(roomView.getRoomCapacity());
+		bathroomCounts[slot] = toInt(roomView.getRoomBathroomCount());
+		specificInfos[slot] = roomView.getRoomSpecificInfo();
+		levelNames[slot] = roomView.getRoomLevelName();
+
+		markFacets(slot);
+	}
+
+	/* 객실 삭제 (비운 슬롯은 다음에 추가되는 객실이 다시 쓴다) */
+	void remove(String roomCodePk) {
+		Integer slot = slotMap.remove(roomCodePk);
+		if (slot == null) {
+			return;
+		}
+		unmarkFacets(slot);
+		live.clear(slot);
+
+		roomCodes[slot] = null;
+		branchCodes[slot] = null;
+		statuses[slot] = null;
+		imageLinks[slot] = null;
+		views[slot] = null;
+		roomNames[slot] = null;
+		branchNames[slot] = null;
+		specificInfos[slot] = null;
+		levelNames[slot] = null;
+	}
+
+	List<String> findRoomCodesByCategory(Integer roomCategoryCodeFk) {
+		int categoryCode = toInt(roomCategoryCodeFk);
+		return roomCodesOf(filter(live, slot -> categoryCodes[slot] == categoryCode));
+	}
+
+	List<String> findRoomCodesByBranch(String branchCodeFk) {
+		return roomCodesOf(facetMap.get(Facet.BRANCH).getOrDefault(branchCodeFk, new BitSet()));
+	}
+
+	/* 조건 검색 후 정렬해서 offset 부터 limit 개만 RoomDTO 로 변환 */
+	SearchResult search(RoomSearchCriteria criteria, int offset, int limit) {
+
+		// 1. 패싯이 아닌 조건은 컬럼을 직접 비교
+		BitSet base = (BitSet)live.clone();
+		String roomCodePk = criteria.getRoomCodePk();
+		if (roomCodePk != null) {
+			base = filter(base, slot -> containsIgnoreCase(roomCodes[slot], roomCodePk));
+		}
+		Integer roomNumber = criteria.getRoomNumber();
+		if (roomNumber != null) {
+			base = filter(base, slot -> roomNumbers[slot] == roomNumber);
+		}
+		Float roomDiscountRate = criteria.getRoomDiscountRate();
+		if (roomDiscountRate != null) {
+			base = filter(base, slot -> discountRates[slot] == roomDiscountRate);
+		}
+
+		// 2. 패싯 조건은 조건에 맞는 값들의 BitSet 을 합쳐 둔다
+		Map<Facet, BitSet> filterMap = new EnumMap<>(Facet.class);
+		putTextFilter(filterMap, Facet.BRANCH, criteria.getBranchCodeFk(), false);
+		putTextFilter(filterMap, Facet.VIEW, criteria.getRoomView(), true);
+		putTextFilter(filterMap, Facet.STATUS, criteria.getRoomCurrentStatus(), false);
+		putTextFilter(filterMap, Facet.CATEGORY, criteria.getRoomName(), false);
+		putTextFilter(filterMap, Facet.LEVEL, criteria.getRoomLevelName(), false);
+		putNumberFilter(filterMap, Facet.CAPACITY, criteria.getRoomCapacity());
+		putNumberFilter(filterMap, Facet.SUB_ROOMS, criteria.getRoomSubRoomsCount());
+		Integer minPrice = criteria.getMinPrice();
+		Integer maxPrice = criteria.getMaxPrice();
+		if (minPrice != null && maxPrice != null) {
+			filterMap.put(Facet.PRICE,
+				filter(live, slot -> prices[slot] != NULL_INT && prices[slot] >= minPrice && prices[slot] <= maxPrice));
+		}
+
+		BitSet matched = (BitSet)base.clone();
+		filterMap.values().forEach(matched::and);
+
+		// 3. 패싯별 건수
+		Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+		BitSet counter = new BitSet();
+		for (Facet facet : Facet.values()) {
+			BitSet scope = (BitSet)base.clone();
+			filterMap.forEach((filterFacet, filterBits) -> {
+				if (filterFacet != facet) {
+					scope.and(filterBits);
+				}
+			});
+
+			Map<String, Integer> counts = new LinkedHashMap<>();
+			for (Map.Entry<Object, BitSet> entry : facetMap.get(facet).entrySet()) {
+				counter.clear();
+				counter.or(entry.getValue());
+				counter.and(scope);
+				int count = counter.cardinality();
+				if (count > 0) {
+					counts.put(facetLabel(facet, entry.getKey()), count);
+				}
+			}
+			facetCounts.put(facet.fieldName, counts);
+		}
+
+		// 4. 정렬 후 요청한 범위만 변환
+		List<Integer> slots = new ArrayList<>(matched.cardinality());
+		matched.stream().forEach(slots::add);
+		slots.sort(comparator(criteria.getOrderBy(), criteria.getSortBy()));
+
+		int fromIndex = Math.min(offset, slots.size());
+		int toIndex = (int)Math.min((long)offset + limit, slots.size());
+		List<RoomDTO> content = new ArrayList<>(toIndex - fromIndex);
+		for (int slot : slots.subList(fromIndex, toIndex)) {
+			content.add(toRoomDTO(slot));
+		}
+
+		return new SearchResult(content, slots.size(), facetCounts);
+	}
+
+	private void putTextFilter(Map<Facet, BitSet> filterMap, Facet facet, String value, boolean like) {
+		if (value != null) {
+			filterMap.put(facet, unionOf(facet, key -> like
+				? containsIgnoreCase((String)key, value)
+				: ((String)key).equalsIgnoreCase(value)));
+		}
+	}
+
+	private void putNumberFilter(Map<Facet, BitSet> filterMap, Facet facet, Integer value) {
+		if (value != null) {
+			filterMap.put(facet, unionOf(facet, value::equals));
+		}
+	}
+
+	private BitSet unionOf(Facet facet, Predicate<Object> keyFilter) {
+		BitSet union = new BitSet();
+		facetMap.get(facet).forEach((key, bits) -> {
+			if (keyFilter.test(key)) {
+				union.or(bits);
+			}
+		});
+		return union;
+	}
+
+	private static BitSet filter(BitSet slots, IntPredicate slotFilter) {
+		BitSet filtered = new BitSet();
+		slots.stream().filter(slotFilter).forEach(filtered::set);
+		return filtered;
+	}
+
+	private List<String> roomCodesOf(BitSet slots) {
+		List<String> roomCodeList = new ArrayList<>(slots.cardinality());
+		slots.stream().forEach(slot -> roomCodeList.add(roomCodes[slot]));
+		return roomCodeList;
+	}
+
+	/* 정렬 기준이 없으면 객실코드 순 (sortBy 1: 오름차순, 그 외: 내림차순), 같은 값은 객실코드 순으로 고정 */
+	private Comparator<Integer> comparator(String orderBy, Integer sortBy) {
+		Comparator<Integer> byRoomCode = Comparator.comparing(slot -> roomCodes[slot]);
+		if (orderBy == null || orderBy.isEmpty() || sortBy == null) {
+			return byRoomCode;
+		}
+
+		Comparator<Integer> comparator = switch (orderBy) {
+			case "roomCodePk" -> byRoomCode;
+			case "branchCodeFk" -> comparingText(branchCodes);
+			case "roomNumber" -> comparingInt(roomNumbers);
+			case "roomCategoryCodeFk" -> comparingInt(categoryCodes);
+			case "roomCurrentStatus" -> comparingText(statuses);
+			case "roomDiscountRate" -> Comparator.comparingDouble(
+				slot -> Float.isNaN(discountRates[slot]) ? Double.NEGATIVE_INFINITY : discountRates[slot]);
+			case "roomImageLink" -> comparingText(imageLinks);
+			case "roomView" -> comparingText(views);
+			case "roomName" -> comparingText(roomNames);
+			case "branchName" -> comparingText(branchNames);
+			case "roomSubRoomsCount" -> comparingInt(subRoomsCounts);
+			case "roomPrice" -> comparingInt(prices);
+			case "roomCapacity" -> comparingInt(capacities);
+			case "roomBathroomCount" -> comparingInt(bathroomCounts);
+			case "roomSpecificInfo" -> comparingText(specificInfos);
+			case "roomLevelName" -> comparingText(levelNames);
+			default -> throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + orderBy);
+		};
+		if (sortBy != 1) {
+			comparator = comparator.reversed();
+		}
+		return comparator.thenComparing(byRoomCode);
+	}
+
+	private static Comparator<Integer> comparingText(String[] column) {
+		return Comparator.comparing(slot -> column[slot], Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+	}
+
+	private static Comparator<Integer> comparingInt(int[] column) {
+		return Comparator.comparingInt(slot -> column[slot]);
+	}
+
+	private RoomDTO toRoomDTO(int slot) {
+		RoomDTO room = new RoomDTO();
+		room.setRoomCodePk(roomCodes[slot]);
+		room.setBranchCodeFk(branchCodes[slot]);
+		room.setRoomNumber(fromInt(roomNumbers[slot]));
+		room.setRoomCategoryCodeFk(fromInt(categoryCodes[slot]));
+		room.setRoomCurrentStatus(statuses[slot]);
+		room.setRoomDiscountRate(Float.isNaN(discountRates[slot]) ? 0 : discountRates[slot]);
+		room.setRoomImageLink(imageLinks[slot]);
+		room.setRoomView(views[slot]);
+		room.setRoomName(roomNames[slot]);
+		room.setBranchName(branchNames[slot]);
+		room.setRoomSubRoomsCount(fromInt(subRoomsCounts[slot]));
+		room.setRoomPrice(fromInt(prices[slot]));
+		room.setRoomCapacity(fromInt(capacities[slot]));
+		room.setRoomBathroomCount(fromInt(bathroomCounts[slot]));
+		room.setRoomSpecificInfo(specificInfos[slot]);
+		room.setRoomLevelName(levelNames[slot]);
+		return room;
+	}
+
+	private Object facetKey(Facet facet, int slot) {
+		return switch (facet) {
+			case BRANCH -> branchCodes[slot];
+			case VIEW -> views[slot];
+			case STATUS -> statuses[slot];
+			case CATEGORY -> roomNames[slot];
+			case LEVEL -> levelNames[slot];
+			case CAPACITY -> toKey(capacities[slot]);
+			case SUB_ROOMS -> toKey(subRoomsCounts[slot]);
+			case PRICE -> prices[slot] == NULL_INT ? null : Math.floorDiv(prices[slot], PRICE_BUCKET_SIZE) * PRICE_BUCKET_SIZE;
+		};
+	}
+
+	// 가격대는 "50000~99999" 형식, 나머지는 값 그대로
+	private static String facetLabel(Facet facet, Object key) {
+		if (facet == Facet.PRICE) {
+			int from = (Integer)key;
+			return from + "~" + (from + PRICE_BUCKET_SIZE - 1);
+		}
+		return String.valueOf(key);
+	}
+
+	private void markFacets(int slot) {
+		for (Facet facet : Facet.values()) {
+			Object key = facetKey(facet, slot);
+			if (key != null) {
+				facetMap.get(facet).computeIfAbsent(key, k -> new BitSet()).set(slot);
+			}
+		}
+	}
+
+	private void unmarkFacets(int slot) {
+		for (Facet facet : Facet.values()) {
+			Object key = facetKey(facet, slot);
+			BitSet bits = key == null ? null : facetMap.get(facet).get(key);
+			if (bits != null) {
+				bits.clear(slot);
+				if (bits.isEmpty()) {
+					facetMap.get(facet).remove(key);
+				}
+			}
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (roomCodes.length >= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, roomCodes.length * 2);
+		roomCodes = Arrays.copyOf(roomCodes, newCapacity);
+		branchCodes = Arrays.copyOf(branchCodes, newCapacity);
+		roomNumbers = Arrays.copyOf(roomNumbers, newCapacity);
+		categoryCodes = Arrays.copyOf(categoryCodes, newCapacity);
+		statuses = Arrays.copyOf(statuses, newCapacity);
+		discountRates = Arrays.copyOf(discountRates, newCapacity);
+		imageLinks = Arrays.copyOf(imageLinks, newCapacity);
+		views = Arrays.copyOf(views, newCapacity);
+		roomNames = Arrays.copyOf(roomNames, newCapacity);
+		branchNames = Arrays.copyOf(branchNames, newCapacity);
+		subRoomsCounts = Arrays.copyOf(subRoomsCounts, newCapacity);
+		prices = Arrays.copyOf(prices, newCapacity);
+		capacities = Arrays.copyOf(capacities, newCapacity);
+		bathroomCounts = Arrays.copyOf(bathroomCounts, newCapacity);
+		specificInfos = Arrays.copyOf(specificInfos, newCapacity);
+		levelNames = Arrays.copyOf(levelNames, newCapacity);
+	}
+
+	private static boolean containsIgnoreCase(String text, String term) {
+		return text != null && text.toLowerCase().contains(term.toLowerCase());
+	}
+
+	private static int toInt(Integer value) {
+		return value == null ? NULL_INT : value;
+	}
+
+	private static Integer toKey(int value) {
+		return value == NULL_INT ? null : value;
+	}
+
+	// RoomDTO 의 정수 필드는 primitive 이므로 null 은 0
+	private static int fromInt(int value) {
+		return value == NULL_INT ? 0 : value;
+	}
+}
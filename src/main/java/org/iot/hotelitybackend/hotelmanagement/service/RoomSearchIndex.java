@@ -0,0 +1,222 @@
+package org.iot.hotelitybackend.hotelmanagement.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.iot.hotelitybackend.common.util.ChangeBroadcaster;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 객실 목록 검색용 메모리 인덱스
+ * 객실 수가 많지 않고 자주 바뀌지 않으므로 전체 객실을 RoomFacetIndex 에 올려 두고 조건 검색/패싯 건수/정렬을 DB 없이 처리한다.
+ * 객실/카테고리/지점이 바뀌면 해당 객실만 DB 에서 다시 읽어 반영하고, 다른 서버에는 Redis pub/sub 으로 알린다.
+ * 첫 적재가 끝나기 전에는 search 가 비어 있는 Optional 을 반환하므로 호출 측은 DB 조회를 사용한다. */
+@Slf4j
+@Component
+public class RoomSearchIndex implements MessageListener {
+
+	static final String MESSAGE_DELIMITER = ChangeBroadcaster.MESSAGE_DELIMITER;
+	static final String KEY_DELIMITER = ",";
+	static final String TARGET_ROOM = "ROOM";
+	static final String TARGET_CATEGORY = "CATEGORY";
+	static final String TARGET_BRANCH = "BRANCH";
+
+	private final RoomViewRepository roomViewRepository;
+	private final ChangeBroadcaster changeBroadcaster;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private RoomFacetIndex facetIndex = new RoomFacetIndex();
+	private volatile boolean ready;
+
+	// rebuild 가 DB 를 읽는 동안 반영된 변경 (대상 -> 키, lock 으로 보호)
+	private boolean rebuilding;
+	private final Map<String, Set<String>> pendingKeys = new LinkedHashMap<>();
+
+	@Autowired
+	public RoomSearchIndex(RoomViewRepository roomViewRepository, StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.roomViewRepository = roomViewRepository;
+		this.changeBroadcaster = new ChangeBroadcaster(redisTemplate, REDIS_CHANNEL_ROOM_SEARCH);
+
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_ROOM_SEARCH));
+	}
+
+	/* 조건 검색 (offset 부터 limit 개), 인덱스가 아직 준비되지 않았으면 empty */
+	public Optional<RoomFacetIndex.SearchResult> search(RoomSearchCriteria criteria, int offset, int limit) {
+		if (!ready) {
+			return Optional.empty();
+		}
+
+		lock.readLock().lock();
+		try {
+			return Optional.of(facetIndex.search(criteria, offset, limit));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/* 객실 수정/삭제 알림 (트랜잭션 커밋 이후 반영 및 다른 서버에 전파) */
+	public void notifyRoomsChanged(Collection<String> roomCodePkList) {
+		notifyChanged(TARGET_ROOM, roomCodePkList.stream().toList());
+	}
+
+	/* 객실 카테고리(이름, 가격, 인원, 등급 등) 수정 알림 */
+	public void notifyRoomCategoryChanged(Integer roomCategoryCodePk) {
+		notifyChanged(TARGET_CATEGORY, List.of(String.valueOf(roomCategoryCodePk)));
+	}
+
+	/* 지점(지점명) 수정/삭제 알림 */
+	public void notifyBranchChanged(String branchCodePk) {
+		notifyChanged(TARGET_BRANCH, List.of(branchCodePk));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/* 놓친 변경 알림이 있더라도 맞춰지도록 매일 새로 만든다
+	 * DB 를 읽는 동안에는 lock 을 잡지 않으므로, 그 사이 refresh 된 대상은 새 인덱스로 바꾼 뒤 다시 읽어 반영한다. */
+	@Scheduled(cron = "0 30 4 * * *")
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			rebuilding = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		try {
+			RoomFacetIndex newFacetIndex = new RoomFacetIndex();
+			roomViewRepository.findAll(Sort.by("roomCodePk")).forEach(newFacetIndex::put);
+
+			lock.writeLock().lock();
+			try {
+				facetIndex = newFacetIndex;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			ready = true;
+
+			log.info("객실 검색 인덱스 생성 완료: 객실 {}개", newFacetIndex.size());
+		} catch (RuntimeException e) {
+			log.error("객실 검색 인덱스 생성 실패: {}", e.getMessage(), e);
+		}
+
+		// 실패한 경우에도 기존 인덱스에는 이미 반영되어 있으므로 다시 읽어도 결과는 같다
+		Map<String, List<String>> replayKeys = new LinkedHashMap<>();
+		lock.writeLock().lock();
+		try {
+			rebuilding = false;
+			pendingKeys.forEach((target, keys) -> replayKeys.put(target, List.copyOf(keys)));
+			pendingKeys.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		replayKeys.forEach((target, keys) -> {
+			try {
+				refresh(target, keys);
+			} catch (RuntimeException e) {
+				log.warn("객실 검색 인덱스 생성 중 변경 재반영 실패 [{}:{}]: {}", target, keys, e.getMessage());
+			}
+		});
+	}
+
+	/* 대상(객실코드/카테고리코드/지점코드)에 속한 객실을 DB 에서 다시 읽어 반영, DB 에 없는 객실은 인덱스에서 뺀다 */
+	public void refresh(String target, List<String> keys) {
+		List<RoomViewEntity> roomViewList;
+		Function<RoomFacetIndex, Collection<String>> indexedRoomCodes;
+		switch (target) {
+			case TARGET_ROOM -> {
+				roomViewList = roomViewRepository.findAllById(keys);
+				indexedRoomCodes = index -> keys;
+			}
+			case TARGET_CATEGORY -> {
+				List<Integer> categoryCodes = keys.stream().map(Integer::valueOf).toList();
+				roomViewList = roomViewRepository.findAllByRoomCategoryCodeFkIn(categoryCodes);
+				indexedRoomCodes = index -> categoryCodes.stream()
+					.flatMap(categoryCode -> index.findRoomCodesByCategory(categoryCode).stream())
+					.toList();
+			}
+			case TARGET_BRANCH -> {
+				roomViewList = roomViewRepository.findAllByBranchCodeFkIn(keys);
+				indexedRoomCodes = index -> keys.stream()
+					.flatMap(branchCode -> index.findRoomCodesByBranch(branchCode).stream())
+					.toList();
+			}
+			default -> throw new IllegalArgumentException("알 수 없는 객실 검색 인덱스 대상입니다: " + target);
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (rebuilding) {
+				pendingKeys.computeIfAbsent(target, key -> new HashSet<>()).addAll(keys);
+			}
+
+			Set<String> removedRoomCodes = new HashSet<>(indexedRoomCodes.apply(facetIndex));
+			for (RoomViewEntity roomView : roomViewList) {
+				removedRoomCodes.remove(roomView.getRoomCodePk());
+				facetIndex.put(roomView);
+			}
+			removedRoomCodes.forEach(facetIndex::remove);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/* 다른 서버에서 보낸 변경 알림 수신 (nodeId:대상:키1,키2) */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String payload = changeBroadcaster.remotePayload(message).orElse(null);
+		String[] parts = payload == null ? new String[0] : payload.split(MESSAGE_DELIMITER, 2);
+		if (parts.length < 2) {
+			return;
+		}
+
+		try {
+			refresh(parts[0], Arrays.asList(parts[1].split(KEY_DELIMITER)));
+		} catch (RuntimeException e) {
+			log.warn("객실 검색 인덱스 변경 알림 처리 실패 [{}]: {}", payload, e.getMessage());
+		}
+	}
+
+	private void notifyChanged(String target, List<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		changeBroadcaster.afterCommit(() -> {
+			try {
+				refresh(target, keys);
+			} catch (RuntimeException e) {
+				// 다음 변경 알림이나 매일 새로 만들 때 맞춰진다
+				log.warn("객실 검색 인덱스 반영 실패 [{}:{}]: {}", target, keys, e.getMessage());
+			}
+		}, target + MESSAGE_DELIMITER + String.join(KEY_DELIMITER, keys));
+	}
+}
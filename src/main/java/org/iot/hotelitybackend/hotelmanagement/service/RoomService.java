@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyRoom;
@@ -13,6 +14,8 @@ public interface RoomService {
 
 	Map<String, Object> selectSearchedRoomsList(RoomSearchCriteria criteria);
 
+	Stream<RoomDTO> streamSearchedRoomsList(RoomSearchCriteria criteria);
+
 	Map<String, Object> modifyRoomInfo(RequestModifyRoom requestModifyRoom, String roomCodePk);
 
 	Map<String, Object> deleteRoom(String roomCodePk);
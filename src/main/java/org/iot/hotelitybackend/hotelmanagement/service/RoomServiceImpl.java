@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -26,145 +27,145 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomCategoryEntity;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomEntity;
-import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomSpecification;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewSpecification;
 import org.iot.hotelitybackend.hotelmanagement.dto.BranchDTO;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomCategoryDTO;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomImageDTO;
 import org.iot.hotelitybackend.hotelmanagement.dto.SelectRoomDTO;
-import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomCategoryRepository;
 import org.iot.hotelitybackend.hotelmanagement.repository.RoomImageRepository;
 import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
 import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyRoom;
 import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.iot.hotelitybackend.hotelservice.service.RoomAvailabilityIndex;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class RoomServiceImpl implements RoomService {
 
+	// 커서 조회(다운로드)에서 드라이버가 한 번에 받아오는 행 수
+	private static final int LIST_FETCH_SIZE = 1000;
+
 	private final RoomRepository roomRepository;
-	private final RoomCategoryRepository roomCategoryRepository;
-	private final BranchRepository branchRepository;
+	private final RoomViewRepository roomViewRepository;
 	private final ModelMapper mapper;
 	private final RoomImageRepository roomImageRepository;
+	private final RoomAvailabilityIndex roomAvailabilityIndex;
+	private final RoomSearchIndex roomSearchIndex;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
-	public RoomServiceImpl(RoomRepository roomRepository, RoomCategoryRepository roomCategoryRepository, BranchRepository branchRepository, ModelMapper mapper,
-		RoomImageRepository roomImageRepository) {
+	public RoomServiceImpl(RoomRepository roomRepository, RoomViewRepository roomViewRepository, ModelMapper mapper,
+		RoomImageRepository roomImageRepository, RoomAvailabilityIndex roomAvailabilityIndex,
+		RoomSearchIndex roomSearchIndex, PageQueryExecutor pageQueryExecutor, ApplicationEventPublisher eventPublisher) {
 		this.roomRepository = roomRepository;
-		this.roomCategoryRepository = roomCategoryRepository;
-		this.branchRepository = branchRepository;
+		this.roomViewRepository = roomViewRepository;
 		this.mapper = mapper;
 		this.roomImageRepository = roomImageRepository;
+		this.roomAvailabilityIndex = roomAvailabilityIndex;
+		this.roomSearchIndex = roomSearchIndex;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.eventPublisher = eventPublisher;
 		this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-		this.mapper.typeMap(RoomEntity.class, RoomDTO.class)
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomName(),
-				RoomDTO::setRoomName
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomSubRoomsCount(),
-				RoomDTO::setRoomSubRoomsCount
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomPrice(),
-				RoomDTO::setRoomPrice
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomCapacity(),
-				RoomDTO::setRoomCapacity
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomBathroomCount(),
-				RoomDTO::setRoomBathroomCount
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomSpecificInfo(),
-				RoomDTO::setRoomSpecificInfo
-			))
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getRoomLevelName(),
-				RoomDTO::setRoomLevelName
-			));
 	}
 
+	/* 메모리 객실 검색 인덱스에서 조건 검색/정렬/패싯별 건수를 처리하고,
+	 * 인덱스가 준비되기 전(서버 시작 직후)에는 객실 조회용 뷰를 DB 에서 조회한다. */
 	@Override
 	public Map<String, Object> selectSearchedRoomsList(RoomSearchCriteria criteria) {
 
-		Specification<RoomEntity> spec = buildSpecifications(criteria);
-
 		Map<String, Object> roomListInfo = new HashMap<>();
 
-		// 2. 위에서 구성한 Specification 을 적용하여 findAll
+		// 1. 메모리 인덱스 검색 (페이징 처리 안할 때는 전체)
+		Pageable pageable = criteria.getPageNum() == null
+			? Pageable.unpaged()
+			: PageRequest.of(criteria.getPageNum(), PAGE_SIZE);
+		int offset = pageable.isPaged() ? (int)pageable.getOffset() : 0;
+		int limit = pageable.isPaged() ? PAGE_SIZE : Integer.MAX_VALUE;
+		Optional<RoomFacetIndex.SearchResult> searchResult = roomSearchIndex.search(criteria, offset, limit);
+		if (searchResult.isPresent()) {
+			List<RoomDTO> roomDTOList = searchResult.get().content();
+			if (pageable.isPaged()) {
+				int totalCount = searchResult.get().totalCount();
+				Slice<RoomDTO> roomPage = Boolean.TRUE.equals(criteria.getHasNextOnly())
+					? new SliceImpl<>(roomDTOList, pageable, offset + roomDTOList.size() < totalCount)
+					: new PageImpl<>(roomDTOList, pageable, totalCount);
+				roomListInfo.putAll(PageQueryExecutor.toPageInfo(roomPage));
+			}
+			roomListInfo.put(KEY_CONTENT, roomDTOList);
+			roomListInfo.put(KEY_FACETS, searchResult.get().facetCounts());
+			return roomListInfo;
+		}
+
+		// 2. 인덱스가 준비되기 전에는 Specification 을 구성하여 DB 조회
+		Specification<RoomViewEntity> spec = buildSpecifications(criteria);
+
 		List<RoomDTO> roomDTOList;
 
 		// 2-1. 페이징처리 할 때
-		if (criteria.getPageNum() != null) {
-			Pageable pageable;
-
-			if (criteria.getOrderBy() != null && !criteria.getOrderBy().isEmpty() && criteria.getSortBy() != null) {
-				pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE, criteria.getSortBy() == 1
-					? Sort.by(criteria.getOrderBy()).ascending()
-					: Sort.by(criteria.getOrderBy()).descending());
-			} else {
-				pageable = PageRequest.of(criteria.getPageNum(), PAGE_SIZE);
-			}
-			Page<RoomEntity> roomEntityList = roomRepository.findAll(spec, pageable);
-
-			roomDTOList = roomEntityList
-				.stream()
-				.map(roomEntity -> mapper.map(roomEntity, RoomDTO.class))
-				.peek(roomDTO -> {
-					RoomCategoryEntity foundRoomCategoryEntity = roomCategoryRepository.findById(roomDTO.getRoomCategoryCodeFk()).orElseThrow(IllegalArgumentException::new);
-					roomDTO.setRoomName(foundRoomCategoryEntity.getRoomName());
-					roomDTO.setRoomSubRoomsCount(foundRoomCategoryEntity.getRoomSubRoomsCount());
-					roomDTO.setBranchName(branchRepository.findById(roomDTO.getBranchCodeFk()).orElseThrow(IllegalArgumentException::new).getBranchName());
-				})
-				.toList();
-
-			int totalPagesCount = roomEntityList.getTotalPages();
-			int currentPageIndex = roomEntityList.getNumber();
-			roomListInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-			roomListInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+		if (pageable.isPaged()) {
+			Slice<RoomViewEntity> roomViewPage = pageQueryExecutor.findPage(RoomViewEntity.class, spec,
+				PageRequest.of(criteria.getPageNum(), PAGE_SIZE, buildSort(criteria)), criteria.getHasNextOnly(), criteria);
+
+			roomDTOList = toRoomDTOList(roomViewPage.getContent());
+
+			roomListInfo.putAll(PageQueryExecutor.toPageInfo(roomViewPage));
 
 		// 2-2. 페이징 처리 안할 때
 		} else {
-			List<RoomEntity> roomEntityList;
-			if (criteria.getOrderBy() != null && !criteria.getOrderBy().isEmpty() && criteria.getSortBy() != null) {
-				roomEntityList = roomRepository.findAll(
-					spec, criteria.getSortBy() == 1 ?
-						Sort.by(criteria.getOrderBy()).descending() : Sort.by(criteria.getOrderBy()).ascending());
-			} else {
-				roomEntityList = roomRepository.findAll(spec);
-			}
-
-			roomDTOList = setDTOList(roomEntityList);
+			roomDTOList = toRoomDTOList(roomViewRepository.findAll(spec, buildSort(criteria)));
 		}
 
 		roomListInfo.put(KEY_CONTENT, roomDTOList);
+		// 응답 형식을 인덱스 검색과 같게 유지 (DB 조회에서는 패싯 건수를 세지 않는다)
+		roomListInfo.put(KEY_FACETS, Map.of());
 
 		return roomListInfo;
 	}
 
-	private Specification<RoomEntity> buildSpecifications(RoomSearchCriteria criteria) {
-		Specification<RoomEntity> spec = Specification.where(null);
+	/* 다중 조건 검색을 적용한 객실 커서 조회 (CSV/엑셀 다운로드)
+	 * 호출 측 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 한다. */
+	@Override
+	public Stream<RoomDTO> streamSearchedRoomsList(RoomSearchCriteria criteria) {
+		return pageQueryExecutor.stream(
+			RoomViewEntity.class, buildSpecifications(criteria), buildSort(criteria), LIST_FETCH_SIZE, this::toRoomDTO);
+	}
+
+	// 정렬 기준이 없으면 객실 코드 순, 같은 값끼리는 객실 코드 순으로 고정해 페이지 사이 순서를 유지한다
+	// (sortBy 1: 오름차순, 그 외: 내림차순)
+	private static Sort buildSort(RoomSearchCriteria criteria) {
+		String orderBy = criteria.getOrderBy();
+		if (orderBy == null || orderBy.isEmpty() || criteria.getSortBy() == null) {
+			return Sort.by("roomCodePk");
+		}
+		Sort sort = criteria.getSortBy() == 1 ? Sort.by(orderBy).ascending() : Sort.by(orderBy).descending();
+		return "roomCodePk".equals(orderBy) ? sort : sort.and(Sort.by("roomCodePk"));
+	}
+
+	private Specification<RoomViewEntity> buildSpecifications(RoomSearchCriteria criteria) {
+		Specification<RoomViewEntity> spec = Specification.where(null);
 
 		Integer pageNum = criteria.getPageNum();
 		String roomCodePk = criteria.getRoomCodePk();
@@ -185,87 +186,72 @@ public class RoomServiceImpl implements RoomService {
 
 		// 1-1. 객실코드(PK) 기준으로 검색 (like)
 		if (roomCodePk != null) {
-			spec = spec.and(RoomSpecification.likeRoomCodePk(roomCodePk));
+			spec = spec.and(RoomViewSpecification.likeRoomCodePk(roomCodePk));
 		}
 
 		// 1-2. 지점별 객실 기준으로 필터링
 		if (branchCodeFk != null) {
-			spec = spec.and(RoomSpecification.equalsBranchCodeFk(branchCodeFk));
+			spec = spec.and(RoomViewSpecification.equalsBranchCodeFk(branchCodeFk));
 		}
 
 		// 1-3. 객실호수(번호) 기준으로 검색
 		if (roomNumber != null) {
-			spec = spec.and(RoomSpecification.equalsRoomNumber(roomNumber));
+			spec = spec.and(RoomViewSpecification.equalsRoomNumber(roomNumber));
 		}
 
-		// 1-4. 객실 카테고리 기준 객실 필터링
-		Integer roomCategoryCodeFk = null;
+		// 1-4. 객실 카테고리(객실명) 기준 객실 필터링
 		if (roomName != null) {
-
-			// roomName 에 해당하는 roomCategoryCodeFk 찾기
-			RoomCategoryEntity roomCategoryEntity = roomCategoryRepository.findByRoomName(roomName);
-			if (roomCategoryEntity != null) {
-				roomCategoryCodeFk = roomCategoryEntity.getRoomCategoryCodePk();
-				spec = spec.and(RoomSpecification.equalsRoomCategoryCodeFk(roomCategoryCodeFk));
-			}
+			spec = spec.and(RoomViewSpecification.equalsRoomName(roomName));
 		}
 
 		// 1-5. 객실 현재 상태 기준 객실 필터링
 		// roomCurrentStatus가 비어있지 않은 경우 Specification 추가
 		if (roomCurrentStatus != null) {
-			spec = spec.and(RoomSpecification.equalsRoomCurrentStatus(roomCurrentStatus));
+			spec = spec.and(RoomViewSpecification.equalsRoomCurrentStatus(roomCurrentStatus));
 		}
 
 		// 1-6. 객실 할인율 기준 필터링
 		if (roomDiscountRate != null) {
-			spec = spec.and(RoomSpecification.equalsRoomDiscountRate(roomDiscountRate));
+			spec = spec.and(RoomViewSpecification.equalsRoomDiscountRate(roomDiscountRate));
 		}
 
 		// 1-7. 객실 뷰 기준 필터링 (like)
 		if (roomView != null) {
-			spec = spec.and(RoomSpecification.likeRoomView(roomView));
+			spec = spec.and(RoomViewSpecification.likeRoomView(roomView));
 		}
 
 		// 1-8. 방 개수별 객실 필터링
-		// roomSubRoomsCount가 null이 아닌 경우 Specification 추가
 		if (roomSubRoomsCount != null) {
-			List<RoomCategoryEntity> roomCategoryEntityList =
-				roomCategoryRepository.findAllByRoomSubRoomsCount(roomSubRoomsCount);
-			List<Specification<RoomEntity>> specs = roomCategoryEntityList.stream()
-				.map(roomCategoryEntity -> RoomSpecification.equalsRoomCategoryCodeFk(roomCategoryEntity.getRoomCategoryCodePk()))
-				.collect(Collectors.toList());
-			spec = spec.and(buildOrPredicate(specs));
+			spec = spec.and(RoomViewSpecification.equalsRoomSubRoomsCount(roomSubRoomsCount));
 		}
 
 		// 1-9. 객실 가격별 객실 필터링
 		if (minPrice != null && maxPrice != null) {
-			spec = spec.and(RoomSpecification.isRoomPriceBetween(minPrice, maxPrice));
+			spec = spec.and(RoomViewSpecification.isRoomPriceBetween(minPrice, maxPrice));
+		}
+
+		// 1-10. 객실 등급별 객실 필터링
+		if (roomLevelName != null) {
+			spec = spec.and(RoomViewSpecification.equalsRoomLevelName(roomLevelName));
+		}
+
+		// 1-11. 수용 인원별 객실 필터링
+		if (roomCapacity != null) {
+			spec = spec.and(RoomViewSpecification.equalsRoomCapacity(roomCapacity));
 		}
 
 		return spec;
 	}
 
-	// Helper method to build OR predicate
-	private Specification<RoomEntity> buildOrPredicate(List<Specification<RoomEntity>> specs) {
-		return (root, query, criteriaBuilder) -> {
-			Predicate[] predicates = specs.stream()
-				.map(spec -> spec.toPredicate(root, query, criteriaBuilder))
-				.toArray(Predicate[]::new);
-			return criteriaBuilder.or(predicates);
-		};
+	private List<RoomDTO> toRoomDTOList(List<RoomViewEntity> roomViewList) {
+		return roomViewList
+			.stream()
+			.map(this::toRoomDTO)
+			.collect(Collectors.toList());
 	}
 
-	private List<RoomDTO> setDTOList(List<RoomEntity> roomEntityList) {
-		return roomEntityList
-			.stream()
-			.map(roomEntity -> mapper.map(roomEntity, RoomDTO.class))
-			.peek(roomDTO -> {
-				RoomCategoryEntity foundRoomCategoryEntity = roomCategoryRepository.findById(roomDTO.getRoomCategoryCodeFk()).orElseThrow(IllegalArgumentException::new);
-				roomDTO.setRoomName(foundRoomCategoryEntity.getRoomName());
-				roomDTO.setRoomSubRoomsCount(foundRoomCategoryEntity.getRoomSubRoomsCount());
-				roomDTO.setBranchName(branchRepository.findById(roomDTO.getBranchCodeFk()).orElseThrow(IllegalArgumentException::new).getBranchName());
-			})
-			.toList();
+	private RoomDTO toRoomDTO(RoomViewEntity roomView) {
+		return mapper.map(roomView, RoomDTO.class);
 	}
 
 	@Transactional
@@ -282,8 +268,13 @@ public class RoomServiceImpl implements RoomService {
 			.roomView(requestModifyRoom.getRoomView())
 			.build();
 
+		// 변경 내용을 반영한 뒤 카테고리/등급/지점명이 포함된 객실 조회용 뷰로 다시 읽는다
+		roomRepository.saveAndFlush(roomEntity);
+
 		Map<String, Object> modifiedRoomInfo = new HashMap<>();
-		modifiedRoomInfo.put(KEY_CONTENT, mapper.map(roomRepository.save(roomEntity), RoomDTO.class));
+		modifiedRoomInfo.put(KEY_CONTENT, roomViewRepository.findById(roomCodePk).map(this::toRoomDTO).orElse(null));
+		roomAvailabilityIndex.notifyRoomsChanged(List.of(roomCodePk));
+		roomSearchIndex.notifyRoomsChanged(List.of(roomCodePk));
 		return modifiedRoomInfo;
 	}
 
@@ -294,6 +285,9 @@ public class RoomServiceImpl implements RoomService {
 		Map<String, Object> deleteRoom = new HashMap<>();
 		try {
 			roomRepository.deleteById(roomCodePk);
+			roomAvailabilityIndex.notifyRoomsChanged(List.of(roomCodePk));
+			roomSearchIndex.notifyRoomsChanged(List.of(roomCodePk));
+			eventPublisher.publishEvent(TotalCountChangedEvent.of(RoomViewEntity.class));
 			deleteRoom.put(KEY_CONTENT, "Content deleted successfully.");
 		} catch (Exception e) {
 			deleteRoom.put(KEY_CONTENT, "Failed to delete content.");
@@ -304,9 +298,9 @@ public class RoomServiceImpl implements RoomService {
 	@Override
 	public Map<String, Object> selectRoomInfo(String roomCodePk) {
 		Map<String, Object> roomInfo = new HashMap<>();
-		Optional<RoomEntity> roomEntity = roomRepository.findById(roomCodePk);
-		if (roomEntity.isPresent()) {
-			SelectRoomDTO selectRoomDTO = mapper.map(roomEntity.get(), SelectRoomDTO.class);
+		Optional<RoomViewEntity> roomView = roomViewRepository.findById(roomCodePk);
+		if (roomView.isPresent()) {
+			SelectRoomDTO selectRoomDTO = mapper.map(roomView.get(), SelectRoomDTO.class);
 			selectRoomDTO.setRoomImageDTOList(
 				roomImageRepository.findAllByRoomCodeFk(roomCodePk)
 					.stream()
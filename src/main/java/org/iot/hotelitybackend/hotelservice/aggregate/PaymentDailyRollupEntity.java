@@ -0,0 +1,37 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 결제 일별 집계 (일자, 지점, 결제 종류, 취소 여부별 건수와 금액 합계)
+ * payment_log_tb 트리거로 증분 반영되며, 애플리케이션에서는 조회와 재집계만 한다. */
+@Entity
+@Table(name = "payment_daily_rollup")
+@IdClass(PaymentDailyRollupId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PaymentDailyRollupEntity {
+
+	@Id
+	private LocalDate rollupDate;
+
+	// 예약이 없는 결제는 ''
+	@Id
+	private String branchCodeFk;
+
+	@Id
+	private Integer paymentTypeCodeFk;
+
+	@Id
+	private Integer paymentCancelStatus;
+
+	private Long paymentCount;
+	private Long paymentAmountSum;
+}
@@ -0,0 +1,21 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 결제 일별 집계 복합 키 */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class PaymentDailyRollupId implements Serializable {
+	private LocalDate rollupDate;
+	private String branchCodeFk;
+	private Integer paymentTypeCodeFk;
+	private Integer paymentCancelStatus;
+}
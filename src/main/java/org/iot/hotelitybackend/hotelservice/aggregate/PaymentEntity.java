@@ -53,11 +53,12 @@ public class PaymentEntity {
         this.paymentCancelStatus = paymentCancelStatus;
     }
 
-    @ManyToOne
+    // 조회 조건(고객 이름, 결제 종류 이름) 조인용. 목록 조회마다 고객/결제 종류를 따로 읽지 않도록 LAZY
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "payment_type_code_fk", insertable = false, updatable = false)
     private PaymentTypeEntity paymentType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_code_fk", insertable = false, updatable = false)
     private CustomerEntity customer;
 
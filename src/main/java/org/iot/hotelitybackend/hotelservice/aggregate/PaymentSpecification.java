@@ -1,8 +1,9 @@
 package org.iot.hotelitybackend.hotelservice.aggregate;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -53,8 +54,7 @@ public class PaymentSpecification {
 
 	// 결제 일자
 	public static Specification<PaymentEntity> equalsPaymentDate(LocalDateTime paymentDate) {
-		LocalDate date = paymentDate.toLocalDate();
-		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("paymentDate").as(LocalDate.class), date);
+		return TemporalSpecification.onLegacyDate("paymentDate", paymentDate);
 	}
 
 	// 결제 취소 여부
@@ -66,4 +66,8 @@ public class PaymentSpecification {
 	public static Specification<PaymentEntity> equalsPaymentCodePk(Integer paymentCodePk) {
 		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("paymentCodePk"), paymentCodePk);
 	}
+
+	public static Specification<PaymentEntity> inPaymentCodePk(Collection<Integer> paymentCodePkList) {
+		return (root, query, criteriaBuilder) -> root.get("paymentCodePk").in(paymentCodePkList);
+	}
 }
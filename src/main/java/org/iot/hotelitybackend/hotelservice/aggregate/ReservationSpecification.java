@@ -1,8 +1,8 @@
 package org.iot.hotelitybackend.hotelservice.aggregate;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomCategoryEntity;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomEntity;
@@ -13,14 +13,9 @@ import jakarta.persistence.criteria.Join;
 
 public class ReservationSpecification {
 
-	// 특정 월의 예약 건만 찾는 조건
-	public static Specification<ReservationEntity> betweenDate(LocalDateTime startOfMonth, LocalDateTime endOfMonth) {
-
-		LocalDate start = startOfMonth.toLocalDate();
-		LocalDate end = endOfMonth.toLocalDate();
-
-		return (root, query, criteriaBuilder) ->
-			criteriaBuilder.between(root.get("reservationCheckinDate").as(LocalDate.class), start, end);
+	// 특정 기간의 예약 건만 찾는 조건 [start, end)
+	public static Specification<ReservationEntity> betweenDate(LocalDateTime start, LocalDateTime end) {
+		return TemporalSpecification.halfOpen("reservationCheckinDate", start, end);
 	}
 
 	// 예약코드
@@ -109,24 +104,17 @@ public class ReservationSpecification {
 
 	// 예약일자
 	public static Specification<ReservationEntity> equalsReservationDate(LocalDateTime reservationDate) {
-		LocalDate date = reservationDate.toLocalDate();
-		return (root, query, criteriaBuilder) ->
-			criteriaBuilder.equal(root.get("reservationDate").as(LocalDate.class), date);
+		return TemporalSpecification.onDate("reservationDate", reservationDate);
 	}
 
 	// 체크인일자
 	public static Specification<ReservationEntity> equalsCheckinDate(LocalDateTime reservationCheckinDate) {
-		LocalDate date = reservationCheckinDate.toLocalDate();
-
-		return (root, query, criteriaBuilder) ->
-			criteriaBuilder.equal(root.get("reservationCheckinDate").as(LocalDate.class), date);
+		return TemporalSpecification.onDate("reservationCheckinDate", reservationCheckinDate);
 	}
 
 	// 체크아웃일자
 	public static Specification<ReservationEntity> equalsCheckoutDate(LocalDateTime reservationCheckoutDate) {
-		LocalDate date = reservationCheckoutDate.toLocalDate();
-
-		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("reservationCheckoutDate").as(LocalDate.class), date);
+		return TemporalSpecification.onDate("reservationCheckoutDate", reservationCheckoutDate);
 	}
 
 	// 예약취소여부
@@ -0,0 +1,100 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 예약 조회 전용 엔티티 (읽기 전용)
+ * 고객명, 객실 정보, 지점명, 투숙 여부, 숙박 일수를 한 번의 조인 쿼리로 가져온다.
+ * 예약 1건마다 고객/객실/지점/투숙 테이블을 따로 조회하던 N+1 문제를 없애기 위해 사용 */
+@Entity
+@Immutable
+@Subselect(
+	"SELECT "
+		+ "r.reservation_code_pk AS reservation_code_pk, "
+		+ "r.customer_code_fk AS customer_code_fk, "
+		+ "c.customer_name AS customer_name, "
+		+ "c.customer_english_name AS customer_english_name, "
+		+ "r.room_code_fk AS room_code_fk, "
+		+ "rm.room_number AS room_number, "
+		+ "rc.room_name AS room_name, "
+		+ "rl.room_level_name AS room_level_name, "
+		+ "rc.room_capacity AS room_capacity, "
+		+ "r.branch_code_fk AS branch_code_fk, "
+		+ "b.branch_name AS branch_name, "
+		+ "r.reservation_date AS reservation_date, "
+		+ "r.reservation_checkin_date AS reservation_checkin_date, "
+		+ "r.reservation_checkout_date AS reservation_checkout_date, "
+		+ "r.reservation_cancel_status AS reservation_cancel_status, "
+		+ "r.reservation_personnel AS reservation_personnel, "
+		+ "CASE WHEN EXISTS ("
+		+ "SELECT 1 FROM stay_tb s WHERE s.reservation_code_fk = r.reservation_code_pk"
+		+ ") THEN 1 ELSE 0 END AS stay_status, "
+		+ "CONCAT(DATEDIFF(r.reservation_checkout_date, r.reservation_checkin_date), '박') AS stay_period "
+		+ "FROM reservation_tb r "
+		+ "LEFT JOIN customer_tb c ON c.customer_code_pk = r.customer_code_fk "
+		+ "LEFT JOIN room_tb rm ON rm.room_code_pk = r.room_code_fk "
+		+ "LEFT JOIN room_category_tb rc ON rc.room_category_code_pk = rm.room_category_code_fk "
+		+ "LEFT JOIN room_level_tb rl ON rl.room_level_code_pk = rc.room_level_code_fk "
+		+ "LEFT JOIN branch_tb b ON b.branch_code_pk = r.branch_code_fk"
+)
+@Synchronize({"reservation_tb", "customer_tb", "room_tb", "room_category_tb", "room_level_tb", "branch_tb", "stay_tb"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ReservationViewEntity {
+
+	@Id
+	private Integer reservationCodePk;
+	private Integer customerCodeFk;
+	private String customerName;
+	private String customerEnglishName;
+	private String roomCodeFk;
+	private Integer roomNumber;
+	private String roomName;
+	private String roomLevelName;
+	private Integer roomCapacity;
+	private String branchCodeFk;
+	private String branchName;
+	private LocalDateTime reservationDate;
+	private LocalDateTime reservationCheckinDate;
+	private LocalDateTime reservationCheckoutDate;
+	private Integer reservationCancelStatus;
+	private Integer reservationPersonnel;
+	private Integer stayStatus;
+	private String stayPeriod;
+
+	@Builder
+	public ReservationViewEntity(Integer reservationCodePk, Integer customerCodeFk, String customerName,
+		String customerEnglishName, String roomCodeFk, Integer roomNumber, String roomName, String roomLevelName,
+		Integer roomCapacity, String branchCodeFk, String branchName, LocalDateTime reservationDate,
+		LocalDateTime reservationCheckinDate, LocalDateTime reservationCheckoutDate, Integer reservationCancelStatus,
+		Integer reservationPersonnel, Integer stayStatus, String stayPeriod) {
+		this.reservationCodePk = reservationCodePk;
+		this.customerCodeFk = customerCodeFk;
+		this.customerName = customerName;
+		this.customerEnglishName = customerEnglishName;
+		this.roomCodeFk = roomCodeFk;
+		this.roomNumber = roomNumber;
+		this.roomName = roomName;
+		this.roomLevelName = roomLevelName;
+		this.roomCapacity = roomCapacity;
+		this.branchCodeFk = branchCodeFk;
+		this.branchName = branchName;
+		this.reservationDate = reservationDate;
+		this.reservationCheckinDate = reservationCheckinDate;
+		this.reservationCheckoutDate = reservationCheckoutDate;
+		this.reservationCancelStatus = reservationCancelStatus;
+		this.reservationPersonnel = reservationPersonnel;
+		this.stayStatus = stayStatus;
+		this.stayPeriod = stayPeriod;
+	}
+}
@@ -0,0 +1,86 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.time.LocalDateTime;
+
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+/* ReservationViewEntity 는 조인된 컬럼을 모두 갖고 있으므로 별도의 join 없이 바로 조건을 건다 */
+public class ReservationViewSpecification {
+
+	// 특정 기간의 예약 건만 찾는 조건 [start, end)
+	public static Specification<ReservationViewEntity> betweenDate(LocalDateTime start, LocalDateTime end) {
+		return TemporalSpecification.halfOpen("reservationCheckinDate", start, end);
+	}
+
+	// 예약코드
+	public static Specification<ReservationViewEntity> equalsReservationCodePk(Integer reservationCodePk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("reservationCodePk"), reservationCodePk);
+	}
+
+	// 고객코드
+	public static Specification<ReservationViewEntity> equalsCustomerCodeFk(Integer customerCodeFk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerCodeFk"), customerCodeFk);
+	}
+
+	// 한글이름
+	public static Specification<ReservationViewEntity> likeCustomerName(String customerName) {
+		String pattern = "%" + customerName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("customerName"), pattern);
+	}
+
+	// 영어이름
+	public static Specification<ReservationViewEntity> likeCustomerEnglishName(String customerEnglishName) {
+		String pattern = "%" + customerEnglishName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("customerEnglishName"), pattern);
+	}
+
+	// 객실 코드
+	public static Specification<ReservationViewEntity> likeRoomCodeFk(String roomCodeFk) {
+		String pattern = "%" + roomCodeFk + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("roomCodeFk"), pattern);
+	}
+
+	// 객실명
+	public static Specification<ReservationViewEntity> likeRoomName(String roomName) {
+		String pattern = "%" + roomName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("roomName"), pattern);
+	}
+
+	// 객실등급명
+	public static Specification<ReservationViewEntity> likeRoomLevelName(String roomLevelName) {
+		String pattern = "%" + roomLevelName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("roomLevelName"), pattern);
+	}
+
+	// 객실수용인원
+	public static Specification<ReservationViewEntity> equalsRoomCapacity(Integer roomCapacity) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("roomCapacity"), roomCapacity);
+	}
+
+	// 지점코드
+	public static Specification<ReservationViewEntity> equalsBranchCodeFk(String branchCodeFk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("branchCodeFk"), branchCodeFk);
+	}
+
+	// 예약일자
+	public static Specification<ReservationViewEntity> equalsReservationDate(LocalDateTime reservationDate) {
+		return TemporalSpecification.onDate("reservationDate", reservationDate);
+	}
+
+	// 체크인일자
+	public static Specification<ReservationViewEntity> equalsCheckinDate(LocalDateTime reservationCheckinDate) {
+		return TemporalSpecification.onDate("reservationCheckinDate", reservationCheckinDate);
+	}
+
+	// 체크아웃일자
+	public static Specification<ReservationViewEntity> equalsCheckoutDate(LocalDateTime reservationCheckoutDate) {
+		return TemporalSpecification.onDate("reservationCheckoutDate", reservationCheckoutDate);
+	}
+
+	// 예약취소여부
+	public static Specification<ReservationViewEntity> equalsReservationCancelStatus(Integer reservationCancelStatus) {
+		return (root, query, criteriaBuilder) ->
+			criteriaBuilder.equal(root.get("reservationCancelStatus"), reservationCancelStatus);
+	}
+}
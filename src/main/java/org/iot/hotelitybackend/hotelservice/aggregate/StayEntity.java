@@ -13,7 +13,10 @@ import org.hibernate.annotations.Formula;
 import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 
 @Entity
-@Table(name = "stay_tb")
+@Table(
+	name = "stay_tb",
+	uniqueConstraints = @UniqueConstraint(name = "uk_stay_reservation_code_fk", columnNames = "reservation_code_fk")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class StayEntity {
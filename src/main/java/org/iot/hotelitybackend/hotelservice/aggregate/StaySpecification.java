@@ -1,8 +1,8 @@
 package org.iot.hotelitybackend.hotelservice.aggregate;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.iot.hotelitybackend.hotelmanagement.aggregate.BranchEntity;
@@ -115,30 +115,22 @@ public class StaySpecification {
 
 	// 체크인 날짜
 	public static Specification<StayEntity> equalsStayCheckinTime(LocalDateTime stayCheckinTime) {
-
-		LocalDate date = stayCheckinTime.toLocalDate();
-
-		return (root, query, CriteriaBuilder) ->
-			CriteriaBuilder.equal(root.get("stayCheckinTime").as(LocalDate.class), date);
+		return TemporalSpecification.onDate("stayCheckinTime", stayCheckinTime);
 	}
 
 	// 체크아웃 예정일 (예약 체크아웃 날짜)
 	public static Specification<StayEntity> equalsReservationCheckoutDate(LocalDateTime reservationCheckoutDate) {
 
-		LocalDate date = reservationCheckoutDate.toLocalDate();
-
-		return (root, query, CriteriaBuilder) -> {
+		return (root, query, criteriaBuilder) -> {
 			Join<StayEntity, ReservationEntity> reservationJoin = root.join("reservation");
 
-			return CriteriaBuilder.equal(reservationJoin.get("reservationCheckoutDate").as(LocalDate.class), date);
+			return TemporalSpecification.onDate(
+				criteriaBuilder, reservationJoin.<LocalDateTime>get("reservationCheckoutDate"), reservationCheckoutDate);
 		};
 	}
 
 	// 체크아웃 날짜
 	public static Specification<StayEntity> equalsStayCheckoutTime(LocalDateTime stayCheckoutTime) {
-
-		LocalDate date = stayCheckoutTime.toLocalDate();
-
 		return (root, query, CriteriaBuilder) -> CriteriaBuilder.equal(root.get("stayCheckoutTime"), stayCheckoutTime);
 	}
 
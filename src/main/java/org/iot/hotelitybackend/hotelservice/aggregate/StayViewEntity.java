@@ -0,0 +1,108 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 투숙 조회 전용 엔티티 (읽기 전용)
+ * 예약, 고객, 객실, 담당 직원 정보와 숙박 일수를 한 번의 조인 쿼리로 가져온다.
+ * 투숙 1건마다 예약/고객/객실/직원 테이블을 반복 조회하던 N+1 문제를 없애기 위해 사용
+ * 조건 없는 목록은 예전처럼 모든 투숙을 보여주도록 LEFT JOIN 으로 묶고,
+ * 객실코드/지점코드 조건은 예전 inner join 조건과 같게 실제 객실/지점 행의 PK(roomCodePk, branchCodePk)에 건다. */
+@Entity
+@Immutable
+@Subselect(
+	"SELECT "
+		+ "s.stay_code_pk AS stay_code_pk, "
+		+ "r.customer_code_fk AS customer_code_fk, "
+		+ "c.customer_name AS customer_name, "
+		+ "r.room_code_fk AS room_code_fk, "
+		+ "rm.room_code_pk AS room_code_pk, "
+		+ "rm.room_number AS room_number, "
+		+ "rc.room_name AS room_name, "
+		+ "rl.room_level_name AS room_level_name, "
+		+ "rc.room_capacity AS room_capacity, "
+		+ "s.stay_people_count AS stay_people_count, "
+		+ "s.stay_checkin_time AS stay_checkin_time, "
+		+ "s.stay_checkout_time AS stay_checkout_time, "
+		+ "r.reservation_checkout_date AS reservation_checkout_date, "
+		+ "s.employee_code_fk AS employee_code_fk, "
+		+ "e.employee_name AS employee_name, "
+		+ "r.branch_code_fk AS branch_code_fk, "
+		+ "b.branch_code_pk AS branch_code_pk, "
+		+ "s.reservation_code_fk AS reservation_code_fk, "
+		+ "CONCAT(DATEDIFF(r.reservation_checkout_date, r.reservation_checkin_date), '박') AS stay_period "
+		+ "FROM stay_tb s "
+		+ "LEFT JOIN reservation_tb r ON r.reservation_code_pk = s.reservation_code_fk "
+		+ "LEFT JOIN customer_tb c ON c.customer_code_pk = r.customer_code_fk "
+		+ "LEFT JOIN room_tb rm ON rm.room_code_pk = r.room_code_fk "
+		+ "LEFT JOIN room_category_tb rc ON rc.room_category_code_pk = rm.room_category_code_fk "
+		+ "LEFT JOIN room_level_tb rl ON rl.room_level_code_pk = rc.room_level_code_fk "
+		+ "LEFT JOIN branch_tb b ON b.branch_code_pk = r.branch_code_fk "
+		+ "LEFT JOIN employee_tb e ON e.employee_code_pk = s.employee_code_fk"
+)
+@Synchronize({"stay_tb", "reservation_tb", "customer_tb", "room_tb", "room_category_tb", "room_level_tb",
+	"branch_tb", "employee_tb"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StayViewEntity {
+
+	@Id
+	private Integer stayCodePk;
+	private Integer customerCodeFk;
+	private String customerName;
+	private String roomCodeFk;
+	// 예약이 가리키는 객실 행이 없으면 null
+	private String roomCodePk;
+	private Integer roomNumber;
+	private String roomName;
+	private String roomLevelName;
+	private Integer roomCapacity;
+	private Integer stayPeopleCount;
+	private LocalDateTime stayCheckinTime;
+	private LocalDateTime stayCheckoutTime;
+	private LocalDateTime reservationCheckoutDate;
+	private Integer employeeCodeFk;
+	private String employeeName;
+	private String branchCodeFk;
+	// 예약이 가리키는 지점 행이 없으면 null
+	private String branchCodePk;
+	private Integer reservationCodeFk;
+	private String stayPeriod;
+
+	@Builder
+	public StayViewEntity(Integer stayCodePk, Integer customerCodeFk, String customerName, String roomCodeFk,
+		String roomCodePk, Integer roomNumber, String roomName, String roomLevelName, Integer roomCapacity,
+		Integer stayPeopleCount, LocalDateTime stayCheckinTime, LocalDateTime stayCheckoutTime,
+		LocalDateTime reservationCheckoutDate, Integer employeeCodeFk, String employeeName, String branchCodeFk,
+		String branchCodePk, Integer reservationCodeFk, String stayPeriod) {
+		this.stayCodePk = stayCodePk;
+		this.customerCodeFk = customerCodeFk;
+		this.customerName = customerName;
+		this.roomCodeFk = roomCodeFk;
+		this.roomCodePk = roomCodePk;
+		this.roomNumber = roomNumber;
+		this.roomName = roomName;
+		this.roomLevelName = roomLevelName;
+		this.roomCapacity = roomCapacity;
+		this.stayPeopleCount = stayPeopleCount;
+		this.stayCheckinTime = stayCheckinTime;
+		this.stayCheckoutTime = stayCheckoutTime;
+		this.reservationCheckoutDate = reservationCheckoutDate;
+		this.employeeCodeFk = employeeCodeFk;
+		this.employeeName = employeeName;
+		this.branchCodeFk = branchCodeFk;
+		this.branchCodePk = branchCodePk;
+		this.reservationCodeFk = reservationCodeFk;
+		this.stayPeriod = stayPeriod;
+	}
+}
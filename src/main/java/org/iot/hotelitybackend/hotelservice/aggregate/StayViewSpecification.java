@@ -0,0 +1,91 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import java.time.LocalDateTime;
+
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+/* StayViewEntity 는 조인된 컬럼을 모두 갖고 있으므로 StaySpecification 과 같은 조건을 join 없이 바로 건다
+ * 뷰는 LEFT JOIN 이므로, 예전 inner join 으로 걸러지던 조건은 조인된 행에만 있는 컬럼에 건다.
+ * (고객/객실명/등급명/직원명은 조인된 행이 없으면 null 이라 like 조건에 맞지 않고,
+ *  고객코드/체크아웃 예정일은 예약 행이 없으면 null 이다) */
+public class StayViewSpecification {
+
+	// 투숙코드
+	public static Specification<StayViewEntity> equalsStayCodePk(Integer stayCodePk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("stayCodePk"), stayCodePk);
+	}
+
+	// 고객코드
+	public static Specification<StayViewEntity> equalsCustomerCodeFk(Integer customerCodeFk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerCodeFk"), customerCodeFk);
+	}
+
+	// 고객이름
+	public static Specification<StayViewEntity> likeCustomerName(String customerName) {
+		String pattern = "%" + customerName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("customerName"), pattern);
+	}
+
+	// 객실코드 (객실 행이 있는 투숙만)
+	public static Specification<StayViewEntity> equalsRoomCodeFk(String roomCodeFk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("roomCodePk"), roomCodeFk);
+	}
+
+	// 객실명
+	public static Specification<StayViewEntity> likeRoomName(String roomName) {
+		String pattern = "%" + roomName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("roomName"), pattern);
+	}
+
+	// 객실 등급명
+	public static Specification<StayViewEntity> likeRoomLevelName(String roomLevelName) {
+		String pattern = "%" + roomLevelName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("roomLevelName"), pattern);
+	}
+
+	// 투숙 인원
+	public static Specification<StayViewEntity> equalsStayPeopleCount(Integer stayPeopleCount) {
+		return (root, query, criteriaBuilder) ->
+			criteriaBuilder.equal(root.get("stayPeopleCount"), stayPeopleCount);
+	}
+
+	// 지점코드 (지점 행이 있는 투숙만)
+	public static Specification<StayViewEntity> equalsBranchCodeFk(String branchCodeFk) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("branchCodePk"), branchCodeFk);
+	}
+
+	// 체크인 날짜
+	public static Specification<StayViewEntity> equalsStayCheckinTime(LocalDateTime stayCheckinTime) {
+		return TemporalSpecification.onDate("stayCheckinTime", stayCheckinTime);
+	}
+
+	// 체크아웃 예정일 (예약 체크아웃 날짜)
+	public static Specification<StayViewEntity> equalsReservationCheckoutDate(LocalDateTime reservationCheckoutDate) {
+		return TemporalSpecification.onDate("reservationCheckoutDate", reservationCheckoutDate);
+	}
+
+	// 체크아웃 날짜
+	public static Specification<StayViewEntity> equalsStayCheckoutTime(LocalDateTime stayCheckoutTime) {
+		return (root, query, criteriaBuilder) ->
+			criteriaBuilder.equal(root.get("stayCheckoutTime"), stayCheckoutTime);
+	}
+
+	// 직원코드
+	public static Specification<StayViewEntity> equalsEmployeeCodeFk(Integer employeeCodeFk) {
+		return (root, query, criteriaBuilder) ->
+			criteriaBuilder.equal(root.get("employeeCodeFk"), employeeCodeFk);
+	}
+
+	// 직원이름
+	public static Specification<StayViewEntity> likeEmployeeName(String employeeName) {
+		String pattern = "%" + employeeName + "%";
+		return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("employeeName"), pattern);
+	}
+
+	// 예약코드
+	public static Specification<StayViewEntity> equalsReservationCodeFk(Integer reservationCodeFk) {
+		return (root, query, criteriaBuilder) ->
+			criteriaBuilder.equal(root.get("reservationCodeFk"), reservationCodeFk);
+	}
+}
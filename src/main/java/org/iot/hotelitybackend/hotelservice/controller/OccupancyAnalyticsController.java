@@ -0,0 +1,55 @@
+package org.iot.hotelitybackend.hotelservice.controller;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.hotelservice.service.OccupancyAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/hotel-service")
+public class OccupancyAnalyticsController {
+
+	private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+	@Autowired
+	public OccupancyAnalyticsController(OccupancyAnalyticsService occupancyAnalyticsService) {
+		this.occupancyAnalyticsService = occupancyAnalyticsService;
+	}
+
+	/* 지점별, 일자별 객실 점유율, ADR, RevPAR 조회 (startDate, endDate 모두 포함) */
+	@GetMapping("/analytics/occupancy")
+	public ResponseEntity<ResponseVO> selectOccupancy(
+		@RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		@RequestParam(value = "branchCodeFk", required = false) String branchCodeFk) {
+
+		ResponseVO response = null;
+
+		try {
+			Map<String, Object> occupancyInfo =
+				occupancyAnalyticsService.selectOccupancy(startDate, endDate, branchCodeFk);
+
+			response = ResponseVO.builder()
+				.data(occupancyInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message("조회 성공")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+}
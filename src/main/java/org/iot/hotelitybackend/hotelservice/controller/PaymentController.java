@@ -2,25 +2,26 @@ package org.iot.hotelitybackend.hotelservice.controller;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
 import static org.iot.hotelitybackend.common.util.ExcelType.*;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.*;
 
-import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
-import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.hotelservice.service.PaymentService;
+import org.iot.hotelitybackend.hotelservice.service.PaymentSummaryService;
 import org.iot.hotelitybackend.hotelservice.vo.PaymentSearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,11 +34,16 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentController {
 
 	private final PaymentService paymentService;
+	private final PaymentSummaryService paymentSummaryService;
 	private final ModelMapper mapper;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public PaymentController(PaymentService paymentService, ModelMapper mapper) {
+	public PaymentController(PaymentService paymentService, PaymentSummaryService paymentSummaryService,
+		ExcelExportService excelExportService, ModelMapper mapper) {
 		this.paymentService = paymentService;
+		this.paymentSummaryService = paymentSummaryService;
+		this.excelExportService = excelExportService;
 		this.mapper = mapper;
 	}
 
@@ -45,45 +51,108 @@ public class PaymentController {
 	@GetMapping("/payments/page")
 	public ResponseEntity<ResponseVO> selectPaymentLogListWithFilter(@ModelAttribute PaymentSearchCriteria criteria) {
 
-		Map<String, Object> paymentLogInfo =
-			paymentService.selectPaymentLogList(
-				criteria
-			);
+		ResponseVO response;
+		try {
+			Map<String, Object> paymentLogInfo =
+				paymentService.selectPaymentLogList(
+					criteria
+				);
 
-		ResponseVO response = ResponseVO.builder()
-			.data(paymentLogInfo)
-			.resultCode(HttpStatus.OK.value())
-			.message("조회 성공")
-			.build();
+			response = ResponseVO.builder()
+				.data(paymentLogInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message("조회 성공")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
 
 		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 
 	@GetMapping("/payments/excel/download")
-	public ResponseEntity<InputStreamResource> downloadPaymentLogExcel(@ModelAttribute PaymentSearchCriteria criteria) {
+	public ResponseEntity<ResponseVO> downloadPaymentLogExcel(
+		@ModelAttribute PaymentSearchCriteria criteria,
+		@RequestParam(value = "format", required = false) String format
+	) {
+		ResponseVO response;
+		try {
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(PAYMENT, ExportFormat.from(format), criteria,
+				() -> paymentService.streamPaymentLogList(criteria));
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
+	/* 일/월/연 결제 합계 (결제 일별 집계 기준, date 가 없으면 오늘) */
+	@GetMapping("/payments/summary")
+	public ResponseEntity<ResponseVO> selectPaymentSummary(
+		@RequestParam(value = "period", defaultValue = "day") String period,
+		@RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestParam(value = "branchCodeFk", required = false) String branchCodeFk) {
+
+		ResponseVO response = null;
 
 		try {
-			// 조회해서 DTO 리스트 가져오기
-			Map<String, Object> paymentLogInfo =
-				paymentService.selectPaymentLogList(
-					criteria
-				);
+			Map<String, Object> paymentSummaryInfo = paymentSummaryService.selectPaymentSummary(
+				period, date == null ? LocalDate.now() : date, branchCodeFk);
+
+			response = ResponseVO.builder()
+				.data(paymentSummaryInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message("조회 성공")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
+	/* 결제 일별 집계 재집계 (startDate 포함, endDate 미포함) */
+	@PostMapping("/payments/summary/rebuild")
+	public ResponseEntity<ResponseVO> rebuildPaymentRollup(
+		@RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-			// 엑셀 시트와 파일 만들기
-			Map<String, Object> result = createExcelFile(
-				(List<PaymentDTO>)paymentLogInfo.get(KEY_CONTENT),
-				PAYMENT.getFileName(),
-				PAYMENT.getHeaderStrings()
-			);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)result.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-		} catch (Exception e) {
-			log.info(e.getMessage());
-			e.printStackTrace();
+		ResponseVO response = null;
+
+		try {
+			Map<String, Object> rebuildInfo = paymentSummaryService.rebuildPaymentRollup(startDate, endDate);
+
+			response = ResponseVO.builder()
+				.data(rebuildInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message("재집계 완료")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
 		}
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
@@ -1,28 +1,25 @@
 package org.iot.hotelitybackend.hotelservice.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
-import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
+import org.iot.hotelitybackend.hotelservice.service.ReservationCalendarService;
 import org.iot.hotelitybackend.hotelservice.service.ReservationService;
 import org.iot.hotelitybackend.hotelservice.vo.ReservationSearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 
-import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.RESERVATION;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -30,17 +27,24 @@ import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 public class ReservationController {
 
 	private final ReservationService reservationService;
+	private final ReservationCalendarService reservationCalendarService;
 	private final ModelMapper mapper;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public ReservationController(ReservationService reservationService, ModelMapper mapper) {
+	public ReservationController(ReservationService reservationService,
+		ReservationCalendarService reservationCalendarService, ExcelExportService excelExportService,
+		ModelMapper mapper) {
 		this.reservationService = reservationService;
+		this.reservationCalendarService = reservationCalendarService;
+		this.excelExportService = excelExportService;
 		this.mapper = mapper;
 	}
 
-	/* 월별 예약 리스트 전체 조회 */
-	/* 해당 월에 예약된 전체 리스트(페이징 처리 x)를 프론트로 넘겨주면
-	 * 프론트에서 해당 리스트를 받아 날짜를 기준으로 예약 건 수를 카운트 하여 캘린더에 출력 */
+	/* 월별 예약 리스트 조회 */
+	/* 해당 월에 예약된 전체 리스트를 프론트로 넘겨주면
+	 * 프론트에서 해당 리스트를 받아 날짜를 기준으로 예약 건 수를 카운트 하여 캘린더에 출력
+	 * 정렬(orderBy, sortBy)은 DB 에서 처리하고, pageNum/pageSize 를 넘긴 경우에만 페이징 */
 	@GetMapping("/reservations/{reservationCheckinDatePathVariable}")
 	public ResponseEntity<ResponseVO> selectReservationListByMonth(
 		@PathVariable("reservationCheckinDatePathVariable") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime reservationCheckinDatePathVariable,
@@ -49,13 +53,21 @@ public class ReservationController {
 		int year = reservationCheckinDatePathVariable.getYear();
 		int month = reservationCheckinDatePathVariable.getMonthValue();
 
-		Map<String, Object> reservationInfo =
-			reservationService.selectReservationListByMonth(reservationCheckinDatePathVariable, year, month, criteria);
-
-		ResponseVO response = ResponseVO.builder()
-			.data(reservationInfo)
-			.resultCode(HttpStatus.OK.value())
-			.build();
+		ResponseVO response;
+		try {
+			Map<String, Object> reservationInfo =
+				reservationService.selectReservationListByMonth(reservationCheckinDatePathVariable, year, month, criteria);
+
+			response = ResponseVO.builder()
+				.data(reservationInfo)
+				.resultCode(HttpStatus.OK.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
 
 		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
@@ -86,6 +98,57 @@ public class ReservationController {
 		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 
+	/* 월간 예약 캘린더 (일자별 체크인, 체크아웃, 취소, 투숙 중 건수) */
+	@GetMapping("/reservations/calendar/{year}/{month}")
+	public ResponseEntity<ResponseVO> selectReservationCalendarByMonth(
+		@PathVariable("year") Integer year,
+		@PathVariable("month") Integer month,
+		@RequestParam(value = "branchCodeFk", required = false) String branchCodeFk) {
+
+		ResponseVO response;
+		try {
+			Map<String, Object> calendarInfo =
+				reservationCalendarService.selectReservationCalendarByMonth(year, month, branchCodeFk);
+
+			response = ResponseVO.builder()
+				.data(calendarInfo)
+				.resultCode(HttpStatus.OK.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
+	/* 연간 예약 캘린더 (월별 건수) */
+	@GetMapping("/reservations/calendar/{year}")
+	public ResponseEntity<ResponseVO> selectReservationCalendarByYear(
+		@PathVariable("year") Integer year,
+		@RequestParam(value = "branchCodeFk", required = false) String branchCodeFk) {
+
+		ResponseVO response;
+		try {
+			Map<String, Object> calendarInfo =
+				reservationCalendarService.selectReservationCalendarByYear(year, branchCodeFk);
+
+			response = ResponseVO.builder()
+				.data(calendarInfo)
+				.resultCode(HttpStatus.OK.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
 	/* 예약 코드로 특정 예약 내역 조회 */
 	@GetMapping("reservations/{reservationCodePk}/selected")
 	public ResponseEntity<ResponseVO> selectReservationInfoByReservationCodePk(
@@ -125,35 +188,39 @@ public class ReservationController {
 	}
 
 	@GetMapping("/reservations/{reservationCheckinDate}/excel/download")
-	public ResponseEntity<InputStreamResource> downloadReservationListByMonth(
+	public ResponseEntity<ResponseVO> downloadReservationListByMonth(
 		@PathVariable("reservationCheckinDate") LocalDateTime reservationCheckinDate,
-		@ModelAttribute ReservationSearchCriteria criteria
+		@ModelAttribute ReservationSearchCriteria criteria,
+		@RequestParam(value = "format", required = false) String format
 	) {
 		int year = reservationCheckinDate.getYear();
 		int month = reservationCheckinDate.getMonthValue();
 
-		// 조회해서 DTO 리스트 가져오기
-		Map<String, Object> reservationInfo =
-			reservationService.selectReservationListByMonth(reservationCheckinDate, year, month, criteria);
+		// 다운로드는 페이징 없이 해당 월 전체
+		Map<String, Object> exportCriteria =
+			Map.of("reservationCheckinDate", reservationCheckinDate, "criteria", criteria);
 
+		ResponseVO response;
 		try {
-
-			Map<String, Object> resultExcel = createExcelFile(
-					(List<ReservationDTO>)reservationInfo.get(KEY_CONTENT),
-					RESERVATION.getFileName(),
-					RESERVATION.getHeaderStrings()
-			);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)resultExcel.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)resultExcel.get("result")));
-
-		} catch (Exception e) {
-			log.info(e.getMessage());
-			e.printStackTrace();
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(RESERVATION, ExportFormat.from(format), exportCriteria,
+				() -> reservationService.streamReservationListByMonth(year, month, criteria));
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
 		}
 
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
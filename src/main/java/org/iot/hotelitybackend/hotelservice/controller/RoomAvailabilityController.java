@@ -0,0 +1,61 @@
+package org.iot.hotelitybackend.hotelservice.controller;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.iot.hotelitybackend.hotelservice.service.RoomAvailabilityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/hotel-service")
+public class RoomAvailabilityController {
+
+	private final RoomAvailabilityService roomAvailabilityService;
+
+	@Autowired
+	public RoomAvailabilityController(RoomAvailabilityService roomAvailabilityService) {
+		this.roomAvailabilityService = roomAvailabilityService;
+	}
+
+	/* 기간 내 빈 객실 조회 (객실 검색 조건: 지점, 객실명, 등급, 뷰, 수용 인원, 가격 범위) */
+	/* 날짜는 2024-06-14 형식으로 넣어줄 것. 체크아웃 날짜 밤은 포함하지 않는다. */
+	@GetMapping("/availability")
+	public ResponseEntity<ResponseVO> selectAvailableRooms(
+		@RequestParam("checkinDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkinDate,
+		@RequestParam("checkoutDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkoutDate,
+		@ModelAttribute RoomSearchCriteria criteria
+	) {
+		ResponseVO response;
+
+		try {
+			Map<String, Object> availableRoomInfo =
+				roomAvailabilityService.selectAvailableRooms(checkinDate, checkoutDate, criteria);
+
+			response = ResponseVO.builder()
+				.data(availableRoomInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message("빈 객실 조회 성공")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+}
@@ -1,28 +1,27 @@
 package org.iot.hotelitybackend.hotelservice.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
-import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.hotelservice.service.StayService;
+import org.iot.hotelitybackend.hotelservice.vo.RequestBatchCheckout;
 import org.iot.hotelitybackend.hotelservice.vo.RequestCheckinInfo;
 import org.iot.hotelitybackend.hotelservice.vo.RequestModifyStay;
 import org.iot.hotelitybackend.hotelservice.vo.StaySearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
-import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
+import static org.iot.hotelitybackend.common.constant.Constant.KEY_CHECKED_OUT_COUNT;
 import static org.iot.hotelitybackend.common.util.ExcelType.STAY;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -31,10 +30,12 @@ public class StayController {
 
 	private final StayService stayService;
 	private final ModelMapper mapper;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public StayController(StayService stayService, ModelMapper mapper) {
+	public StayController(StayService stayService, ExcelExportService excelExportService, ModelMapper mapper) {
 		this.stayService = stayService;
+		this.excelExportService = excelExportService;
 		this.mapper = mapper;
 	}
 
@@ -42,21 +43,28 @@ public class StayController {
 	@GetMapping("/stays/page")
 	public ResponseEntity<ResponseVO> selectStaysList(@ModelAttribute StaySearchCriteria criteria) {
 
-		Map<String, Object> stayListInfo =
-			stayService.selectStaysList(criteria);
-
 		ResponseVO response = null;
 
-		if (!stayListInfo.isEmpty()) {
-			response = ResponseVO.builder()
-				.data(stayListInfo)
-				.resultCode(HttpStatus.OK.value())
-				.message("조회 성공")
-				.build();
-		} else {
+		try {
+			Map<String, Object> stayListInfo =
+				stayService.selectStaysList(criteria);
+
+			if (!stayListInfo.isEmpty()) {
+				response = ResponseVO.builder()
+					.data(stayListInfo)
+					.resultCode(HttpStatus.OK.value())
+					.message("조회 성공")
+					.build();
+			} else {
+				response = ResponseVO.builder()
+					.resultCode(HttpStatus.CONTINUE.value())
+					.message("조회 실패")
+					.build();
+			}
+		} catch (IllegalArgumentException e) {
 			response = ResponseVO.builder()
-				.resultCode(HttpStatus.CONTINUE.value())
-				.message("조회 실패")
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
 				.build();
 		}
 		return ResponseEntity.status(response.getResultCode()).body(response);
@@ -134,14 +142,23 @@ public class StayController {
 	/* 화면에서 체크아웃 할 투숙 내역을 체크 후 버튼을 눌렀을 때 */
 	@PutMapping("/stays/{stayCodePk}/checkout")
 	public ResponseEntity<ResponseVO> modifyStayCheckoutDate(@PathVariable("stayCodePk") Integer stayCodePk) {
-		Map<String, Object> checkoutStayInfo = stayService.modifyStayCheckoutDate(stayCodePk);
+		Map<String, Object> checkoutStayInfo;
+		try {
+			checkoutStayInfo = stayService.modifyStayCheckoutDate(stayCodePk);
+		} catch (NoSuchElementException e) {
+			ResponseVO response = ResponseVO.builder()
+				.resultCode(HttpStatus.NOT_FOUND.value())
+				.message(e.getMessage())
+				.build();
+			return ResponseEntity.status(response.getResultCode()).body(response);
+		}
 
 		ResponseVO response = null;
 
 		if (checkoutStayInfo.isEmpty()) {
 			response = ResponseVO.builder()
 				.resultCode(HttpStatus.CONFLICT.value())
-				.message("이미 체크아웃 되었거나 해당 내역이 존재하지 않습니다.")
+				.message("이미 체크아웃 된 투숙 내역입니다.")
 				.build();
 		} else {
 			response = ResponseVO.builder()
@@ -153,6 +170,31 @@ public class StayController {
 		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 
+	/* 일괄 체크아웃 (투숙 코드 목록 또는 지점의 오늘 체크아웃 예정 전체) */
+	@PutMapping("/stays/checkout/batch")
+	public ResponseEntity<ResponseVO> modifyStaysCheckoutInBatch(
+		@RequestBody RequestBatchCheckout requestBatchCheckout) {
+
+		ResponseVO response = null;
+
+		try {
+			Map<String, Object> checkoutStayInfo = stayService.modifyStaysCheckoutInBatch(requestBatchCheckout);
+
+			response = ResponseVO.builder()
+				.data(checkoutStayInfo)
+				.resultCode(HttpStatus.OK.value())
+				.message(checkoutStayInfo.get(KEY_CHECKED_OUT_COUNT) + "건 투숙 체크아웃 완료")
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
+	}
+
 	/* 투숙 정보 수정 */
 	@PutMapping("/stays/{stayCodePk}")
 	public ResponseEntity<ResponseVO> modifyStayInfo(
@@ -185,33 +227,31 @@ public class StayController {
 	}
 
 	@GetMapping("stays/page/excel/download")
-	public ResponseEntity<InputStreamResource> downloadStaysList(@ModelAttribute StaySearchCriteria criteria) {
-
-		// 조회해서 DTO 리스트 가져오기
-		Map<String, Object> stayListInfo =
-			stayService.selectStaysList(criteria);
-
+	public ResponseEntity<ResponseVO> downloadStaysList(
+		@ModelAttribute StaySearchCriteria criteria,
+		@RequestParam(value = "format", required = false) String format
+	) {
+		ResponseVO response;
 		try {
-
-			// 엑셀 시트와 파일 만들기
-			Map<String, Object> result = createExcelFile(
-					(List<StayDTO>)stayListInfo.get(KEY_CONTENT),
-					STAY.getFileName(),
-					STAY.getHeaderStrings()
-			);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)result.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-
-		} catch (Exception e) {
-
-			log.info(e.getMessage());
-			e.printStackTrace();
-
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(STAY, ExportFormat.from(format), criteria,
+				() -> stayService.streamStaysList(criteria));
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
 		}
 
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
@@ -0,0 +1,15 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import lombok.Data;
+
+@Data
+public class AvailableRoomDTO {
+	private String roomCodePk;
+	private String branchCodeFk;
+	private Integer roomNumber;
+	private String roomName;
+	private String roomLevelName;
+	private String roomView;
+	private Integer roomCapacity;
+	private Integer roomPrice;
+}
@@ -0,0 +1,20 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import java.time.LocalDate;
+
+import lombok.Data;
+
+/* 지점별 객실 점유 지표 (date 가 null 이면 조회 기간 합계)
+ * occupancyRate: 판매 객실 수 / 객실 수 (%)
+ * adr: 객실 매출 / 판매 객실 수, revpar: 객실 매출 / 객실 수 */
+@Data
+public class OccupancyDTO {
+	private String branchCodeFk;
+	private LocalDate date;
+	private Long roomCount;
+	private Long roomsSold;
+	private Double occupancyRate;
+	private Double adr;
+	private Double revpar;
+	private Double roomRevenue;
+}
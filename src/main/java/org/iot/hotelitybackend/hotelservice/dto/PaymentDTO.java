@@ -1,10 +1,14 @@
 package org.iot.hotelitybackend.hotelservice.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.Date;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PaymentDTO {
     private Integer paymentCodePk;
     private Integer paymentAmount;
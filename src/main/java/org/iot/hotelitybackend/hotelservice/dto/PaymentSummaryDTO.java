@@ -0,0 +1,22 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.Data;
+
+/* 기간별 결제 합계 (endDate 는 포함하지 않음)
+ * paymentCount, paymentAmount 는 취소되지 않은 결제 기준 */
+@Data
+public class PaymentSummaryDTO {
+	private String period;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private String branchCodeFk;
+	private Long paymentCount;
+	private Long paymentAmount;
+	private Long canceledCount;
+	private Long canceledAmount;
+	private Map<String, Long> paymentAmountByBranch;
+	private Map<String, Long> paymentAmountByPaymentType;
+}
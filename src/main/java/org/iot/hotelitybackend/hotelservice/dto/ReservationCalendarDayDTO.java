@@ -0,0 +1,16 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import java.time.LocalDate;
+
+import lombok.Data;
+
+/* 예약 캘린더 일자별 건수
+ * inHouseCount: 해당 일자 밤에 투숙 중인 예약 수 */
+@Data
+public class ReservationCalendarDayDTO {
+	private LocalDate date;
+	private Long checkinCount;
+	private Long checkoutCount;
+	private Long cancelCount;
+	private Long inHouseCount;
+}
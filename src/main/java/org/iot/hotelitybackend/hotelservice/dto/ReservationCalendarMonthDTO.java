@@ -0,0 +1,19 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/* 예약 캘린더 월별 건수
+ * roomNightCount: 일자별 inHouseCount 합계, dayList 는 연간 조회에서는 비워서 반환 */
+@Data
+public class ReservationCalendarMonthDTO {
+	private Integer year;
+	private Integer month;
+	private String branchCodeFk;
+	private Long checkinCount;
+	private Long checkoutCount;
+	private Long cancelCount;
+	private Long roomNightCount;
+	private List<ReservationCalendarDayDTO> dayList;
+}
@@ -0,0 +1,22 @@
+package org.iot.hotelitybackend.hotelservice.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* 일괄 체크아웃 건별 처리 결과 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StayCheckoutResultDTO {
+	public static final String RESULT_CHECKED_OUT = "CHECKED_OUT";
+	public static final String RESULT_ALREADY_CHECKED_OUT = "ALREADY_CHECKED_OUT";
+	public static final String RESULT_NOT_FOUND = "NOT_FOUND";
+
+	private Integer stayCodePk;
+	private Integer reservationCodeFk;
+	private LocalDateTime stayCheckoutTime;
+	private String result;
+}
@@ -0,0 +1,21 @@
+package org.iot.hotelitybackend.hotelservice.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* 객실 점유(투숙 기간, 체크아웃 시간) 변경 알림
+ * 투숙 내역을 변경한 서비스가 발행하고, 점유율 집계 스냅샷은 커밋 이후 삭제된다. */
+public record OccupancyChangedEvent(Set<Integer> reservationCodeFks) {
+
+	public static OccupancyChangedEvent of(Integer reservationCodeFk) {
+		return of(Collections.singletonList(reservationCodeFk));
+	}
+
+	public static OccupancyChangedEvent of(Collection<Integer> reservationCodeFks) {
+		return new OccupancyChangedEvent(
+			reservationCodeFks.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()));
+	}
+}
@@ -0,0 +1,71 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/* 객실 점유 집계용 조회
+ * 기간과 겹치는 예약을 (지점, 체크인일, 실제 체크아웃일, 결제 금액) 한 행씩 스트리밍으로 읽는다.
+ * fetch size 를 지정해 드라이버가 결과 전체를 메모리에 올리지 않도록 하고, 엔티티로 만들지 않는다. */
+@Repository
+public class OccupancyRepository {
+
+	private static final int FETCH_SIZE = 1000;
+
+	// 취소된 예약/결제는 제외, 예정보다 일찍 체크아웃한 투숙은 실제 체크아웃일까지만 점유
+	// (체크인 당일 체크아웃은 OccupancyAggregator 가 체크인일 1박으로 집계)
+	private static final String OCCUPIED_RESERVATION_SQL =
+		"SELECT r.branch_code_fk, "
+			+ "DATEDIFF(r.reservation_checkin_date, '1970-01-01') AS checkin_epoch_day, "
+			+ "DATEDIFF(CASE WHEN s.stay_checkout_time IS NOT NULL "
+			+ "AND s.stay_checkout_time < r.reservation_checkout_date "
+			+ "THEN s.stay_checkout_time ELSE r.reservation_checkout_date END, '1970-01-01') AS checkout_epoch_day, "
+			+ "COALESCE(p.paid_amount, 0) AS paid_amount "
+			+ "FROM reservation_tb r "
+			+ "LEFT JOIN stay_tb s ON s.reservation_code_fk = r.reservation_code_pk "
+			+ "LEFT JOIN ("
+			+ "SELECT pl.reservation_code_fk, SUM(pl.payment_amount) AS paid_amount "
+			+ "FROM payment_log_tb pl "
+			+ "JOIN reservation_tb pr ON pr.reservation_code_pk = pl.reservation_code_fk "
+			+ "WHERE pr.reservation_checkin_date < ? AND pr.reservation_checkout_date > ? "
+			+ "AND COALESCE(pl.payment_cancel_status, 0) = 0 "
+			+ "GROUP BY pl.reservation_code_fk"
+			+ ") p ON p.reservation_code_fk = r.reservation_code_pk "
+			+ "WHERE r.reservation_checkin_date < ? AND r.reservation_checkout_date > ? "
+			+ "AND COALESCE(r.reservation_cancel_status, 0) <> 1";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public OccupancyRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+	}
+
+	@FunctionalInterface
+	public interface OccupiedReservationHandler {
+		void handle(String branchCodeFk, long checkinEpochDay, long checkoutEpochDay, long paidAmount);
+	}
+
+	/* 기간 [start, end) 과 겹치는 예약을 한 행씩 handler 로 전달 */
+	public void streamOccupiedReservations(LocalDate start, LocalDate end, OccupiedReservationHandler handler) {
+		Timestamp startTimestamp = Timestamp.valueOf(start.atStartOfDay());
+		Timestamp endTimestamp = Timestamp.valueOf(end.atStartOfDay());
+
+		jdbcTemplate.query(OCCUPIED_RESERVATION_SQL,
+			resultSet -> {
+				handler.handle(
+					resultSet.getString(1),
+					resultSet.getLong(2),
+					resultSet.getLong(3),
+					resultSet.getLong(4)
+				);
+			},
+			endTimestamp, startTimestamp, endTimestamp, startTimestamp);
+	}
+}
@@ -0,0 +1,58 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentDailyRollupEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentDailyRollupRepository extends JpaRepository<PaymentDailyRollupEntity, PaymentDailyRollupId> {
+
+	/* 기간 [start, end) 의 지점, 결제 종류, 취소 여부별 합계 (일자 범위만 읽으므로 결제 건수와 무관)
+	 * branchCodeFk 가 null 이면 전체 지점 */
+	@Query("SELECT r.branchCodeFk AS branchCodeFk, r.paymentTypeCodeFk AS paymentTypeCodeFk, "
+		+ "r.paymentCancelStatus AS paymentCancelStatus, "
+		+ "SUM(r.paymentCount) AS paymentCount, SUM(r.paymentAmountSum) AS paymentAmountSum "
+		+ "FROM PaymentDailyRollupEntity r "
+		+ "WHERE r.rollupDate >= :start AND r.rollupDate < :end "
+		+ "AND (:branchCodeFk IS NULL OR r.branchCodeFk = :branchCodeFk) "
+		+ "GROUP BY r.branchCodeFk, r.paymentTypeCodeFk, r.paymentCancelStatus")
+	List<RollupTotal> sumByPeriod(@Param("start") LocalDate start, @Param("end") LocalDate end,
+		@Param("branchCodeFk") String branchCodeFk);
+
+	@Modifying
+	@Query(value = "DELETE FROM payment_daily_rollup WHERE rollup_date >= :start AND rollup_date < :end",
+		nativeQuery = true)
+	int deleteByPeriod(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+	/* 결제 내역에서 기간 [start, end) 을 다시 집계해 넣는다 (deleteByPeriod 와 같은 트랜잭션에서 실행) */
+	@Modifying
+	@Query(value = "INSERT INTO payment_daily_rollup (rollup_date, branch_code_fk, payment_type_code_fk, "
+		+ "payment_cancel_status, payment_count, payment_amount_sum) "
+		+ "SELECT DATE(p.payment_date), COALESCE(r.branch_code_fk, ''), COALESCE(p.payment_type_code_fk, 0), "
+		+ "COALESCE(p.payment_cancel_status, 0), COUNT(*), COALESCE(SUM(p.payment_amount), 0) "
+		+ "FROM payment_log_tb p "
+		+ "LEFT JOIN reservation_tb r ON r.reservation_code_pk = p.reservation_code_fk "
+		+ "WHERE p.payment_date >= :start AND p.payment_date < :end "
+		+ "GROUP BY DATE(p.payment_date), COALESCE(r.branch_code_fk, ''), COALESCE(p.payment_type_code_fk, 0), "
+		+ "COALESCE(p.payment_cancel_status, 0)",
+		nativeQuery = true)
+	int insertFromPaymentLog(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+	interface RollupTotal {
+		String getBranchCodeFk();
+
+		Integer getPaymentTypeCodeFk();
+
+		Integer getPaymentCancelStatus();
+
+		Long getPaymentCount();
+
+		Long getPaymentAmountSum();
+	}
+}
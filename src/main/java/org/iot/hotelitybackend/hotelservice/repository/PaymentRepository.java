@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -17,4 +19,18 @@ public interface PaymentRepository extends JpaRepository<PaymentEntity, Integer>
 	List<PaymentEntity> findByCustomerCodeFkAndPaymentDateBetween(Integer customerCodePk, Date startDate, Date endDate);
 
 	List<PaymentEntity> findAllByPaymentDateBetween(Date startDate, Date endDate);
+
+	/* 기간 내 고객별 결제 금액 합계 (결제 일별 집계에는 고객 구분이 없으므로 결제 내역에서 바로 합산) */
+	@Query("SELECT p.customerCodeFk AS customerCodeFk, SUM(p.paymentAmount) AS paymentAmountSum "
+		+ "FROM PaymentEntity p "
+		+ "WHERE p.paymentDate BETWEEN :startDate AND :endDate "
+		+ "GROUP BY p.customerCodeFk")
+	List<CustomerPaymentTotal> sumPaymentAmountByCustomer(
+		@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
+	interface CustomerPaymentTotal {
+		Integer getCustomerCodeFk();
+
+		Long getPaymentAmountSum();
+	}
 }
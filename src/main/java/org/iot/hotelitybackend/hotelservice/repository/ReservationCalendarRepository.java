@@ -0,0 +1,77 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/* 예약 캘린더 일자별 건수 조회
+ * 예약 목록을 엔티티로 읽어 화면에서 세는 대신 체크인/체크아웃 일자별 GROUP BY 결과만 가져온다.
+ * branchCodeFk 가 null 이면 전체 지점 */
+@Repository
+public class ReservationCalendarRepository {
+
+	// 취소된 예약은 체크인 일자 기준으로 취소 건수에만 포함
+	private static final String DAILY_COUNT_SQL =
+		"SELECT event_date, SUM(checkin_count), SUM(checkout_count), SUM(cancel_count) FROM ("
+			+ "SELECT DATE(reservation_checkin_date) AS event_date, "
+			+ "CASE WHEN COALESCE(reservation_cancel_status, 0) = 1 THEN 0 ELSE 1 END AS checkin_count, "
+			+ "0 AS checkout_count, "
+			+ "CASE WHEN COALESCE(reservation_cancel_status, 0) = 1 THEN 1 ELSE 0 END AS cancel_count "
+			+ "FROM reservation_tb "
+			+ "WHERE reservation_checkin_date >= ? AND reservation_checkin_date < ? "
+			+ "AND (? IS NULL OR branch_code_fk = ?) "
+			+ "UNION ALL "
+			+ "SELECT DATE(reservation_checkout_date), 0, 1, 0 "
+			+ "FROM reservation_tb "
+			+ "WHERE reservation_checkout_date >= ? AND reservation_checkout_date < ? "
+			+ "AND COALESCE(reservation_cancel_status, 0) <> 1 "
+			+ "AND (? IS NULL OR branch_code_fk = ?)"
+			+ ") reservation_event GROUP BY event_date";
+
+	// 기준일 전날 밤 투숙 중인 예약 수 (이후 일자는 체크인 - 체크아웃 누적으로 계산)
+	private static final String IN_HOUSE_COUNT_SQL =
+		"SELECT COUNT(*) FROM reservation_tb "
+			+ "WHERE reservation_checkin_date < ? AND reservation_checkout_date >= ? "
+			+ "AND COALESCE(reservation_cancel_status, 0) <> 1 "
+			+ "AND (? IS NULL OR branch_code_fk = ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public ReservationCalendarRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	public record DailyReservationCount(LocalDate date, long checkinCount, long checkoutCount, long cancelCount) {
+	}
+
+	/* 기간 [start, end) 의 일자별 체크인, 체크아웃, 취소 건수 (건수가 없는 일자는 제외) */
+	public List<DailyReservationCount> countByDay(String branchCodeFk, LocalDate start, LocalDate end) {
+		Timestamp startTimestamp = Timestamp.valueOf(start.atStartOfDay());
+		Timestamp endTimestamp = Timestamp.valueOf(end.atStartOfDay());
+
+		return jdbcTemplate.query(DAILY_COUNT_SQL,
+			(resultSet, rowNum) -> new DailyReservationCount(
+				resultSet.getDate(1).toLocalDate(),
+				resultSet.getLong(2),
+				resultSet.getLong(3),
+				resultSet.getLong(4)
+			),
+			startTimestamp, endTimestamp, branchCodeFk, branchCodeFk,
+			startTimestamp, endTimestamp, branchCodeFk, branchCodeFk);
+	}
+
+	/* date 이전에 체크인해 date 이후에 체크아웃하는 예약 수 */
+	public long countInHouseBefore(String branchCodeFk, LocalDate date) {
+		Timestamp timestamp = Timestamp.valueOf(date.atStartOfDay());
+		Long count = jdbcTemplate.queryForObject(IN_HOUSE_COUNT_SQL, Long.class,
+			timestamp, timestamp, branchCodeFk, branchCodeFk);
+		return count == null ? 0 : count;
+	}
+}
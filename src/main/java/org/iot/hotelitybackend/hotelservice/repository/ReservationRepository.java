@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,11 +17,15 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
 
 	List<ReservationEntity> findByReservationCheckinDateBetween(LocalDateTime start, LocalDateTime end);
 
-	// List<ReservationEntity> findByReservationCheckinDate(LocalDateTime reservationCheckDate);
+	/* 체크인 일시가 [start, end) 인 예약 */
+	List<ReservationEntity> findByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(
+		LocalDateTime start, LocalDateTime end);
+
+	// 같은 날 체크인 예약 ([당일 0시, 다음날 0시))
 	default List<ReservationEntity> findByReservationCheckinDate(LocalDateTime reservationCheckDate) {
-		LocalDateTime startOfDay = reservationCheckDate.withHour(0).withMinute(0).withSecond(0);
-		LocalDateTime endOfDay = reservationCheckDate.withHour(23).withMinute(59).withSecond(59);
-		return findByReservationCheckinDateBetween(startOfDay, endOfDay);
+		LocalDate checkinDate = reservationCheckDate.toLocalDate();
+		return findByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(
+			TemporalSpecification.startOfDay(checkinDate), TemporalSpecification.startOfNextDay(checkinDate));
 	}
 
 	Page<ReservationEntity> findAll(Specification<ReservationEntity> spec, Pageable pageable);
@@ -0,0 +1,35 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface ReservationViewRepository extends JpaRepository<ReservationViewEntity, Integer>,
+	JpaSpecificationExecutor<ReservationViewEntity> {
+
+	/* 체크인 일시가 [start, end) 인 예약 */
+	List<ReservationViewEntity> findAllByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(
+		LocalDateTime start, LocalDateTime end);
+
+	List<ReservationViewEntity> findAllByReservationCheckoutDateAfter(LocalDateTime reservationCheckoutDate);
+
+	List<ReservationViewEntity> findAllByRoomCodeFkInAndReservationCheckoutDateAfter(
+		Collection<String> roomCodeFkList, LocalDateTime reservationCheckoutDate);
+
+	List<ReservationViewEntity> findTop3ByOrderByReservationDateDesc();
+
+	List<ReservationViewEntity> findTop3ByBranchCodeFkOrderByReservationDateDesc(String branchCodeFk);
+
+	/* 같은 날 체크인 예약, 23:59:59 이후(밀리초 포함) 체크인도 빠지지 않도록 [당일 0시, 다음날 0시) 로 조회 */
+	default List<ReservationViewEntity> findByReservationCheckinDate(LocalDateTime reservationCheckDate) {
+		LocalDate checkinDate = reservationCheckDate.toLocalDate();
+		return findAllByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(
+			TemporalSpecification.startOfDay(checkinDate), TemporalSpecification.startOfNextDay(checkinDate));
+	}
+}
@@ -0,0 +1,69 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/* 체크아웃 시간 일괄 반영
+ * 엔티티를 읽어 merge 하지 않고, 아직 체크아웃 되지 않은 행만 갱신하는 UPDATE 를 JDBC 배치로 실행한다. */
+@Repository
+public class StayCheckoutBatchRepository {
+
+	private static final int BATCH_SIZE = 100;
+	private static final String CHECKOUT_SQL =
+		"UPDATE stay_tb SET stay_checkout_time = ? WHERE stay_code_pk = ? AND stay_checkout_time IS NULL";
+	private static final String CHECKOUT_TIME_SQL =
+		"SELECT stay_code_pk, stay_checkout_time FROM stay_tb WHERE stay_code_pk IN (%s)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public StayCheckoutBatchRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/* stayCodePkList 순서대로 갱신 건수 반환 (0: 그 사이 다른 요청에서 체크아웃 됨) */
+	public int[] checkoutAll(List<Integer> stayCodePkList, LocalDateTime stayCheckoutTime) {
+		Timestamp checkoutTimestamp = Timestamp.valueOf(stayCheckoutTime);
+
+		int[][] batchCounts = jdbcTemplate.batchUpdate(CHECKOUT_SQL, stayCodePkList, BATCH_SIZE,
+			(preparedStatement, stayCodePk) -> {
+				preparedStatement.setTimestamp(1, checkoutTimestamp);
+				preparedStatement.setInt(2, stayCodePk);
+			});
+
+		int[] updateCounts = new int[stayCodePkList.size()];
+		int index = 0;
+		for (int[] batchCount : batchCounts) {
+			for (int updateCount : batchCount) {
+				updateCounts[index++] = updateCount;
+			}
+		}
+		return updateCounts;
+	}
+
+	/* 다른 요청이 먼저 반영한 체크아웃 시간 조회
+	 * 영속성 컨텍스트에 남아 있는 조회 시점의 엔티티가 아니라 DB 의 현재 값을 읽는다. */
+	public Map<Integer, LocalDateTime> findCheckoutTimes(List<Integer> stayCodePkList) {
+		Map<Integer, LocalDateTime> checkoutTimeMap = new HashMap<>();
+		if (stayCodePkList.isEmpty()) {
+			return checkoutTimeMap;
+		}
+
+		String placeholders = String.join(",", Collections.nCopies(stayCodePkList.size(), "?"));
+		jdbcTemplate.query(String.format(CHECKOUT_TIME_SQL, placeholders), resultSet -> {
+			Timestamp checkoutTimestamp = resultSet.getTimestamp("stay_checkout_time");
+			if (checkoutTimestamp != null) {
+				checkoutTimeMap.put(resultSet.getInt("stay_code_pk"), checkoutTimestamp.toLocalDateTime());
+			}
+		}, stayCodePkList.toArray());
+		return checkoutTimeMap;
+	}
+}
@@ -4,13 +4,33 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.StayEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StayRepository extends JpaRepository<StayEntity, Integer>, JpaSpecificationExecutor<StayEntity> {
 	Optional<StayEntity> findByReservationCodeFk(int reservationCodePk);
 
+	boolean existsByReservationCodeFk(int reservationCodeFk);
+
+	/* 체크인에 필요한 예약(고객, 객실, 수용 인원, 투숙 여부)과 담당 직원 이름을 한 번에 조회 */
+	@Query("SELECT r AS reservation, e.employeeName AS employeeName "
+		+ "FROM ReservationViewEntity r "
+		+ "LEFT JOIN EmployeeEntity e ON e.employeeCodePk = :employeeCodeFk "
+		+ "WHERE r.reservationCodePk = :reservationCodeFk")
+	Optional<CheckinTarget> findCheckinTarget(
+		@Param("reservationCodeFk") int reservationCodeFk,
+		@Param("employeeCodeFk") int employeeCodeFk);
+
+	interface CheckinTarget {
+		ReservationViewEntity getReservation();
+
+		String getEmployeeName();
+	}
+
 	List<StayEntity> findAllByStayCheckinTimeBetween(LocalDateTime start, LocalDateTime end);
 
 	default List<StayEntity> findByStayCheckoutTime(LocalDateTime stayCheckoutTime) {
@@ -0,0 +1,38 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StayViewRepository extends JpaRepository<StayViewEntity, Integer>,
+	JpaSpecificationExecutor<StayViewEntity> {
+
+	/* 체크인 시간이 [start, end) 인 투숙 내역 */
+	List<StayViewEntity> findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThan(LocalDateTime start,
+		LocalDateTime end);
+
+	List<StayViewEntity> findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThanAndBranchCodeFk(
+		LocalDateTime start, LocalDateTime end, String branchCodeFk);
+
+	List<StayViewEntity> findAllByReservationCodeFkIn(Collection<Integer> reservationCodeFkList);
+
+	/* 투숙 내역의 고객 코드 (뷰 엔티티를 영속성 컨텍스트에 올리지 않도록 값만 조회) */
+	@Query("SELECT s.customerCodeFk FROM StayViewEntity s WHERE s.stayCodePk IN :stayCodePks")
+	List<Integer> findCustomerCodesByStayCodePkIn(@Param("stayCodePks") Collection<Integer> stayCodePks);
+
+	/* 지점의 체크아웃 예정일이 [start, end) 이고 아직 체크아웃 하지 않은 투숙 코드 */
+	@Query("SELECT s.stayCodePk FROM StayViewEntity s "
+		+ "WHERE s.branchCodeFk = :branchCodeFk "
+		+ "AND s.reservationCheckoutDate >= :start AND s.reservationCheckoutDate < :end "
+		+ "AND s.stayCheckoutTime IS NULL")
+	List<Integer> findStayCodesDueForCheckout(
+		@Param("branchCodeFk") String branchCodeFk,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end);
+}
@@ -0,0 +1,70 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.util.Arrays;
+
+/* 지점 x 일자별 판매 객실 수와 객실 매출 집계
+ * 배열 인덱스는 (지점 인덱스 * 일수 + 기준일로부터의 일수) 이며, 예약 한 건마다 투숙한 밤 수만큼 칸을 채운다.
+ * 결제 금액은 숙박한 밤 수로 나눠 각 밤에 나눠 담는다. 엔티티나 박싱 없이 primitive 배열만 사용한다.
+ * 체크인 당일 체크아웃(대실, 당일 조기 퇴실)은 체크인일 하루로 보고 매출을 그날에 담는다. */
+public class OccupancyAggregator {
+
+	private final long startEpochDay;
+	private final int dayCount;
+
+	private int branchCount;
+	private int[] roomsSold;
+	private double[] roomRevenue;
+
+	public OccupancyAggregator(long startEpochDay, int dayCount, int branchCount) {
+		this.startEpochDay = startEpochDay;
+		this.dayCount = dayCount;
+		this.branchCount = branchCount;
+		this.roomsSold = new int[branchCount * dayCount];
+		this.roomRevenue = new double[branchCount * dayCount];
+	}
+
+	/* 체크인일 포함, 체크아웃일 미포함 (epoch day, 최소 1박). 집계 기간 밖의 밤은 버린다. */
+	public void add(int branchIndex, long checkinEpochDay, long checkoutEpochDay, long paidAmount) {
+		long nights = Math.max(1, checkoutEpochDay - checkinEpochDay);
+		if (branchIndex >= branchCount) {
+			growBranches(branchIndex + 1);
+		}
+
+		int fromOffset = (int)Math.max(0, checkinEpochDay - startEpochDay);
+		int toOffset = (int)Math.min(dayCount, checkinEpochDay + nights - startEpochDay);
+		double revenuePerNight = (double)paidAmount / nights;
+
+		int base = branchIndex * dayCount;
+		for (int offset = fromOffset; offset < toOffset; offset++) {
+			roomsSold[base + offset]++;
+			roomRevenue[base + offset] += revenuePerNight;
+		}
+	}
+
+	public int getRoomsSold(int branchIndex, int dayOffset) {
+		return branchIndex < branchCount ? roomsSold[branchIndex * dayCount + dayOffset] : 0;
+	}
+
+	public double getRoomRevenue(int branchIndex, int dayOffset) {
+		return branchIndex < branchCount ? roomRevenue[branchIndex * dayCount + dayOffset] : 0;
+	}
+
+	public int getBranchCount() {
+		return branchCount;
+	}
+
+	public int getDayCount() {
+		return dayCount;
+	}
+
+	public long getStartEpochDay() {
+		return startEpochDay;
+	}
+
+	// 객실 정보에 없는 지점의 예약이 들어온 경우
+	private void growBranches(int newBranchCount) {
+		roomsSold = Arrays.copyOf(roomsSold, newBranchCount * dayCount);
+		roomRevenue = Arrays.copyOf(roomRevenue, newBranchCount * dayCount);
+		branchCount = newBranchCount;
+	}
+}
@@ -0,0 +1,11 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface OccupancyAnalyticsService {
+
+	Map<String, Object> selectOccupancy(LocalDate startDate, LocalDate endDate, String branchCodeFk);
+
+	void evictOccupancySnapshots();
+}
@@ -0,0 +1,261 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.iot.hotelitybackend.common.util.ChangeBroadcaster;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
+import org.iot.hotelitybackend.hotelservice.dto.OccupancyDTO;
+import org.iot.hotelitybackend.hotelservice.event.OccupancyChangedEvent;
+import org.iot.hotelitybackend.hotelservice.repository.OccupancyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 객실 점유율, ADR, RevPAR 집계
+ * 일자별 스냅샷(지점별 판매 객실 수, 객실 매출)을 메모리에 보관하고, 비어 있는 일자만 한 번의 스트리밍 조회로 채운다.
+ * 지난 일자는 거의 바뀌지 않으므로 오래 보관하고, 오늘 이후 일자는 예약 변경이 잦아 짧게 보관한다.
+ * 투숙 변경이 커밋되면 스냅샷을 비우고 Redis 채널로 다른 서버에도 알리며,
+ * 집계하는 동안 비워진 경우 변경 전에 읽은 값일 수 있으므로 저장하지 않는다. */
+@Slf4j
+@Service
+public class OccupancyAnalyticsServiceImpl implements OccupancyAnalyticsService, MessageListener {
+
+	private static final int MAX_RANGE_DAYS = 1830;
+	private static final long PAST_SNAPSHOT_TTL_MILLIS = 6 * 60 * 60 * 1000L;
+	private static final long CURRENT_SNAPSHOT_TTL_MILLIS = 60 * 1000L;
+	private static final int MAX_SNAPSHOTS = 5000;
+	private static final String EVICT_ALL = "ALL";
+
+	private final OccupancyRepository occupancyRepository;
+	private final RoomRepository roomRepository;
+
+	// key: epoch day
+	private final Map<Long, DaySnapshot> snapshotMap = new ConcurrentHashMap<>();
+	// 집계하는 동안 스냅샷이 비워진 경우 집계 결과를 넣지 않도록 비울 때마다 올린다
+	private final AtomicLong evictGeneration = new AtomicLong();
+	private final ChangeBroadcaster changeBroadcaster;
+
+	/* 하루치 지점별 집계 (branchCodes 와 같은 인덱스) */
+	private record DaySnapshot(String[] branchCodes, int[] roomsSold, double[] roomRevenue, long expiresAt) {
+	}
+
+	@Autowired
+	public OccupancyAnalyticsServiceImpl(OccupancyRepository occupancyRepository, RoomRepository roomRepository,
+		StringRedisTemplate redisTemplate, RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.occupancyRepository = occupancyRepository;
+		this.roomRepository = roomRepository;
+		this.changeBroadcaster = new ChangeBroadcaster(redisTemplate, REDIS_CHANNEL_OCCUPANCY);
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_OCCUPANCY));
+	}
+
+	/* 기간 [startDate, endDate] 의 일자별, 지점별 지표와 지점별 기간 합계 조회 */
+	@Override
+	public Map<String, Object> selectOccupancy(LocalDate startDate, LocalDate endDate, String branchCodeFk) {
+		if (startDate.isAfter(endDate)) {
+			throw new IllegalArgumentException("조회 시작일은 종료일보다 이후일 수 없습니다.");
+		}
+		if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+			throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 " + MAX_RANGE_DAYS + "일 이하입니다.");
+		}
+
+		Map<String, Long> roomCountMap = new TreeMap<>();
+		roomRepository.countRoomsByBranch()
+			.forEach(roomCount -> roomCountMap.put(roomCount.getBranchCodeFk(), roomCount.getRoomCount()));
+
+		long startEpochDay = startDate.toEpochDay();
+		int dayCount = (int)(endDate.toEpochDay() - startEpochDay) + 1;
+		DaySnapshot[] snapshots = loadSnapshots(startEpochDay, dayCount, roomCountMap);
+
+		List<OccupancyDTO> dailyList = new ArrayList<>();
+		Map<String, long[]> roomsSoldTotalMap = new TreeMap<>();
+		Map<String, double[]> roomRevenueTotalMap = new TreeMap<>();
+
+		for (int dayOffset = 0; dayOffset < dayCount; dayOffset++) {
+			DaySnapshot snapshot = snapshots[dayOffset];
+			LocalDate date = LocalDate.ofEpochDay(startEpochDay + dayOffset);
+
+			for (int branchIndex = 0; branchIndex < snapshot.branchCodes().length; branchIndex++) {
+				String branchCode = snapshot.branchCodes()[branchIndex];
+				if (branchCodeFk != null && !branchCodeFk.equals(branchCode)) {
+					continue;
+				}
+
+				long roomCount = roomCountMap.getOrDefault(branchCode, 0L);
+				int roomsSold = snapshot.roomsSold()[branchIndex];
+				double roomRevenue = snapshot.roomRevenue()[branchIndex];
+				dailyList.add(toOccupancyDTO(branchCode, date, roomCount, roomsSold, roomRevenue));
+
+				roomsSoldTotalMap.computeIfAbsent(branchCode, key -> new long[1])[0] += roomsSold;
+				roomRevenueTotalMap.computeIfAbsent(branchCode, key -> new double[1])[0] += roomRevenue;
+			}
+		}
+
+		List<OccupancyDTO> summaryList = new ArrayList<>();
+		roomsSoldTotalMap.forEach((branchCode, roomsSoldTotal) -> summaryList.add(toOccupancyDTO(
+			branchCode, null, roomCountMap.getOrDefault(branchCode, 0L) * dayCount, roomsSoldTotal[0],
+			roomRevenueTotalMap.get(branchCode)[0])));
+
+		Map<String, Object> occupancyInfo = new HashMap<>();
+		occupancyInfo.put(KEY_CONTENT, dailyList);
+		occupancyInfo.put("summary", summaryList);
+		occupancyInfo.put("startDate", startDate);
+		occupancyInfo.put("endDate", endDate);
+
+		return occupancyInfo;
+	}
+
+	/* 예약 일괄 수정, 과거 데이터 적재 후 즉시 반영이 필요한 경우 */
+	@Override
+	public void evictOccupancySnapshots() {
+		changeBroadcaster.afterCommit(this::clearSnapshots, EVICT_ALL);
+	}
+
+	/* 체크아웃, 투숙 수정/삭제가 커밋된 뒤 스냅샷 삭제 (커밋 전에 지우면 변경 전 값으로 다시 채워질 수 있음) */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOccupancyChanged(OccupancyChangedEvent event) {
+		if (!event.reservationCodeFks().isEmpty()) {
+			// 이미 커밋된 뒤이므로 커밋 이후 작업으로 미루지 않고 바로 지우고 알린다
+			clearSnapshots();
+			changeBroadcaster.publish(EVICT_ALL);
+		}
+	}
+
+	/* 다른 서버의 투숙 변경 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		changeBroadcaster.remotePayload(message).ifPresent(payload -> clearSnapshots());
+	}
+
+	private void clearSnapshots() {
+		evictGeneration.incrementAndGet();
+		snapshotMap.clear();
+	}
+
+	private DaySnapshot[] loadSnapshots(long startEpochDay, int dayCount, Map<String, Long> roomCountMap) {
+		long now = System.currentTimeMillis();
+		long generation = evictGeneration.get();
+		DaySnapshot[] snapshots = new DaySnapshot[dayCount];
+
+		int firstMissing = -1;
+		int lastMissing = -1;
+		for (int dayOffset = 0; dayOffset < dayCount; dayOffset++) {
+			DaySnapshot snapshot = snapshotMap.get(startEpochDay + dayOffset);
+			if (snapshot != null && snapshot.expiresAt() > now) {
+				snapshots[dayOffset] = snapshot;
+				continue;
+			}
+			if (firstMissing < 0) {
+				firstMissing = dayOffset;
+			}
+			lastMissing = dayOffset;
+		}
+
+		if (firstMissing < 0) {
+			return snapshots;
+		}
+
+		// 비어 있는 첫 일자부터 마지막 일자까지 한 번에 조회 (사이에 캐시된 일자도 새로 계산한 값으로 교체)
+		long missingStartEpochDay = startEpochDay + firstMissing;
+		int missingDayCount = lastMissing - firstMissing + 1;
+		DaySnapshot[] computed = computeSnapshots(missingStartEpochDay, missingDayCount, roomCountMap, now);
+		System.arraycopy(computed, 0, snapshots, firstMissing, missingDayCount);
+
+		// 집계하는 동안 비워졌으면 이번 응답에만 쓰고 보관하지 않는다
+		if (generation != evictGeneration.get()) {
+			return snapshots;
+		}
+		if (snapshotMap.size() + missingDayCount > MAX_SNAPSHOTS) {
+			snapshotMap.values().removeIf(snapshot -> snapshot.expiresAt() <= now);
+			if (snapshotMap.size() + missingDayCount > MAX_SNAPSHOTS) {
+				snapshotMap.clear();
+			}
+		}
+		for (int dayOffset = 0; dayOffset < missingDayCount; dayOffset++) {
+			snapshotMap.put(missingStartEpochDay + dayOffset, computed[dayOffset]);
+		}
+
+		return snapshots;
+	}
+
+	private DaySnapshot[] computeSnapshots(
+		long startEpochDay, int dayCount, Map<String, Long> roomCountMap, long now
+	) {
+		Map<String, Integer> branchIndexMap = new HashMap<>();
+		List<String> branchCodes = new ArrayList<>(roomCountMap.keySet());
+		for (int branchIndex = 0; branchIndex < branchCodes.size(); branchIndex++) {
+			branchIndexMap.put(branchCodes.get(branchIndex), branchIndex);
+		}
+
+		OccupancyAggregator aggregator = new OccupancyAggregator(startEpochDay, dayCount, branchCodes.size());
+		long startedAt = System.nanoTime();
+
+		occupancyRepository.streamOccupiedReservations(
+			LocalDate.ofEpochDay(startEpochDay), LocalDate.ofEpochDay(startEpochDay + dayCount),
+			(branchCodeFk, checkinEpochDay, checkoutEpochDay, paidAmount) -> {
+				Integer branchIndex = branchIndexMap.get(branchCodeFk);
+				if (branchIndex == null) {
+					branchIndex = branchCodes.size();
+					branchCodes.add(branchCodeFk);
+					branchIndexMap.put(branchCodeFk, branchIndex);
+				}
+				aggregator.add(branchIndex, checkinEpochDay, checkoutEpochDay, paidAmount);
+			});
+
+		log.debug("객실 점유 집계 {}일, {}개 지점: {}ms", dayCount, branchCodes.size(),
+			(System.nanoTime() - startedAt) / 1_000_000);
+
+		String[] branchCodeArray = branchCodes.toArray(new String[0]);
+		long todayEpochDay = LocalDate.now().toEpochDay();
+		DaySnapshot[] snapshots = new DaySnapshot[dayCount];
+
+		for (int dayOffset = 0; dayOffset < dayCount; dayOffset++) {
+			int[] roomsSold = new int[branchCodeArray.length];
+			double[] roomRevenue = new double[branchCodeArray.length];
+			for (int branchIndex = 0; branchIndex < branchCodeArray.length; branchIndex++) {
+				roomsSold[branchIndex] = aggregator.getRoomsSold(branchIndex, dayOffset);
+				roomRevenue[branchIndex] = aggregator.getRoomRevenue(branchIndex, dayOffset);
+			}
+
+			long ttl = startEpochDay + dayOffset < todayEpochDay ? PAST_SNAPSHOT_TTL_MILLIS : CURRENT_SNAPSHOT_TTL_MILLIS;
+			snapshots[dayOffset] = new DaySnapshot(branchCodeArray, roomsSold, roomRevenue, now + ttl);
+		}
+
+		return snapshots;
+	}
+
+	private OccupancyDTO toOccupancyDTO(
+		String branchCodeFk, LocalDate date, long roomCount, long roomsSold, double roomRevenue
+	) {
+		OccupancyDTO occupancyDTO = new OccupancyDTO();
+		occupancyDTO.setBranchCodeFk(branchCodeFk);
+		occupancyDTO.setDate(date);
+		occupancyDTO.setRoomCount(roomCount);
+		occupancyDTO.setRoomsSold(roomsSold);
+		occupancyDTO.setOccupancyRate(roomCount == 0 ? 0 : round(roomsSold * 100.0 / roomCount));
+		occupancyDTO.setAdr(roomsSold == 0 ? 0 : round(roomRevenue / roomsSold));
+		occupancyDTO.setRevpar(roomCount == 0 ? 0 : round(roomRevenue / roomCount));
+		occupancyDTO.setRoomRevenue(round(roomRevenue));
+		return occupancyDTO;
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+}
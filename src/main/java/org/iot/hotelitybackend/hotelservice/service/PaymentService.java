@@ -2,11 +2,15 @@ package org.iot.hotelitybackend.hotelservice.service;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
 import org.iot.hotelitybackend.hotelservice.vo.PaymentSearchCriteria;
 import org.springframework.web.bind.annotation.RequestParam;
 
 public interface PaymentService {
 
 	Map<String, Object> selectPaymentLogList(PaymentSearchCriteria criteria);
+
+	Stream<PaymentDTO> streamPaymentLogList(PaymentSearchCriteria criteria);
 }
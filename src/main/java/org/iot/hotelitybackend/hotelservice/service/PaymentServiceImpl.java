@@ -6,106 +6,154 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import org.iot.hotelitybackend.customer.repository.CustomerRepository;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.PaymentEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.PaymentSpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentTypeEntity;
 import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
 import org.iot.hotelitybackend.hotelservice.repository.PaymentRepository;
-import org.iot.hotelitybackend.hotelservice.repository.PaymentTypeRepository;
 import org.iot.hotelitybackend.hotelservice.vo.PaymentSearchCriteria;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
 @Service
 public class PaymentServiceImpl implements PaymentService {
-	private final PaymentRepository paymentRepository;
-	private final ModelMapper mapper;
-	private final PaymentTypeRepository paymentTypeRepository;
-	private final CustomerRepository customerRepository;
 
+	// 페이징 없는 조회와 다운로드 커서 조회에서 드라이버가 한 번에 받아오는 행 수
+	private static final int LIST_FETCH_SIZE = 1000;
+	// 정렬 기준으로 허용하는 결제 내역 필드
+	private static final Set<String> SORTABLE_FIELDS = Set.of(
+		"paymentCodePk", "reservationCodeFk", "paymentAmount", "paymentTypeCodeFk", "paymentMethod", "paymentDate",
+		"customerCodeFk", "paymentCancelStatus"
+	);
+
+	private final PaymentRepository paymentRepository;
+	private final PageQueryExecutor pageQueryExecutor;
 
 	@Autowired
-	public PaymentServiceImpl(PaymentRepository paymentRepository, ModelMapper mapper,
-		PaymentTypeRepository paymentTypeRepository, CustomerRepository customerRepository) {
+	public PaymentServiceImpl(PaymentRepository paymentRepository, PageQueryExecutor pageQueryExecutor) {
 		this.paymentRepository = paymentRepository;
-		this.mapper = mapper;
-		this.paymentTypeRepository = paymentTypeRepository;
-		this.customerRepository = customerRepository;
+		this.pageQueryExecutor = pageQueryExecutor;
 	}
 
-	/* 다중 조건 검색을 적용한 결제 내역 전체 조회 */
+	/* 다중 조건 검색을 적용한 결제 내역 전체 조회
+	 * 페이징/전체 조회 모두 고객 이름, 결제 종류 이름을 조인해 PaymentDTO 생성자로 바로 조회한다. */
 	@Override
 	public Map<String, Object> selectPaymentLogList(PaymentSearchCriteria criteria) {
 
 		Specification<PaymentEntity> spec = buildSpecification(criteria);
 
 		Integer pageNum = criteria.getPageNum();
-		String orderBy = criteria.getOrderBy();
-		Integer sortBy = criteria.getSortBy();
+		String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+		Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
 
 		Map<String, Object> roomPageInfo = new HashMap<>();
 		List<PaymentDTO> paymentDTOList;
 
-		// 1. 페이징 처리 안할 때
-		if (pageNum != null) {
+		// 0. 키셋 페이징 (cursor 를 전달한 경우)
+		if (criteria.getCursor() != null) {
+			KeysetPagination.KeysetPage<PaymentEntity> paymentKeysetPage = KeysetPagination.fetch(
+				paymentRepository, spec,
+				orderBy == null ? "paymentCodePk" : orderBy, "paymentCodePk",
+				orderBy == null ? Sort.Direction.ASC : direction,
+				criteria.getCursor(), PAGE_SIZE
+			);
+			paymentDTOList = selectPaymentDTOListByCodes(
+				paymentKeysetPage.content().stream().map(PaymentEntity::getPaymentCodePk).toList());
+
+			roomPageInfo.put(KEY_NEXT_CURSOR, paymentKeysetPage.nextCursor());
+
+			// 1. 페이징 처리 할 때
+		} else if (pageNum != null) {
 			Pageable pageable;
 
 			if (orderBy == null) {
 				pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by("paymentCodePk"));
 			} else {
-				if (sortBy == 1) {
-					pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy));
-				}
-				else{
-					pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
-				}
+				pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(direction, orderBy));
 			}
-			Page<PaymentEntity> paymentEntityPage = paymentRepository.findAll(spec, pageable);
-			paymentDTOList = paymentEntityPage
-				.stream()
-				.map(paymentEntity -> {
-					PaymentDTO paymentDTO = mapper.map(paymentEntity, PaymentDTO.class);
-					String setCustomerName = customerRepository.findById(paymentEntity.getCustomerCodeFk()).get().getCustomerName();
-					String setPaymentTypeName = paymentTypeRepository.findById(paymentEntity.getPaymentTypeCodeFk()).get().getPaymentTypeName();
-					paymentDTO.setCustomerName(setCustomerName);
-					paymentDTO.setPaymentTypeName(setPaymentTypeName);
-					return paymentDTO;
-				})
-				.toList();
-
-			int totalPagesCount = paymentEntityPage.getTotalPages();
-			int currentPageIndex = paymentEntityPage.getNumber();
-
-			roomPageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-			roomPageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+			Slice<PaymentDTO> paymentDTOPage = pageQueryExecutor.findPage(
+				PaymentEntity.class, PaymentDTO.class, PaymentServiceImpl::selectPaymentDTO, spec, pageable,
+				criteria.getHasNextOnly(), criteria);
+			paymentDTOList = paymentDTOPage.getContent();
+
+			roomPageInfo.putAll(PageQueryExecutor.toPageInfo(paymentDTOPage));
 
 			// 2. 페이징 처리 안할 때
 		} else {
-			List<PaymentEntity> paymentEntityList = paymentRepository.findAll(spec);
-			paymentDTOList = paymentEntityList
-				.stream()
-				.map(paymentEntity -> {
-					PaymentDTO paymentDTO = mapper.map(paymentEntity, PaymentDTO.class);
-					String setCustomerName = customerRepository.findById(paymentEntity.getCustomerCodeFk()).get().getCustomerName();
-					String setPaymentTypeName = paymentTypeRepository.findById(paymentEntity.getPaymentTypeCodeFk()).get().getPaymentTypeName();
-					paymentDTO.setCustomerName(setCustomerName);
-					paymentDTO.setPaymentTypeName(setPaymentTypeName);
-					return paymentDTO;
-				})
-				.toList();
+			paymentDTOList = pageQueryExecutor.findAll(
+				PaymentEntity.class, PaymentDTO.class, PaymentServiceImpl::selectPaymentDTO, spec,
+				Sort.by("paymentCodePk"), LIST_FETCH_SIZE);
 		}
 		roomPageInfo.put(KEY_CONTENT, paymentDTOList);
 
 		return roomPageInfo;
 	}
 
+	/* 다중 조건 검색을 적용한 결제 내역 커서 조회 (CSV/엑셀 다운로드)
+	 * 호출 측 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 한다. */
+	@Override
+	public Stream<PaymentDTO> streamPaymentLogList(PaymentSearchCriteria criteria) {
+		return pageQueryExecutor.stream(
+			PaymentEntity.class, PaymentDTO.class, PaymentServiceImpl::selectPaymentDTO, buildSpecification(criteria),
+			Sort.by("paymentCodePk"), LIST_FETCH_SIZE);
+	}
+
+	/* 결제 내역 + 고객 이름 + 결제 종류 이름 (필드 순서는 PaymentDTO 와 같음) */
+	private static Selection<PaymentDTO> selectPaymentDTO(
+		Root<PaymentEntity> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+		Join<PaymentEntity, CustomerEntity> customer = root.join("customer", JoinType.LEFT);
+		Join<PaymentEntity, PaymentTypeEntity> paymentType = root.join("paymentType", JoinType.LEFT);
+
+		return criteriaBuilder.construct(PaymentDTO.class,
+			root.get("paymentCodePk"),
+			root.get("paymentAmount"),
+			root.get("reservationCodeFk"),
+			root.get("paymentTypeCodeFk"),
+			paymentType.get("paymentTypeName"),
+			root.get("paymentMethod"),
+			root.get("paymentDate"),
+			root.get("paymentCancelStatus"),
+			root.get("customerCodeFk"),
+			customer.get("customerName")
+		);
+	}
+
+	// 키셋 페이지의 결제 코드 순서를 유지한 채 DTO 조회
+	private List<PaymentDTO> selectPaymentDTOListByCodes(List<Integer> paymentCodePkList) {
+		if (paymentCodePkList.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Integer, PaymentDTO> paymentDTOMap = pageQueryExecutor.findAll(
+				PaymentEntity.class, PaymentDTO.class, PaymentServiceImpl::selectPaymentDTO,
+				PaymentSpecification.inPaymentCodePk(paymentCodePkList), Sort.unsorted(), paymentCodePkList.size())
+			.stream()
+			.collect(Collectors.toMap(PaymentDTO::getPaymentCodePk, Function.identity()));
+
+		return paymentCodePkList.stream().map(paymentDTOMap::get).toList();
+	}
+
 	private Specification<PaymentEntity> buildSpecification(PaymentSearchCriteria criteria) {
 
 		Integer customerCodeFk = criteria.getCustomerCodeFk();
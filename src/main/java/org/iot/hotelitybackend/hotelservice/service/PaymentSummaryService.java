@@ -0,0 +1,15 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.iot.hotelitybackend.hotelservice.dto.PaymentSummaryDTO;
+
+public interface PaymentSummaryService {
+
+	Map<String, Object> selectPaymentSummary(String period, LocalDate baseDate, String branchCodeFk);
+
+	PaymentSummaryDTO summarize(String period, LocalDate baseDate, String branchCodeFk);
+
+	Map<String, Object> rebuildPaymentRollup(LocalDate startDate, LocalDate endDate);
+}
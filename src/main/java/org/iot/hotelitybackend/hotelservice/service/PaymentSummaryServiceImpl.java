@@ -0,0 +1,149 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentTypeEntity;
+import org.iot.hotelitybackend.hotelservice.dto.PaymentSummaryDTO;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentDailyRollupRepository;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentTypeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 일/월/연 결제 합계
+ * payment_daily_rollup 의 일자 범위(최대 366일 x 지점 x 결제 종류)만 합산하므로 결제 건수가 늘어도 조회 비용은 일정하다. */
+@Slf4j
+@Service
+public class PaymentSummaryServiceImpl implements PaymentSummaryService {
+
+	private static final Integer NOT_CANCELED = 0;
+	private static final int MAX_REBUILD_DAYS = 3660;
+
+	private final PaymentDailyRollupRepository paymentDailyRollupRepository;
+	private final PaymentTypeRepository paymentTypeRepository;
+
+	@Autowired
+	public PaymentSummaryServiceImpl(PaymentDailyRollupRepository paymentDailyRollupRepository,
+		PaymentTypeRepository paymentTypeRepository) {
+		this.paymentDailyRollupRepository = paymentDailyRollupRepository;
+		this.paymentTypeRepository = paymentTypeRepository;
+	}
+
+	/* 기간별 결제 합계 조회 (period: day, month, year) */
+	@Override
+	public Map<String, Object> selectPaymentSummary(String period, LocalDate baseDate, String branchCodeFk) {
+		Map<String, Object> paymentSummaryInfo = new HashMap<>();
+		paymentSummaryInfo.put(KEY_CONTENT, summarize(period, baseDate, branchCodeFk));
+		return paymentSummaryInfo;
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public PaymentSummaryDTO summarize(String period, LocalDate baseDate, String branchCodeFk) {
+		LocalDate startDate = startOfPeriod(period, baseDate);
+		LocalDate endDate = endOfPeriod(period, startDate);
+
+		Map<Integer, String> paymentTypeNameMap = paymentTypeRepository.findAll().stream()
+			.collect(Collectors.toMap(PaymentTypeEntity::getPaymentTypeCodePk, PaymentTypeEntity::getPaymentTypeName));
+
+		long paymentCount = 0;
+		long paymentAmount = 0;
+		long canceledCount = 0;
+		long canceledAmount = 0;
+		Map<String, Long> paymentAmountByBranch = new TreeMap<>();
+		Map<String, Long> paymentAmountByPaymentType = new TreeMap<>();
+
+		for (PaymentDailyRollupRepository.RollupTotal rollupTotal :
+			paymentDailyRollupRepository.sumByPeriod(startDate, endDate, branchCodeFk)) {
+
+			if (!NOT_CANCELED.equals(rollupTotal.getPaymentCancelStatus())) {
+				canceledCount += rollupTotal.getPaymentCount();
+				canceledAmount += rollupTotal.getPaymentAmountSum();
+				continue;
+			}
+
+			paymentCount += rollupTotal.getPaymentCount();
+			paymentAmount += rollupTotal.getPaymentAmountSum();
+			paymentAmountByBranch.merge(rollupTotal.getBranchCodeFk(), rollupTotal.getPaymentAmountSum(), Long::sum);
+			paymentAmountByPaymentType.merge(
+				paymentTypeNameMap.getOrDefault(rollupTotal.getPaymentTypeCodeFk(),
+					String.valueOf(rollupTotal.getPaymentTypeCodeFk())),
+				rollupTotal.getPaymentAmountSum(), Long::sum);
+		}
+
+		PaymentSummaryDTO paymentSummaryDTO = new PaymentSummaryDTO();
+		paymentSummaryDTO.setPeriod(period);
+		paymentSummaryDTO.setStartDate(startDate);
+		paymentSummaryDTO.setEndDate(endDate);
+		paymentSummaryDTO.setBranchCodeFk(branchCodeFk);
+		paymentSummaryDTO.setPaymentCount(paymentCount);
+		paymentSummaryDTO.setPaymentAmount(paymentAmount);
+		paymentSummaryDTO.setCanceledCount(canceledCount);
+		paymentSummaryDTO.setCanceledAmount(canceledAmount);
+		paymentSummaryDTO.setPaymentAmountByBranch(paymentAmountByBranch);
+		paymentSummaryDTO.setPaymentAmountByPaymentType(paymentAmountByPaymentType);
+
+		return paymentSummaryDTO;
+	}
+
+	/* 기간 [startDate, endDate) 재집계 (과거 데이터 적재, 트리거 누락분 보정) */
+	@Transactional
+	@Override
+	public Map<String, Object> rebuildPaymentRollup(LocalDate startDate, LocalDate endDate) {
+		if (!startDate.isBefore(endDate)) {
+			throw new IllegalArgumentException("재집계 시작일은 종료일보다 이전이어야 합니다.");
+		}
+		if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_REBUILD_DAYS) {
+			throw new IllegalArgumentException("한 번에 재집계할 수 있는 기간은 " + MAX_REBUILD_DAYS + "일 이하입니다.");
+		}
+
+		int deletedCount = paymentDailyRollupRepository.deleteByPeriod(startDate, endDate);
+		int insertedCount = paymentDailyRollupRepository.insertFromPaymentLog(
+			startDate.atStartOfDay(), endDate.atStartOfDay());
+
+		log.info("결제 일별 집계 재집계 [{} ~ {}): 삭제 {}건, 생성 {}건", startDate, endDate, deletedCount, insertedCount);
+
+		Map<String, Object> rebuildInfo = new HashMap<>();
+		rebuildInfo.put("startDate", startDate);
+		rebuildInfo.put("endDate", endDate);
+		rebuildInfo.put("rollupCount", insertedCount);
+		return rebuildInfo;
+	}
+
+	/* 트리거로 반영되지 않는 변경(트리거 생성 전 결제, 직접 수정한 데이터 등)을 맞추기 위해 최근 이틀은 매일 다시 집계
+	 * 예약 지점 변경은 reservation_tb 트리거(V5)가 결제 일자와 관계없이 옮긴다. */
+	@Transactional
+	@Scheduled(cron = "0 30 4 * * *")
+	public void rebuildRecentRollup() {
+		LocalDate today = LocalDate.now();
+		rebuildPaymentRollup(today.minusDays(2), today);
+	}
+
+	private static LocalDate startOfPeriod(String period, LocalDate baseDate) {
+		return switch (period) {
+			case "day" -> baseDate;
+			case "month" -> baseDate.withDayOfMonth(1);
+			case "year" -> baseDate.withDayOfYear(1);
+			default -> throw new IllegalArgumentException("period 는 day, month, year 중 하나여야 합니다.");
+		};
+	}
+
+	private static LocalDate endOfPeriod(String period, LocalDate startDate) {
+		return switch (period) {
+			case "day" -> startDate.plusDays(1);
+			case "month" -> startDate.plusMonths(1);
+			default -> startDate.plusYears(1);
+		};
+	}
+}
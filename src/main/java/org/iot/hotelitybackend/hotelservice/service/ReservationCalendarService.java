@@ -0,0 +1,13 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+public interface ReservationCalendarService {
+
+	Map<String, Object> selectReservationCalendarByMonth(int year, int month, String branchCodeFk);
+
+	Map<String, Object> selectReservationCalendarByYear(int year, String branchCodeFk);
+
+	void evictMonth(String branchCodeFk, YearMonth yearMonth);
+}
@@ -0,0 +1,277 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.iot.hotelitybackend.common.util.ChangeBroadcaster;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.ReservationCalendarDayDTO;
+import org.iot.hotelitybackend.hotelservice.dto.ReservationCalendarMonthDTO;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationCalendarRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 예약 캘린더 (일자별, 월별 건수)
+ * (지점, 월) 단위로 집계 결과를 보관하고, 비어 있는 월은 한 번의 GROUP BY 조회로 채운다.
+ * 예약 변경 알림(RoomAvailabilityIndex 가 보내는 room-availability 채널)을 받아 해당 예약 지점의 월을 모두 비운다.
+ * 알림은 커밋 이후에 오므로 변경 전 일자를 알 수 없어, 변경 후 일자의 월만이 아니라 지점 전체를 비운다.
+ * 알림 없이 DB 가 바뀌는 경우에 대비해 CACHE_TTL_MILLIS 가 지나면 다시 조회한다. */
+@Slf4j
+@Service
+public class ReservationCalendarServiceImpl implements ReservationCalendarService, MessageListener {
+
+	private static final String ALL_BRANCHES = "*";
+	private static final long CACHE_TTL_MILLIS = 10 * 60 * 1000L;
+	private static final int MAX_ENTRIES = 2000;
+
+	private final ReservationCalendarRepository reservationCalendarRepository;
+	private final ReservationViewRepository reservationViewRepository;
+
+	private final Map<String, MonthEntry> monthMap = new ConcurrentHashMap<>();
+	// 조회하는 동안 월 캐시가 비워진 경우 조회 결과를 넣지 않도록 비울 때마다 올린다
+	private final AtomicLong evictGeneration = new AtomicLong();
+
+	private record MonthEntry(ReservationCalendarMonthDTO month, long loadedAt) {
+	}
+
+	@Autowired
+	public ReservationCalendarServiceImpl(ReservationCalendarRepository reservationCalendarRepository,
+		ReservationViewRepository reservationViewRepository,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.reservationCalendarRepository = reservationCalendarRepository;
+		this.reservationViewRepository = reservationViewRepository;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_ROOM_AVAILABILITY));
+	}
+
+	/* 월간 캘린더 (일자별 건수 포함) */
+	@Override
+	public Map<String, Object> selectReservationCalendarByMonth(int year, int month, String branchCodeFk) {
+		YearMonth yearMonth = toYearMonth(year, month);
+
+		Map<String, Object> calendarInfo = new HashMap<>();
+		calendarInfo.put(KEY_CONTENT, loadMonths(branchCodeFk, yearMonth, yearMonth).get(0));
+		return calendarInfo;
+	}
+
+	/* 연간 캘린더 (월별 건수만) */
+	@Override
+	public Map<String, Object> selectReservationCalendarByYear(int year, String branchCodeFk) {
+		YearMonth firstMonth = toYearMonth(year, 1);
+
+		List<ReservationCalendarMonthDTO> monthList = loadMonths(branchCodeFk, firstMonth, firstMonth.plusMonths(11))
+			.stream()
+			.map(ReservationCalendarServiceImpl::withoutDays)
+			.toList();
+
+		Map<String, Object> calendarInfo = new HashMap<>();
+		calendarInfo.put(KEY_CONTENT, monthList);
+		return calendarInfo;
+	}
+
+	/* 해당 지점의 월 캐시와 전체 지점 월 캐시를 함께 비운다 */
+	@Override
+	public void evictMonth(String branchCodeFk, YearMonth yearMonth) {
+		evictGeneration.incrementAndGet();
+		monthMap.remove(buildKey(ALL_BRANCHES, yearMonth));
+		if (branchCodeFk != null) {
+			monthMap.remove(buildKey(branchCodeFk, yearMonth));
+		}
+	}
+
+	/* 예약 변경 알림 수신 (자기 자신이 보낸 알림 포함, 커밋 이후에만 발송된다)
+	 * 일자가 바뀐 예약은 변경 전 월도 비워야 하므로 예약 지점의 월을 모두 비우고,
+	 * 삭제되어 지점을 알 수 없는 예약이 있으면 전체를 비운다. */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// 자기 자신이 보낸 변경도 같은 경로로 반영한다
+		String payload = ChangeBroadcaster.payload(message);
+		// 전체 재생성, 객실 정보 변경은 예약 건수와 무관
+		if (RoomAvailabilityIndex.MESSAGE_REBUILD.equals(payload)
+			|| payload.startsWith(RoomAvailabilityIndex.MESSAGE_ROOMS + RoomAvailabilityIndex.MESSAGE_DELIMITER)) {
+			return;
+		}
+
+		try {
+			Set<Integer> reservationCodePks = Arrays.stream(payload.split(RoomAvailabilityIndex.RESERVATION_DELIMITER))
+				.map(Integer::valueOf)
+				.collect(Collectors.toSet());
+			List<ReservationViewEntity> reservationList = reservationViewRepository.findAllById(reservationCodePks);
+			if (reservationList.size() < reservationCodePks.size()) {
+				clearMonths();
+				return;
+			}
+			reservationList.stream()
+				.map(ReservationViewEntity::getBranchCodeFk)
+				.distinct()
+				.forEach(this::evictBranch);
+		} catch (RuntimeException e) {
+			log.warn("예약 캘린더 캐시 무효화 실패 [{}]: {}", payload, e.getMessage());
+			clearMonths();
+		}
+	}
+
+	private void clearMonths() {
+		evictGeneration.incrementAndGet();
+		monthMap.clear();
+	}
+
+	/* 해당 지점의 모든 월과 전체 지점 월 캐시를 비운다 */
+	private void evictBranch(String branchCodeFk) {
+		String branchPrefix = buildKeyPrefix(branchCodeFk == null ? ALL_BRANCHES : branchCodeFk);
+		String allBranchesPrefix = buildKeyPrefix(ALL_BRANCHES);
+		evictGeneration.incrementAndGet();
+		monthMap.keySet().removeIf(key -> key.startsWith(branchPrefix) || key.startsWith(allBranchesPrefix));
+	}
+
+	/* firstMonth ~ lastMonth 월별 집계 (캐시에 없는 월만 조회) */
+	private List<ReservationCalendarMonthDTO> loadMonths(String branchCodeFk, YearMonth firstMonth,
+		YearMonth lastMonth) {
+		String branchKey = branchCodeFk == null ? ALL_BRANCHES : branchCodeFk;
+		long now = System.currentTimeMillis();
+		long generation = evictGeneration.get();
+
+		List<ReservationCalendarMonthDTO> monthList = new ArrayList<>();
+		YearMonth firstMissing = null;
+		YearMonth lastMissing = null;
+		for (YearMonth yearMonth = firstMonth; !yearMonth.isAfter(lastMonth); yearMonth = yearMonth.plusMonths(1)) {
+			MonthEntry entry = monthMap.get(buildKey(branchKey, yearMonth));
+			if (entry != null && now - entry.loadedAt() < CACHE_TTL_MILLIS) {
+				monthList.add(entry.month());
+				continue;
+			}
+			monthList.add(null);
+			if (firstMissing == null) {
+				firstMissing = yearMonth;
+			}
+			lastMissing = yearMonth;
+		}
+
+		if (firstMissing == null) {
+			return monthList;
+		}
+
+		List<ReservationCalendarMonthDTO> loadedList = countMonths(branchCodeFk, firstMissing, lastMissing);
+
+		int offset = (int)(firstMissing.toEpochMonth() - firstMonth.toEpochMonth());
+		for (int i = 0; i < loadedList.size(); i++) {
+			monthList.set(offset + i, loadedList.get(i));
+		}
+
+		// 조회하는 동안 비워졌으면 이번 응답에만 쓰고 보관하지 않는다
+		if (generation != evictGeneration.get()) {
+			return monthList;
+		}
+		if (monthMap.size() + loadedList.size() > MAX_ENTRIES) {
+			monthMap.clear();
+		}
+		for (int i = 0; i < loadedList.size(); i++) {
+			monthMap.put(buildKey(branchKey, firstMissing.plusMonths(i)), new MonthEntry(loadedList.get(i), now));
+		}
+
+		return monthList;
+	}
+
+	/* 기간 전체를 한 번에 조회한 뒤 월별로 나눈다 */
+	private List<ReservationCalendarMonthDTO> countMonths(String branchCodeFk, YearMonth firstMonth,
+		YearMonth lastMonth) {
+		LocalDate startDate = firstMonth.atDay(1);
+		LocalDate endDate = lastMonth.plusMonths(1).atDay(1);
+
+		Map<LocalDate, ReservationCalendarRepository.DailyReservationCount> dailyCountMap = new HashMap<>();
+		for (ReservationCalendarRepository.DailyReservationCount dailyCount :
+			reservationCalendarRepository.countByDay(branchCodeFk, startDate, endDate)) {
+			dailyCountMap.put(dailyCount.date(), dailyCount);
+		}
+		long inHouseCount = reservationCalendarRepository.countInHouseBefore(branchCodeFk, startDate);
+
+		List<ReservationCalendarMonthDTO> monthList = new ArrayList<>();
+		for (YearMonth yearMonth = firstMonth; !yearMonth.isAfter(lastMonth); yearMonth = yearMonth.plusMonths(1)) {
+			List<ReservationCalendarDayDTO> dayList = new ArrayList<>();
+			long checkinTotal = 0;
+			long checkoutTotal = 0;
+			long cancelTotal = 0;
+			long roomNightTotal = 0;
+
+			for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+				LocalDate date = yearMonth.atDay(day);
+				ReservationCalendarRepository.DailyReservationCount dailyCount = dailyCountMap.get(date);
+				long checkinCount = dailyCount == null ? 0 : dailyCount.checkinCount();
+				long checkoutCount = dailyCount == null ? 0 : dailyCount.checkoutCount();
+				long cancelCount = dailyCount == null ? 0 : dailyCount.cancelCount();
+				inHouseCount += checkinCount - checkoutCount;
+
+				ReservationCalendarDayDTO calendarDay = new ReservationCalendarDayDTO();
+				calendarDay.setDate(date);
+				calendarDay.setCheckinCount(checkinCount);
+				calendarDay.setCheckoutCount(checkoutCount);
+				calendarDay.setCancelCount(cancelCount);
+				calendarDay.setInHouseCount(inHouseCount);
+				dayList.add(calendarDay);
+
+				checkinTotal += checkinCount;
+				checkoutTotal += checkoutCount;
+				cancelTotal += cancelCount;
+				roomNightTotal += inHouseCount;
+			}
+
+			ReservationCalendarMonthDTO calendarMonth = new ReservationCalendarMonthDTO();
+			calendarMonth.setYear(yearMonth.getYear());
+			calendarMonth.setMonth(yearMonth.getMonthValue());
+			calendarMonth.setBranchCodeFk(branchCodeFk);
+			calendarMonth.setCheckinCount(checkinTotal);
+			calendarMonth.setCheckoutCount(checkoutTotal);
+			calendarMonth.setCancelCount(cancelTotal);
+			calendarMonth.setRoomNightCount(roomNightTotal);
+			calendarMonth.setDayList(dayList);
+			monthList.add(calendarMonth);
+		}
+
+		return monthList;
+	}
+
+	private static ReservationCalendarMonthDTO withoutDays(ReservationCalendarMonthDTO month) {
+		ReservationCalendarMonthDTO summary = new ReservationCalendarMonthDTO();
+		summary.setYear(month.getYear());
+		summary.setMonth(month.getMonth());
+		summary.setBranchCodeFk(month.getBranchCodeFk());
+		summary.setCheckinCount(month.getCheckinCount());
+		summary.setCheckoutCount(month.getCheckoutCount());
+		summary.setCancelCount(month.getCancelCount());
+		summary.setRoomNightCount(month.getRoomNightCount());
+		summary.setDayList(List.of());
+		return summary;
+	}
+
+	private static YearMonth toYearMonth(int year, int month) {
+		if (year < 2000 || year > 2100 || month < 1 || month > 12) {
+			throw new IllegalArgumentException("조회할 수 없는 연월입니다.");
+		}
+		return YearMonth.of(year, month);
+	}
+
+	private static String buildKey(String branchKey, YearMonth yearMonth) {
+		return buildKeyPrefix(branchKey) + yearMonth;
+	}
+
+	private static String buildKeyPrefix(String branchKey) {
+		return branchKey + "|";
+	}
+}
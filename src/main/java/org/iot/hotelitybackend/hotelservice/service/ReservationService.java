@@ -4,7 +4,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
 import org.iot.hotelitybackend.hotelservice.vo.ReservationSearchCriteria;
 
 public interface ReservationService {
@@ -15,6 +17,8 @@ public interface ReservationService {
 		ReservationSearchCriteria criteria
 	);
 
+	Stream<ReservationDTO> streamReservationListByMonth(int year, int month, ReservationSearchCriteria criteria);
+
 	Map<String, Object> selectReseravtionInfoByReservationCodePk(Integer reservationCodePk);
 
 	Map<String, Object> selectReservationListByDay(LocalDateTime reservationCheckDate);
@@ -22,4 +26,6 @@ public interface ReservationService {
 	Map<String, Object> selectReservationsByYear(Integer yearInput);
 
 	Map<String, Object> selectLatestReservationList();
+
+	Map<String, Object> selectLatestReservationList(String branchCodeFk);
 }
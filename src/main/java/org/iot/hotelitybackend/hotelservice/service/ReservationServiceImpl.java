@@ -6,60 +6,65 @@ import static org.iot.hotelitybackend.common.constant.Constant.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.iot.hotelitybackend.customer.dto.CustomerDTO;
-import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomEntity;
-import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomCategoryRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomLevelRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
 import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.ReservationSpecification;
-import org.iot.hotelitybackend.hotelservice.aggregate.StayEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewSpecification;
 import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
-import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
 import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
-import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
 import org.iot.hotelitybackend.hotelservice.vo.ReservationDashboardVO;
 import org.iot.hotelitybackend.hotelservice.vo.ReservationSearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ReservationServiceImpl implements ReservationService {
 
+	// 월별 예약 조회 시 한 페이지에 요청할 수 있는 최대 건수
+	private static final int MAX_PAGE_SIZE = 200;
+	// 커서 조회(다운로드)에서 드라이버가 한 번에 받아오는 행 수
+	private static final int LIST_FETCH_SIZE = 1000;
+
+	// 정렬 기준으로 허용하는 예약 조회용 뷰의 필드
+	private static final Set<String> SORTABLE_FIELDS = Set.of(
+		"reservationCodePk", "customerCodeFk", "customerName", "customerEnglishName",
+		"roomCodeFk", "roomName", "roomLevelName", "roomCapacity", "branchCodeFk", "branchName",
+		"reservationDate", "reservationCheckinDate", "reservationCheckoutDate",
+		"reservationCancelStatus", "reservationPersonnel"
+	);
+
 	private final ReservationRepository reservationRepository;
+	private final ReservationViewRepository reservationViewRepository;
 	private final ModelMapper mapper;
-	private final CustomerRepository customerRepository;
-	private final RoomRepository roomRepository;
-	private final RoomCategoryRepository roomCategoryRepository;
-	private final RoomLevelRepository roomLevelRepository;
-	private final BranchRepository branchRepository;
-	private final StayRepository stayRepository;
+	private final PageQueryExecutor pageQueryExecutor;
 
 	@Autowired
-	public ReservationServiceImpl(ReservationRepository reservationRepository, ModelMapper mapper,
-		CustomerRepository customerRepository, RoomRepository roomRepository,
-		RoomCategoryRepository roomCategoryRepository, RoomLevelRepository roomLevelRepository,
-		BranchRepository branchRepository, StayRepository stayRepository) {
+	public ReservationServiceImpl(ReservationRepository reservationRepository,
+		ReservationViewRepository reservationViewRepository, ModelMapper mapper,
+		PageQueryExecutor pageQueryExecutor) {
 		this.reservationRepository = reservationRepository;
+		this.reservationViewRepository = reservationViewRepository;
 		this.mapper = mapper;
-		this.customerRepository = customerRepository;
-		this.roomRepository = roomRepository;
-		this.roomCategoryRepository = roomCategoryRepository;
-		this.roomLevelRepository = roomLevelRepository;
-		this.branchRepository = branchRepository;
-		this.stayRepository = stayRepository;
+		this.pageQueryExecutor = pageQueryExecutor;
 
 		this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
 		this.mapper.typeMap(ReservationEntity.class, ReservationDTO.class)
@@ -73,7 +78,8 @@ public class ReservationServiceImpl implements ReservationService {
 			));;
 	}
 
-	/* 월별 예약 리스트 전체 조회 */
+	/* 월별 예약 리스트 조회 (기본은 해당 월 전체, 페이지 파라미터가 있는 경우에만 페이징) */
+	@Transactional(readOnly = true)
 	@Override
 	public Map<String, Object> selectReservationListByMonth(
 		LocalDateTime reservationCheckinDatePathVariable,
@@ -82,51 +88,64 @@ public class ReservationServiceImpl implements ReservationService {
 		ReservationSearchCriteria criteria
 	) {
 
-		// 특정 월의 예약 내역을 조회하기 위해 월의 시작일과 종료일을 지정
+		// 특정 월의 예약 내역을 조회하기 위해 [월의 시작일, 다음 달 시작일) 구간을 지정
 		LocalDateTime startOfMonth =
 			LocalDateTime.of(year, month, 1, 0, 0);
-		System.out.println("해당 월의 시작 일자: " + startOfMonth);
 
-		LocalDateTime endOfMonth =
-			LocalDateTime.of(year, month, startOfMonth.getMonth().length(startOfMonth.toLocalDate().isLeapYear()),
-				23, 59, 59);
-		System.out.println("해당 월의 마지막 일자: " + endOfMonth);
+		LocalDateTime startOfNextMonth = startOfMonth.plusMonths(1);
 
 		// Specification 생성
-		Specification<ReservationEntity> specInit =
-			Specification.where(ReservationSpecification.betweenDate(startOfMonth, endOfMonth));
+		Specification<ReservationViewEntity> specInit =
+			Specification.where(ReservationViewSpecification.betweenDate(startOfMonth, startOfNextMonth));
 
-		System.out.println("criteria.getReservationCheckinDate(): " + criteria.getReservationCheckinDate());
-		Specification<ReservationEntity> spec = buildSpecification(specInit, criteria);
+		Specification<ReservationViewEntity> spec = buildSpecification(specInit, criteria);
 
-		String orderBy = criteria.getOrderBy();
-		Integer sortBy = criteria.getSortBy();
+		Sort sort = buildSort(criteria.getOrderBy(), criteria.getSortBy());
 
-		// 특정 월에 해당하는 예약 내역 리스트 조회
-		List<ReservationEntity> reservationEntityList =
-			reservationRepository.findAll(spec);
-		// reservationRepository.findByReservationCheckinDateBetween(startOfMonth, endOfMonth);
+		Map<String, Object> reservationListInfo = new HashMap<>();
 
-		List<ReservationDTO> reservationDTOList = setDTOField(reservationEntityList);
+		boolean paged = criteria.getPageNum() != null || criteria.getPageSize() != null
+			|| Boolean.TRUE.equals(criteria.getHasNextOnly());
 
-		// Pageable 쓰지않는 List 정렬
-		if (orderBy == null) {
-			reservationDTOList.stream().sorted(
-					Comparator.comparing(ReservationDTO::getReservationCheckinDate).reversed())
-				.collect(toList());
-		} else {
-			reservationDTOList = sortList(reservationDTOList, orderBy, sortBy);
-		}
+		// 1. 전체 조회 (기본, 캘린더는 해당 월 전체 리스트로 일자별 건수를 센다)
+		//    정렬만 DB 에서 처리한다.
+		if (!paged) {
+			reservationListInfo.put(KEY_CONTENT, toReservationDTOList(reservationViewRepository.findAll(spec, sort)));
 
-		Map<String, Object> reservationListInfo = new HashMap<>();
+			// 2. 페이징 처리 (pageNum, pageSize, hasNextOnly 중 하나라도 요청한 경우)
+		} else {
+			int pageNum = criteria.getPageNum() == null ? 0 : criteria.getPageNum();
+			int pageSize = criteria.getPageSize() == null ? PAGE_SIZE : Math.min(criteria.getPageSize(), MAX_PAGE_SIZE);
+			if (pageNum < 0 || pageSize < 1) {
+				throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 크기는 1 이상이어야 합니다.");
+			}
 
-		reservationListInfo.put(KEY_CONTENT, reservationDTOList);
+			Slice<ReservationViewEntity> reservationViewPage = pageQueryExecutor.findPage(
+				ReservationViewEntity.class, spec, PageRequest.of(pageNum, pageSize, sort), criteria.getHasNextOnly(),
+				criteria, startOfMonth);
+			reservationListInfo.putAll(PageQueryExecutor.toPageInfo(reservationViewPage));
+			reservationListInfo.put(KEY_CONTENT, toReservationDTOList(reservationViewPage.getContent()));
+		}
 
 		return reservationListInfo;
 	}
 
-	private Specification<ReservationEntity> buildSpecification(
-		Specification<ReservationEntity> specInit,
+	/* 월별 예약 리스트 커서 조회 (CSV/엑셀 다운로드)
+	 * 호출 측 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 한다. */
+	@Override
+	public Stream<ReservationDTO> streamReservationListByMonth(int year, int month, ReservationSearchCriteria criteria) {
+		LocalDateTime startOfMonth = LocalDateTime.of(year, month, 1, 0, 0);
+		Specification<ReservationViewEntity> spec = buildSpecification(
+			Specification.where(ReservationViewSpecification.betweenDate(startOfMonth, startOfMonth.plusMonths(1))),
+			criteria);
+
+		return pageQueryExecutor.stream(
+			ReservationViewEntity.class, spec, buildSort(criteria.getOrderBy(), criteria.getSortBy()), LIST_FETCH_SIZE,
+			this::toReservationDTO);
+	}
+
+	private Specification<ReservationViewEntity> buildSpecification(
+		Specification<ReservationViewEntity> specInit,
 		ReservationSearchCriteria criteria
 	) {
 		Integer reservationCodePk = criteria.getReservationCodePk();
@@ -143,126 +162,85 @@ public class ReservationServiceImpl implements ReservationService {
 		LocalDateTime reservationCheckoutDate = criteria.getReservationCheckoutDate();
 		Integer reservationCancelStatus = criteria.getReservationCancelStatus();
 
-		Specification<ReservationEntity> spec = specInit;
+		Specification<ReservationViewEntity> spec = specInit;
 
 		// 예약코드
 		if (reservationCodePk != null) {
-			spec = specInit.and(ReservationSpecification.equalsReservationCodePk(reservationCodePk));
+			spec = spec.and(ReservationViewSpecification.equalsReservationCodePk(reservationCodePk));
 		}
 		// 고객코드
 		if (customerCodeFk != null) {
-			spec = specInit.and(ReservationSpecification.equalsCustomerCodeFk(customerCodeFk));
+			spec = spec.and(ReservationViewSpecification.equalsCustomerCodeFk(customerCodeFk));
 		}
 		// 한글이름
 		if (customerName != null) {
-			spec = specInit.and(ReservationSpecification.likeCustomerName(customerName));
+			spec = spec.and(ReservationViewSpecification.likeCustomerName(customerName));
 		}
 		// 영어이름
 		if (customerEnglishName != null) {
-			spec = specInit.and(ReservationSpecification.likeCustomerEnglishName(customerEnglishName));
+			spec = spec.and(ReservationViewSpecification.likeCustomerEnglishName(customerEnglishName));
 		}
 		// 객실 코드
 		if (roomCodeFk != null) {
-			spec = specInit.and(ReservationSpecification.likeRoomCodeFk(roomCodeFk));
+			spec = spec.and(ReservationViewSpecification.likeRoomCodeFk(roomCodeFk));
 		}
 		// 객실명
 		if (roomName != null) {
-			spec = specInit.and(ReservationSpecification.likeRoomName(roomName));
+			spec = spec.and(ReservationViewSpecification.likeRoomName(roomName));
 		}
 		// 객실등급명
 		if (roomLevelName != null) {
-			spec = specInit.and(ReservationSpecification.likeRoomLevelName(roomLevelName));
+			spec = spec.and(ReservationViewSpecification.likeRoomLevelName(roomLevelName));
 		}
 		// 객실수용인원
 		if (roomCapacity != null) {
-			spec = specInit.and(ReservationSpecification.equalsRoomCapacity(roomCapacity));
+			spec = spec.and(ReservationViewSpecification.equalsRoomCapacity(roomCapacity));
 		}
 		// 지점코드
 		if (branchCodeFk != null) {
-			spec = specInit.and(ReservationSpecification.equalsBranchCodeFk(branchCodeFk));
+			spec = spec.and(ReservationViewSpecification.equalsBranchCodeFk(branchCodeFk));
 		}
 		// 예약일자
 		if (reservationDate != null) {
-			spec = specInit.and(ReservationSpecification.equalsReservationDate(reservationDate));
+			spec = spec.and(ReservationViewSpecification.equalsReservationDate(reservationDate));
 		}
 		// 체크인일자
 		if (reservationCheckinDate != null) {
-			spec = specInit.and(ReservationSpecification.equalsCheckinDate(reservationCheckinDate));
+			spec = spec.and(ReservationViewSpecification.equalsCheckinDate(reservationCheckinDate));
 		}
 		// 체크아웃일자
 		if (reservationCheckoutDate != null) {
-			spec = specInit.and(ReservationSpecification.equalsCheckoutDate(reservationCheckoutDate));
+			spec = spec.and(ReservationViewSpecification.equalsCheckoutDate(reservationCheckoutDate));
 		}
 		// 예약취소여부
 		if (reservationCancelStatus != null) {
-			spec = specInit.and(ReservationSpecification.equalsReservationCancleStatus(reservationCancelStatus));
+			spec = spec.and(ReservationViewSpecification.equalsReservationCancelStatus(reservationCancelStatus));
 		}
 		return spec;
 	}
 
-	private List<ReservationDTO> sortList(List<ReservationDTO> list, String orderBy, Integer sortBy) {
-
-		Comparator<ReservationDTO> comparator;
-
-		switch (orderBy) {
-			case "reservationCodePk":
-				comparator = Comparator.comparing(ReservationDTO::getReservationCodePk);
-				break;
-			case "customerCodeFk":
-				comparator = Comparator.comparing(ReservationDTO::getCustomerCodeFk);
-				break;
-			case "customerName":
-				comparator = Comparator.comparing(ReservationDTO::getCustomerName);
-				break;
-			case "customerEnglishName":
-				comparator = Comparator.comparing(ReservationDTO::getCustomerEnglishName);
-				break;
-			case "roomCodeFk":
-				comparator = Comparator.comparing(ReservationDTO::getRoomCodeFk);
-				break;
-			case "roomLevelName":
-				comparator = Comparator.comparing(ReservationDTO::getRoomLevelName);
-				break;
-			case "roomCapacity":
-				comparator = Comparator.comparing(ReservationDTO::getRoomCapacity);
-				break;
-			case "branchCodeFk":
-				comparator = Comparator.comparing(ReservationDTO::getBranchCodeFk);
-				break;
-			case "reservationDate":
-				comparator = Comparator.comparing(ReservationDTO::getReservationDate);
-				break;
-			case "reservationCheckinDate":
-				comparator = Comparator.comparing(ReservationDTO::getReservationCheckinDate);
-				break;
-			case "reservationCheckoutDate":
-				comparator = Comparator.comparing(ReservationDTO::getReservationCheckoutDate);
-				break;
-			case "reservationCancelStatus":
-				comparator = Comparator.comparing(ReservationDTO::getReservationCancelStatus);
-				break;
-			case "reservationPersonnel":
-				comparator = Comparator.comparing(ReservationDTO::getReservationPersonnel);
-				break;
-			default:
-				throw new IllegalArgumentException(orderBy + "에 해당하는 필드가 존재하지 않습니다.");
-		}
+	/* 정렬 가능한 필드만 허용 (조인된 고객명, 객실 등급명 등도 예약 조회용 뷰의 컬럼이므로 DB 에서 정렬) */
+	private Sort buildSort(String orderBy, Integer sortBy) {
 
-		if (sortBy != 1) {
-			comparator = comparator.reversed();
+		// 기본 정렬: 체크인 일자 최신순
+		if (orderBy == null) {
+			return Sort.by(Sort.Order.desc("reservationCheckinDate"), Sort.Order.desc("reservationCodePk"));
 		}
 
-		return list.stream().sorted(comparator).collect(toList());
+		// 다른 목록과 같은 규칙 (sortBy 가 없거나 1 이면 오름차순)
+		Sort.Direction direction = SortResolver.direction(sortBy);
+
+		// 같은 값이 여러 건일 때도 페이지 간 순서가 바뀌지 않도록 예약코드를 보조 정렬로 사용
+		return Sort.by(direction, SortResolver.orderBy(orderBy, SORTABLE_FIELDS))
+			.and(Sort.by(direction, "reservationCodePk"));
 	}
 
 	/* 예약 코드로 특정 예약 내역 조회 */
 	@Override
 	public Map<String, Object> selectReseravtionInfoByReservationCodePk(Integer reservationCodePk) {
 
-		List<ReservationEntity> reservationEntityList =
-			reservationRepository.findById(reservationCodePk).stream().toList();
-
-		List<ReservationDTO> reservationDTOList = setDTOField(reservationEntityList);
+		List<ReservationDTO> reservationDTOList =
+			toReservationDTOList(reservationViewRepository.findById(reservationCodePk).stream().toList());
 
 		Map<String, Object> reservationInfo = new HashMap<>();
 
@@ -274,10 +252,8 @@ public class ReservationServiceImpl implements ReservationService {
 	/* 일자별 예약 리스트 조회 */
 	@Override
 	public Map<String, Object> selectReservationListByDay(LocalDateTime reservationCheckDate) {
-		List<ReservationEntity> dailyReservationEntityList = reservationRepository.findByReservationCheckinDate(
-			reservationCheckDate);
-
-		List<ReservationDTO> dailyReservationDTOList = setDTOField(dailyReservationEntityList);
+		List<ReservationDTO> dailyReservationDTOList =
+			toReservationDTOList(reservationViewRepository.findByReservationCheckinDate(reservationCheckDate));
 
 		Map<String, Object> dailyReservationInfo = new HashMap<>();
 
@@ -289,18 +265,14 @@ public class ReservationServiceImpl implements ReservationService {
 	@Override
 	public Map<String, Object> selectReservationsByYear(Integer yearInput) {
 
-		// 특정 월의 예약 내역을 조회하기 위해 월의 시작일과 종료일을 지정
+		// 특정 년도의 예약 내역을 조회하기 위해 [년도의 시작일, 다음 해 시작일) 구간을 지정
 		LocalDateTime startOfYear =
 			LocalDateTime.of(yearInput, 1, 1, 0, 0);
-		System.out.println("해당 년도의 시작 일자: " + startOfYear);
 
-		LocalDateTime endOfYear =
-			LocalDateTime.of(yearInput, 12, startOfYear.getMonth().length(startOfYear.toLocalDate().isLeapYear()),
-				23, 59, 59);
-		System.out.println("해당 년도의 마지막 일자: " + endOfYear);
+		LocalDateTime startOfNextYear = startOfYear.plusYears(1);
 
 		Specification<ReservationEntity> spec =
-			Specification.where(ReservationSpecification.betweenDate(startOfYear, endOfYear));
+			Specification.where(ReservationSpecification.betweenDate(startOfYear, startOfNextYear));
 
 		List<ReservationEntity> reservationEntityList = reservationRepository.findAll(spec);
 		List<ReservationDTO> reservationDTOList = reservationEntityList
@@ -316,31 +288,20 @@ public class ReservationServiceImpl implements ReservationService {
 
 	@Override
 	public Map<String, Object> selectLatestReservationList() {
-		List<ReservationEntity> reservationEntityList = reservationRepository.findTop3ByOrderByReservationDateDesc();
-		List<ReservationDashboardVO> reservationDTOList = reservationEntityList
+		return selectLatestReservationList(null);
+	}
+
+	/* 최근 예약 3건 (지점코드가 없으면 전 지점) */
+	@Override
+	public Map<String, Object> selectLatestReservationList(String branchCodeFk) {
+		List<ReservationViewEntity> reservationViewList = branchCodeFk == null
+			? reservationViewRepository.findTop3ByOrderByReservationDateDesc()
+			: reservationViewRepository.findTop3ByBranchCodeFkOrderByReservationDateDesc(branchCodeFk);
+
+		// 고객명, 객실명, 객실 등급명은 예약 조회용 뷰에 있으므로 예약 건마다 추가 조회하지 않는다
+		List<ReservationDashboardVO> reservationDTOList = reservationViewList
 			.stream()
-			.map(reservationEntity -> mapper.map(reservationEntity, ReservationDashboardVO.class))
-			.peek(reservationDashboardVO -> reservationDashboardVO.setCustomerName(
-				customerRepository.findById(
-					reservationDashboardVO.getCustomerCodeFk()
-				).get().getCustomerName()
-			))
-			.peek(reservationDashboardVO -> reservationDashboardVO.setRoomName(
-				roomCategoryRepository.findById(
-					roomRepository.findById(
-						reservationDashboardVO.getRoomCodeFk()
-					).get().getRoomCategoryCodeFk()
-				).get().getRoomName()
-			))
-			.peek(reservationDashboardVO -> reservationDashboardVO.setRoomLevelName(
-				roomLevelRepository.findById(
-					roomCategoryRepository.findById(
-						roomRepository.findById(
-							reservationDashboardVO.getRoomCodeFk()
-						).get().getRoomCategoryCodeFk()
-					).get().getRoomLevelCodeFk()
-				).get().getRoomLevelName()
-			))
+			.map(ReservationServiceImpl::toReservationDashboardVO)
 			.collect(Collectors.toList());
 
 		// 예약 수가 3개보다 부족할 때
@@ -359,73 +320,48 @@ public class ReservationServiceImpl implements ReservationService {
 		return reservationInfo;
 	}
 
+	private static ReservationDashboardVO toReservationDashboardVO(ReservationViewEntity reservationView) {
+		ReservationDashboardVO reservationDashboardVO = new ReservationDashboardVO();
+		reservationDashboardVO.setReservationCodePk(reservationView.getReservationCodePk());
+		reservationDashboardVO.setCustomerCodeFk(reservationView.getCustomerCodeFk());
+		reservationDashboardVO.setCustomerName(reservationView.getCustomerName());
+		reservationDashboardVO.setRoomCodeFk(reservationView.getRoomCodeFk());
+		reservationDashboardVO.setRoomName(reservationView.getRoomName());
+		reservationDashboardVO.setRoomLevelName(reservationView.getRoomLevelName());
+		reservationDashboardVO.setReservationDate(reservationView.getReservationDate());
+		return reservationDashboardVO;
+	}
+
 	/* fk 값들의 이름을 가져오는 코드 */
+	/* 예약 조회용 뷰에서 한 번에 조회하여 예약 건마다 추가 쿼리가 발생하지 않도록 함 */
 	public List<ReservationDTO> setDTOField(List<ReservationEntity> reservationEntityList) {
 
-		AtomicReference<List<StayEntity>> existingStayEntity = new AtomicReference<>(new ArrayList<>());
-
-		List<ReservationDTO> list =
-			reservationEntityList.stream().map(reservationEntity -> {
-				ReservationDTO reservationDTO = mapper.map(reservationEntity, ReservationDTO.class);
-
-				// 숙박 일수 계산
-				reservationDTO.setStayPeriod(calculateStayPeriod(reservationEntity.getReservationCodePk()));
-
-				// 고객명
-				reservationDTO.setCustomerName(
-					mapper.map(customerRepository.findById(reservationDTO.getCustomerCodeFk()).orElse(null),
-						CustomerDTO.class).getCustomerName());
-
-				// 객실 번호
-				reservationDTO.setRoomNumber(
-					roomRepository.findById(reservationDTO.getRoomCodeFk()).get().getRoomNumber());
-				// 객실명
-				reservationDTO.setRoomName(String.valueOf(roomCategoryRepository.findById(
-					roomRepository.findById(reservationDTO.getRoomCodeFk()).get().getRoomCategoryCodeFk()
-				).get().getRoomName()));
-
-				// 객실등급명
-				reservationDTO.setRoomLevelName(
-					roomLevelRepository.findById(
-						roomCategoryRepository.findById(
-							roomRepository.findById(
-								reservationDTO.getRoomCodeFk()
-							).get().getRoomCategoryCodeFk()
-						).get().getRoomLevelCodeFk()
-					).get().getRoomLevelName());
-
-				// 객실 수용 인원
-				reservationDTO.setRoomCapacity(
-					roomCategoryRepository.findById(
-						roomRepository.findById(
-							reservationDTO.getRoomCodeFk()
-						).get().getRoomCategoryCodeFk()
-					).get().getRoomCapacity());
-
-				// 지점명
-				reservationDTO.setBranchName(
-					branchRepository.findById(reservationDTO.getBranchCodeFk()).get().getBranchName());
-
-				// 투숙 상태
-				existingStayEntity.set(stayRepository.findByReservationCodeFk(reservationDTO.getReservationCodePk())
-					.stream()
-					.toList());
-				reservationDTO.setStayStatus(existingStayEntity.get().isEmpty() ? 0 : 1);
-
-				return reservationDTO;
-			}).collect(Collectors.toList());
-
-		return list;
-	}
+		List<Integer> reservationCodePkList = reservationEntityList
+			.stream()
+			.map(ReservationEntity::getReservationCodePk)
+			.toList();
 
-	/* 숙박 일수 계산 */
-	public String calculateStayPeriod(Integer reservationCodePk){
-		ReservationEntity reservationEntity = reservationRepository.findById(reservationCodePk).orElse(null);
+		Map<Integer, ReservationViewEntity> reservationViewMap = reservationViewRepository
+			.findAllById(reservationCodePkList)
+			.stream()
+			.collect(Collectors.toMap(ReservationViewEntity::getReservationCodePk, Function.identity()));
 
-		LocalDateTime checkinDate = reservationEntity.getReservationCheckinDate();
-		LocalDateTime checkoutDate = reservationEntity.getReservationCheckoutDate();
+		return reservationCodePkList
+			.stream()
+			.map(reservationViewMap::get)
+			.filter(Objects::nonNull)
+			.map(this::toReservationDTO)
+			.collect(Collectors.toList());
+	}
+
+	private List<ReservationDTO> toReservationDTOList(List<ReservationViewEntity> reservationViewEntityList) {
+		return reservationViewEntityList
+			.stream()
+			.map(this::toReservationDTO)
+			.collect(Collectors.toList());
+	}
 
-		Integer result = checkoutDate.getDayOfYear() - checkinDate.getDayOfYear();
-		return result + "박";
+	private ReservationDTO toReservationDTO(ReservationViewEntity reservationViewEntity) {
+		return mapper.map(reservationViewEntity, ReservationDTO.class);
 	}
 }
@@ -0,0 +1,445 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.iot.hotelitybackend.common.util.ChangeBroadcaster;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.AvailableRoomDTO;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 객실별 1박 단위 점유 현황을 메모리에 들고 있는 인덱스
+ * 객실마다 BitSet 하나를 두고, (날짜 - 기준일) 번째 비트가 켜져 있으면 그 날 밤은 예약/투숙 중이다.
+ * 기간 내 빈 객실 조회는 객실당 nextSetBit 한 번으로 끝나므로 reservation_tb 를 스캔하지 않는다.
+ * 기준일(어제) 이전 날짜는 인덱스에 없으므로 조회하지 않는다.
+ * 다른 서버에서 발생한 변경은 Redis pub/sub 으로 전달받아 같은 예약/객실을 DB 에서 다시 읽어 반영한다.
+ * 전체를 새로 만드는 동안 반영된 예약/객실 변경은 기록해 두었다가 새 인덱스로 바꾼 뒤 다시 반영한다. */
+@Slf4j
+@Component
+public class RoomAvailabilityIndex implements MessageListener {
+
+	static final String MESSAGE_REBUILD = "ALL";
+	static final String MESSAGE_ROOMS = "ROOM";
+	static final String MESSAGE_DELIMITER = ChangeBroadcaster.MESSAGE_DELIMITER;
+	static final String RESERVATION_DELIMITER = ",";
+	private static final Integer RESERVATION_CANCELED = 1;
+
+	private final RoomViewRepository roomViewRepository;
+	private final ReservationViewRepository reservationViewRepository;
+	private final StayViewRepository stayViewRepository;
+	private final ChangeBroadcaster changeBroadcaster;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private long baseEpochDay;
+	private Map<String, RoomSlot> roomSlotMap = new LinkedHashMap<>();
+	private Map<String, List<RoomSlot>> branchRoomSlotMap = new HashMap<>();
+	private Map<Integer, Booking> bookingMap = new HashMap<>();
+
+	// rebuild 가 DB 를 읽는 동안 반영된 변경 (lock 으로 보호)
+	private boolean rebuilding;
+	private final Set<Integer> pendingReservationCodes = new HashSet<>();
+	private final Set<String> pendingRoomCodes = new HashSet<>();
+
+	@Autowired
+	public RoomAvailabilityIndex(RoomViewRepository roomViewRepository, ReservationViewRepository reservationViewRepository,
+		StayViewRepository stayViewRepository, StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.roomViewRepository = roomViewRepository;
+		this.reservationViewRepository = reservationViewRepository;
+		this.stayViewRepository = stayViewRepository;
+		this.changeBroadcaster = new ChangeBroadcaster(redisTemplate, REDIS_CHANNEL_ROOM_AVAILABILITY);
+
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_ROOM_AVAILABILITY));
+	}
+
+	/* 기간 내 빈 객실 조회 (checkinDate 포함, checkoutDate 미포함, 지점코드가 없으면 전 지점)
+	 * 기준일 이전 날짜는 점유 현황이 없으므로 IllegalArgumentException */
+	public List<AvailableRoomDTO> findAvailableRooms(String branchCodeFk, LocalDate checkinDate,
+		LocalDate checkoutDate, Predicate<AvailableRoomDTO> filter) {
+
+		List<AvailableRoomDTO> availableRoomList = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			if (checkinDate.toEpochDay() < baseEpochDay) {
+				throw new IllegalArgumentException(
+					LocalDate.ofEpochDay(baseEpochDay) + " 이전 날짜의 빈 객실은 조회할 수 없습니다.");
+			}
+			int fromIndex = (int)(checkinDate.toEpochDay() - baseEpochDay);
+			int toIndex = (int)(checkoutDate.toEpochDay() - baseEpochDay);
+
+			Collection<RoomSlot> roomSlots = branchCodeFk == null
+				? roomSlotMap.values()
+				: branchRoomSlotMap.getOrDefault(branchCodeFk, List.of());
+
+			for (RoomSlot roomSlot : roomSlots) {
+				if (!filter.test(roomSlot.room)) {
+					continue;
+				}
+				int occupiedIndex = roomSlot.nights.nextSetBit(fromIndex);
+				if (occupiedIndex < 0 || occupiedIndex >= toIndex) {
+					availableRoomList.add(copyOf(roomSlot.room));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return availableRoomList;
+	}
+
+	/* 예약/취소/투숙 변경 알림 (트랜잭션 커밋 이후 반영 및 다른 서버에 전파) */
+	public void notifyReservationChanged(Integer reservationCodePk) {
+		if (reservationCodePk == null) {
+			return;
+		}
+		changeBroadcaster.afterCommit(() -> refreshReservation(reservationCodePk), String.valueOf(reservationCodePk));
+	}
+
+	/* 여러 예약이 한꺼번에 바뀐 경우 (일괄 체크아웃 등) 한 번만 다시 읽고 알림도 한 번만 보낸다 */
+	public void notifyReservationsChanged(Collection<Integer> reservationCodePkList) {
+		if (reservationCodePkList.isEmpty()) {
+			return;
+		}
+		List<Integer> reservationCodes = List.copyOf(reservationCodePkList);
+		changeBroadcaster.afterCommit(() -> refreshReservations(reservationCodes),
+			reservationCodes.stream().map(String::valueOf).collect(Collectors.joining(RESERVATION_DELIMITER)));
+	}
+
+	/* 객실 정보(뷰, 가격, 삭제 등) 변경 알림 (해당 객실만 다시 읽는다) */
+	public void notifyRoomsChanged(Collection<String> roomCodePkList) {
+		if (roomCodePkList.isEmpty()) {
+			return;
+		}
+		List<String> roomCodes = List.copyOf(roomCodePkList);
+		changeBroadcaster.afterCommit(() -> refreshRooms(roomCodes),
+			MESSAGE_ROOMS + MESSAGE_DELIMITER + String.join(RESERVATION_DELIMITER, roomCodes));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/* 기준일을 옮기고 누락된 변경이 있더라도 맞춰지도록 매일 새로 만든다
+	 * DB 를 읽는 동안에는 lock 을 잡지 않으므로, 그 사이 refresh 된 예약/객실은 새 인덱스로 바꾼 뒤 다시 읽어 반영한다. */
+	@Scheduled(cron = "0 0 4 * * *")
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			rebuilding = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		try {
+			long newBaseEpochDay = LocalDate.now().minusDays(1).toEpochDay();
+
+			Map<String, RoomSlot> newRoomSlotMap = new LinkedHashMap<>();
+			Map<String, List<RoomSlot>> newBranchRoomSlotMap = new HashMap<>();
+			for (RoomViewEntity roomView : roomViewRepository.findAll()) {
+				RoomSlot roomSlot = new RoomSlot(toAvailableRoomDTO(roomView));
+				newRoomSlotMap.put(roomView.getRoomCodePk(), roomSlot);
+				newBranchRoomSlotMap.computeIfAbsent(roomView.getBranchCodeFk(), key -> new ArrayList<>())
+					.add(roomSlot);
+			}
+
+			List<ReservationViewEntity> reservationList = reservationViewRepository
+				.findAllByReservationCheckoutDateAfter(LocalDate.ofEpochDay(newBaseEpochDay).atStartOfDay());
+			Map<Integer, LocalDateTime> stayCheckoutMap = findStayCheckoutTimes(
+				reservationList.stream().map(ReservationViewEntity::getReservationCodePk).toList());
+
+			Map<Integer, Booking> newBookingMap = new HashMap<>();
+			for (ReservationViewEntity reservation : reservationList) {
+				Booking booking = toBooking(reservation, stayCheckoutMap.get(reservation.getReservationCodePk()));
+				RoomSlot roomSlot = booking == null ? null : newRoomSlotMap.get(booking.roomCodeFk());
+				if (roomSlot != null) {
+					newBookingMap.put(reservation.getReservationCodePk(), booking);
+					roomSlot.reservationCodes.add(reservation.getReservationCodePk());
+					markNights(roomSlot.nights, booking, newBaseEpochDay);
+				}
+			}
+
+			lock.writeLock().lock();
+			try {
+				baseEpochDay = newBaseEpochDay;
+				roomSlotMap = newRoomSlotMap;
+				branchRoomSlotMap = newBranchRoomSlotMap;
+				bookingMap = newBookingMap;
+			} finally {
+				lock.writeLock().unlock();
+			}
+
+			log.info("객실 점유 인덱스 생성 완료: 객실 {}개, 예약 {}건", newRoomSlotMap.size(), newBookingMap.size());
+		} catch (RuntimeException e) {
+			log.error("객실 점유 인덱스 생성 실패: {}", e.getMessage(), e);
+		}
+
+		// 실패한 경우에도 기존 인덱스에는 이미 반영되어 있으므로 다시 읽어도 결과는 같다
+		List<String> replayRoomCodes;
+		List<Integer> replayReservationCodes;
+		lock.writeLock().lock();
+		try {
+			rebuilding = false;
+			replayRoomCodes = List.copyOf(pendingRoomCodes);
+			replayReservationCodes = List.copyOf(pendingReservationCodes);
+			pendingRoomCodes.clear();
+			pendingReservationCodes.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		try {
+			if (!replayRoomCodes.isEmpty()) {
+				refreshRooms(replayRoomCodes);
+			}
+			if (!replayReservationCodes.isEmpty()) {
+				refreshReservations(replayReservationCodes);
+			}
+		} catch (RuntimeException e) {
+			log.warn("객실 점유 인덱스 생성 중 변경 재반영 실패: {}", e.getMessage());
+		}
+	}
+
+	/* 객실을 DB 에서 다시 읽어 반영 (삭제된 객실은 빼고, 새 객실은 해당 객실의 예약까지 읽는다) */
+	public void refreshRooms(Collection<String> roomCodePkList) {
+		Map<String, RoomViewEntity> roomViewMap = roomViewRepository.findAllById(roomCodePkList)
+			.stream()
+			.collect(Collectors.toMap(RoomViewEntity::getRoomCodePk, roomView -> roomView));
+		List<ReservationViewEntity> reservationList = reservationViewRepository
+			.findAllByRoomCodeFkInAndReservationCheckoutDateAfter(
+				roomCodePkList, LocalDate.now().minusDays(1).atStartOfDay());
+		Map<Integer, LocalDateTime> stayCheckoutMap = findStayCheckoutTimes(
+			reservationList.stream().map(ReservationViewEntity::getReservationCodePk).toList());
+
+		lock.writeLock().lock();
+		try {
+			if (rebuilding) {
+				pendingRoomCodes.addAll(roomCodePkList);
+			}
+
+			List<RoomSlot> changedRoomSlots = new ArrayList<>();
+			for (String roomCodePk : roomCodePkList) {
+				RoomSlot oldRoomSlot = roomSlotMap.remove(roomCodePk);
+				if (oldRoomSlot != null) {
+					List<RoomSlot> branchRoomSlots = branchRoomSlotMap.get(oldRoomSlot.room.getBranchCodeFk());
+					if (branchRoomSlots != null) {
+						branchRoomSlots.remove(oldRoomSlot);
+					}
+					oldRoomSlot.reservationCodes.forEach(bookingMap::remove);
+				}
+
+				RoomViewEntity roomView = roomViewMap.get(roomCodePk);
+				if (roomView != null) {
+					RoomSlot roomSlot = new RoomSlot(toAvailableRoomDTO(roomView));
+					roomSlotMap.put(roomCodePk, roomSlot);
+					branchRoomSlotMap.computeIfAbsent(roomView.getBranchCodeFk(), key -> new ArrayList<>())
+						.add(roomSlot);
+					changedRoomSlots.add(roomSlot);
+				}
+			}
+
+			for (ReservationViewEntity reservation : reservationList) {
+				Booking booking = toBooking(reservation, stayCheckoutMap.get(reservation.getReservationCodePk()));
+				RoomSlot roomSlot = booking == null ? null : roomSlotMap.get(booking.roomCodeFk());
+				if (roomSlot != null && changedRoomSlots.contains(roomSlot)) {
+					bookingMap.put(reservation.getReservationCodePk(), booking);
+					roomSlot.reservationCodes.add(reservation.getReservationCodePk());
+				}
+			}
+
+			for (RoomSlot roomSlot : changedRoomSlots) {
+				remarkNights(roomSlot);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/* 예약 1건을 DB 에서 다시 읽어 해당 객실의 점유 비트만 다시 계산 */
+	public void refreshReservation(Integer reservationCodePk) {
+		refreshReservations(List.of(reservationCodePk));
+	}
+
+	/* 여러 예약을 한 번에 다시 읽어 반영 (예약 조회 1회, 투숙 조회 1회) */
+	public void refreshReservations(Collection<Integer> reservationCodePkList) {
+		Map<Integer, LocalDateTime> stayCheckoutMap = findStayCheckoutTimes(reservationCodePkList);
+		Map<Integer, Booking> newBookingMap = new HashMap<>();
+		for (ReservationViewEntity reservation : reservationViewRepository.findAllById(reservationCodePkList)) {
+			Booking booking = toBooking(reservation, stayCheckoutMap.get(reservation.getReservationCodePk()));
+			if (booking != null) {
+				newBookingMap.put(reservation.getReservationCodePk(), booking);
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (rebuilding) {
+				pendingReservationCodes.addAll(reservationCodePkList);
+			}
+
+			Set<RoomSlot> changedRoomSlots = new HashSet<>();
+			for (Integer reservationCodePk : reservationCodePkList) {
+				Booking oldBooking = bookingMap.remove(reservationCodePk);
+				RoomSlot oldRoomSlot = oldBooking == null ? null : roomSlotMap.get(oldBooking.roomCodeFk());
+				if (oldRoomSlot != null) {
+					oldRoomSlot.reservationCodes.remove(reservationCodePk);
+					changedRoomSlots.add(oldRoomSlot);
+				}
+
+				Booking booking = newBookingMap.get(reservationCodePk);
+				RoomSlot roomSlot = booking == null ? null : roomSlotMap.get(booking.roomCodeFk());
+				if (roomSlot != null) {
+					bookingMap.put(reservationCodePk, booking);
+					roomSlot.reservationCodes.add(reservationCodePk);
+					changedRoomSlots.add(roomSlot);
+				}
+			}
+
+			for (RoomSlot roomSlot : changedRoomSlots) {
+				remarkNights(roomSlot);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/* 다른 서버에서 보낸 변경 알림 수신 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String payload = changeBroadcaster.remotePayload(message).orElse(null);
+		if (payload == null) {
+			return;
+		}
+
+		try {
+			if (MESSAGE_REBUILD.equals(payload)) {
+				rebuild();
+			} else if (payload.startsWith(MESSAGE_ROOMS + MESSAGE_DELIMITER)) {
+				String roomCodes = payload.substring(MESSAGE_ROOMS.length() + MESSAGE_DELIMITER.length());
+				refreshRooms(Arrays.asList(roomCodes.split(RESERVATION_DELIMITER)));
+			} else {
+				refreshReservations(Arrays.stream(payload.split(RESERVATION_DELIMITER)).map(Integer::valueOf).toList());
+			}
+		} catch (RuntimeException e) {
+			log.warn("객실 점유 변경 알림 처리 실패 [{}]: {}", payload, e.getMessage());
+		}
+	}
+
+	private Map<Integer, LocalDateTime> findStayCheckoutTimes(Collection<Integer> reservationCodePkList) {
+		Map<Integer, LocalDateTime> stayCheckoutMap = new HashMap<>();
+		if (reservationCodePkList.isEmpty()) {
+			return stayCheckoutMap;
+		}
+		for (StayViewEntity stay : stayViewRepository.findAllByReservationCodeFkIn(reservationCodePkList)) {
+			if (stay.getStayCheckoutTime() != null) {
+				stayCheckoutMap.put(stay.getReservationCodeFk(), stay.getStayCheckoutTime());
+			}
+		}
+		return stayCheckoutMap;
+	}
+
+	/* 취소된 예약은 점유하지 않고, 예정보다 일찍 체크아웃한 투숙은 실제 체크아웃 날짜까지만 점유한다 */
+	private Booking toBooking(ReservationViewEntity reservation, LocalDateTime stayCheckoutTime) {
+		if (RESERVATION_CANCELED.equals(reservation.getReservationCancelStatus())
+			|| reservation.getRoomCodeFk() == null
+			|| reservation.getReservationCheckinDate() == null
+			|| reservation.getReservationCheckoutDate() == null) {
+			return null;
+		}
+
+		long startEpochDay = reservation.getReservationCheckinDate().toLocalDate().toEpochDay();
+		long endEpochDay = reservation.getReservationCheckoutDate().toLocalDate().toEpochDay();
+		if (stayCheckoutTime != null) {
+			endEpochDay = Math.min(endEpochDay, stayCheckoutTime.toLocalDate().toEpochDay());
+		}
+
+		return new Booking(reservation.getRoomCodeFk(), startEpochDay, endEpochDay);
+	}
+
+	private void remarkNights(RoomSlot roomSlot) {
+		roomSlot.nights.clear();
+		for (Integer reservationCodePk : roomSlot.reservationCodes) {
+			markNights(roomSlot.nights, bookingMap.get(reservationCodePk), baseEpochDay);
+		}
+	}
+
+	private static void markNights(BitSet nights, Booking booking, long baseEpochDay) {
+		int fromIndex = (int)Math.max(0, booking.startEpochDay() - baseEpochDay);
+		int toIndex = (int)(booking.endEpochDay() - baseEpochDay);
+		if (fromIndex < toIndex) {
+			nights.set(fromIndex, toIndex);
+		}
+	}
+
+	private static AvailableRoomDTO toAvailableRoomDTO(RoomViewEntity roomView) {
+		AvailableRoomDTO room = new AvailableRoomDTO();
+		room.setRoomCodePk(roomView.getRoomCodePk());
+		room.setBranchCodeFk(roomView.getBranchCodeFk());
+		room.setRoomNumber(roomView.getRoomNumber());
+		room.setRoomName(roomView.getRoomName());
+		room.setRoomLevelName(roomView.getRoomLevelName());
+		room.setRoomView(roomView.getRoomView());
+		room.setRoomCapacity(roomView.getRoomCapacity());
+		room.setRoomPrice(roomView.getRoomPrice());
+		return room;
+	}
+
+	private static AvailableRoomDTO copyOf(AvailableRoomDTO source) {
+		AvailableRoomDTO room = new AvailableRoomDTO();
+		room.setRoomCodePk(source.getRoomCodePk());
+		room.setBranchCodeFk(source.getBranchCodeFk());
+		room.setRoomNumber(source.getRoomNumber());
+		room.setRoomName(source.getRoomName());
+		room.setRoomLevelName(source.getRoomLevelName());
+		room.setRoomView(source.getRoomView());
+		room.setRoomCapacity(source.getRoomCapacity());
+		room.setRoomPrice(source.getRoomPrice());
+		return room;
+	}
+
+	private static class RoomSlot {
+		private final AvailableRoomDTO room;
+		private final BitSet nights = new BitSet();
+		private final Set<Integer> reservationCodes = new HashSet<>();
+
+		private RoomSlot(AvailableRoomDTO room) {
+			this.room = room;
+		}
+	}
+
+	private record Booking(String roomCodeFk, long startEpochDay, long endEpochDay) {
+	}
+}
@@ -0,0 +1,10 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+
+public interface RoomAvailabilityService {
+	Map<String, Object> selectAvailableRooms(LocalDate checkinDate, LocalDate checkoutDate, RoomSearchCriteria criteria);
+}
@@ -0,0 +1,86 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.iot.hotelitybackend.hotelservice.dto.AvailableRoomDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RoomAvailabilityServiceImpl implements RoomAvailabilityService {
+
+	private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+	@Autowired
+	public RoomAvailabilityServiceImpl(RoomAvailabilityIndex roomAvailabilityIndex) {
+		this.roomAvailabilityIndex = roomAvailabilityIndex;
+	}
+
+	/* 기간 내 빈 객실 조회 (객실 검색 조건과 함께 사용) */
+	@Override
+	public Map<String, Object> selectAvailableRooms(
+		LocalDate checkinDate, LocalDate checkoutDate, RoomSearchCriteria criteria) {
+
+		if (!checkinDate.isBefore(checkoutDate)) {
+			throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+		}
+
+		List<AvailableRoomDTO> availableRoomList = roomAvailabilityIndex.findAvailableRooms(
+			criteria.getBranchCodeFk(), checkinDate, checkoutDate, buildFilter(criteria));
+
+		Map<String, Object> availableRoomInfo = new HashMap<>();
+		availableRoomInfo.put(KEY_CONTENT, availableRoomList);
+		availableRoomInfo.put("checkinDate", checkinDate.toString());
+		availableRoomInfo.put("checkoutDate", checkoutDate.toString());
+
+		return availableRoomInfo;
+	}
+
+	private Predicate<AvailableRoomDTO> buildFilter(RoomSearchCriteria criteria) {
+		String roomName = criteria.getRoomName();
+		String roomLevelName = criteria.getRoomLevelName();
+		String roomView = criteria.getRoomView();
+		Integer roomCapacity = criteria.getRoomCapacity();
+		Integer minPrice = criteria.getMinPrice();
+		Integer maxPrice = criteria.getMaxPrice();
+
+		Predicate<AvailableRoomDTO> filter = room -> true;
+
+		// 객실명
+		if (roomName != null) {
+			filter = filter.and(room -> roomName.equals(room.getRoomName()));
+		}
+
+		// 객실 등급명
+		if (roomLevelName != null) {
+			filter = filter.and(room -> roomLevelName.equals(room.getRoomLevelName()));
+		}
+
+		// 객실 뷰 (like)
+		if (roomView != null) {
+			filter = filter.and(room -> room.getRoomView() != null && room.getRoomView().contains(roomView));
+		}
+
+		// 수용 인원 이상인 객실
+		if (roomCapacity != null) {
+			filter = filter.and(room -> room.getRoomCapacity() != null && room.getRoomCapacity() >= roomCapacity);
+		}
+
+		// 객실 가격 범위
+		if (minPrice != null) {
+			filter = filter.and(room -> room.getRoomPrice() != null && room.getRoomPrice() >= minPrice);
+		}
+		if (maxPrice != null) {
+			filter = filter.and(room -> room.getRoomPrice() != null && room.getRoomPrice() <= maxPrice);
+		}
+
+		return filter;
+	}
+}
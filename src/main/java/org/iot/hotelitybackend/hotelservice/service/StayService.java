@@ -1,18 +1,25 @@
 package org.iot.hotelitybackend.hotelservice.service;
 
+import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
+import org.iot.hotelitybackend.hotelservice.vo.RequestBatchCheckout;
 import org.iot.hotelitybackend.hotelservice.vo.RequestModifyStay;
 import org.iot.hotelitybackend.hotelservice.vo.StaySearchCriteria;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface StayService {
 	Map<String, Object> selectStaysList(StaySearchCriteria criteria);
 
+	Stream<StayDTO> streamStaysList(StaySearchCriteria criteria);
+
 	Map<String, Object> registStayByReservationCodePk(int reservationCodeFk, int employeeCodeFk, int stayPeopleCount);
 
 	Map<String, Object> modifyStayCheckoutDate(Integer stayCodePk);
 
+	Map<String, Object> modifyStaysCheckoutInBatch(RequestBatchCheckout requestBatchCheckout);
+
     Map<String, Object> modifyStayInfo(RequestModifyStay requestModifyStay, Integer stayCodePk);
 
 	Map<String, Object> deleteStay(int stayCodePk);
@@ -20,4 +27,6 @@ public interface StayService {
 	Map<String, Object> selectStayByStayCodePk(Integer stayCodePk);
 
 	Map<String, Object> selectStayByReservationCheckinDate(String dateString);
+
+	Map<String, Object> selectStayByReservationCheckinDate(String dateString, String branchCodeFk);
 }
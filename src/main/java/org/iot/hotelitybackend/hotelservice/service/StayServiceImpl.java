@@ -2,82 +2,94 @@ package org.iot.hotelitybackend.hotelservice.service;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
 
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.swing.text.DateFormatter;
 
-import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-import org.iot.hotelitybackend.employee.repository.EmployeeRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.BranchRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomCategoryRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomLevelRepository;
-import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
-import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
 import org.iot.hotelitybackend.hotelservice.aggregate.StayEntity;
-import org.iot.hotelitybackend.hotelservice.aggregate.StaySpecification;
-import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewSpecification;
+import org.iot.hotelitybackend.hotelservice.dto.StayCheckoutResultDTO;
 import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
-import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
+import org.iot.hotelitybackend.hotelservice.event.OccupancyChangedEvent;
+import org.iot.hotelitybackend.hotelservice.repository.StayCheckoutBatchRepository;
 import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.iot.hotelitybackend.hotelservice.vo.RequestBatchCheckout;
 import org.iot.hotelitybackend.hotelservice.vo.RequestModifyStay;
 import org.iot.hotelitybackend.hotelservice.vo.StaySearchCriteria;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.iot.hotelitybackend.hotelservice.service.ReservationServiceImpl;
 
 @Service
 public class StayServiceImpl implements StayService {
 
+	private static final int MAX_BATCH_CHECKOUT_SIZE = 1000;
+	// 커서 조회(다운로드)에서 드라이버가 한 번에 받아오는 행 수
+	private static final int LIST_FETCH_SIZE = 1000;
+	// 정렬 기준으로 허용하는 투숙 조회용 뷰의 필드
+	private static final Set<String> SORTABLE_FIELDS = Set.of(
+		"stayCodePk", "customerCodeFk", "customerName", "roomCodeFk", "roomNumber", "roomName", "roomLevelName",
+		"roomCapacity", "stayPeopleCount", "stayCheckinTime", "stayCheckoutTime", "reservationCheckoutDate",
+		"employeeCodeFk", "employeeName", "branchCodeFk", "reservationCodeFk", "stayPeriod"
+	);
+
 	private final StayRepository stayRepository;
+	private final StayViewRepository stayViewRepository;
 	private final ModelMapper mapper;
-	private final EmployeeRepository employeeRepository;
-	private final ReservationRepository reservationRepository;
-	private final CustomerRepository customerRepository;
-	private final RoomRepository roomRepository;
-	private final RoomCategoryRepository roomCategoryRepository;
-	private final RoomLevelRepository roomLevelRepository;
-	private final BranchRepository branchRepository;
-	private final ReservationServiceImpl reservationService;
+	private final RoomAvailabilityIndex roomAvailabilityIndex;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final StayCheckoutBatchRepository stayCheckoutBatchRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
-	public StayServiceImpl(StayRepository stayRepository, ModelMapper mapper, EmployeeRepository employeeRepository,
-		ReservationRepository reservationRepository, CustomerRepository customerRepository,
-		RoomRepository roomRepository, RoomCategoryRepository roomCategoryRepository,
-		RoomLevelRepository roomLevelRepository, BranchRepository branchRepository,
-		ReservationServiceImpl reservationService) {
+	public StayServiceImpl(StayRepository stayRepository, StayViewRepository stayViewRepository, ModelMapper mapper,
+		RoomAvailabilityIndex roomAvailabilityIndex, PageQueryExecutor pageQueryExecutor,
+		StayCheckoutBatchRepository stayCheckoutBatchRepository, ApplicationEventPublisher eventPublisher) {
 		this.stayRepository = stayRepository;
+		this.stayViewRepository = stayViewRepository;
 		this.mapper = mapper;
-		this.employeeRepository = employeeRepository;
-		this.reservationRepository = reservationRepository;
-		this.customerRepository = customerRepository;
-		this.roomRepository = roomRepository;
-		this.roomCategoryRepository = roomCategoryRepository;
-		this.roomLevelRepository = roomLevelRepository;
-		this.branchRepository = branchRepository;
-		this.reservationService = reservationService;
+		this.roomAvailabilityIndex = roomAvailabilityIndex;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.stayCheckoutBatchRepository = stayCheckoutBatchRepository;
+		this.eventPublisher = eventPublisher;
 
 		this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-		this.mapper.typeMap(StayEntity.class, StayDTO.class)
-			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getReservation().getCustomer().getCustomerName(),
-				StayDTO::setCustomerName
-			))
+		this.mapper.typeMap(StayViewEntity.class, StayDTO.class)
 			.addMappings(mapperNew -> mapperNew.map(
-				src -> src.getReservation().getRoom().getRoomCodePk(),
-				StayDTO::setRoomCodeFk
+				StayViewEntity::getEmployeeName,
+				StayDTO::setPICEmployeeName
 			));
 	}
 
@@ -85,45 +97,68 @@ public class StayServiceImpl implements StayService {
 	@Override
 	public Map<String, Object> selectStaysList(StaySearchCriteria criteria) {
 
-		Specification<StayEntity> spec = buildSpecification(criteria);
+		Specification<StayViewEntity> spec = buildSpecification(criteria);
 
 		Map<String, Object> stayPageInfo = new HashMap<>();
 
 		Integer pageNum = criteria.getPageNum();
-		String orderBy = criteria.getOrderBy();
-		Integer sortBy = criteria.getSortBy();
-
-		// 1. 페이징 처리 할 때
-		if (pageNum != null) {
-			Pageable pageable;
-
-			if (orderBy == null) {
-				pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by("stayCheckinTime").descending());
-			} else {
-				if (sortBy == 1) {
-					pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy));
-				} else {
-					pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
-				}
-			}
-			Page<StayEntity> stayPage = stayRepository.findAll(spec, pageable);
-			List<StayEntity> stayEntityList = stayPage.getContent();
-			List<StayDTO> stayDTOList = setDTOField(stayEntityList);
-			stayPageInfo.put(KEY_TOTAL_PAGES_COUNT, stayPage.getTotalPages());
-			stayPageInfo.put(KEY_CURRENT_PAGE_INDEX, stayPage.getNumber());
+		String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+		Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
+
+		// 0. 키셋 페이징 (cursor 를 전달한 경우)
+		if (criteria.getCursor() != null) {
+			KeysetPagination.KeysetPage<StayViewEntity> stayKeysetPage = KeysetPagination.fetch(
+				stayViewRepository, spec,
+				orderBy == null ? "stayCheckinTime" : orderBy, "stayCodePk",
+				orderBy == null ? Sort.Direction.DESC : direction,
+				criteria.getCursor(), PAGE_SIZE
+			);
+			stayPageInfo.put(KEY_CONTENT, toStayDTOList(stayKeysetPage.content()));
+			stayPageInfo.put(KEY_NEXT_CURSOR, stayKeysetPage.nextCursor());
+
+			// 1. 페이징 처리 할 때
+		} else if (pageNum != null) {
+			Pageable pageable = PageRequest.of(pageNum, PAGE_SIZE, listSort(orderBy, direction));
+			Slice<StayViewEntity> stayPage = pageQueryExecutor.findPage(
+				StayViewEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
+			List<StayDTO> stayDTOList = toStayDTOList(stayPage.getContent());
+			stayPageInfo.putAll(PageQueryExecutor.toPageInfo(stayPage));
 			stayPageInfo.put(KEY_CONTENT, stayDTOList);
 
 			// 2. 페이징 처리 안할 때
 		} else {
-			List<StayEntity> stayEntityList = stayRepository.findAll(spec);
-			List<StayDTO> stayDTOList = setDTOField(stayEntityList);
+			List<StayDTO> stayDTOList = toStayDTOList(stayViewRepository.findAll(spec));
 			stayPageInfo.put(KEY_CONTENT, stayDTOList);
 		}
 
 		return stayPageInfo;
 	}
 
-	private Specification<StayEntity> buildSpecification(StaySearchCriteria criteria) {
+	/* 다중 조건 검색을 적용한 투숙 내역 커서 조회 (CSV/엑셀 다운로드)
+	 * 목록과 같은 순서로 내려받도록 같은 정렬을 쓰고, 같은 값끼리는 투숙 코드 순으로 고정한다.
+	 * 호출 측 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 한다. */
+	@Override
+	public Stream<StayDTO> streamStaysList(StaySearchCriteria criteria) {
+		String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+		Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
+		Sort sort = listSort(orderBy, direction);
+		if (!"stayCodePk".equals(orderBy)) {
+			sort = sort.and(Sort.by("stayCodePk"));
+		}
+
+		return pageQueryExecutor.stream(
+			StayViewEntity.class, buildSpecification(criteria), sort, LIST_FETCH_SIZE, this::toStayDTO);
+	}
+
+	// 정렬 기준이 없으면 최근 체크인 순
+	private static Sort listSort(String orderBy, Sort.Direction direction) {
+		if (orderBy == null) {
+			return Sort.by("stayCheckinTime").descending();
+		}
+		return Sort.by(direction, orderBy);
+	}
+
+	private Specification<StayViewEntity> buildSpecification(StaySearchCriteria criteria) {
 		Integer pageNum = criteria.getPageNum();
 		Integer stayCodePk = criteria.getStayCodePk();
 		Integer customerCodeFk = criteria.getCustomerCodeFk();
@@ -142,81 +177,81 @@ public class StayServiceImpl implements StayService {
 		Integer reservationCodeFk = criteria.getReservationCodeFk();
 		Integer stayCheckoutStatus = criteria.getStayCheckoutStatus();
 
-		Specification<StayEntity> spec = Specification.where(null);
+		Specification<StayViewEntity> spec = Specification.where(null);
 
 		// 투숙코드
 		if (stayCodePk != null) {
-			spec = spec.and(StaySpecification.equalsStayCodePk(stayCodePk));
+			spec = spec.and(StayViewSpecification.equalsStayCodePk(stayCodePk));
 		}
 
 		// 고객코드
 		if (customerCodeFk != null) {
-			spec = spec.and(StaySpecification.equalsCustomerCodeFk(customerCodeFk));
+			spec = spec.and(StayViewSpecification.equalsCustomerCodeFk(customerCodeFk));
 		}
 
 		// 고객이름
 		if (customerName != null) {
-			spec = spec.and(StaySpecification.likeCustomerName(customerName));
+			spec = spec.and(StayViewSpecification.likeCustomerName(customerName));
 		}
 
 		// 객실코드
 		if (roomCodeFk != null) {
-			spec = spec.and(StaySpecification.equalsRoomCodeFk(roomCodeFk));
+			spec = spec.and(StayViewSpecification.equalsRoomCodeFk(roomCodeFk));
 		}
 
 		// 객실명
 		if (roomName != null) {
-			spec = spec.and(StaySpecification.likeRoomName(roomName));
+			spec = spec.and(StayViewSpecification.likeRoomName(roomName));
 		}
 
 		// 객실 등급명
 		if (roomLevelName != null && !roomLevelName.isEmpty()) {
-			spec = spec.and(StaySpecification.likeRoomLevelName(roomLevelName));
+			spec = spec.and(StayViewSpecification.likeRoomLevelName(roomLevelName));
 		}
 
 		// 객실 수용 인원
 		// if (roomCapacity != null) {
-		// 	spec = spec.and(StaySpecification.equalsRoomCapacity(roomCapacity));
+		// 	spec = spec.and(StayViewSpecification.equalsRoomCapacity(roomCapacity));
 		// }
 
 		// 투숙 인원
 		if (stayPeopleCount != null) {
-			spec = spec.and(StaySpecification.equalsStayPeopleCount(stayPeopleCount));
+			spec = spec.and(StayViewSpecification.equalsStayPeopleCount(stayPeopleCount));
 		}
 
 		// 체크인 날짜
 		if (stayCheckinTime != null) {
-			spec = spec.and(StaySpecification.equalsStayCheckinTime(stayCheckinTime));
+			spec = spec.and(StayViewSpecification.equalsStayCheckinTime(stayCheckinTime));
 		}
 
 		// 체크아웃 예정일
 		if (reservationCheckoutDate != null) {
-			spec = spec.and(StaySpecification.equalsReservationCheckoutDate(reservationCheckoutDate));
+			spec = spec.and(StayViewSpecification.equalsReservationCheckoutDate(reservationCheckoutDate));
 		}
 
 		// 체크아웃 날짜
 		if (stayCheckoutTime != null) {
-			spec = spec.and(StaySpecification.equalsStayCheckoutTime(stayCheckoutTime));
+			spec = spec.and(StayViewSpecification.equalsStayCheckoutTime(stayCheckoutTime));
 		}
 
 		// 지점코드
 		if (branchCodeFk != null) {
-			spec = spec.and(StaySpecification.equalsBranchCodeFk(branchCodeFk));
+			spec = spec.and(StayViewSpecification.equalsBranchCodeFk(branchCodeFk));
 		}
 
 		// 직원코드
 		if (employeeCodeFk != null) {
-			spec = spec.and(StaySpecification.equalsEmployeeCodeFk(employeeCodeFk));
+			spec = spec.and(StayViewSpecification.equalsEmployeeCodeFk(employeeCodeFk));
 		}
 
 		// 직원이름
 		if (employeeName != null) {
-			spec = spec.and(StaySpecification.likeEmployeeName(employeeName));
+			spec = spec.and(StayViewSpecification.likeEmployeeName(employeeName));
 		}
 
 		// 예약코드
 		if (reservationCodeFk != null) {
-			spec = spec.and(StaySpecification.equalsReservationCodeFk(reservationCodeFk));
+			spec = spec.and(StayViewSpecification.equalsReservationCodeFk(reservationCodeFk));
 		}
 		return spec;
 	}
@@ -225,9 +260,7 @@ public class StayServiceImpl implements StayService {
 	@Override
 	public Map<String, Object> selectStayByStayCodePk(Integer stayCodePk) {
 
-		List<StayEntity> stayEntityList = stayRepository.findById(stayCodePk).stream().toList();
-
-		List<StayDTO> stayDTOList = setDTOField(stayEntityList);
+		List<StayDTO> stayDTOList = toStayDTOList(stayViewRepository.findById(stayCodePk).stream().toList());
 
 		Map<String, Object> stayInfo = new HashMap<>();
 		stayInfo.put(KEY_CONTENT, stayDTOList);
@@ -238,10 +271,20 @@ public class StayServiceImpl implements StayService {
 	/* 특정 일자 투숙 정보 조회 */
 	@Override
 	public Map<String, Object> selectStayByReservationCheckinDate(String dateString) {
-		LocalDateTime start = LocalDateTime.parse(dateString + "T00:00:00");
-		LocalDateTime end = LocalDateTime.parse(dateString + "T23:59:59");
-		List<StayEntity> stayEntityList = stayRepository.findAllByStayCheckinTimeBetween(start, end);
-		List<StayDTO> stayDTOList = setDTOField(stayEntityList);
+		return selectStayByReservationCheckinDate(dateString, null);
+	}
+
+	/* 특정 일자, 지점의 투숙 정보 조회 (지점코드가 없으면 전 지점) */
+	@Override
+	public Map<String, Object> selectStayByReservationCheckinDate(String dateString, String branchCodeFk) {
+		// 23:59:59 이후(밀리초 포함) 체크인도 빠지지 않도록 [당일 0시, 다음날 0시) 로 조회
+		LocalDate checkinDate = LocalDate.parse(dateString);
+		LocalDateTime start = TemporalSpecification.startOfDay(checkinDate);
+		LocalDateTime end = TemporalSpecification.startOfNextDay(checkinDate);
+		List<StayDTO> stayDTOList = toStayDTOList(branchCodeFk == null
+			? stayViewRepository.findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThan(start, end)
+			: stayViewRepository.findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThanAndBranchCodeFk(
+				start, end, branchCodeFk));
 
 		Map<String, Object> stayInfo = new HashMap<>();
 		int stayYear = start.getYear();
@@ -256,132 +299,221 @@ public class StayServiceImpl implements StayService {
 		return stayInfo;
 	}
 
-	/* 예약 체크인 시 투숙 정보 등록 */
-	@Transactional
+	/* 예약 체크인 시 투숙 정보 등록
+	 * 체크인에 필요한 예약, 객실, 담당 직원 정보는 한 번의 조회로 가져오고 투숙 내역은 바로 INSERT 한다.
+	 * 여러 단말에서 같은 예약을 동시에 체크인하는 경우는 stay_tb.reservation_code_fk 유니크 제약으로 막는다.
+	 * 유니크 위반이 바깥 트랜잭션을 rollback-only 로 만들지 않도록 트랜잭션 없이 실행하고,
+	 * INSERT 는 saveAndFlush 자체 트랜잭션에서 처리한다. */
 	@Override
 	public Map<String, Object> registStayByReservationCodePk(int reservationCodeFk, int employeeCodeFk,
 		int stayPeopleCount) {
 		Map<String, Object> registStayInfo = new HashMap<>();
 
-		ReservationServiceImpl reservationService = new ReservationServiceImpl(
-			reservationRepository, mapper, customerRepository, roomRepository,
-			roomCategoryRepository, roomLevelRepository, branchRepository, stayRepository
-		);
-
-		// 예약 정보 가져오기
-		List<ReservationEntity> reservationInfo =
-			reservationRepository.findById(reservationCodeFk).stream().toList();
-
-		if (!reservationInfo.isEmpty()) {
+		StayRepository.CheckinTarget checkinTarget =
+			stayRepository.findCheckinTarget(reservationCodeFk, employeeCodeFk)
+				.orElseThrow(() -> new RuntimeException(
+					"Reservation code:" + reservationCodeFk + " 해당 예약 코드가 존재하지 않습니다."));
 
-			// 해당 예약코드로 등록된 내역이 있는지 검사
-			List<StayEntity> existingStayEntity =
-				stayRepository.findByReservationCodeFk(reservationCodeFk).stream().toList();
+		ReservationViewEntity reservation = checkinTarget.getReservation();
 
-			if (existingStayEntity.isEmpty()) {
-
-				// ReservationDTO Field Mapping
-				List<ReservationDTO> reservationDTOList = reservationService.setDTOField(reservationInfo);
+		// 이미 투숙 등록 된 예약
+		if (Integer.valueOf(1).equals(reservation.getStayStatus())) {
+			return registStayInfo;
+		}
 
-				ReservationDTO reservationDTO = reservationDTOList.get(0);
+		if (checkinTarget.getEmployeeName() == null) {
+			throw new IllegalArgumentException("Employee code:" + employeeCodeFk + " 해당 직원 코드가 존재하지 않습니다.");
+		}
 
-				Integer roomCapacityCheck = reservationDTO.getRoomCapacity();
+		Integer roomCapacity = reservation.getRoomCapacity();
+		if (roomCapacity != null && roomCapacity < stayPeopleCount) {
+			throw new IllegalArgumentException(
+				"수용 가능 인원 초과! [" + reservation.getRoomCodeFk() + "] 객실 수용 인원: " + roomCapacity + "인");
+		}
 
-				if (roomCapacityCheck < stayPeopleCount) {
-					throw new IllegalArgumentException(
-						"수용 가능 인원 초과! [" +
-							reservationDTO.getRoomCodeFk() + "] 객실 수용 인원: " + roomCapacityCheck + "인");
-				}
+		StayEntity stayEntity = StayEntity.builder()
+			.stayCheckinTime(LocalDateTime.now())
+			.stayPeopleCount(stayPeopleCount)
+			.employeeCodeFk(employeeCodeFk)
+			.reservationCodeFk(reservationCodeFk)
+			.build();
 
-				// 예약 정보를 StayEntity에 저장
-				StayEntity stayEntity = StayEntity.builder()
-					.stayCheckinTime(LocalDateTime.now())
-					.stayPeopleCount(stayPeopleCount)
-					.employeeCodeFk(employeeCodeFk)
-					.reservationCodeFk(reservationCodeFk)
-					.build();
+		StayEntity savedStayEntity;
+		try {
+			savedStayEntity = stayRepository.saveAndFlush(stayEntity);
+		} catch (DataIntegrityViolationException e) {
+			// 조회 이후 다른 단말에서 먼저 체크인한 경우 이미 등록 된 예약으로 처리
+			if (stayRepository.existsByReservationCodeFk(reservationCodeFk)) {
+				return registStayInfo;
+			}
+			throw e;
+		}
 
-				stayRepository.save(stayEntity);
+		roomAvailabilityIndex.notifyReservationChanged(reservationCodeFk);
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(reservation.getCustomerCodeFk()));
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(StayViewEntity.class));
 
-				// StayDTO Field Mapping
-				StayDTO stayDTO = setStayDTO(stayEntity, reservationDTO, reservationCodeFk, employeeCodeFk);
+		registStayInfo.put(KEY_CONTENT, toCheckinStayDTO(savedStayEntity, checkinTarget));
 
-				registStayInfo.put(KEY_CONTENT, stayDTO);
-			}
-		} else {
-			System.out.println("===== 해당 예약 코드가 존재하지 않습니다. =====");
-			throw new RuntimeException("Reservation code:" + reservationCodeFk + " 해당 예약 코드가 존재하지 않습니다.");
-		}
 		return registStayInfo;
 	}
 
-	private StayDTO setStayDTO(
-		StayEntity stayEntity, ReservationDTO reservationDTO, int reservationCodeFk, int employeeCodeFk) {
+	/* 등록한 투숙 내역과 체크인 조회 결과로 응답 DTO 구성 (추가 조회 없음) */
+	private StayDTO toCheckinStayDTO(StayEntity stayEntity, StayRepository.CheckinTarget checkinTarget) {
+		ReservationViewEntity reservation = checkinTarget.getReservation();
 
 		StayDTO stayDTO = new StayDTO();
 
 		stayDTO.setStayCodePk(stayEntity.getStayCodePk());
-		stayDTO.setCustomerCodeFk(reservationDTO.getCustomerCodeFk());
-		stayDTO.setCustomerName(reservationDTO.getCustomerName());
-		stayDTO.setRoomCodeFk(reservationDTO.getRoomCodeFk());
-		stayDTO.setRoomName(reservationDTO.getRoomName());
-		stayDTO.setRoomLevelName(reservationDTO.getRoomLevelName());
-		stayDTO.setRoomCapacity(reservationDTO.getRoomCapacity());
-		stayDTO.setStayPeopleCount(reservationDTO.getReservationPersonnel());
-		stayDTO.setStayCheckinTime(LocalDateTime.now());
-		stayDTO.setReservationCheckoutDate(reservationDTO.getReservationCheckoutDate());
-		stayDTO.setEmployeeCodeFk(employeeCodeFk);
-		stayDTO.setPICEmployeeName(employeeRepository.findById(employeeCodeFk).get().getEmployeeName());
-		stayDTO.setBranchCodeFk(reservationDTO.getBranchCodeFk());
-		stayDTO.setReservationCodeFk(reservationCodeFk);
+		stayDTO.setCustomerCodeFk(reservation.getCustomerCodeFk());
+		stayDTO.setCustomerName(reservation.getCustomerName());
+		stayDTO.setRoomCodeFk(reservation.getRoomCodeFk());
+		stayDTO.setRoomNumber(reservation.getRoomNumber());
+		stayDTO.setRoomName(reservation.getRoomName());
+		stayDTO.setRoomLevelName(reservation.getRoomLevelName());
+		stayDTO.setRoomCapacity(reservation.getRoomCapacity());
+		stayDTO.setStayPeopleCount(stayEntity.getStayPeopleCount());
+		stayDTO.setStayCheckinTime(stayEntity.getStayCheckinTime());
+		stayDTO.setReservationCheckoutDate(reservation.getReservationCheckoutDate());
+		stayDTO.setEmployeeCodeFk(stayEntity.getEmployeeCodeFk());
+		stayDTO.setPICEmployeeName(checkinTarget.getEmployeeName());
+		stayDTO.setBranchCodeFk(reservation.getBranchCodeFk());
+		stayDTO.setReservationCodeFk(stayEntity.getReservationCodeFk());
+		stayDTO.setStayPeriod(reservation.getStayPeriod());
 
 		return stayDTO;
 	}
 
-	/* 투숙 체크아웃 */
+	/* 투숙 체크아웃
+	 * 일괄 체크아웃과 같이 체크아웃 시간이 비어 있는 경우에만 UPDATE 해서, 동시에 들어온 체크아웃은 한 건만 반영한다.
+	 * 없는 투숙 코드는 NoSuchElementException, 이미 체크아웃 된 경우 빈 Map 을 돌려준다. */
+	@Transactional
 	@Override
 	public Map<String, Object> modifyStayCheckoutDate(Integer stayCodePk) {
+		StayEntity stayEntity = stayRepository.findById(stayCodePk)
+			.orElseThrow(() -> new NoSuchElementException("존재하지 않는 투숙 내역입니다."));
 
 		Map<String, Object> checkoutStayInfo = new HashMap<>();
+		if (stayEntity.getStayCheckoutTime() != null) {
+			return checkoutStayInfo;
+		}
 
-		List<StayEntity> beforeCheckoutStayInfo = stayRepository.findById(stayCodePk).stream().toList();
-		LocalDateTime isEmptyCheckoutTime = beforeCheckoutStayInfo.get(0).getStayCheckoutTime();
+		// DATETIME 컬럼에 저장되는 값과 응답 값을 맞추기 위해 초 단위로 자름
+		int updateCount = stayCheckoutBatchRepository.checkoutAll(
+			List.of(stayCodePk), LocalDateTime.now().withNano(0))[0];
+		if (updateCount == 0) {
+			return checkoutStayInfo;
+		}
+
+		roomAvailabilityIndex.notifyReservationChanged(stayEntity.getReservationCodeFk());
+		eventPublisher.publishEvent(OccupancyChangedEvent.of(stayEntity.getReservationCodeFk()));
+
+		List<StayDTO> stayDTOList = getStayByStayCodePk(stayCodePk);
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(
+			stayDTOList.stream().map(StayDTO::getCustomerCodeFk).toList()));
+
+		checkoutStayInfo.put(KEY_CONTENT, stayDTOList);
+		return checkoutStayInfo;
+	}
+
+	/* 일괄 체크아웃
+	 * 대상 투숙 내역을 한 번에 조회한 뒤 아직 체크아웃 되지 않은 건만 JDBC 배치 UPDATE 로 반영한다.
+	 * 빈 객실 인덱스 변경 알림은 건별이 아니라 요청 단위로 한 번만 보낸다. */
+	@Transactional
+	@Override
+	public Map<String, Object> modifyStaysCheckoutInBatch(RequestBatchCheckout requestBatchCheckout) {
+		List<Integer> stayCodePkList = findBatchCheckoutTargets(requestBatchCheckout);
+		if (stayCodePkList.size() > MAX_BATCH_CHECKOUT_SIZE) {
+			throw new IllegalArgumentException("한 번에 체크아웃 할 수 있는 투숙 내역은 " + MAX_BATCH_CHECKOUT_SIZE + "건 이하입니다.");
+		}
 
-		// 입력한 투숙 코드가 존재하는지 확인
-		if (!beforeCheckoutStayInfo.isEmpty()) {
-			if (isEmptyCheckoutTime == null) {
+		// DATETIME 컬럼에 저장되는 값과 응답 값을 맞추기 위해 초 단위로 자름
+		LocalDateTime checkoutTime = LocalDateTime.now().withNano(0);
 
-				// 현재 시간을 가져오기
-				LocalDateTime currentCheckoutDate = LocalDateTime.now();
+		Map<Integer, StayEntity> stayMap = stayRepository.findAllById(stayCodePkList).stream()
+			.collect(Collectors.toMap(StayEntity::getStayCodePk, Function.identity()));
 
-				StayEntity beforeStayEntity = beforeCheckoutStayInfo.get(0);
+		List<Integer> openStayCodePkList = stayCodePkList.stream()
+			.filter(stayCodePk -> stayMap.containsKey(stayCodePk)
+				&& stayMap.get(stayCodePk).getStayCheckoutTime() == null)
+			.toList();
 
-				StayEntity checkoutStayEntity = StayEntity.builder()
-					.stayCodePk(stayCodePk)
-					.stayCheckinTime(beforeStayEntity.getStayCheckinTime())
-					.stayCheckoutTime(currentCheckoutDate)
-					.stayPeopleCount(beforeStayEntity.getStayPeopleCount())
-					.employeeCodeFk(beforeStayEntity.getEmployeeCodeFk())
-					.reservationCodeFk(beforeStayEntity.getReservationCodeFk())
-					.build();
+		int[] updateCounts = stayCheckoutBatchRepository.checkoutAll(openStayCodePkList, checkoutTime);
+		Map<Integer, Integer> updateCountMap = new HashMap<>();
+		for (int i = 0; i < openStayCodePkList.size(); i++) {
+			updateCountMap.put(openStayCodePkList.get(i), updateCounts[i]);
+		}
 
-				stayRepository.save(checkoutStayEntity);
+		// 조회 이후 다른 요청에서 먼저 체크아웃 된 건은 그 요청이 기록한 시간을 돌려준다
+		Map<Integer, LocalDateTime> lostCheckoutTimeMap = stayCheckoutBatchRepository.findCheckoutTimes(
+			openStayCodePkList.stream().filter(stayCodePk -> updateCountMap.get(stayCodePk) == 0).toList());
 
-				List<StayDTO> stayDTOList = new ArrayList<>(getStayByStayCodePk(stayCodePk));
+		List<StayCheckoutResultDTO> checkoutResultList = new ArrayList<>();
+		List<Integer> checkedOutReservationCodeFkList = new ArrayList<>();
+		List<Integer> checkedOutStayCodePkList = new ArrayList<>();
 
-				checkoutStayInfo.put(KEY_CONTENT, stayDTOList);
+		for (Integer stayCodePk : stayCodePkList) {
+			StayEntity stayEntity = stayMap.get(stayCodePk);
+			if (stayEntity == null) {
+				checkoutResultList.add(new StayCheckoutResultDTO(
+					stayCodePk, null, null, StayCheckoutResultDTO.RESULT_NOT_FOUND));
+				continue;
+			}
+
+			// 드라이버가 배치 건별 갱신 수를 주지 않는 경우(SUCCESS_NO_INFO) 도 반영된 것으로 본다
+			int updateCount = updateCountMap.getOrDefault(stayCodePk, 0);
+			if (updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO) {
+				checkoutResultList.add(new StayCheckoutResultDTO(stayCodePk, stayEntity.getReservationCodeFk(),
+					checkoutTime, StayCheckoutResultDTO.RESULT_CHECKED_OUT));
+				checkedOutReservationCodeFkList.add(stayEntity.getReservationCodeFk());
+				checkedOutStayCodePkList.add(stayCodePk);
+			} else {
+				LocalDateTime stayCheckoutTime = stayEntity.getStayCheckoutTime() != null
+					? stayEntity.getStayCheckoutTime() : lostCheckoutTimeMap.get(stayCodePk);
+				checkoutResultList.add(new StayCheckoutResultDTO(stayCodePk, stayEntity.getReservationCodeFk(),
+					stayCheckoutTime, StayCheckoutResultDTO.RESULT_ALREADY_CHECKED_OUT));
 			}
 		}
 
+		roomAvailabilityIndex.notifyReservationsChanged(checkedOutReservationCodeFkList);
+		eventPublisher.publishEvent(OccupancyChangedEvent.of(checkedOutReservationCodeFkList));
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(findCustomerCodesOfStays(checkedOutStayCodePkList)));
+
+		Map<String, Object> checkoutStayInfo = new HashMap<>();
+		checkoutStayInfo.put(KEY_CONTENT, checkoutResultList);
+		checkoutStayInfo.put(KEY_CHECKED_OUT_COUNT, checkedOutReservationCodeFkList.size());
+
 		return checkoutStayInfo;
 	}
 
-	/* 투숙 정보 수정 */
+	// 투숙 코드 목록이 있으면 그대로(중복 제거), 없으면 지점의 오늘 체크아웃 예정 투숙 내역
+	private List<Integer> findBatchCheckoutTargets(RequestBatchCheckout requestBatchCheckout) {
+		List<Integer> stayCodePkList = requestBatchCheckout.getStayCodePkList();
+		if (stayCodePkList != null && !stayCodePkList.isEmpty()) {
+			return new ArrayList<>(new LinkedHashSet<>(stayCodePkList.stream().filter(Objects::nonNull).toList()));
+		}
+
+		String branchCodeFk = requestBatchCheckout.getBranchCodeFk();
+		if (branchCodeFk == null || branchCodeFk.isBlank()) {
+			throw new IllegalArgumentException("체크아웃 할 투숙 코드 목록 또는 지점 코드를 입력해야 합니다.");
+		}
+
+		LocalDateTime today = LocalDate.now().atStartOfDay();
+		return stayViewRepository.findStayCodesDueForCheckout(branchCodeFk, today, today.plusDays(1));
+	}
+
+	/* 투숙 정보 수정
+	 * 응답은 변경을 반영(flush)한 뒤 투숙 조회용 뷰에서 읽는다.
+	 * 변경 전 고객 코드는 값으로만 조회해, 변경 전 뷰 엔티티가 영속성 컨텍스트에 남아 응답에 쓰이지 않도록 한다. */
+	@Transactional
 	@Override
 	public Map<String, Object> modifyStayInfo(RequestModifyStay requestModifyStay, Integer stayCodePk) {
 
 		List<StayEntity> stayEntityList =
 			stayRepository.findById(stayCodePk).stream().toList();
+		List<Integer> beforeReservationCodeFkList =
+			stayEntityList.stream().map(StayEntity::getReservationCodeFk).toList();
+		List<Integer> customerCodeFkList = new ArrayList<>(findCustomerCodesOfStays(List.of(stayCodePk)));
 
 		StayEntity stayEntity = StayEntity.builder()
 			.stayCodePk(stayCodePk)
@@ -392,10 +524,21 @@ public class StayServiceImpl implements StayService {
 			.reservationCodeFk(requestModifyStay.getReservationCodeFk())
 			.build();
 
-		stayRepository.save(stayEntity);
+		StayEntity savedStayEntity = stayRepository.saveAndFlush(stayEntity);
+
+		// 투숙 기간이나 예약이 바뀌었을 수 있으므로 기존/변경(저장된) 예약 모두 객실 점유 현황에 반영
+		Set<Integer> changedReservationCodeFkList = new LinkedHashSet<>(beforeReservationCodeFkList);
+		changedReservationCodeFkList.add(savedStayEntity.getReservationCodeFk());
+		changedReservationCodeFkList.remove(null);
+		roomAvailabilityIndex.notifyReservationsChanged(changedReservationCodeFkList);
+		eventPublisher.publishEvent(OccupancyChangedEvent.of(changedReservationCodeFkList));
 
 		List<StayDTO> stayDTOList = setDTOField(stayEntityList);
 
+		// 예약이 바뀐 경우 변경 전/후 고객 모두 반영
+		stayDTOList.forEach(stayDTO -> customerCodeFkList.add(stayDTO.getCustomerCodeFk()));
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(customerCodeFkList));
+
 		StayDTO stayDTO = new StayDTO();
 
 		Map<String, Object> modifyStay = new HashMap<>();
@@ -410,8 +553,15 @@ public class StayServiceImpl implements StayService {
 	public Map<String, Object> deleteStay(int stayCodePk) {
 		Map<String, Object> deleteStay = new HashMap<>();
 
-		if (stayRepository.existsById(stayCodePk)) {
+		StayEntity stayEntity = stayRepository.findById(stayCodePk).orElse(null);
+
+		if (stayEntity != null) {
+			List<Integer> customerCodeFkList = findCustomerCodesOfStays(List.of(stayCodePk));
 			stayRepository.deleteById(stayCodePk);
+			roomAvailabilityIndex.notifyReservationChanged(stayEntity.getReservationCodeFk());
+			eventPublisher.publishEvent(OccupancyChangedEvent.of(stayEntity.getReservationCodeFk()));
+			eventPublisher.publishEvent(CustomerProfileChangedEvent.of(customerCodeFkList));
+			eventPublisher.publishEvent(TotalCountChangedEvent.of(StayViewEntity.class));
 		} else {
 			System.out.println("해당하는 투숙 정보가 없습니다.");
 		}
@@ -422,92 +572,45 @@ public class StayServiceImpl implements StayService {
 	/* 투숙 코드로 조회(투숙 체크아웃용 메소드) */
 	public List<StayDTO> getStayByStayCodePk(Integer stayCodePk) {
 
-		List<StayEntity> stayEntityList = stayRepository.findById(stayCodePk).stream().toList();
-
-		List<StayDTO> stayDTOList = setDTOField(stayEntityList);
+		return toStayDTOList(stayViewRepository.findById(stayCodePk).stream().toList());
+	}
 
-		for (StayDTO stayDTO : stayDTOList) {
-			System.out.println(stayDTO);
+	// 투숙 내역의 고객 코드 (고객 상세 캐시 삭제용)
+	private List<Integer> findCustomerCodesOfStays(List<Integer> stayCodePkList) {
+		if (stayCodePkList.isEmpty()) {
+			return List.of();
 		}
-
-		return stayDTOList;
+		return stayViewRepository.findCustomerCodesByStayCodePkIn(stayCodePkList);
 	}
 
 	private List<StayDTO> setDTOField(List<StayEntity> stayEntityList) {
 
-		List<StayDTO> list =
-			stayEntityList.stream().map(stayEntity -> mapper.map(stayEntity, StayDTO.class))
-				.peek(stayDTO -> stayDTO.setCustomerCodeFk(
-					mapper.map(reservationRepository.findById(stayDTO.getReservationCodeFk()), ReservationDTO.class)
-						.getCustomerCodeFk()))
-				.peek(stayDTO -> stayDTO.setCustomerName(
-					customerRepository.findById(
-						reservationRepository.findById(stayDTO.getReservationCodeFk())
-							.get().getCustomerCodeFk()
-					).get().customerName))
-				// 객실 코드
-				.peek(stayDTO -> stayDTO.setRoomCodeFk(
-					mapper.map(reservationRepository.findById(stayDTO.getReservationCodeFk()), ReservationDTO.class)
-						.getRoomCodeFk()))
-				// 객실 번호
-				.peek(stayDTO -> stayDTO.setRoomNumber(
-					roomRepository.findById(
-						reservationRepository.findById(stayDTO.getReservationCodeFk())
-							.get().getRoomCodeFk()
-					).get().getRoomNumber()))
-				// 객실 등급명
-				.peek(stayDTO -> stayDTO.setRoomLevelName(
-					roomLevelRepository.findById(
-						roomCategoryRepository.findById(
-							roomRepository.findById(
-								reservationRepository.findById(
-									stayDTO.getReservationCodeFk()
-								).get().getRoomCodeFk()
-							).get().getRoomCategoryCodeFk()
-						).get().getRoomLevelCodeFk()
-					).get().getRoomLevelName()))
-				// 객실명
-				.peek(stayDTO -> stayDTO.setRoomName(
-					roomCategoryRepository.findById(
-						roomRepository.findById(
-							reservationRepository.findById(
-								stayDTO.getReservationCodeFk()
-							).get().getRoomCodeFk()
-						).get().getRoomCategoryCodeFk()
-					).get().getRoomName()))
-				.peek(stayDTO -> stayDTO.setReservationCheckoutDate(
-					reservationRepository.findById(stayDTO.getReservationCodeFk()
-					).get().getReservationCheckoutDate()))
-				// 직원명
-				.peek(stayDTO -> stayDTO.setPICEmployeeName(
-					employeeRepository.findById(stayDTO.getEmployeeCodeFk())
-						.get().getEmployeeName()))
-				// 지점명
-				.peek(stayDTO -> stayDTO.setBranchCodeFk(
-					reservationRepository.findById(stayDTO.getReservationCodeFk()).get().getBranchCodeFk()))
-				// 고객코드
-				.peek(stayDTO -> stayDTO.setCustomerCodeFk(
-					reservationRepository.findById(stayDTO.getReservationCodeFk()).get().getCustomerCodeFk()))
-				// 고객이름
-				.peek(stayDTO -> stayDTO.setCustomerName(
-					customerRepository.findById(
-						reservationRepository.findById(stayDTO.getReservationCodeFk()
-						).get().getCustomerCodeFk()
-					).get().customerName))
-				// 객실수용인원
-				.peek(stayDTO -> stayDTO.setRoomCapacity(
-					roomCategoryRepository.findById(
-						roomRepository.findById(
-							reservationRepository.findById(stayDTO.getReservationCodeFk()
-							).get().getRoomCodeFk()
-						).get().getRoomCategoryCodeFk()
-					).get().getRoomCapacity()))
-				// 숙박 일수
-				.peek(stayDTO -> stayDTO.setStayPeriod(
-					reservationService.calculateStayPeriod(stayDTO.getReservationCodeFk())
-				))
-				.toList();
-
-		return list;
+		List<Integer> stayCodePkList = stayEntityList
+			.stream()
+			.map(StayEntity::getStayCodePk)
+			.toList();
+
+		Map<Integer, StayViewEntity> stayViewMap = stayViewRepository
+			.findAllById(stayCodePkList)
+			.stream()
+			.collect(Collectors.toMap(StayViewEntity::getStayCodePk, Function.identity()));
+
+		return stayCodePkList
+			.stream()
+			.map(stayViewMap::get)
+			.filter(Objects::nonNull)
+			.map(this::toStayDTO)
+			.collect(Collectors.toList());
+	}
+
+	private List<StayDTO> toStayDTOList(List<StayViewEntity> stayViewEntityList) {
+		return stayViewEntityList
+			.stream()
+			.map(this::toStayDTO)
+			.collect(Collectors.toList());
+	}
+
+	private StayDTO toStayDTO(StayViewEntity stayViewEntity) {
+		return mapper.map(stayViewEntity, StayDTO.class);
 	}
 }
@@ -0,0 +1,13 @@
+package org.iot.hotelitybackend.hotelservice.vo;
+
+import java.util.List;
+
+import lombok.Data;
+
+/* 일괄 체크아웃 요청
+ * stayCodePkList 를 보내면 해당 투숙 내역을, 없으면 branchCodeFk 지점의 오늘 체크아웃 예정 투숙 내역 전체를 처리한다. */
+@Data
+public class RequestBatchCheckout {
+	private List<Integer> stayCodePkList;
+	private String branchCodeFk;
+}
@@ -21,4 +21,8 @@ public class ReservationSearchCriteria {
 	private Integer reservationCancelStatus;
 	private String orderBy;
 	private Integer sortBy;
+	private Integer pageNum;
+	private Integer pageSize;
+	// true 인 경우 전체 페이지 수(COUNT) 없이 다음 페이지 존재 여부(hasNext)만 반환
+	private Boolean hasNextOnly;
 }
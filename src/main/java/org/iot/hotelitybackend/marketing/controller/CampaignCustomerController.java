@@ -32,12 +32,20 @@ public class CampaignCustomerController {
 
     @GetMapping("/campaigns/search/page")
     public ResponseEntity<ResponseVO> selectSearchedCampaignCustomersList(CampaignCustomerSearchCriteria criteria) {
-        Map<String, Object> campaignPageInfo = campaignCustomerService.selectSearchedCampaignsList(criteria);
-
-        ResponseVO response = ResponseVO.builder()
-            .data(campaignPageInfo)
-            .resultCode(HttpStatus.OK.value())
-            .build();
+        ResponseVO response;
+        try {
+            Map<String, Object> campaignPageInfo = campaignCustomerService.selectSearchedCampaignsList(criteria);
+
+            response = ResponseVO.builder()
+                .data(campaignPageInfo)
+                .resultCode(HttpStatus.OK.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        }
 
         return ResponseEntity.status(response.getResultCode()).body(response);
     }
@@ -6,8 +6,17 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Optional;
+import java.util.Set;
+
+import org.iot.hotelitybackend.common.util.BatchFkResolver;
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.ReferenceDataCache;
+import org.iot.hotelitybackend.common.util.SortResolver;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
+import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.iot.hotelitybackend.employee.repository.EmployeeRepository;
 import org.iot.hotelitybackend.marketing.aggregate.CampaignCustomerEntity;
 import org.iot.hotelitybackend.marketing.aggregate.CampaignCustomerSpecification;
@@ -18,13 +27,14 @@ import org.iot.hotelitybackend.marketing.repository.CampaignCustomerRepository;
 import org.iot.hotelitybackend.marketing.repository.CampaignRepository;
 import org.iot.hotelitybackend.marketing.repository.TemplateRepository;
 import org.iot.hotelitybackend.marketing.vo.CampaignCustomerSearchCriteria;
+import org.iot.hotelitybackend.sales.aggregate.MembershipEntity;
+import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
 import org.iot.hotelitybackend.sales.repository.MembershipIssueRepository;
-import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -33,6 +43,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class CampaignCustomerServiceImpl implements CampaignCustomerService{
 
+    // 정렬 기준으로 허용하는 캠페인 발송 고객 필드
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+        "campaignSentCustomerCodePk", "campaignCodeFk", "customerCodeFk", "reservationCodeFk"
+    );
+
     private final ModelMapper mapper;
     private final CampaignCustomerRepository campaignCustomerRepository;
     private final CustomerRepository customerRepository;
@@ -40,13 +55,14 @@ public class CampaignCustomerServiceImpl implements CampaignCustomerService{
     private final TemplateRepository templateRepository;
     private final EmployeeRepository employeeRepository;
     private final MembershipIssueRepository membershipIssueRepository;
-    private final MembershipRepository membershipRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final PageQueryExecutor pageQueryExecutor;
 
     @Autowired
     public CampaignCustomerServiceImpl(ModelMapper mapper, CampaignCustomerRepository campaignCustomerRepository, CustomerRepository customerRepository,
 		CampaignRepository campaignRepository, TemplateRepository templateRepository,
 		EmployeeRepository employeeRepository, MembershipIssueRepository membershipIssueRepository,
-		MembershipRepository membershipRepository) {
+		ReferenceDataCache referenceDataCache, PageQueryExecutor pageQueryExecutor) {
         this.mapper = mapper;
         this.campaignCustomerRepository = campaignCustomerRepository;
         this.customerRepository = customerRepository;
@@ -54,7 +70,8 @@ public class CampaignCustomerServiceImpl implements CampaignCustomerService{
 		this.templateRepository = templateRepository;
 		this.employeeRepository = employeeRepository;
 		this.membershipIssueRepository = membershipIssueRepository;
-		this.membershipRepository = membershipRepository;
+		this.referenceDataCache = referenceDataCache;
+		this.pageQueryExecutor = pageQueryExecutor;
 	}
 
     @Override
@@ -78,81 +95,95 @@ public class CampaignCustomerServiceImpl implements CampaignCustomerService{
     public Map<String, Object> selectSearchedCampaignsList(CampaignCustomerSearchCriteria criteria) {
 
         Integer pageNum = criteria.getPageNum();
-        String orderBy = criteria.getOrderBy();
-        Integer sortBy = criteria.getSortBy();
+        String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+        Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
+
+        Specification<CampaignCustomerEntity> spec = buildSpecification(criteria);
+
+        Map<String, Object> campaignCustomerPageInfo = new HashMap<>();
+
+        // 키셋 페이징 (cursor 를 전달한 경우)
+        if (criteria.getCursor() != null) {
+            KeysetPagination.KeysetPage<CampaignCustomerEntity> campaignCustomerKeysetPage = KeysetPagination.fetch(
+                campaignCustomerRepository, spec,
+                orderBy == null ? "campaignCodeFk" : orderBy, "campaignSentCustomerCodePk",
+                orderBy == null ? Sort.Direction.ASC : direction,
+                criteria.getCursor(), PAGE_SIZE
+            );
+            campaignCustomerPageInfo.put(KEY_CONTENT, toCampaignCustomerDTOList(campaignCustomerKeysetPage.content()));
+            campaignCustomerPageInfo.put(KEY_NEXT_CURSOR, campaignCustomerKeysetPage.nextCursor());
+
+            return campaignCustomerPageInfo;
+        }
 
         Pageable pageable;
         if(orderBy == null){
             pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by("campaignCodeFk"));
         } else{
-            if (sortBy==1){
-                pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy));
-            }
-            else{
-                pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
-            }
+            pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(direction, orderBy));
         }
 
-        Specification<CampaignCustomerEntity> spec = buildSpecification(criteria);
+        Slice<CampaignCustomerEntity> campaignCustomerEntityPage = pageQueryExecutor.findPage(
+            CampaignCustomerEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
+        List<CampaignCustomerDTO> campaignCustomerDTOList = toCampaignCustomerDTOList(campaignCustomerEntityPage.getContent());
+
+        campaignCustomerPageInfo.putAll(PageQueryExecutor.toPageInfo(campaignCustomerEntityPage));
+        campaignCustomerPageInfo.put(KEY_CONTENT, campaignCustomerDTOList);
 
-        Page<CampaignCustomerEntity> campaignCustomerEntityPage = campaignCustomerRepository.findAll(spec, pageable);
-        List<CampaignCustomerDTO> campaignCustomerDTOList = campaignCustomerEntityPage
+        return campaignCustomerPageInfo;
+    }
+
+    // 캠페인 정보, 고객명, 템플릿명, 담당 직원명은 목록 전체에서 종류별로 한 번씩만 조회하고, 멤버십 등급명은 기준 정보 캐시에서 채운다
+    private List<CampaignCustomerDTO> toCampaignCustomerDTOList(List<CampaignCustomerEntity> campaignCustomerEntityList) {
+        List<CampaignCustomerDTO> campaignCustomerDTOList = campaignCustomerEntityList
             .stream()
             .map(campaignCustomerEntity -> mapper.map(campaignCustomerEntity, CampaignCustomerDTO.class))
-            .peek(campaignCustomerDTO -> {
-                CampaignEntity campaignEntity = campaignRepository.findById(
-                    campaignCustomerDTO.getCampaignCodeFk()).get();
-                campaignCustomerDTO.setCustomerName(
-                    customerRepository.findById(
-                        campaignCustomerDTO.getCustomerCodeFk()
-                    ).get().getCustomerName()
-                );
-                campaignCustomerDTO.setCampaignSendType(
-                    campaignEntity.getCampaignSendType()
-                );
-                campaignCustomerDTO.setCampaignContent(
-                    campaignEntity.getCampaignContent()
-                );
-                campaignCustomerDTO.setCampaignSentDate(
-                    campaignEntity.getCampaignSentDate()
-                );
-                campaignCustomerDTO.setCampaignSentStatus(
-                    campaignEntity.getCampaignSentStatus()
-                );
-                campaignCustomerDTO.setTemplateCodeFk(
-                    campaignEntity.getTemplateCodeFk()
-                );
-
-                if (campaignEntity.getTemplateCodeFk() != null) {
-                    templateRepository.findById(campaignEntity.getTemplateCodeFk()).ifPresent(
-                            template -> campaignCustomerDTO.setTemplateName(template.getTemplateName())
-                    );
-                }
-
-                campaignCustomerDTO.setEmployeeName(
-                    employeeRepository.findById(
-                        campaignEntity.getEmployeeCodeFk()
-                    ).get().getEmployeeName()
-                );
-                campaignCustomerDTO.setCampaignTitle(
-                    campaignEntity.getCampaignTitle()
-                );
-                campaignCustomerDTO.setMembershipLevelName(
-                    membershipRepository.findById(
-                        membershipIssueRepository.findByCustomerCodeFk(
-                            campaignCustomerDTO.getCustomerCodeFk()
-                        ).getMembershipLevelCodeFk()
-                    ).get().getMembershipLevelName()
-                );
-            })
             .toList();
 
-        Map<String, Object> campaignCustomerPageInfo = new HashMap<>();
-        campaignCustomerPageInfo.put(KEY_TOTAL_PAGES_COUNT, campaignCustomerEntityPage.getTotalPages());
-        campaignCustomerPageInfo.put(KEY_CURRENT_PAGE_INDEX, campaignCustomerEntityPage.getNumber());
-        campaignCustomerPageInfo.put(KEY_CONTENT, campaignCustomerDTOList);
-
-        return campaignCustomerPageInfo;
+        BatchFkResolver<CampaignCustomerDTO> resolver = BatchFkResolver.of(campaignCustomerDTOList);
+
+        // 담당 직원은 캠페인의 외래키, 멤버십 등급은 고객의 가장 최근 멤버십 발급 이력의 외래키로 찾는다
+        Map<Integer, CampaignEntity> campaignMap = resolver.load(
+            CampaignCustomerDTO::getCampaignCodeFk, campaignRepository::findAllById, CampaignEntity::getCampaignCodePk);
+        Map<Integer, MembershipIssueEntity> membershipIssueMap = resolver.load(
+            CampaignCustomerDTO::getCustomerCodeFk, membershipIssueRepository::findLatestByCustomerCodeFkIn,
+            MembershipIssueEntity::getCustomerCodeFk);
+
+        return resolver
+            .apply(CampaignCustomerDTO::getCampaignCodeFk, campaignMap, (campaignCustomerDTO, campaignEntity) -> {
+                campaignCustomerDTO.setCampaignSendType(campaignEntity.getCampaignSendType());
+                campaignCustomerDTO.setCampaignContent(campaignEntity.getCampaignContent());
+                campaignCustomerDTO.setCampaignSentDate(campaignEntity.getCampaignSentDate());
+                campaignCustomerDTO.setCampaignSentStatus(campaignEntity.getCampaignSentStatus());
+                campaignCustomerDTO.setTemplateCodeFk(campaignEntity.getTemplateCodeFk());
+                campaignCustomerDTO.setCampaignTitle(campaignEntity.getCampaignTitle());
+            })
+            .resolve(CampaignCustomerDTO::getCustomerCodeFk, customerRepository::findAllById,
+                CustomerEntity::getCustomerCodePk,
+                (campaignCustomerDTO, customer) -> campaignCustomerDTO.setCustomerName(customer.getCustomerName()))
+            .resolve(CampaignCustomerDTO::getTemplateCodeFk, templateRepository::findAllById,
+                TemplateEntity::getTemplateCodePk,
+                (campaignCustomerDTO, template) -> campaignCustomerDTO.setTemplateName(template.getTemplateName()))
+            .resolve(
+                campaignCustomerDTO -> {
+                    CampaignEntity campaignEntity = campaignMap.get(campaignCustomerDTO.getCampaignCodeFk());
+                    return campaignEntity == null ? null : campaignEntity.getEmployeeCodeFk();
+                },
+                employeeRepository::findAllById, EmployeeEntity::getEmployeeCodePk,
+                (campaignCustomerDTO, employee) -> campaignCustomerDTO.setEmployeeName(employee.getEmployeeName()))
+            .resolve(
+                campaignCustomerDTO -> {
+                    MembershipIssueEntity membershipIssue = membershipIssueMap.get(campaignCustomerDTO.getCustomerCodeFk());
+                    return membershipIssue == null ? null : membershipIssue.getMembershipLevelCodeFk();
+                },
+                membershipLevelCodes -> membershipLevelCodes.stream()
+                    .map(referenceDataCache::membership)
+                    .flatMap(Optional::stream)
+                    .toList(),
+                MembershipEntity::getMembershipLevelCodePk,
+                (campaignCustomerDTO, membership) ->
+                    campaignCustomerDTO.setMembershipLevelName(membership.getMembershipLevelName()))
+            .toList();
     }
 
     private Specification<CampaignCustomerEntity> buildSpecification(CampaignCustomerSearchCriteria criteria) {
@@ -1,14 +1,17 @@
 package org.iot.hotelitybackend.marketing.service;
 
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
 import org.iot.hotelitybackend.marketing.aggregate.TemplateEntity;
 import org.iot.hotelitybackend.marketing.dto.TemplateDTO;
 import org.iot.hotelitybackend.marketing.repository.TemplateRepository;
 import org.iot.hotelitybackend.marketing.vo.RequestTemplate;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -22,27 +25,28 @@ public class TemplateServiceImpl implements TemplateService {
 
     private final ModelMapper mapper;
     private final TemplateRepository templateRepository;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TemplateServiceImpl(ModelMapper mapper, TemplateRepository templateRepository) {
+    public TemplateServiceImpl(ModelMapper mapper, TemplateRepository templateRepository,
+        PageQueryExecutor pageQueryExecutor, ApplicationEventPublisher eventPublisher) {
         this.mapper = mapper;
         this.templateRepository = templateRepository;
+        this.pageQueryExecutor = pageQueryExecutor;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Map<String, Object> selectTemplatesList(int pageNum) {
         Pageable pageable = PageRequest.of(pageNum, PAGE_SIZE);
-        Page<TemplateEntity> templatePage = templateRepository.findAll(pageable);
+        Slice<TemplateEntity> templatePage = pageQueryExecutor.findPage(TemplateEntity.class, null, pageable, false);
         List<TemplateDTO> templateDTOList = templatePage.stream().map(templateEntity -> mapper.map(templateEntity, TemplateDTO.class))
                 .toList();
 
-        int totalPagesCount = templatePage.getTotalPages();
-        int currentPageIndex = templatePage.getNumber();
-
         Map<String, Object> templatePageInfo = new HashMap<>();
 
-        templatePageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-        templatePageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+        templatePageInfo.putAll(PageQueryExecutor.toPageInfo(templatePage));
         templatePageInfo.put(KEY_CONTENT, templateDTOList);
 
         return templatePageInfo;
@@ -68,6 +72,7 @@ public class TemplateServiceImpl implements TemplateService {
         Map<String, Object> registTemplateInfo = new HashMap<>();
 
         registTemplateInfo.put(KEY_CONTENT, mapper.map(templateRepository.save(templateEntity), TemplateDTO.class));
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(TemplateEntity.class));
 
         return registTemplateInfo;
     }
@@ -93,6 +98,7 @@ public class TemplateServiceImpl implements TemplateService {
 
         if (templateRepository.existsById(templateCodePk)) {
             templateRepository.deleteById(templateCodePk);
+            eventPublisher.publishEvent(TotalCountChangedEvent.of(TemplateEntity.class));
         } else {
             System.out.println("해당하는 템플릿을 찾을 수 없습니다.");
         }
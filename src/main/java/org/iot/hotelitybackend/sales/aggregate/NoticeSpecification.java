@@ -1,8 +1,8 @@
 package org.iot.hotelitybackend.sales.aggregate;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -52,16 +52,10 @@ public class NoticeSpecification {
 
     // 등록일
     public static Specification<NoticeEntity> equalsNoticePostedDate(LocalDateTime noticePostedDate) {
-        LocalDate date = noticePostedDate.toLocalDate();
-
-        return (root, query, criteriaBuilder) ->
-            criteriaBuilder.equal(root.get("noticePostedDate").as(LocalDate.class), date);
+        return TemporalSpecification.onDate("noticePostedDate", noticePostedDate);
     }
     // 수정일
     public static Specification<NoticeEntity> equalsNoticeLastUpdatedDate(LocalDateTime noticeLastUpdatedDate) {
-        LocalDate date = noticeLastUpdatedDate.toLocalDate();
-
-        return (root, query, criteriaBuilder) ->
-            criteriaBuilder.equal(root.get("noticeLastUpdatedDate").as(LocalDate.class), date);
+        return TemporalSpecification.onDate("noticeLastUpdatedDate", noticeLastUpdatedDate);
     }
 }
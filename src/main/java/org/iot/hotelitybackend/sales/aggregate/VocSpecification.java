@@ -2,6 +2,7 @@ package org.iot.hotelitybackend.sales.aggregate;
 
 import jakarta.persistence.criteria.Join;
 
+import org.iot.hotelitybackend.common.util.TemporalSpecification;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.springframework.cglib.core.Local;
@@ -52,20 +53,12 @@ public class VocSpecification {
 
     // voc 작성 일자(vocCreatedDate)
     public static Specification<VocEntity> equalsVocCreatedDate(LocalDateTime vocCreatedDate) {
-
-        LocalDate date = vocCreatedDate.toLocalDate();
-
-        return (root, query, criteriaBuilder) ->
-            criteriaBuilder.equal(root.get("vocCreatedDate").as(LocalDate.class), date);
+        return TemporalSpecification.onDate("vocCreatedDate", vocCreatedDate);
     }
 
     // voc 업데이트 일자(vocLastUpdatedDate)
     public static Specification<VocEntity> equalsVocLastUpdatedDate(LocalDateTime vocLastUpdatedDate) {
-
-        LocalDate date = vocLastUpdatedDate.toLocalDate();
-
-        return (root, query, criteriaBuilder) ->
-            criteriaBuilder.equal(root.get("vocLastUpdatedDate").as(LocalDate.class), date);
+        return TemporalSpecification.onDate("vocLastUpdatedDate", vocLastUpdatedDate);
     }
 
     // 지점코드
@@ -1,26 +1,25 @@
 package org.iot.hotelitybackend.sales.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.sales.dto.CouponDTO;
 import org.iot.hotelitybackend.sales.service.CouponService;
 import org.iot.hotelitybackend.sales.vo.CouponSearchCriteria;
 import org.iot.hotelitybackend.sales.vo.RequestCoupon;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.COUPON;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -28,10 +27,12 @@ import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 public class CouponController {
 
     private final CouponService couponService;
+    private final ExcelExportService excelExportService;
 
     @Autowired
-    public CouponController(CouponService couponService) {
+    public CouponController(CouponService couponService, ExcelExportService excelExportService) {
         this.couponService = couponService;
+        this.excelExportService = excelExportService;
     }
 
     @GetMapping("/coupons/page")
@@ -74,47 +75,32 @@ public class CouponController {
     }
 
     @GetMapping("/coupons/page/excel/download")
-    public ResponseEntity<InputStreamResource> downloadAllCouponsType(
-        // @RequestParam(required = false) Integer pageNum,
-        // @RequestParam(required = false) Integer couponCodePk,
-        // @RequestParam(required = false) String couponName,
-        // @RequestParam(required = false) String couponType,
-        // @RequestParam(required = false) Double couponDiscountRate,
-        // @RequestParam(required = false) Date couponLaunchingDate,
-        // @RequestParam(required = false) String couponInfo,
-        // @RequestParam(required = false) Integer membershipLevelCodeFk,
-        // @RequestParam(required = false) String orderBy,
-        // @RequestParam(required = false) Integer sortBy
-        @ModelAttribute CouponSearchCriteria criteria
+    public ResponseEntity<ResponseVO> downloadAllCouponsType(
+        @ModelAttribute CouponSearchCriteria criteria,
+        @RequestParam(value = "format", required = false) String format
     ) {
-
-        // 조회해서 DTO 리스트 가져오기
-        Map<String, Object> couponPageInfo = couponService.selectAllCouponsType(
-            // pageNum, couponCodePk
-            // , couponName, couponType, couponDiscountRate, couponLaunchingDate, couponInfo, membershipLevelCodeFk,
-            // orderBy, sortBy
-            criteria
-        );
-
+        ResponseVO response;
         try {
-            // 엑셀 시트와 파일 만들기
-            Map<String, Object> result = createExcelFile(
-                    (List<CouponDTO>)couponPageInfo.get(KEY_CONTENT),
-                    COUPON.getFileName(),
-                    COUPON.getHeaderStrings());
-
-            return ResponseEntity
-                .ok()
-                .headers((HttpHeaders)result.get("headers"))
-                .body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-
-        } catch (Exception e) {
-
-            log.info(e.getMessage());
-            e.printStackTrace();
+            // 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+            ExcelExportJobDTO exportJob = excelExportService.requestExport(COUPON, ExportFormat.from(format), criteria,
+                () -> ((List<CouponDTO>)couponService.selectAllCouponsType(criteria).get(KEY_CONTENT)).stream());
+            response = ResponseVO.builder()
+                .data(exportJob)
+                .resultCode(HttpStatus.ACCEPTED.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        } catch (IllegalStateException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
         }
 
-        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(response.getResultCode()).body(response);
     }
 
 }
@@ -1,26 +1,25 @@
 package org.iot.hotelitybackend.sales.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.sales.dto.CouponIssueDTO;
 import org.iot.hotelitybackend.sales.service.CouponIssueService;
 import org.iot.hotelitybackend.sales.vo.CouponIssueSearchCriteria;
 import org.iot.hotelitybackend.sales.vo.RequestCouponIssue;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 import static org.iot.hotelitybackend.common.constant.Constant.KEY_CONTENT;
 import static org.iot.hotelitybackend.common.util.ExcelType.COUPON_ISSUE;
-import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 
 @Slf4j
 @RestController
@@ -28,24 +27,34 @@ import static org.iot.hotelitybackend.common.util.ExcelUtil.createExcelFile;
 public class CouponIssueController {
 
     private final CouponIssueService couponIssueService;
+    private final ExcelExportService excelExportService;
 
     @Autowired
-    public CouponIssueController(CouponIssueService couponIssueService) {
+    public CouponIssueController(CouponIssueService couponIssueService, ExcelExportService excelExportService) {
         this.couponIssueService = couponIssueService;
+        this.excelExportService = excelExportService;
     }
 
     @GetMapping("/coupons/issue/page")
     public ResponseEntity<ResponseVO> selectCouponIssueList(
         @ModelAttribute CouponIssueSearchCriteria criteria
     ) {
-        Map<String, Object> couponIssuePageInfo = couponIssueService.selectCouponIssueList(
-            criteria
-        );
+        ResponseVO response;
+        try {
+            Map<String, Object> couponIssuePageInfo = couponIssueService.selectCouponIssueList(
+                criteria
+            );
 
-        ResponseVO response = ResponseVO.builder()
-            .data(couponIssuePageInfo)
-            .resultCode(HttpStatus.OK.value())
-            .build();
+            response = ResponseVO.builder()
+                .data(couponIssuePageInfo)
+                .resultCode(HttpStatus.OK.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        }
 
         return ResponseEntity.status(response.getResultCode()).body(response);
     }
@@ -63,36 +72,32 @@ public class CouponIssueController {
     }
 
     @GetMapping("/coupons/issue/page/excel/download")
-    public ResponseEntity<InputStreamResource> downloadCouponIssueList(
-        @ModelAttribute CouponIssueSearchCriteria criteria
+    public ResponseEntity<ResponseVO> downloadCouponIssueList(
+        @ModelAttribute CouponIssueSearchCriteria criteria,
+        @RequestParam(value = "format", required = false) String format
     ) {
-
-        // 조회해서 DTO 리스트 가져오기
-        Map<String, Object> couponIssueListInfo = couponIssueService.selectCouponIssueList(
-            // pageNum, couponIssueCodePk, couponName, customerCodePk, customerName, couponDiscountRate, couponIssueDate,
-            // couponExpireDate, couponUseDate, orderBy, sortBy
-            criteria
-        );
-
+        ResponseVO response;
         try {
-
-            Map<String, Object> result = createExcelFile(
-                    (List<CouponIssueDTO>)couponIssueListInfo.get(KEY_CONTENT),
-                    COUPON_ISSUE.getFileName(),
-                    COUPON_ISSUE.getHeaderStrings()
-            );
-
-            return ResponseEntity
-                .ok()
-                .headers((HttpHeaders)result.get("headers"))
-                .body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-
-        } catch (Exception e) {
-
-            log.info(e.getMessage());
-            e.printStackTrace();
+            // 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+            ExcelExportJobDTO exportJob = excelExportService.requestExport(COUPON_ISSUE, ExportFormat.from(format), criteria,
+                () -> ((List<CouponIssueDTO>)couponIssueService.selectCouponIssueList(criteria).get(KEY_CONTENT))
+                    .stream());
+            response = ResponseVO.builder()
+                .data(exportJob)
+                .resultCode(HttpStatus.ACCEPTED.value())
+                .build();
+        } catch (IllegalArgumentException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+        } catch (IllegalStateException e) {
+            response = ResponseVO.builder()
+                .resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
         }
 
-        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(response.getResultCode()).body(response);
     }
 }
@@ -1,49 +1,60 @@
 package org.iot.hotelitybackend.sales.controller;
 
+import org.iot.hotelitybackend.common.util.ExportFormat;
 import org.iot.hotelitybackend.common.vo.ResponseVO;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.filedownload.service.ExcelExportService;
 import org.iot.hotelitybackend.sales.dto.VocDTO;
 import org.iot.hotelitybackend.sales.service.VocService;
 import org.iot.hotelitybackend.sales.vo.RequestReplyVoc;
 import org.iot.hotelitybackend.sales.vo.ResponseVoc;
 import org.iot.hotelitybackend.sales.vo.VocSearchCriteria;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static org.iot.hotelitybackend.common.util.ExcelType.VOC;
+
 @Slf4j
 @RestController
 @RequestMapping("/sales")
 public class VocController {
 
 	private final VocService vocService;
+	private final ExcelExportService excelExportService;
 
 	@Autowired
-	public VocController(VocService vocService) {
+	public VocController(VocService vocService, ExcelExportService excelExportService) {
 		this.vocService = vocService;
+		this.excelExportService = excelExportService;
 	}
 
 	@GetMapping("/vocs/page")
 	public ResponseEntity<ResponseVO> selectVocsList(@ModelAttribute VocSearchCriteria criteria)
 	{
 
-		Map<String, Object> vocPageInfo = vocService.selectVocsList(criteria);
-
-		ResponseVO response = ResponseVO.builder()
-			.data(vocPageInfo)
-			.resultCode(HttpStatus.OK.value())
-			.build();
+		ResponseVO response;
+		try {
+			Map<String, Object> vocPageInfo = vocService.selectVocsList(criteria);
+
+			response = ResponseVO.builder()
+				.data(vocPageInfo)
+				.resultCode(HttpStatus.OK.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		}
 
 		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
@@ -94,18 +105,30 @@ public class VocController {
 	}
 
 	@GetMapping("/vocs/excel/download")
-	public ResponseEntity<InputStreamResource> downloadVocsListExcel() {
+	public ResponseEntity<ResponseVO> downloadVocsListExcel(
+		@RequestParam(value = "format", required = false) String format
+	) {
+		ResponseVO response;
 		try {
-			List<VocDTO> vocDTOList = vocService.selectVocsListForExcel();
-			Map<String, Object> result = vocService.createVocsExcelFile(vocDTOList);
-
-			return ResponseEntity
-				.ok()
-				.headers((HttpHeaders)result.get("headers"))
-				.body(new InputStreamResource((ByteArrayInputStream)result.get("result")));
-		} catch (Exception e) {
-			log.info(e.getMessage());
+			// 엑셀 파일 생성 작업 등록 (진행 상황과 파일은 /file/export/{jobId} 로 조회)
+			ExcelExportJobDTO exportJob = excelExportService.requestExport(VOC, ExportFormat.from(format), null,
+				() -> vocService.selectVocsListForExcel().stream());
+			response = ResponseVO.builder()
+				.data(exportJob)
+				.resultCode(HttpStatus.ACCEPTED.value())
+				.build();
+		} catch (IllegalArgumentException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.BAD_REQUEST.value())
+				.message(e.getMessage())
+				.build();
+		} catch (IllegalStateException e) {
+			response = ResponseVO.builder()
+				.resultCode(HttpStatus.TOO_MANY_REQUESTS.value())
+				.message(e.getMessage())
+				.build();
 		}
-		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+
+		return ResponseEntity.status(response.getResultCode()).body(response);
 	}
 }
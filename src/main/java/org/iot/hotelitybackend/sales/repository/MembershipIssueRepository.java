@@ -2,7 +2,10 @@ package org.iot.hotelitybackend.sales.repository;
 
 import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MembershipIssueRepository extends JpaRepository<MembershipIssueEntity, Integer> {
@@ -14,5 +17,12 @@ public interface MembershipIssueRepository extends JpaRepository<MembershipIssue
 
 	List<MembershipIssueEntity> findAllByMembershipLevelCodeFk(Integer membershipLevelCodePk);
 
+	// 고객별 가장 최근 발급 이력 (고객 조회용 뷰와 같이 발급 코드가 가장 큰 건)
+	@Query("SELECT mi FROM MembershipIssueEntity mi WHERE mi.membershipIssueCodePk IN ("
+		+ "SELECT MAX(mi2.membershipIssueCodePk) FROM MembershipIssueEntity mi2 "
+		+ "WHERE mi2.customerCodeFk IN :customerCodeFkList GROUP BY mi2.customerCodeFk)")
+	List<MembershipIssueEntity> findLatestByCustomerCodeFkIn(
+		@Param("customerCodeFkList") Collection<Integer> customerCodeFkList);
+
 	void deleteByCustomerCodeFk(int customerCodePk);
 }
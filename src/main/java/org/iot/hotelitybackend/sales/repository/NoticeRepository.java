@@ -15,5 +15,7 @@ public interface NoticeRepository extends JpaRepository<NoticeEntity, Integer>,
 
 	List<NoticeEntity> findTop3ByOrderByNoticeCodePkDesc();
 
+	List<NoticeEntity> findTop3ByBranchCodeFkOrderByNoticeCodePkDesc(String branchCodeFk);
+
     List<NoticeEntity> findAllByNoticePostedDateBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
 }
@@ -17,5 +17,7 @@ public interface VocRepository extends JpaRepository<VocEntity, Integer>, JpaSpe
 
     List<VocEntity> findTop3ByOrderByVocCodePkDesc();
 
+    List<VocEntity> findTop3ByBranchCodeFkOrderByVocCodePkDesc(String branchCodeFk);
+
     List<VocEntity> findAllByVocCreatedDateBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
 }
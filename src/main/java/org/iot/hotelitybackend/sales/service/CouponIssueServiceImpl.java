@@ -1,7 +1,14 @@
 package org.iot.hotelitybackend.sales.service;
 
-import org.iot.hotelitybackend.customer.dto.CustomerDTO;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.BatchFkResolver;
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
+import org.iot.hotelitybackend.sales.aggregate.CouponEntity;
 import org.iot.hotelitybackend.sales.aggregate.CouponIssueEntity;
 import org.iot.hotelitybackend.sales.aggregate.CouponIssueSpecification;
 import org.iot.hotelitybackend.sales.dto.CouponDTO;
@@ -13,9 +20,10 @@ import org.iot.hotelitybackend.sales.vo.RequestCouponIssue;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -30,17 +38,29 @@ import static org.iot.hotelitybackend.common.constant.Constant.*;
 @Service
 public class CouponIssueServiceImpl implements CouponIssueService{
 
+    // 정렬 기준으로 허용하는 쿠폰 발급 내역 필드
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+        "couponIssueCodePk", "customerCodeFk", "couponCodeFk", "couponIssueBarcode", "couponIssueDate",
+        "couponExpireDate", "couponUseDate", "couponName", "customerName", "couponDiscountRate",
+        "membershipLevelName"
+    );
+
     private final ModelMapper mapper;
     private final CouponIssueRepository couponIssueRepository;
     private final CustomerRepository customerRepository;
     private final CouponRepository couponRepository;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CouponIssueServiceImpl(ModelMapper mapper, CouponIssueRepository couponIssueRepository, CustomerRepository customerRepository, CouponRepository couponRepository) {
+    public CouponIssueServiceImpl(ModelMapper mapper, CouponIssueRepository couponIssueRepository, CustomerRepository customerRepository, CouponRepository couponRepository,
+        PageQueryExecutor pageQueryExecutor, ApplicationEventPublisher eventPublisher) {
         this.mapper = mapper;
         this.couponIssueRepository = couponIssueRepository;
         this.customerRepository = customerRepository;
         this.couponRepository = couponRepository;
+        this.pageQueryExecutor = pageQueryExecutor;
+        this.eventPublisher = eventPublisher;
 
         this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
         this.mapper.typeMap(CouponIssueEntity.class, CouponIssueDTO.class).addMappings(modelMapper -> {
@@ -59,70 +79,66 @@ public class CouponIssueServiceImpl implements CouponIssueService{
         Specification<CouponIssueEntity> specification = buildSpecification(criteria);
 
         Integer pageNum = criteria.getPageNum();
-        String orderBy = criteria.getOrderBy();
-        Integer sortBy = criteria.getSortBy();
+        String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+        Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
 
         Map<String, Object> couponIssuePageInfo = new HashMap<>();
 
+        // 0. 키셋 페이징 (cursor 를 전달한 경우)
+        if (criteria.getCursor() != null) {
+            KeysetPagination.KeysetPage<CouponIssueEntity> couponIssueKeysetPage = KeysetPagination.fetch(
+                couponIssueRepository, specification,
+                orderBy == null ? "couponIssueCodePk" : orderBy, "couponIssueCodePk",
+                orderBy == null ? Sort.Direction.ASC : direction,
+                criteria.getCursor(), PAGE_SIZE
+            );
+            couponIssuePageInfo.put(KEY_CONTENT, toCouponIssueDTOList(couponIssueKeysetPage.content()));
+            couponIssuePageInfo.put(KEY_NEXT_CURSOR, couponIssueKeysetPage.nextCursor());
+
         // 1. 페이징 처리 할 때
-        if (pageNum != null) {
+        } else if (pageNum != null) {
             Pageable pageable;
             if (orderBy == null) {
                 pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by("couponIssueCodePk"));
             } else {
-                if (sortBy == 1) {
-                    pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy));
-                } else {
-                    pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
-                }
+                pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(direction, orderBy));
             }
 
-            Page<CouponIssueEntity> couponIssuePage = couponIssueRepository.findAll(specification, pageable);
-            List<CouponIssueDTO> couponIssueDTOList = couponIssuePage
-                .stream()
-                .map(couponIssueEntity -> mapper.map(couponIssueEntity, CouponIssueDTO.class))
-                .peek(couponIssueDTO -> {
-                        couponIssueDTO.setCustomerName(
-                            mapper.map(customerRepository.findById(couponIssueDTO.getCustomerCodeFk()), CustomerDTO.class)
-                                .getCustomerName());
-                        couponIssueDTO.setCouponName(
-                            couponRepository.findById(couponIssueDTO.getCouponCodeFk()).get().getCouponName());
-                        couponIssueDTO.setCouponDiscountRate(
-                            couponRepository.findById(couponIssueDTO.getCouponCodeFk()).get()
-                                .getCouponDiscountRate());
-                    }
-                )
-                .toList();
-            int totalPagesCount = couponIssuePage.getTotalPages();
-            int currentPageIndex = couponIssuePage.getNumber();
-            couponIssuePageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-            couponIssuePageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+            Slice<CouponIssueEntity> couponIssuePage = pageQueryExecutor.findPage(
+                CouponIssueEntity.class, specification, pageable, criteria.getHasNextOnly(), criteria);
+            List<CouponIssueDTO> couponIssueDTOList = toCouponIssueDTOList(couponIssuePage.getContent());
+            couponIssuePageInfo.putAll(PageQueryExecutor.toPageInfo(couponIssuePage));
             couponIssuePageInfo.put(KEY_CONTENT, couponIssueDTOList);
 
         // 2. 페이징 처리 안할 때
         } else {
             List<CouponIssueEntity> couponIssueEntityList = couponIssueRepository.findAll(specification);
-            List<CouponIssueDTO> couponIssueDTOList = couponIssueEntityList
-                .stream()
-                .map(couponIssueEntity -> mapper.map(couponIssueEntity, CouponIssueDTO.class))
-                .peek(couponIssueDTO -> {
-                        couponIssueDTO.setCustomerName(
-                            mapper.map(customerRepository.findById(couponIssueDTO.getCustomerCodeFk()), CustomerDTO.class)
-                                .getCustomerName());
-                        couponIssueDTO.setCouponName(
-                            couponRepository.findById(couponIssueDTO.getCouponCodeFk()).get().getCouponName());
-                        couponIssueDTO.setCouponDiscountRate(
-                            couponRepository.findById(couponIssueDTO.getCouponCodeFk()).get()
-                                .getCouponDiscountRate());
-                    }
-                )
-                .toList();
+            List<CouponIssueDTO> couponIssueDTOList = toCouponIssueDTOList(couponIssueEntityList);
             couponIssuePageInfo.put(KEY_CONTENT, couponIssueDTOList);
         }
 
         return couponIssuePageInfo;
     }
 
+    private List<CouponIssueDTO> toCouponIssueDTOList(List<CouponIssueEntity> couponIssueEntityList) {
+        List<CouponIssueDTO> couponIssueDTOList = couponIssueEntityList
+            .stream()
+            .map(couponIssueEntity -> mapper.map(couponIssueEntity, CouponIssueDTO.class))
+            .toList();
+
+        // 고객명, 쿠폰명/할인율은 목록 전체에서 고객/쿠폰을 한 번씩만 조회해 채운다
+        return BatchFkResolver.of(couponIssueDTOList)
+            .resolve(CouponIssueDTO::getCustomerCodeFk, customerRepository::findAllById,
+                CustomerEntity::getCustomerCodePk,
+                (couponIssueDTO, customer) -> couponIssueDTO.setCustomerName(customer.getCustomerName()))
+            .resolve(CouponIssueDTO::getCouponCodeFk, couponRepository::findAllById, CouponEntity::getCouponCodePk,
+                (couponIssueDTO, coupon) -> {
+                    couponIssueDTO.setCouponName(coupon.getCouponName());
+                    couponIssueDTO.setCouponDiscountRate(coupon.getCouponDiscountRate());
+                })
+            .toList();
+    }
+
     private Specification<CouponIssueEntity> buildSpecification(CouponIssueSearchCriteria criteria) {
 
         Integer pageNum = criteria.getPageNum();
@@ -186,6 +202,8 @@ public class CouponIssueServiceImpl implements CouponIssueService{
         Map<String, Object> registCouponIssueInfo = new HashMap<>();
 
         registCouponIssueInfo.put(KEY_CONTENT, mapper.map(couponIssueRepository.save(couponIssueEntity), CouponIssueDTO.class));
+        eventPublisher.publishEvent(CustomerProfileChangedEvent.of(requestCouponIssue.getCustomerCodeFk()));
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(CouponIssueEntity.class));
 
         return registCouponIssueInfo;
     }
@@ -1,18 +1,21 @@
 package org.iot.hotelitybackend.sales.service;
 
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.ReferenceDataCache;
 import org.iot.hotelitybackend.sales.aggregate.CouponEntity;
 import org.iot.hotelitybackend.sales.aggregate.CouponSpecification;
 import org.iot.hotelitybackend.sales.dto.CouponDTO;
 import org.iot.hotelitybackend.sales.repository.CouponRepository;
-import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.iot.hotelitybackend.sales.vo.CouponSearchCriteria;
 import org.iot.hotelitybackend.sales.vo.RequestCoupon;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -29,14 +32,19 @@ public class CouponServiceImpl implements CouponService{
 
     private final ModelMapper mapper;
     private final CouponRepository couponRepository;
-    private final MembershipRepository membershipRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CouponServiceImpl(ModelMapper mapper, CouponRepository couponRepository,
-		MembershipRepository membershipRepository) {
+		ReferenceDataCache referenceDataCache, PageQueryExecutor pageQueryExecutor,
+		ApplicationEventPublisher eventPublisher) {
         this.mapper = mapper;
         this.couponRepository = couponRepository;
-		this.membershipRepository = membershipRepository;
+		this.referenceDataCache = referenceDataCache;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.eventPublisher = eventPublisher;
         this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
         this.mapper.typeMap(CouponEntity.class, CouponDTO.class)
                 .addMappings(mapperNew -> mapperNew.map(
@@ -69,52 +77,35 @@ public class CouponServiceImpl implements CouponService{
                     pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
                 }
             }
-            Page<CouponEntity> couponPage = couponRepository.findAll(specification, pageable);
-            List<CouponDTO> couponDTOList = couponPage
-                .stream()
-                .map(couponEntity -> mapper.map(couponEntity, CouponDTO.class))
-                .peek(
-                    couponDTO -> couponDTO.setMembershipLevelName(
-                        membershipRepository.findById(
-                            couponDTO
-                                .getMembershipLevelCodeFk()
-                        )
-                            .get()
-                            .getMembershipLevelName()
-                    )
-                )
-                .toList();
-            int totalPagesCount = couponPage.getTotalPages();
-            int currentPageIndex = couponPage.getNumber();
-
-
-            couponPageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-            couponPageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+            Slice<CouponEntity> couponPage = pageQueryExecutor.findPage(
+                CouponEntity.class, specification, pageable, criteria.getHasNextOnly(), criteria);
+            List<CouponDTO> couponDTOList = toCouponDTOList(couponPage.getContent());
+            couponPageInfo.putAll(PageQueryExecutor.toPageInfo(couponPage));
             couponPageInfo.put(KEY_CONTENT, couponDTOList);
 
         // 2. 페이징 처리 안할 때
         } else {
             List<CouponEntity> couponEntityList = couponRepository.findAll(specification);
-            List<CouponDTO> couponDTOList = couponEntityList
-                .stream()
-                .map(couponEntity -> mapper.map(couponEntity, CouponDTO.class))
-                .peek(
-                    couponDTO -> couponDTO.setMembershipLevelName(
-                        membershipRepository.findById(
-                                couponDTO
-                                    .getMembershipLevelCodeFk()
-                            )
-                            .get()
-                            .getMembershipLevelName()
-                    )
-                )
-                .toList();
+            List<CouponDTO> couponDTOList = toCouponDTOList(couponEntityList);
             couponPageInfo.put(KEY_CONTENT, couponDTOList);
         }
 
         return couponPageInfo;
     }
 
+    // 멤버십 등급명은 기준 정보 캐시에서 채운다
+    private List<CouponDTO> toCouponDTOList(List<CouponEntity> couponEntityList) {
+        return couponEntityList
+            .stream()
+            .map(couponEntity -> {
+                CouponDTO couponDTO = mapper.map(couponEntity, CouponDTO.class);
+                couponDTO.setMembershipLevelName(
+                    referenceDataCache.membershipLevelName(couponDTO.getMembershipLevelCodeFk()));
+                return couponDTO;
+            })
+            .toList();
+    }
+
     private Specification<CouponEntity> buildSpecification(CouponSearchCriteria criteria) {
         Integer pageNum = criteria.getPageNum();
         Integer couponCodePk = criteria.getCouponCodePk();
@@ -162,6 +153,7 @@ public class CouponServiceImpl implements CouponService{
         Map<String, Object> registCouponInfo = new HashMap<>();
 
         registCouponInfo.put(KEY_CONTENT, mapper.map(couponRepository.save(couponEntity), CouponDTO.class));
+        eventPublisher.publishEvent(TotalCountChangedEvent.of(CouponEntity.class));
 
         return registCouponInfo;
     }
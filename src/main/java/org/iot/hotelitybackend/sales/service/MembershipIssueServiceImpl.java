@@ -1,8 +1,8 @@
 package org.iot.hotelitybackend.sales.service;
 
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-import org.iot.hotelitybackend.hotelservice.aggregate.PaymentEntity;
 import org.iot.hotelitybackend.hotelservice.repository.PaymentRepository;
 import org.iot.hotelitybackend.sales.aggregate.MembershipEntity;
 import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
@@ -10,11 +10,14 @@ import org.iot.hotelitybackend.sales.repository.MembershipIssueRepository;
 import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class MembershipIssueServiceImpl implements MembershipIssueService{
@@ -24,14 +27,17 @@ public class MembershipIssueServiceImpl implements MembershipIssueService{
     private final PaymentRepository paymentRepository;
     private final CustomerRepository customerRepository;
     private final MembershipRepository membershipRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public MembershipIssueServiceImpl(ModelMapper mapper, MembershipIssueRepository membershipIssueRepository, PaymentRepository paymentRepository, CustomerRepository customerRepository, MembershipRepository membershipRepository) {
+    public MembershipIssueServiceImpl(ModelMapper mapper, MembershipIssueRepository membershipIssueRepository, PaymentRepository paymentRepository, CustomerRepository customerRepository, MembershipRepository membershipRepository,
+        ApplicationEventPublisher eventPublisher) {
         this.mapper = mapper;
         this.membershipIssueRepository = membershipIssueRepository;
         this.paymentRepository = paymentRepository;
         this.customerRepository = customerRepository;
         this.membershipRepository = membershipRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -51,14 +57,16 @@ public class MembershipIssueServiceImpl implements MembershipIssueService{
         // 모든 고객 조회
         List<CustomerEntity> customers = customerRepository.findAll();
 
-        for (CustomerEntity customer : customers) {
-            // 특정 기간 동안의 결제 내역 조회
-            List<PaymentEntity> payments = paymentRepository.findByCustomerCodeFkAndPaymentDateBetween(customer.getCustomerCodePk(), startDate, endDate);
+        // 특정 기간 동안의 고객별 결제 금액 합계 (고객마다 결제 내역을 조회하지 않고 한 번에 집계)
+        Map<Integer, Long> totalPaymentMap = new HashMap<>();
+        for (PaymentRepository.CustomerPaymentTotal customerPaymentTotal :
+                paymentRepository.sumPaymentAmountByCustomer(startDate, endDate)) {
+            totalPaymentMap.put(customerPaymentTotal.getCustomerCodeFk(), customerPaymentTotal.getPaymentAmountSum());
+        }
 
-            // 총 결제 금액 계산
-            double totalPayment = payments.stream()
-                    .mapToDouble(PaymentEntity::getPaymentAmount)
-                    .sum();
+        for (CustomerEntity customer : customers) {
+            // 총 결제 금액
+            double totalPayment = totalPaymentMap.getOrDefault(customer.getCustomerCodePk(), 0L);
 
             // 멤버십 등급 부여 로직
             Integer newMembershipLevelCodeFk = determineMembershipLevelCodeFk(totalPayment);
@@ -78,6 +86,9 @@ public class MembershipIssueServiceImpl implements MembershipIssueService{
 
             membershipIssueRepository.save(membershipIssue);
         }
+
+        // 전체 고객의 멤버십 등급이 바뀌므로 고객 상세 캐시 전체 삭제
+        eventPublisher.publishEvent(CustomerProfileChangedEvent.ofAllCustomers());
     }
 
     private Integer determineMembershipLevelCodeFk(double totalPayment) {
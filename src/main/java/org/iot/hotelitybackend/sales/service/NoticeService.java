@@ -20,4 +20,6 @@ public interface NoticeService {
     Map<String, Object> deleteNotice(int noticeCodePk);
 
 	Map<String, Object> selectLatestNoticeList();
+
+	Map<String, Object> selectLatestNoticeList(String branchCodeFk);
 }
@@ -1,5 +1,9 @@
 package org.iot.hotelitybackend.sales.service;
 
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.BatchFkResolver;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.iot.hotelitybackend.employee.dto.EmployeeDTO;
 import org.iot.hotelitybackend.employee.repository.EmployeeRepository;
 import org.iot.hotelitybackend.sales.aggregate.NoticeEntity;
@@ -12,9 +16,10 @@ import org.iot.hotelitybackend.sales.vo.RequestModifyNotice;
 import org.iot.hotelitybackend.sales.vo.RequestNotice;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -33,13 +38,18 @@ public class NoticeServiceImpl implements NoticeService {
 	private final ModelMapper mapper;
 	private final NoticeRepository noticeRepository;
 	private final EmployeeRepository employeeRepository;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public NoticeServiceImpl(ModelMapper mapper, NoticeRepository noticeRepository,
-		EmployeeRepository employeeRepository) {
+		EmployeeRepository employeeRepository, PageQueryExecutor pageQueryExecutor,
+		ApplicationEventPublisher eventPublisher) {
 		this.mapper = mapper;
 		this.noticeRepository = noticeRepository;
 		this.employeeRepository = employeeRepository;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -63,21 +73,22 @@ public class NoticeServiceImpl implements NoticeService {
 
 		Specification<NoticeEntity> spec = buildSpecification(criteria);
 
-		Page<NoticeEntity> noticeEntityPage = noticeRepository.findAll(spec, pageable);
+		Slice<NoticeEntity> noticeEntityPage = pageQueryExecutor.findPage(
+			NoticeEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
 
 		List<NoticeDTO> noticeDTOList = noticeEntityPage
 			.stream()
 			.map(noticeEntity -> mapper.map(noticeEntity, NoticeDTO.class))
-			.peek(noticeDTO -> noticeDTO.setPICEmployeeName(getEmployeeName(noticeDTO)))
 			.toList();
 
-		int totalPagesCount = noticeEntityPage.getTotalPages();
-		int currentPageIndex = noticeEntityPage.getNumber();
+		// 작성 직원명은 페이지의 직원을 한 번에 조회해 채운다
+		BatchFkResolver.of(noticeDTOList)
+			.resolve(NoticeDTO::getEmployeeCodeFk, employeeRepository::findAllById, EmployeeEntity::getEmployeeCodePk,
+				(noticeDTO, employee) -> noticeDTO.setPICEmployeeName(employee.getEmployeeName()));
 
 		Map<String, Object> noticePageInfo = new HashMap<>();
 
-		noticePageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-		noticePageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+		noticePageInfo.putAll(PageQueryExecutor.toPageInfo(noticeEntityPage));
 		noticePageInfo.put(KEY_CONTENT, noticeDTOList);
 
 		return noticePageInfo;
@@ -176,6 +187,7 @@ public class NoticeServiceImpl implements NoticeService {
 		Map<String, Object> registNoticeInfo = new HashMap<>();
 
 		registNoticeInfo.put(KEY_CONTENT, mapper.map(noticeRepository.save(noticeEntity), NoticeDTO.class));
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(NoticeEntity.class));
 
 		return registNoticeInfo;
 	}
@@ -205,6 +217,7 @@ public class NoticeServiceImpl implements NoticeService {
 
 		if (noticeRepository.existsById(noticeCodePk)) {
 			noticeRepository.deleteById(noticeCodePk);
+			eventPublisher.publishEvent(TotalCountChangedEvent.of(NoticeEntity.class));
 		} else {
 			System.out.println("해당하는 공지를 찾을 수 없습니다.");
 		}
@@ -214,14 +227,24 @@ public class NoticeServiceImpl implements NoticeService {
 
 	@Override
 	public Map<String, Object> selectLatestNoticeList() {
-		List<NoticeEntity> noticeEntityList = noticeRepository.findTop3ByOrderByNoticeCodePkDesc();
+		return selectLatestNoticeList(null);
+	}
+
+	/* 최근 공지 3건 (지점코드가 없으면 전 지점) */
+	@Override
+	public Map<String, Object> selectLatestNoticeList(String branchCodeFk) {
+		List<NoticeEntity> noticeEntityList = branchCodeFk == null
+			? noticeRepository.findTop3ByOrderByNoticeCodePkDesc()
+			: noticeRepository.findTop3ByBranchCodeFkOrderByNoticeCodePkDesc(branchCodeFk);
 		List<NoticeDashboardVO> noticeDashboardVOList = noticeEntityList
 			.stream()
-			.map(noticeEntity -> mapper.map(noticeEntity, NoticeDashboardVO.class))
-			.peek(noticeDashboardVO -> noticeDashboardVO.setPICEmployeeName(
-				employeeRepository.findById(
-					noticeDashboardVO.getEmployeeCodeFk()).get().getEmployeeName()
-			))
+			.map(noticeEntity -> {
+				NoticeDashboardVO noticeDashboardVO = mapper.map(noticeEntity, NoticeDashboardVO.class);
+				// 담당 직원은 공지 조회 시 함께 조회되므로 다시 조회하지 않는다
+				noticeDashboardVO.setPICEmployeeName(
+					noticeEntity.getEmployee() == null ? null : noticeEntity.getEmployee().getEmployeeName());
+				return noticeDashboardVO;
+			})
 			.collect(Collectors.toList());
 
 		// 공지 개수가 3개보다 부족할 때
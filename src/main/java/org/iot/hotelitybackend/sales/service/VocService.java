@@ -4,7 +4,6 @@ import org.iot.hotelitybackend.sales.dto.VocDTO;
 import org.iot.hotelitybackend.sales.vo.RequestReplyVoc;
 import org.iot.hotelitybackend.sales.vo.VocSearchCriteria;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
@@ -26,12 +25,9 @@ public interface VocService {
 
 	List<VocDTO> selectVocsListForExcel();
 
-	Map<String, Object> createVocsExcelFile(List<VocDTO> vocDTOList) throws
-		IOException,
-		NoSuchFieldException,
-		IllegalAccessException;
-
 	Map<String, Object> deleteVoc(int vocCodePk);
 
 	Map<String, Object> selectLatestVocList();
+
+	Map<String, Object> selectLatestVocList(String branchCodeFk);
 }
@@ -1,17 +1,14 @@
 package org.iot.hotelitybackend.sales.service;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.IndexedColors;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.iot.hotelitybackend.customer.dto.CustomerDTO;
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.common.util.BatchFkResolver;
+import org.iot.hotelitybackend.common.util.KeysetPagination;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SortResolver;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-import org.iot.hotelitybackend.employee.dto.EmployeeDTO;
+import org.iot.hotelitybackend.employee.aggregate.EmployeeEntity;
 import org.iot.hotelitybackend.employee.repository.EmployeeRepository;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomCategoryDTO;
 import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
@@ -27,26 +24,20 @@ import org.iot.hotelitybackend.smpt.EmailService;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.lang.reflect.Field;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
@@ -57,6 +48,12 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class VocServiceImpl implements VocService {
 
+	// 정렬 기준으로 허용하는 VOC 필드
+	private static final Set<String> SORTABLE_FIELDS = Set.of(
+		"vocCodePk", "vocContent", "vocCreatedDate", "vocLastUpdatedDate", "customerCodeFk", "vocProcessStatus",
+		"vocCategory", "vocTitle", "employeeCodeFk", "branchCodeFk", "picEmployeeName"
+	);
+
 	private final ModelMapper mapper;
 
 	private final VocRepository vocRepository;
@@ -65,6 +62,8 @@ public class VocServiceImpl implements VocService {
 	private final EmployeeRepository employeeRepository;
 
 	private final EmailService emailService;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public VocServiceImpl(
@@ -72,13 +71,17 @@ public class VocServiceImpl implements VocService {
 			VocRepository vocRepository,
 			CustomerRepository customerRepository,
 			EmployeeRepository employeeRepository,
-			EmailService emailService
+			EmailService emailService,
+			PageQueryExecutor pageQueryExecutor,
+			ApplicationEventPublisher eventPublisher
 	) {
 		this.mapper = mapper;
 		this.vocRepository = vocRepository;
 		this.customerRepository = customerRepository;
 		this.employeeRepository = employeeRepository;
 		this.emailService = emailService;
+		this.pageQueryExecutor = pageQueryExecutor;
+		this.eventPublisher = eventPublisher;
 		this.mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
 		this.mapper.typeMap(VocEntity.class, VocDTO.class).addMappings(modelMapper -> {
 			modelMapper.map(VocEntity::getPicEmployeeName, VocDTO::setPICEmployeeName);
@@ -89,50 +92,60 @@ public class VocServiceImpl implements VocService {
 	public Map<String, Object> selectVocsList(VocSearchCriteria criteria) {
 
 		Integer pageNum = criteria.getPageNum();
-		String orderBy = criteria.getOrderBy();
-		Integer sortBy = criteria.getSortBy();
+		String orderBy = SortResolver.orderBy(criteria.getOrderBy(), SORTABLE_FIELDS);
+		Sort.Direction direction = SortResolver.direction(criteria.getSortBy());
+
+		Specification<VocEntity> spec = buildSpecification(criteria);
+
+		Map<String, Object> vocPageInfo = new HashMap<>();
+
+		// 키셋 페이징 (cursor 를 전달한 경우)
+		if (criteria.getCursor() != null) {
+			KeysetPagination.KeysetPage<VocEntity> vocKeysetPage = KeysetPagination.fetch(
+				vocRepository, spec,
+				orderBy == null ? "vocCodePk" : orderBy, "vocCodePk",
+				orderBy == null ? Sort.Direction.ASC : direction,
+				criteria.getCursor(), PAGE_SIZE
+			);
+
+			vocPageInfo.put(KEY_CONTENT, toVocDTOList(vocKeysetPage.content()));
+			vocPageInfo.put(KEY_NEXT_CURSOR, vocKeysetPage.nextCursor());
+
+			return vocPageInfo;
+		}
 
 		Pageable pageable;
 
 		if (orderBy == null) {
 			pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by("vocCodePk"));
 		} else {
-			if (sortBy == 1) {
-				pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy));
-			} else {
-				pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(orderBy).descending());
-			}
+			pageable = PageRequest.of(pageNum, PAGE_SIZE, Sort.by(direction, orderBy));
 		}
 
-		Specification<VocEntity> spec = buildSpecification(criteria);
-
-		Page<VocEntity> vocEntityPage = vocRepository.findAll(spec, pageable);
-		List<VocDTO> vocDTOList = vocEntityPage.stream()
-			.map(vocEntity -> mapper.map(vocEntity, VocDTO.class))
-			.peek(vocDTO -> vocDTO.setCustomerName(
-				mapper.map(customerRepository.findById(vocDTO.getCustomerCodeFk()), CustomerDTO.class).getCustomerName()
-			))
-			.peek(vocDTO -> {
-				if (vocDTO.getEmployeeCodeFk() != null) {
-					vocDTO.setPICEmployeeName(
-							mapper.map(employeeRepository.findById(vocDTO.getEmployeeCodeFk()), EmployeeDTO.class).getEmployeeName()
-					);
-				}
-			})
-			.toList();
+		Slice<VocEntity> vocEntityPage = pageQueryExecutor.findPage(
+			VocEntity.class, spec, pageable, criteria.getHasNextOnly(), criteria);
+		List<VocDTO> vocDTOList = toVocDTOList(vocEntityPage.getContent());
 
-		int totalPagesCount = vocEntityPage.getTotalPages();
-		int currentPageIndex = vocEntityPage.getNumber();
-
-		Map<String, Object> vocPageInfo = new HashMap<>();
-
-		vocPageInfo.put(KEY_TOTAL_PAGES_COUNT, totalPagesCount);
-		vocPageInfo.put(KEY_CURRENT_PAGE_INDEX, currentPageIndex);
+		vocPageInfo.putAll(PageQueryExecutor.toPageInfo(vocEntityPage));
 		vocPageInfo.put(KEY_CONTENT, vocDTOList);
 
 		return vocPageInfo;
 	}
 
+	// 고객명, 담당 직원명은 목록 전체에서 고객/직원을 한 번씩만 조회해 채운다
+	private List<VocDTO> toVocDTOList(List<VocEntity> vocEntityList) {
+		List<VocDTO> vocDTOList = vocEntityList.stream()
+			.map(vocEntity -> mapper.map(vocEntity, VocDTO.class))
+			.toList();
+
+		return BatchFkResolver.of(vocDTOList)
+			.resolve(VocDTO::getCustomerCodeFk, customerRepository::findAllById, CustomerEntity::getCustomerCodePk,
+				(vocDTO, customer) -> vocDTO.setCustomerName(customer.getCustomerName()))
+			.resolve(VocDTO::getEmployeeCodeFk, employeeRepository::findAllById, EmployeeEntity::getEmployeeCodePk,
+				(vocDTO, employee) -> vocDTO.setPICEmployeeName(employee.getEmployeeName()))
+			.toList();
+	}
+
 	private Specification<VocEntity> buildSpecification(VocSearchCriteria criteria) {
 
 		Integer pageNum = criteria.getPageNum();
@@ -252,29 +265,25 @@ public class VocServiceImpl implements VocService {
 		Map<String, Object> vocReply = new HashMap<>();
 
 		vocReply.put(KEY_CONTENT, mapper.map(vocRepository.save(vocEntity), VocDTO.class));
+		eventPublisher.publishEvent(CustomerProfileChangedEvent.of(vocEntity.getCustomerCodeFk()));
 
 		return vocReply;
 	}
 
 	@Override
 	public List<VocDTO> selectVocsListForExcel() {
-		return vocRepository.findAll()
-			.stream()
-			.map(vocEntity -> mapper.map(vocEntity, VocDTO.class))
-			.peek(vocDTO -> vocDTO.setCustomerName(
-				mapper.map(customerRepository.findById(vocDTO.getCustomerCodeFk()), CustomerDTO.class).getCustomerName()
-			))
-			.peek(vocDTO -> vocDTO.setPICEmployeeName(
-				mapper.map(employeeRepository.findById(vocDTO.getEmployeeCodeFk()), EmployeeDTO.class).getEmployeeName()
-			))
-			.toList();
+		return toVocDTOList(vocRepository.findAll());
 	}
 
 	@Override
 	public Map<String, Object> deleteVoc(int vocCodePk) {
 		Map<String, Object> deleteVoc = new HashMap<>();
 		try {
-			vocRepository.deleteById(vocCodePk);
+			vocRepository.findById(vocCodePk).ifPresent(vocEntity -> {
+				vocRepository.deleteById(vocCodePk);
+				eventPublisher.publishEvent(CustomerProfileChangedEvent.of(vocEntity.getCustomerCodeFk()));
+				eventPublisher.publishEvent(TotalCountChangedEvent.of(VocEntity.class));
+			});
 			deleteVoc.put(KEY_CONTENT, "Content deleted successfully.");
 		} catch (Exception e) {
 			deleteVoc.put(KEY_CONTENT, "Failed to delete content.");
@@ -284,15 +293,24 @@ public class VocServiceImpl implements VocService {
 
 	@Override
 	public Map<String, Object> selectLatestVocList() {
-		List<VocEntity> vocEntityList = vocRepository.findTop3ByOrderByVocCodePkDesc();
+		return selectLatestVocList(null);
+	}
+
+	/* 최근 VOC 3건 (지점코드가 없으면 전 지점) */
+	@Override
+	public Map<String, Object> selectLatestVocList(String branchCodeFk) {
+		List<VocEntity> vocEntityList = branchCodeFk == null
+			? vocRepository.findTop3ByOrderByVocCodePkDesc()
+			: vocRepository.findTop3ByBranchCodeFkOrderByVocCodePkDesc(branchCodeFk);
 		List<VocDashboardVO> vocDashboardVOList = vocEntityList
 			.stream()
-			.map(vocEntity -> mapper.map(vocEntity, VocDashboardVO.class))
-			.peek(vocDashboardVO -> vocDashboardVO.setPICEmployeeName(
-				employeeRepository.findById(
-					vocDashboardVO.getEmployeeCodeFk()
-				).get().getEmployeeName()
-			))
+			.map(vocEntity -> {
+				VocDashboardVO vocDashboardVO = mapper.map(vocEntity, VocDashboardVO.class);
+				// 담당 직원은 VOC 조회 시 함께 조회되므로 다시 조회하지 않는다
+				vocDashboardVO.setPICEmployeeName(
+					vocEntity.getEmployee() == null ? null : vocEntity.getEmployee().getEmployeeName());
+				return vocDashboardVO;
+			})
 			.collect(Collectors.toList());
 
 		// VOC 개수가 3개보다 부족할 때
@@ -311,81 +329,4 @@ public class VocServiceImpl implements VocService {
 		return latestVocList;
 	}
 
-	@Override
-	public Map<String, Object> createVocsExcelFile(List<VocDTO> vocDTOList) throws
-		IOException,
-		NoSuchFieldException,
-		IllegalAccessException {
-
-		Workbook workbook = new XSSFWorkbook();
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-		Font headerFont = workbook.createFont();
-		headerFont.setBold(true);
-		headerFont.setColor(IndexedColors.BLACK.getIndex());
-
-		CellStyle headerCellStyle = workbook.createCellStyle();
-		headerCellStyle.setFont(headerFont);
-		headerCellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-		headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-		Sheet sheet = workbook.createSheet("VOC");
-
-		createDashboardSheet(vocDTOList, sheet, headerCellStyle);
-
-		workbook.write(out);
-		log.info("[ReportService:getExcel] create Excel list done. row count:[{}]", vocDTOList.size());
-
-		Calendar calendar = Calendar.getInstance();
-		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HHmmss");
-		String time = dateFormat.format(calendar.getTime());
-		String fileName = "VOCs_" + time + ".xlsx";
-		HttpHeaders headers = new HttpHeaders();
-		headers.add("Content-Type", "application/vnd.ms-excel");
-		headers.add("Content-Disposition", "attachment; filename=" + fileName);
-
-		Map<String, Object> result = new HashMap<>();
-		result.put("result", new ByteArrayInputStream(out.toByteArray()));
-		result.put("fileName", fileName);
-		result.put("headers", headers);
-		return result;
-	}
-
-	// 첫번째 인자인 List<RoomDTO> 만 바꿔서 쓰면 됨
-	private void createDashboardSheet(List<VocDTO> vocDTOList, Sheet sheet, CellStyle headerCellStyle) throws
-		NoSuchFieldException, IllegalAccessException {
-		Row headerRow = sheet.createRow(0);
-		VocDTO vocDTO = new VocDTO();
-		int idx1 = 0;
-		Cell headerCell;
-		List<String> headerStrings = new ArrayList<>();
-		for (Field field : vocDTO.getClass().getDeclaredFields()) {
-			field.setAccessible(true);
-			String fieldName = field.getName();
-			headerStrings.add(fieldName);
-			headerCell = headerRow.createCell(idx1++);
-			headerCell.setCellValue(fieldName);
-			headerCell.setCellStyle(headerCellStyle);
-		}
-
-		Row bodyRow;
-		Cell bodyCell;
-		int idx2 = 1;
-		for (VocDTO vocDTOIter : vocDTOList) {
-			bodyRow = sheet.createRow(idx2++);
-			int idx3 = 0;
-			for (String headerString : headerStrings) {
-				Field field = vocDTOIter.getClass().getDeclaredField(headerString);
-				field.setAccessible(true);
-				bodyCell = bodyRow.createCell(idx3);
-				bodyCell.setCellValue(String.valueOf(field.get(vocDTOIter)));
-				idx3++;
-			}
-		}
-
-		for (int i = 0; i < headerStrings.size(); i++) {
-			sheet.autoSizeColumn(i);
-			sheet.setColumnWidth(i, (sheet.getColumnWidth(i)) + (short)1024);
-		}
-	}
 }
@@ -17,6 +17,10 @@ public class CouponIssueSearchCriteria {
 	private LocalDateTime couponUseDate;
 	private String orderBy;
 	private Integer sortBy;
+	// 키셋 페이징 사용 시 전달 (첫 페이지는 빈 값, 이후 응답의 nextCursor)
+	private String cursor;
+	// true 인 경우 전체 페이지 수(COUNT) 없이 다음 페이지 존재 여부(hasNext)만 반환
+	private Boolean hasNextOnly;
 
 	public CouponIssueSearchCriteria(Integer pageNum, Integer couponIssueCodePk, String couponName, String customerName,
 		Integer customerCodePk, Double couponDiscountRate, LocalDateTime couponIssueDate,
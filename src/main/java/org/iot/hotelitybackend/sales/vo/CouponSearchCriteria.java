@@ -16,4 +16,6 @@ public class CouponSearchCriteria {
 	private Integer membershipLevelCodeFk;
 	private String orderBy;
 	private Integer sortBy;
+	// true 인 경우 전체 페이지 수(COUNT) 없이 다음 페이지 존재 여부(hasNext)만 반환
+	private Boolean hasNextOnly;
 }
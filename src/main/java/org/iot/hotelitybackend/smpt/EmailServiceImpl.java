@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
 import org.iot.hotelitybackend.marketing.aggregate.CampaignCustomerEntity;
@@ -18,6 +19,7 @@ import org.iot.hotelitybackend.sales.aggregate.VocEntity;
 import org.iot.hotelitybackend.sales.repository.MembershipIssueRepository;
 import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -35,12 +37,13 @@ public class EmailServiceImpl implements EmailService {
 	private final MembershipIssueRepository membershipIssueRepository;
 	private final MembershipRepository membershipRepository;
 	private final TemplateRepository templateRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public EmailServiceImpl(JavaMailSender mailSender, CustomerRepository customerRepository,
 		CampaignRepository campaignRepository, CampaignCustomerRepository campaignCustomerRepository,
 		MembershipIssueRepository membershipIssueRepository, MembershipRepository membershipRepository,
-		TemplateRepository templateRepository) {
+		TemplateRepository templateRepository, ApplicationEventPublisher eventPublisher) {
 		this.mailSender = mailSender;
 		this.customerRepository = customerRepository;
 		this.campaignRepository = campaignRepository;
@@ -48,6 +51,7 @@ public class EmailServiceImpl implements EmailService {
 		this.membershipIssueRepository = membershipIssueRepository;
 		this.membershipRepository = membershipRepository;
 		this.templateRepository = templateRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -80,6 +84,7 @@ public class EmailServiceImpl implements EmailService {
 				.build();
 			campaignCustomerRepository.save(campaignCustomerEntity);
 		}
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(CampaignCustomerEntity.class));
 
 		return null;
 	}
@@ -130,6 +135,7 @@ public class EmailServiceImpl implements EmailService {
 				.build();
 			campaignCustomerRepository.save(campaignCustomerEntity);
 		}
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(CampaignCustomerEntity.class));
 
 		Map<String, Object> sendResult = new HashMap<>();
 		sendResult.put(
@@ -180,5 +186,6 @@ public class EmailServiceImpl implements EmailService {
 				.build();
 
 		campaignCustomerRepository.save(campaignCustomerEntity);
+		eventPublisher.publishEvent(TotalCountChangedEvent.of(CampaignCustomerEntity.class));
 	}
 }
@@ -0,0 +1,31 @@
+-- 날짜 구간 조건([start, end))과 자주 함께 쓰이는 필터 조합에 맞춘 인덱스
+
+-- 예약: 월별 캘린더(지점 필터 포함), 고객별 예약 이력, 빈 객실 인덱스 생성(체크아웃 기준)
+CREATE INDEX IF NOT EXISTS idx_reservation_checkin_date
+    ON reservation_tb (reservation_checkin_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_branch_checkin_date
+    ON reservation_tb (branch_code_fk, reservation_checkin_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_customer_checkin_date
+    ON reservation_tb (customer_code_fk, reservation_checkin_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_checkout_date
+    ON reservation_tb (reservation_checkout_date);
+
+-- 결제: 기간별 매출, 고객별 결제 이력(멤버십 산정)
+CREATE INDEX IF NOT EXISTS idx_payment_date
+    ON payment_log_tb (payment_date);
+CREATE INDEX IF NOT EXISTS idx_payment_customer_date
+    ON payment_log_tb (customer_code_fk, payment_date);
+
+-- 투숙: 일자별 투숙 조회
+CREATE INDEX IF NOT EXISTS idx_stay_checkin_time
+    ON stay_tb (stay_checkin_time);
+
+-- VOC: 일자별 조회(지점 필터 포함)
+CREATE INDEX IF NOT EXISTS idx_voc_created_date
+    ON voc_tb (voc_created_date);
+CREATE INDEX IF NOT EXISTS idx_voc_branch_created_date
+    ON voc_tb (branch_code_fk, voc_created_date);
+
+-- 공지: 일자별 조회
+CREATE INDEX IF NOT EXISTS idx_notice_posted_date
+    ON notice_tb (notice_posted_date);
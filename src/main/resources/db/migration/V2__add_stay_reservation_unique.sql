@@ -0,0 +1,5 @@
+-- 예약 1건당 투숙 내역은 1건만 허용 (여러 단말에서 동시에 체크인해도 중복 투숙이 생기지 않도록)
+-- 이미 중복 데이터가 있으면 아래 쿼리로 확인 후 정리한 뒤 적용해야 한다.
+--   SELECT reservation_code_fk, COUNT(*) FROM stay_tb GROUP BY reservation_code_fk HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_stay_reservation_code_fk
+    ON stay_tb (reservation_code_fk);
@@ -0,0 +1,90 @@
+-- 결제 일별 집계 (일자, 지점, 결제 종류, 취소 여부) 별 건수와 금액 합계
+-- 기간별 매출 조회 시 payment_log_tb 전체를 읽지 않고 이 테이블의 일자 범위만 합산한다.
+-- 지점은 결제의 예약(reservation_tb.branch_code_fk) 기준이며, 예약이 없으면 '' 로 집계한다.
+CREATE TABLE IF NOT EXISTS payment_daily_rollup
+(
+    rollup_date           DATE        NOT NULL,
+    branch_code_fk        VARCHAR(50) NOT NULL DEFAULT '',
+    payment_type_code_fk  INT         NOT NULL DEFAULT 0,
+    payment_cancel_status INT         NOT NULL DEFAULT 0,
+    payment_count         BIGINT      NOT NULL DEFAULT 0,
+    payment_amount_sum    BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (rollup_date, branch_code_fk, payment_type_code_fk, payment_cancel_status)
+);
+
+-- 결제 등록, 수정(취소 포함), 삭제 시 증분 반영
+-- (바이너리 로그를 사용하는 서버는 트리거 생성 권한 또는 log_bin_trust_function_creators 설정이 필요하다)
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_insert
+    AFTER INSERT ON payment_log_tb
+    FOR EACH ROW
+    INSERT INTO payment_daily_rollup (rollup_date, branch_code_fk, payment_type_code_fk, payment_cancel_status,
+                                      payment_count, payment_amount_sum)
+    SELECT DATE(NEW.payment_date),
+           COALESCE((SELECT r.branch_code_fk FROM reservation_tb r
+                     WHERE r.reservation_code_pk = NEW.reservation_code_fk), ''),
+           COALESCE(NEW.payment_type_code_fk, 0),
+           COALESCE(NEW.payment_cancel_status, 0),
+           1,
+           COALESCE(NEW.payment_amount, 0)
+    FROM DUAL
+    WHERE NEW.payment_date IS NOT NULL
+    ON DUPLICATE KEY UPDATE payment_count      = payment_count + 1,
+                            payment_amount_sum = payment_amount_sum + VALUES(payment_amount_sum);
+
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_update_old
+    AFTER UPDATE ON payment_log_tb
+    FOR EACH ROW
+    UPDATE payment_daily_rollup
+    SET payment_count      = payment_count - 1,
+        payment_amount_sum = payment_amount_sum - COALESCE(OLD.payment_amount, 0)
+    WHERE rollup_date = DATE(OLD.payment_date)
+      AND branch_code_fk = COALESCE((SELECT r.branch_code_fk FROM reservation_tb r
+                                     WHERE r.reservation_code_pk = OLD.reservation_code_fk), '')
+      AND payment_type_code_fk = COALESCE(OLD.payment_type_code_fk, 0)
+      AND payment_cancel_status = COALESCE(OLD.payment_cancel_status, 0);
+
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_update_new
+    AFTER UPDATE ON payment_log_tb
+    FOR EACH ROW
+    FOLLOWS trg_payment_rollup_update_old
+    INSERT INTO payment_daily_rollup (rollup_date, branch_code_fk, payment_type_code_fk, payment_cancel_status,
+                                      payment_count, payment_amount_sum)
+    SELECT DATE(NEW.payment_date),
+           COALESCE((SELECT r.branch_code_fk FROM reservation_tb r
+                     WHERE r.reservation_code_pk = NEW.reservation_code_fk), ''),
+           COALESCE(NEW.payment_type_code_fk, 0),
+           COALESCE(NEW.payment_cancel_status, 0),
+           1,
+           COALESCE(NEW.payment_amount, 0)
+    FROM DUAL
+    WHERE NEW.payment_date IS NOT NULL
+    ON DUPLICATE KEY UPDATE payment_count      = payment_count + 1,
+                            payment_amount_sum = payment_amount_sum + VALUES(payment_amount_sum);
+
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_delete
+    AFTER DELETE ON payment_log_tb
+    FOR EACH ROW
+    UPDATE payment_daily_rollup
+    SET payment_count      = payment_count - 1,
+        payment_amount_sum = payment_amount_sum - COALESCE(OLD.payment_amount, 0)
+    WHERE rollup_date = DATE(OLD.payment_date)
+      AND branch_code_fk = COALESCE((SELECT r.branch_code_fk FROM reservation_tb r
+                                     WHERE r.reservation_code_pk = OLD.reservation_code_fk), '')
+      AND payment_type_code_fk = COALESCE(OLD.payment_type_code_fk, 0)
+      AND payment_cancel_status = COALESCE(OLD.payment_cancel_status, 0);
+
+-- 기존 결제 내역 채우기 (이후 누락분은 PaymentSummaryService 의 재집계로 맞춘다)
+DELETE FROM payment_daily_rollup;
+INSERT INTO payment_daily_rollup (rollup_date, branch_code_fk, payment_type_code_fk, payment_cancel_status,
+                                  payment_count, payment_amount_sum)
+SELECT DATE(p.payment_date),
+       COALESCE(r.branch_code_fk, ''),
+       COALESCE(p.payment_type_code_fk, 0),
+       COALESCE(p.payment_cancel_status, 0),
+       COUNT(*),
+       COALESCE(SUM(p.payment_amount), 0)
+FROM payment_log_tb p
+         LEFT JOIN reservation_tb r ON r.reservation_code_pk = p.reservation_code_fk
+WHERE p.payment_date IS NOT NULL
+GROUP BY DATE(p.payment_date), COALESCE(r.branch_code_fk, ''), COALESCE(p.payment_type_code_fk, 0),
+         COALESCE(p.payment_cancel_status, 0);
@@ -0,0 +1,3 @@
+-- 고객 조회용 뷰(CustomerViewEntity)에서 고객별 현재 멤버십 발급 건을 찾을 때 사용
+CREATE INDEX IF NOT EXISTS idx_membership_issue_customer
+    ON membership_issue_tb (customer_code_fk, membership_issue_code_pk);
@@ -0,0 +1,44 @@
+-- 예약 지점 변경 시 그 예약의 결제 집계를 변경 전 지점에서 변경 후 지점으로 옮긴다
+-- 결제 트리거(V3)는 결제 시점의 예약 지점으로 집계하므로, 결제 이후 지점이 바뀐 예약은 여기서 맞춘다.
+-- 결제 일자와 관계없이 옮기므로 최근 이틀만 다시 집계하는 PaymentSummaryService 보정에 기대지 않는다.
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_branch_old
+    AFTER UPDATE ON reservation_tb
+    FOR EACH ROW
+    UPDATE payment_daily_rollup d
+        JOIN (SELECT DATE(p.payment_date)                AS rollup_date,
+                     COALESCE(p.payment_type_code_fk, 0)  AS payment_type_code_fk,
+                     COALESCE(p.payment_cancel_status, 0) AS payment_cancel_status,
+                     COUNT(*)                             AS payment_count,
+                     COALESCE(SUM(p.payment_amount), 0)   AS payment_amount_sum
+              FROM payment_log_tb p
+              WHERE p.reservation_code_fk = NEW.reservation_code_pk
+                AND p.payment_date IS NOT NULL
+              GROUP BY DATE(p.payment_date), COALESCE(p.payment_type_code_fk, 0),
+                       COALESCE(p.payment_cancel_status, 0)) m
+        ON d.rollup_date = m.rollup_date
+            AND d.payment_type_code_fk = m.payment_type_code_fk
+            AND d.payment_cancel_status = m.payment_cancel_status
+    SET d.payment_count      = d.payment_count - m.payment_count,
+        d.payment_amount_sum = d.payment_amount_sum - m.payment_amount_sum
+    WHERE d.branch_code_fk = COALESCE(OLD.branch_code_fk, '')
+      AND NOT (OLD.branch_code_fk <=> NEW.branch_code_fk);
+
+CREATE TRIGGER IF NOT EXISTS trg_payment_rollup_branch_new
+    AFTER UPDATE ON reservation_tb
+    FOR EACH ROW
+    FOLLOWS trg_payment_rollup_branch_old
+    INSERT INTO payment_daily_rollup (rollup_date, branch_code_fk, payment_type_code_fk, payment_cancel_status,
+                                      payment_count, payment_amount_sum)
+    SELECT DATE(p.payment_date),
+           COALESCE(NEW.branch_code_fk, ''),
+           COALESCE(p.payment_type_code_fk, 0),
+           COALESCE(p.payment_cancel_status, 0),
+           COUNT(*),
+           COALESCE(SUM(p.payment_amount), 0)
+    FROM payment_log_tb p
+    WHERE p.reservation_code_fk = NEW.reservation_code_pk
+      AND p.payment_date IS NOT NULL
+      AND NOT (OLD.branch_code_fk <=> NEW.branch_code_fk)
+    GROUP BY DATE(p.payment_date), COALESCE(p.payment_type_code_fk, 0), COALESCE(p.payment_cancel_status, 0)
+    ON DUPLICATE KEY UPDATE payment_count      = payment_count + VALUES(payment_count),
+                            payment_amount_sum = payment_amount_sum + VALUES(payment_amount_sum);
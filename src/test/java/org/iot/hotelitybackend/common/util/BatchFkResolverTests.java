@@ -0,0 +1,75 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+class BatchFkResolverTests {
+
+	@Data
+	@AllArgsConstructor
+	static class SampleDTO {
+		private Integer employeeCodeFk;
+		private String employeeName;
+	}
+
+	record SampleEmployee(Integer employeeCodePk, String employeeName) {
+	}
+
+	private static List<SampleDTO> createDTOList(int size, int distinctEmployees) {
+		List<SampleDTO> dtoList = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			dtoList.add(new SampleDTO(i % distinctEmployees, null));
+		}
+		return dtoList;
+	}
+
+	/* 같은 외래키는 한 번만 조회하고, 조회 결과를 모든 DTO 에 적용 */
+	@Test
+	void testResolveLoadsDistinctKeysOnce() {
+		List<SampleDTO> dtoList = createDTOList(20, 3);
+		dtoList.add(new SampleDTO(null, null));
+		List<List<Integer>> loadedKeys = new ArrayList<>();
+
+		BatchFkResolver.of(dtoList).resolve(SampleDTO::getEmployeeCodeFk,
+			keys -> {
+				loadedKeys.add(List.copyOf(keys));
+				return keys.stream().map(key -> new SampleEmployee(key, "직원" + key)).toList();
+			},
+			SampleEmployee::employeeCodePk,
+			(dto, employee) -> dto.setEmployeeName(employee.employeeName()));
+
+		assertEquals(List.of(List.of(0, 1, 2)), loadedKeys);
+		assertEquals("직원2", dtoList.get(5).getEmployeeName());
+		assertNull(dtoList.get(20).getEmployeeName());
+	}
+
+	/* 참조하는 행이 없으면 값을 채우지 않고, 키가 많으면 IN 절 크기로 나눠 조회 */
+	@Test
+	void testResolveSkipsMissingRowsAndSplitsLargeKeySets() {
+		int distinctEmployees = BatchFkResolver.IN_CLAUSE_SIZE + 1;
+		List<SampleDTO> dtoList = createDTOList(distinctEmployees * 2, distinctEmployees);
+		List<Integer> chunkSizes = new ArrayList<>();
+		Function<List<Integer>, List<SampleEmployee>> loader = keys -> {
+			chunkSizes.add(keys.size());
+			return keys.stream()
+				.filter(key -> key != 0)
+				.map(key -> new SampleEmployee(key, "직원" + key))
+				.toList();
+		};
+
+		BatchFkResolver.of(dtoList).resolve(SampleDTO::getEmployeeCodeFk, loader, SampleEmployee::employeeCodePk,
+			(dto, employee) -> dto.setEmployeeName(employee.employeeName()));
+
+		assertEquals(List.of(BatchFkResolver.IN_CLAUSE_SIZE, 1), chunkSizes);
+		assertNull(dtoList.get(0).getEmployeeName());
+		assertEquals("직원" + BatchFkResolver.IN_CLAUSE_SIZE, dtoList.get(BatchFkResolver.IN_CLAUSE_SIZE).getEmployeeName());
+	}
+}
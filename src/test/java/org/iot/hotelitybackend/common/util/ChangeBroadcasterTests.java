@@ -0,0 +1,53 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class ChangeBroadcasterTests {
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+	private final ChangeBroadcaster changeBroadcaster = new ChangeBroadcaster(redisTemplate, "channel");
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(new byte[0], body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/* 트랜잭션 밖에서는 바로 반영하고, 반영한 뒤 nodeId 를 붙여 보낸다 */
+	@Test
+	void testAfterCommitAppliesLocallyThenPublishes() {
+		List<String> applied = new ArrayList<>();
+
+		changeBroadcaster.afterCommit(() -> applied.add("local"), "ROOM:HQ_101");
+
+		assertEquals(List.of("local"), applied);
+		verify(redisTemplate).convertAndSend("channel", changeBroadcaster.nodeId() + ":ROOM:HQ_101");
+	}
+
+	/* 자기 자신이 보낸 메시지는 걸러내고, payload 안의 구분자는 그대로 둔다 */
+	@Test
+	void testRemotePayloadSkipsOwnMessages() {
+		assertEquals(Optional.of("ROOM:HQ_101"), changeBroadcaster.remotePayload(message("other:ROOM:HQ_101")));
+		assertEquals(Optional.empty(),
+			changeBroadcaster.remotePayload(message(changeBroadcaster.nodeId() + ":ROOM:HQ_101")));
+		assertEquals(Optional.empty(), changeBroadcaster.remotePayload(message("malformed")));
+		assertEquals("ROOM:HQ_101", ChangeBroadcaster.payload(message(changeBroadcaster.nodeId() + ":ROOM:HQ_101")));
+	}
+
+	/* Redis 전송이 실패해도 로컬 반영은 유지되고 예외를 던지지 않는다 */
+	@Test
+	void testPublishFailureIsSwallowed() {
+		when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+
+		assertDoesNotThrow(() -> changeBroadcaster.publish("ALL"));
+	}
+}
@@ -0,0 +1,70 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CoalescingCacheTests {
+
+	/* 조회가 진행 중일 때 들어온 요청은 모두 같은 조회 결과를 기다린다 */
+	@Test
+	void testConcurrentRequestsShareOneLoad() throws Exception {
+		CoalescingCache<String, Integer> cache = new CoalescingCache<>(60_000, 100);
+		AtomicInteger loadCount = new AtomicInteger();
+		CompletableFuture<Integer> pendingLoad = new CompletableFuture<>();
+		CountDownLatch ready = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(() -> {
+					ready.await();
+					return cache.get("B1", () -> {
+						loadCount.incrementAndGet();
+						return pendingLoad;
+					}).join();
+				}));
+			}
+			ready.countDown();
+			Thread.sleep(100);
+			pendingLoad.complete(42);
+
+			for (Future<Integer> result : results) {
+				assertEquals(42, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loadCount.get());
+	}
+
+	/* 실패한 결과는 보관하지 않고, TTL 이 지나면 다시 조회한다 */
+	@Test
+	void testFailedAndExpiredResultsAreReloaded() throws Exception {
+		CoalescingCache<String, Integer> cache = new CoalescingCache<>(50, 100);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		CompletableFuture<Integer> failed = cache.get("B1", () -> {
+			loadCount.incrementAndGet();
+			return CompletableFuture.failedFuture(new IllegalStateException());
+		});
+		assertTrue(failed.isCompletedExceptionally());
+
+		assertEquals(2, cache.get("B1", () -> CompletableFuture.completedFuture(loadCount.incrementAndGet())).join());
+		assertEquals(2, cache.get("B1", () -> CompletableFuture.completedFuture(loadCount.incrementAndGet())).join());
+
+		Thread.sleep(60);
+		assertEquals(3, cache.get("B1", () -> CompletableFuture.completedFuture(loadCount.incrementAndGet())).join());
+	}
+}
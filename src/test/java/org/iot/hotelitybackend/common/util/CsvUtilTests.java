@@ -0,0 +1,72 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+class CsvUtilTests {
+
+	@Data
+	@AllArgsConstructor
+	static class SampleDTO {
+		private static final String IGNORED = "ignored";
+
+		private Integer sampleCodePk;
+		private String sampleName;
+		private Double sampleRate;
+		private LocalDateTime sampleCreatedDate;
+	}
+
+	private String write(List<?> dtoList, String[] headerStrings, String[] fieldNames) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int rowCount = CsvUtil.writeCsv(out, dtoList, headerStrings, fieldNames);
+		assertEquals(dtoList.size(), rowCount);
+
+		byte[] bytes = out.toByteArray();
+		assertArrayEquals(new byte[] {(byte)0xEF, (byte)0xBB, (byte)0xBF}, Arrays.copyOf(bytes, 3));
+		return new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+	}
+
+	/* 한글 헤더 다음에 행마다 한 줄, null 은 빈 값, 날짜는 yyyy-MM-dd HH:mm:ss */
+	@Test
+	void testWriteCsv() throws IOException {
+		List<SampleDTO> dtoList = List.of(
+			new SampleDTO(1, "첫번째", 10_000_000.5, LocalDateTime.of(2024, 5, 1, 10, 30)),
+			new SampleDTO(2, null, null, null));
+
+		String csv = write(dtoList, new String[] {"코드", "이름", "비율", "생성일시"}, null);
+
+		assertEquals("코드,이름,비율,생성일시\r\n"
+			+ "1,첫번째,10000000.5,2024-05-01 10:30:00\r\n"
+			+ "2,,,\r\n", csv);
+	}
+
+	/* 쉼표, 따옴표, 줄바꿈은 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다 */
+	@Test
+	void testWriteCsvEscapesText() throws IOException {
+		List<SampleDTO> dtoList = List.of(
+			new SampleDTO(1, "객실, \"디럭스\"\n2층", null, null),
+			new SampleDTO(2, "=HYPERLINK(\"x\")", null, null));
+
+		String csv = write(dtoList, new String[] {"이름", "코드"}, new String[] {"sampleName", "sampleCodePk"});
+
+		assertEquals("이름,코드\r\n"
+			+ "\"객실, \"\"디럭스\"\"\n2층\",1\r\n"
+			+ "\"'=HYPERLINK(\"\"x\"\")\",2\r\n", csv);
+	}
+
+	@Test
+	void testWriteCsvWithEmptyListWritesHeaderOnly() throws IOException {
+		assertEquals("코드,이름\r\n", write(List.of(), new String[] {"코드", "이름"}, null));
+	}
+}
@@ -0,0 +1,97 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+class ExcelUtilTests {
+
+	@Data
+	@AllArgsConstructor
+	static class SampleDTO {
+		private static final String IGNORED = "ignored";
+
+		private Integer sampleCodePk;
+		private String sampleName;
+		private Double sampleRate;
+		private LocalDateTime sampleCreatedDate;
+	}
+
+	private Workbook write(List<?> dtoList, String[] headerStrings, String[] fieldNames) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ExcelUtil.writeExcel(out, dtoList, "샘플", headerStrings, fieldNames);
+		return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	/* 숫자, 날짜는 문자열이 아닌 해당 타입 셀로 쓰고 null 은 빈 셀로 둔다 */
+	@Test
+	void testWriteExcelUsesTypedCells() throws IOException {
+		LocalDateTime createdDate = LocalDateTime.of(2024, 5, 1, 10, 30);
+		List<SampleDTO> dtoList = List.of(
+			new SampleDTO(1, "첫번째", 0.5, createdDate),
+			new SampleDTO(2, null, 1.0, null));
+
+		try (Workbook workbook = write(dtoList, new String[] {"코드", "이름", "비율", "생성일시"}, null)) {
+			Sheet sheet = workbook.getSheet("샘플");
+			assertEquals(2, sheet.getLastRowNum());
+			assertEquals("생성일시", sheet.getRow(0).getCell(3).getStringCellValue());
+
+			Row firstRow = sheet.getRow(1);
+			assertEquals(CellType.NUMERIC, firstRow.getCell(0).getCellType());
+			assertEquals(1, firstRow.getCell(0).getNumericCellValue());
+			assertEquals("첫번째", firstRow.getCell(1).getStringCellValue());
+			assertEquals(0.5, firstRow.getCell(2).getNumericCellValue());
+			assertEquals(Date.from(createdDate.atZone(ZoneId.systemDefault()).toInstant()),
+				firstRow.getCell(3).getDateCellValue());
+
+			assertNull(sheet.getRow(2).getCell(1));
+			assertTrue(sheet.getColumnWidth(3) >= 20 * 256);
+		}
+	}
+
+	/* 필드명을 지정하면 해당 필드만 지정한 순서대로 쓴다 */
+	@Test
+	void testWriteExcelWithSelectedFields() throws IOException {
+		List<SampleDTO> dtoList = List.of(new SampleDTO(1, "첫번째", 0.5, null));
+
+		try (Workbook workbook = write(dtoList, new String[] {"이름", "코드"}, new String[] {"sampleName", "sampleCodePk"})) {
+			Row row = workbook.getSheet("샘플").getRow(1);
+			assertEquals("첫번째", row.getCell(0).getStringCellValue());
+			assertEquals(1, row.getCell(1).getNumericCellValue());
+			assertEquals(2, row.getLastCellNum());
+		}
+	}
+
+	@Test
+	void testWriteExcelWithEmptyListWritesHeaderOnly() throws IOException {
+		try (Workbook workbook = write(List.of(), new String[] {"코드", "이름"}, null)) {
+			Sheet sheet = workbook.getSheet("샘플");
+			assertEquals(0, sheet.getLastRowNum());
+			assertEquals("이름", sheet.getRow(0).getCell(1).getStringCellValue());
+		}
+	}
+
+	@Test
+	void testWriteExcelRejectsUnknownField() {
+		List<SampleDTO> dtoList = List.of(new SampleDTO(1, "첫번째", 0.5, null));
+
+		assertThrows(IllegalArgumentException.class,
+			() -> write(dtoList, new String[] {"코드"}, new String[] {"unknownField"}));
+	}
+}
@@ -0,0 +1,77 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewEntity;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class KeysetPaginationTests {
+
+	@Mock
+	private StayViewRepository stayViewRepository;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	private List<StayViewEntity> createStayViews(int size) {
+		return IntStream.rangeClosed(1, size)
+			.mapToObj(i -> StayViewEntity.builder()
+				.stayCodePk(i)
+				.stayCheckinTime(i % 2 == 0 ? null : LocalDateTime.of(2024, 5, 1, 15, 0).minusDays(i))
+				.build())
+			.toList();
+	}
+
+	@Test
+	void testFetchReturnsNextCursorOnlyWhenMoreRowsExist() {
+		when(stayViewRepository.findBy(any(Specification.class), any(Function.class)))
+			.thenReturn(createStayViews(21))
+			.thenReturn(createStayViews(5));
+
+		KeysetPagination.KeysetPage<StayViewEntity> firstPage = KeysetPagination.fetch(
+			stayViewRepository, null, "stayCheckinTime", "stayCodePk", Sort.Direction.DESC, "", 20);
+
+		assertEquals(20, firstPage.content().size());
+		assertNotNull(firstPage.nextCursor());
+
+		KeysetPagination.KeysetPage<StayViewEntity> lastPage = KeysetPagination.fetch(
+			stayViewRepository, null, "stayCheckinTime", "stayCodePk", Sort.Direction.DESC,
+			firstPage.nextCursor(), 20);
+
+		assertEquals(5, lastPage.content().size());
+		assertNull(lastPage.nextCursor());
+
+		// COUNT 쿼리 없이 조회 쿼리만 실행
+		verify(stayViewRepository, times(2)).findBy(any(Specification.class), any(Function.class));
+		verifyNoMoreInteractions(stayViewRepository);
+	}
+
+	@Test
+	void testFetchRejectsCursorFromDifferentSort() {
+		when(stayViewRepository.findBy(any(Specification.class), any(Function.class)))
+			.thenReturn(createStayViews(21));
+
+		String nextCursor = KeysetPagination.fetch(
+			stayViewRepository, null, "stayCheckinTime", "stayCodePk", Sort.Direction.DESC, "", 20).nextCursor();
+
+		assertThrows(IllegalArgumentException.class, () -> KeysetPagination.fetch(
+			stayViewRepository, null, "stayCheckinTime", "stayCodePk", Sort.Direction.ASC, nextCursor, 20));
+		assertThrows(IllegalArgumentException.class, () -> KeysetPagination.fetch(
+			stayViewRepository, null, "stayCheckinTime", "stayCodePk", Sort.Direction.DESC, "not-a-cursor", 20));
+	}
+}
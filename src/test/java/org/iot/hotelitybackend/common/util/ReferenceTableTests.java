@@ -0,0 +1,74 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReferenceTableTests {
+
+	record SampleBranch(String branchCodePk, String branchName) {
+	}
+
+	private final Map<String, SampleBranch> branchTable = new HashMap<>();
+	private final AtomicInteger findByIdCount = new AtomicInteger();
+	private ReferenceTable<String, SampleBranch> referenceTable;
+
+	@BeforeEach
+	void setUp() {
+		branchTable.put("B1", new SampleBranch("B1", "서울점"));
+		branchTable.put("B2", new SampleBranch("B2", "부산점"));
+		referenceTable = new ReferenceTable<>(
+			() -> new ArrayList<>(branchTable.values()),
+			branchCodePk -> {
+				findByIdCount.incrementAndGet();
+				return Optional.ofNullable(branchTable.get(branchCodePk));
+			},
+			SampleBranch::branchCodePk);
+	}
+
+	/* 전체 적재 후에는 DB 를 다시 읽지 않고, 적중률은 캐시 통계에 남는다 */
+	@Test
+	void testReloadServesLookupsFromCache() {
+		assertEquals(2, referenceTable.reload());
+
+		assertEquals("서울점", referenceTable.get("B1").map(SampleBranch::branchName).orElse(null));
+		assertEquals("부산점", referenceTable.get("B2").map(SampleBranch::branchName).orElse(null));
+		assertTrue(referenceTable.get(null).isEmpty());
+		assertEquals(0, findByIdCount.get());
+		assertEquals(1.0, referenceTable.cache().stats().hitRate());
+	}
+
+	/* 캐시에 없는 키는 findById 로 채우고, DB 에도 없는 키는 캐시에 넣지 않는다 */
+	@Test
+	void testMissLoadsSingleRow() {
+		assertTrue(referenceTable.get("B1").isPresent());
+		assertTrue(referenceTable.get("B1").isPresent());
+		assertTrue(referenceTable.get("B9").isEmpty());
+		assertTrue(referenceTable.get("B9").isEmpty());
+
+		assertEquals(3, findByIdCount.get());
+		assertEquals(1, referenceTable.cache().estimatedSize());
+	}
+
+	/* 다시 적재하면 바뀐 값은 덮어쓰고 삭제된 키는 빠진다 */
+	@Test
+	void testReloadReplacesChangedAndRemovedRows() {
+		referenceTable.reload();
+		branchTable.put("B1", new SampleBranch("B1", "서울 본점"));
+		branchTable.remove("B2");
+
+		assertEquals(1, referenceTable.reload());
+
+		assertEquals(List.of("B1"), List.copyOf(referenceTable.cache().asMap().keySet()));
+		assertEquals("서울 본점", referenceTable.get("B1").map(SampleBranch::branchName).orElse(null));
+		assertTrue(referenceTable.get("B2").isEmpty());
+	}
+}
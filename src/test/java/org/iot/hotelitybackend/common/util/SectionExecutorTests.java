@@ -0,0 +1,49 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class SectionExecutorTests {
+
+	private final SectionExecutor sectionExecutor = new SectionExecutor(mock(PlatformTransactionManager.class));
+
+	@AfterEach
+	void tearDown() {
+		sectionExecutor.shutdown();
+	}
+
+	/* 시간 안에 끝나지 않은 섹션은 failed 로 돌려주고 실행 중인 작업은 중단한다 */
+	@Test
+	void testTimedOutSectionIsFailedAndInterrupted() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		SectionExecutor.SectionResult<String> result = sectionExecutor.submitWithoutTransaction("slow", 50, () -> {
+			try {
+				Thread.sleep(10_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return "done";
+		}).get(5, TimeUnit.SECONDS);
+
+		assertTrue(result.failed());
+		assertNull(result.value());
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void testCompletedSectionReturnsValue() throws Exception {
+		SectionExecutor.SectionResult<String> result =
+			sectionExecutor.submitWithoutTransaction("fast", 1_000, () -> "done").get(5, TimeUnit.SECONDS);
+
+		assertFalse(result.failed());
+		assertEquals("done", result.value());
+	}
+}
@@ -0,0 +1,27 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class SortResolverTests {
+
+	@Test
+	void testDirectionDefaultsMissingSortByToAscending() {
+		assertEquals(Sort.Direction.ASC, SortResolver.direction(null));
+		assertEquals(Sort.Direction.ASC, SortResolver.direction(1));
+		assertEquals(Sort.Direction.DESC, SortResolver.direction(2));
+	}
+
+	@Test
+	void testOrderByAllowsOnlySortableFields() {
+		Set<String> sortableFields = Set.of("vocCodePk", "vocCreatedDate");
+
+		assertNull(SortResolver.orderBy(null, sortableFields));
+		assertEquals("vocCreatedDate", SortResolver.orderBy("vocCreatedDate", sortableFields));
+		assertThrows(IllegalArgumentException.class, () -> SortResolver.orderBy("customer", sortableFields));
+	}
+}
@@ -0,0 +1,26 @@
+package org.iot.hotelitybackend.common.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/* Hibernate 가 실행하는 SQL 을 그대로 모아두는 테스트용 StatementInspector */
+public class SqlCaptureInspector implements StatementInspector {
+
+	private static final List<String> CAPTURED_SQL = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		CAPTURED_SQL.add(sql);
+		return sql;
+	}
+
+	static void clear() {
+		CAPTURED_SQL.clear();
+	}
+
+	static List<String> capturedSql() {
+		return List.copyOf(CAPTURED_SQL);
+	}
+}
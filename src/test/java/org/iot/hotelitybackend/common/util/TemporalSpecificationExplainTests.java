@@ -0,0 +1,222 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentSpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationSpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewSpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.StaySpecification;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewSpecification;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.iot.hotelitybackend.sales.aggregate.NoticeSpecification;
+import org.iot.hotelitybackend.sales.aggregate.VocSpecification;
+import org.iot.hotelitybackend.sales.repository.NoticeRepository;
+import org.iot.hotelitybackend.sales.repository.VocRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* Specification 조합별로 실제 MariaDB 에 EXPLAIN 을 실행해 풀 스캔이 없는지 확인한다.
+ * Hibernate 로 스키마를 만든 뒤 Flyway 인덱스 마이그레이션을 적용하고 대량 데이터를 넣는다.
+ * 조회 조건은 데이터가 없는 날짜를 사용하므로 인덱스를 타면 예상 rows 가 매우 작게 나온다.
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false",
+	"spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "org.iot.hotelitybackend.common.util.SqlCaptureInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class TemporalSpecificationExplainTests {
+
+	private static final int SEED_ROWS = 20000;
+	private static final long FULL_SCAN_ROWS = 1000;
+	private static final LocalDateTime EMPTY_DAY = LocalDateTime.of(2030, 1, 15, 0, 0);
+	private static final LocalDateTime EMPTY_MONTH = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	private static boolean seeded = false;
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationViewRepository reservationViewRepository;
+
+	@Autowired
+	private StayRepository stayRepository;
+
+	@Autowired
+	private StayViewRepository stayViewRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private VocRepository vocRepository;
+
+	@Autowired
+	private NoticeRepository noticeRepository;
+
+	@BeforeEach
+	void setUp() {
+		if (seeded) {
+			return;
+		}
+
+		Flyway.configure()
+			.dataSource(dataSource)
+			.baselineOnMigrate(true)
+			.baselineVersion("0")
+			.load()
+			.migrate();
+
+		// FK 검사를 끈 세션 하나에서 seq 엔진으로 대량 데이터 입력
+		new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("INSERT INTO reservation_tb (reservation_date, reservation_checkin_date, "
+					+ "reservation_checkout_date, customer_code_fk, room_code_fk, branch_code_fk, "
+					+ "reservation_cancel_status, reservation_personnel) "
+					+ "SELECT TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR, "
+					+ "TIMESTAMP '2024-01-01 15:00:00' + INTERVAL seq HOUR, "
+					+ "TIMESTAMP '2024-01-02 11:00:00' + INTERVAL seq HOUR, "
+					+ "seq % 500, CONCAT('R', seq % 50), CONCAT('B', seq % 5), 0, 2 "
+					+ "FROM seq_1_to_" + SEED_ROWS);
+				statement.execute("INSERT INTO stay_tb (stay_checkin_time, stay_checkout_time, stay_people_count, "
+					+ "employee_code_fk, reservation_code_fk) "
+					+ "SELECT TIMESTAMP '2024-01-01 15:00:00' + INTERVAL seq HOUR, "
+					+ "TIMESTAMP '2024-01-02 11:00:00' + INTERVAL seq HOUR, 2, seq % 20, seq "
+					+ "FROM seq_1_to_" + SEED_ROWS);
+				statement.execute("INSERT INTO payment_log_tb (reservation_code_fk, payment_amount, "
+					+ "payment_type_code_fk, payment_method, payment_date, customer_code_fk, payment_cancel_status) "
+					+ "SELECT seq, 100000, 1, '카드', TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR, "
+					+ "seq % 500, 0 "
+					+ "FROM seq_1_to_" + SEED_ROWS);
+				statement.execute("INSERT INTO voc_tb (voc_title, voc_content, voc_created_date, "
+					+ "voc_last_updated_date, customer_code_fk, voc_process_status, voc_category, "
+					+ "employee_code_fk, branch_code_fk) "
+					+ "SELECT '제목', '내용', TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR, "
+					+ "TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR, seq % 500, 0, '객실', "
+					+ "seq % 20, CONCAT('B', seq % 5) "
+					+ "FROM seq_1_to_" + SEED_ROWS);
+				statement.execute("INSERT INTO notice_tb (notice_title, notice_content, employee_code_fk, "
+					+ "branch_code_fk, notice_posted_date, notice_last_updated_date) "
+					+ "SELECT '제목', '내용', seq % 20, CONCAT('B', seq % 5), "
+					+ "TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR, "
+					+ "TIMESTAMP '2024-01-01 00:00:00' + INTERVAL seq HOUR "
+					+ "FROM seq_1_to_" + SEED_ROWS);
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+				statement.execute("ANALYZE TABLE reservation_tb, stay_tb, payment_log_tb, voc_tb, notice_tb");
+			}
+			return null;
+		});
+
+		seeded = true;
+	}
+
+	@TestFactory
+	Stream<DynamicTest> testSpecificationsDoNotScanWholeTable() {
+		Map<String, Runnable> specificationCases = Map.ofEntries(
+			Map.entry("예약 월별 조회", () -> reservationRepository.findAll(
+				ReservationSpecification.betweenDate(EMPTY_MONTH, EMPTY_MONTH.plusMonths(1)))),
+			Map.entry("예약 월별 + 지점 조회", () -> reservationRepository.findAll(
+				ReservationSpecification.betweenDate(EMPTY_MONTH, EMPTY_MONTH.plusMonths(1))
+					.and(ReservationSpecification.equalsBranchCodeFk("B1")))),
+			Map.entry("예약 월별 + 고객 조회", () -> reservationRepository.findAll(
+				ReservationSpecification.betweenDate(EMPTY_MONTH, EMPTY_MONTH.plusMonths(1))
+					.and(ReservationSpecification.equalsCustomerCodeFk(1)))),
+			Map.entry("예약 체크인일자 조회", () -> reservationRepository.findAll(
+				ReservationSpecification.equalsCheckinDate(EMPTY_DAY))),
+			Map.entry("예약 체크아웃일자 조회", () -> reservationRepository.findAll(
+				ReservationSpecification.equalsCheckoutDate(EMPTY_DAY))),
+			Map.entry("예약 뷰 월별 + 지점 조회", () -> reservationViewRepository.findAll(
+				ReservationViewSpecification.betweenDate(EMPTY_MONTH, EMPTY_MONTH.plusMonths(1))
+					.and(ReservationViewSpecification.equalsBranchCodeFk("B1")))),
+			Map.entry("예약 뷰 체크인일자 조회", () -> reservationViewRepository.findAll(
+				ReservationViewSpecification.equalsCheckinDate(EMPTY_DAY))),
+			Map.entry("투숙 체크인일자 조회", () -> stayRepository.findAll(
+				StaySpecification.equalsStayCheckinTime(EMPTY_DAY))),
+			Map.entry("투숙 뷰 체크인일자 조회", () -> stayViewRepository.findAll(
+				StayViewSpecification.equalsStayCheckinTime(EMPTY_DAY))),
+			Map.entry("결제일자 조회", () -> paymentRepository.findAll(
+				PaymentSpecification.equalsPaymentDate(EMPTY_DAY))),
+			Map.entry("결제일자 + 고객 조회", () -> paymentRepository.findAll(
+				PaymentSpecification.equalsPaymentDate(EMPTY_DAY)
+					.and(PaymentSpecification.equalsCustomerCodeFk(1)))),
+			Map.entry("VOC 작성일자 조회", () -> vocRepository.findAll(
+				VocSpecification.equalsVocCreatedDate(EMPTY_DAY))),
+			Map.entry("VOC 작성일자 + 지점 조회", () -> vocRepository.findAll(
+				VocSpecification.equalsVocCreatedDate(EMPTY_DAY)
+					.and(VocSpecification.equalsBranchCode("B1")))),
+			Map.entry("공지 작성일자 조회", () -> noticeRepository.findAll(
+				NoticeSpecification.equalsNoticePostedDate(EMPTY_DAY)))
+		);
+
+		return specificationCases.entrySet().stream()
+			.map(specificationCase -> DynamicTest.dynamicTest(specificationCase.getKey(),
+				() -> assertNoFullScan(specificationCase.getValue())));
+	}
+
+	private void assertNoFullScan(Runnable query) {
+		SqlCaptureInspector.clear();
+		query.run();
+
+		List<String> selectSqlList = SqlCaptureInspector.capturedSql().stream()
+			.filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+			.toList();
+		assertFalse(selectSqlList.isEmpty());
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		for (String sql : selectSqlList) {
+			for (Map<String, Object> plan : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+				String type = String.valueOf(plan.get("type"));
+				long rows = plan.get("rows") == null ? 0 : ((Number)plan.get("rows")).longValue();
+
+				assertFalse((type.equals("ALL") || type.equals("index")) && rows >= FULL_SCAN_ROWS,
+					"풀 스캔 발생: " + plan + "\n" + sql);
+			}
+		}
+	}
+}
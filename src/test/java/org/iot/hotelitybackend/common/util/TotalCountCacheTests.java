@@ -0,0 +1,95 @@
+package org.iot.hotelitybackend.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.iot.hotelitybackend.common.event.TotalCountChangedEvent;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentEntity;
+import org.iot.hotelitybackend.hotelservice.vo.PaymentSearchCriteria;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TotalCountCacheTests {
+
+	private final TotalCountCache totalCountCache = new TotalCountCache();
+
+	@AfterEach
+	void tearDown() {
+		totalCountCache.shutdown();
+	}
+
+	private PaymentSearchCriteria createCriteria(Integer pageNum, Integer customerCodeFk) {
+		PaymentSearchCriteria criteria =
+			new PaymentSearchCriteria(pageNum, customerCodeFk, null, null, null, null, null, null, null, null, null);
+		criteria.setOrderBy("paymentDate");
+		criteria.setSortBy(pageNum % 2);
+		return criteria;
+	}
+
+	/* 같은 검색 조건이면 페이지, 정렬이 바뀌어도 COUNT 는 한 번만 실행 */
+	@Test
+	void testCountIsReusedAcrossPages() {
+		AtomicInteger countQueries = new AtomicInteger();
+
+		for (int pageNum = 0; pageNum < 4; pageNum++) {
+			long total = totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(pageNum, 1)},
+				() -> (long)(100 + countQueries.incrementAndGet()));
+			assertEquals(101, total);
+		}
+
+		assertEquals(1, countQueries.get());
+	}
+
+	@Test
+	void testCountIsSeparatedByFilterAndEvictable() {
+		AtomicInteger countQueries = new AtomicInteger();
+
+		totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 1)},
+			() -> (long)countQueries.incrementAndGet());
+		totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 2)},
+			() -> (long)countQueries.incrementAndGet());
+		assertEquals(2, countQueries.get());
+
+		totalCountCache.evict(PaymentEntity.class);
+		totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(1, 1)},
+			() -> (long)countQueries.incrementAndGet());
+		assertEquals(3, countQueries.get());
+	}
+
+	/* 커밋 이후 발행된 변경 이벤트로 해당 엔티티의 건수만 지운다 */
+	@Test
+	void testTotalCountChangedEventEvictsOnlyGivenDomain() {
+		AtomicInteger countQueries = new AtomicInteger();
+
+		totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 1)},
+			() -> (long)countQueries.incrementAndGet());
+		totalCountCache.count(String.class, new Object[] {"HQ"}, () -> (long)countQueries.incrementAndGet());
+		assertEquals(2, countQueries.get());
+
+		totalCountCache.onTotalCountChanged(TotalCountChangedEvent.of(PaymentEntity.class));
+
+		totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 1)},
+			() -> (long)countQueries.incrementAndGet());
+		totalCountCache.count(String.class, new Object[] {"HQ"}, () -> (long)countQueries.incrementAndGet());
+		assertEquals(3, countQueries.get());
+	}
+
+	/* 건수를 세는 도중 evict 되면 변경 전 건수를 캐시에 넣지 않는다 */
+	@Test
+	void testEvictDuringLoadDiscardsStaleCount() {
+		AtomicInteger countQueries = new AtomicInteger();
+
+		long stale = totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 1)}, () -> {
+			countQueries.incrementAndGet();
+			totalCountCache.evict(PaymentEntity.class);
+			return 100L;
+		});
+		assertEquals(100, stale);
+
+		long total = totalCountCache.count(PaymentEntity.class, new Object[] {createCriteria(0, 1)},
+			() -> (long)(100 + countQueries.incrementAndGet()));
+		assertEquals(102, total);
+		assertEquals(2, countQueries.get());
+	}
+}
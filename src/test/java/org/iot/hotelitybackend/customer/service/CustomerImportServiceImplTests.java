@@ -0,0 +1,184 @@
+package org.iot.hotelitybackend.customer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.iot.hotelitybackend.common.util.SharedJobStore;
+import org.iot.hotelitybackend.common.util.TotalCountCache;
+import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.aggregate.CustomerViewEntity;
+import org.iot.hotelitybackend.customer.aggregate.NationEntity;
+import org.iot.hotelitybackend.customer.dto.CustomerImportJobDTO;
+import org.iot.hotelitybackend.customer.repository.CustomerImportRepository;
+import org.iot.hotelitybackend.customer.repository.NationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class CustomerImportServiceImplTests {
+
+	@Mock
+	private CustomerImportRepository customerImportRepository;
+
+	@Mock
+	private NationRepository nationRepository;
+
+	@Mock
+	private TotalCountCache totalCountCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private SharedJobStore sharedJobStore;
+
+	private CustomerImportServiceImpl customerImportService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		customerImportService = new CustomerImportServiceImpl(
+			customerImportRepository, nationRepository, totalCountCache, transactionManager, sharedJobStore);
+		when(nationRepository.findAll()).thenReturn(List.of(new NationEntity(1, "대한민국")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		customerImportService.shutdown();
+	}
+
+	private void createRow(Sheet sheet, int rowIndex, String name, String email, int nationCode) {
+		Row row = sheet.createRow(rowIndex);
+		row.createCell(0).setCellValue(name);
+		row.createCell(1).setCellValue(email);
+		row.createCell(2).setCellValue("010-1234-5678");
+		row.createCell(3).setCellValue("Hong");
+		row.createCell(4).setCellValue("서울");
+		row.createCell(5).setCellValue(1);
+		row.createCell(6).setCellValue(1);
+		row.createCell(8).setCellValue("개인");
+		row.createCell(9).setCellValue(nationCode);
+		row.createCell(10).setCellValue("남");
+	}
+
+	private byte[] createWorkbook() throws IOException {
+		try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			Sheet sheet = workbook.createSheet();
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("한글 이름");
+			createRow(sheet, 1, "홍길동", "hong@example.com", 1);
+			createRow(sheet, 2, "김철수", "kim@example.com", 99);
+			createRow(sheet, 3, "이영희", "not-an-email", 1);
+			workbook.write(out);
+			return out.toByteArray();
+		}
+	}
+
+	private CustomerImportJobDTO awaitFinished(String jobId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			CustomerImportJobDTO importJob = customerImportService.selectImportJob(jobId);
+			if (importJob.getFinishedAt() != null) {
+				return importJob;
+			}
+			Thread.sleep(50);
+		}
+		fail("가져오기 작업이 끝나지 않았습니다.");
+		return null;
+	}
+
+	/* 검증을 통과한 행만 배치로 등록하고, 나머지는 행 번호와 사유를 오류 내역에 남긴다 */
+	@Test
+	void testImportSavesValidRowsAndReportsInvalidRows() throws Exception {
+		when(customerImportRepository.insertCustomers(anyList())).thenReturn(List.of(101));
+
+		CustomerImportJobDTO startedJob =
+			customerImportService.startImport("customers.xlsx", new ByteArrayInputStream(createWorkbook()));
+		CustomerImportJobDTO finishedJob = awaitFinished(startedJob.getJobId());
+
+		assertEquals(CustomerImportJobDTO.STATUS_COMPLETED, finishedJob.getStatus());
+		assertEquals(3, finishedJob.getTotalRows());
+		assertEquals(1, finishedJob.getImportedRows());
+		assertEquals(2, finishedJob.getFailedRows());
+		assertTrue(finishedJob.getErrorReportAvailable());
+
+		ArgumentCaptor<List<CustomerEntity>> customerCaptor = ArgumentCaptor.forClass(List.class);
+		verify(customerImportRepository).insertCustomers(customerCaptor.capture());
+		assertEquals("홍길동", customerCaptor.getValue().get(0).getCustomerName());
+		assertEquals(1, customerCaptor.getValue().get(0).getNationCodeFk());
+		verify(customerImportRepository).insertMembershipIssues(eq(List.of(101)), eq(1), any(Date.class));
+		verify(totalCountCache, timeout(1000)).evict(CustomerViewEntity.class);
+
+		List<String> errorLines;
+		try (InputStream in = customerImportService.getErrorReport(startedJob.getJobId()).getInputStream()) {
+			errorLines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+		}
+		assertEquals(3, errorLines.size());
+		assertTrue(errorLines.get(1).startsWith("3,김철수,"));
+		assertTrue(errorLines.get(2).startsWith("4,이영희,"));
+	}
+
+	/* 다른 서버도 조회/다운로드할 수 있도록 진행 상황과 오류 내역을 공유 저장소에 올린다 */
+	@Test
+	void testJobStateAndErrorReportAreShared() throws Exception {
+		when(customerImportRepository.insertCustomers(anyList())).thenReturn(List.of(101));
+		when(sharedJobStore.uploadFile(eq("customer-import"), any(), any(Path.class))).thenReturn(true);
+
+		CustomerImportJobDTO startedJob =
+			customerImportService.startImport("customers.xlsx", new ByteArrayInputStream(createWorkbook()));
+		awaitFinished(startedJob.getJobId());
+
+		verify(sharedJobStore, timeout(1000)).save(eq("customer-import"), eq(startedJob.getJobId()),
+			argThat(job -> job instanceof CustomerImportJobDTO jobDTO && jobDTO.getFinishedAt() != null
+				&& jobDTO.getErrorReportAvailable()), any());
+		verify(sharedJobStore).uploadFile(eq("customer-import"), eq(startedJob.getJobId()), any(Path.class));
+	}
+
+	/* 이 서버가 실행하지 않은 작업은 공유 저장소의 상태와 오류 내역으로 응답한다 */
+	@Test
+	void testJobFromAnotherServerIsReadFromSharedStore() throws Exception {
+		CustomerImportJobDTO remoteJob = new CustomerImportJobDTO();
+		remoteJob.setJobId("remote-job");
+		remoteJob.setStatus(CustomerImportJobDTO.STATUS_COMPLETED);
+		remoteJob.setErrorReportAvailable(true);
+		remoteJob.setFinishedAt(LocalDateTime.now());
+		when(sharedJobStore.find("customer-import", "remote-job", CustomerImportJobDTO.class))
+			.thenReturn(Optional.of(remoteJob));
+		when(sharedJobStore.openFile("customer-import", "remote-job"))
+			.thenReturn(new InputStreamResource(new ByteArrayInputStream("행 번호".getBytes(StandardCharsets.UTF_8))));
+
+		assertEquals(CustomerImportJobDTO.STATUS_COMPLETED,
+			customerImportService.selectImportJob("remote-job").getStatus());
+		assertEquals("행 번호", new String(
+			customerImportService.getErrorReport("remote-job").getContentAsByteArray(), StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> customerImportService.selectImportJob("unknown-job"));
+	}
+
+	@Test
+	void testImportRejectsNonExcelFile() {
+		assertThrows(IllegalArgumentException.class, () -> customerImportService.startImport(
+			"customers.csv", new ByteArrayInputStream(new byte[0])));
+	}
+}
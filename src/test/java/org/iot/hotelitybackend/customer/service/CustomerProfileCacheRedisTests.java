@@ -0,0 +1,126 @@
+package org.iot.hotelitybackend.customer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
+import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/* 버전 비교 후 저장, 삭제 시 버전 증가 스크립트를 실제 Redis 에서 확인
+ * 서로 다른 CustomerProfileCache 두 개를 서로 다른 서버로 본다. */
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerProfileCacheRedisTests {
+
+	@Container
+	private static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+	private CustomerProfileCache serverA;
+	private CustomerProfileCache serverB;
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+
+		binaryRedisTemplate = new RedisTemplate<>();
+		binaryRedisTemplate.setConnectionFactory(connectionFactory);
+		binaryRedisTemplate.setKeySerializer(RedisSerializer.string());
+		binaryRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		binaryRedisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		binaryRedisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+		serverA = new CustomerProfileCache(binaryRedisTemplate, new SimpleMeterRegistry());
+		serverB = new CustomerProfileCache(binaryRedisTemplate, new SimpleMeterRegistry());
+	}
+
+	private static SelectCustomerDTO customer(int customerCodePk, String customerName) {
+		SelectCustomerDTO selectCustomerDTO = new SelectCustomerDTO();
+		selectCustomerDTO.setCustomerCodePk(customerCodePk);
+		selectCustomerDTO.setCustomerName(customerName);
+		selectCustomerDTO.setFailedSections(List.of());
+		return selectCustomerDTO;
+	}
+
+	/* 저장한 바이트를 그대로 읽으면 같은 고객 상세로 복원 */
+	@Test
+	void testPutAndGetRoundTrip() {
+		StayDTO stayDTO = new StayDTO();
+		stayDTO.setStayCodePk(10);
+		stayDTO.setStayCheckinTime(LocalDateTime.of(2024, 5, 1, 15, 0));
+		SelectCustomerDTO selectCustomerDTO = customer(1, "홍길동");
+		selectCustomerDTO.setStay(List.of(stayDTO));
+
+		serverA.put(selectCustomerDTO, serverA.version(1));
+
+		assertEquals(Optional.of(selectCustomerDTO), serverB.get(1));
+	}
+
+	/* A 서버가 조립하는 동안 B 서버에서 변경이 커밋되면 A 는 변경 전 값을 다시 넣지 않는다 */
+	@Test
+	void testEvictOnAnotherServerDiscardsStaleProfile() {
+		String loadedVersion = serverA.version(1);
+		serverB.onCustomerProfileChanged(CustomerProfileChangedEvent.of(1));
+		serverA.put(customer(1, "변경 전"), loadedVersion);
+
+		assertTrue(serverA.get(1).isEmpty());
+
+		serverA.put(customer(1, "변경 후"), serverA.version(1));
+		assertEquals("변경 후", serverB.get(1).orElseThrow().getCustomerName());
+	}
+
+	/* 다른 고객의 삭제는 저장을 막지 않는다 */
+	@Test
+	void testEvictOfOtherCustomerDoesNotBlockPut() {
+		String loadedVersion = serverA.version(1);
+		serverB.onCustomerProfileChanged(CustomerProfileChangedEvent.of(2));
+		serverA.put(customer(1, "홍길동"), loadedVersion);
+
+		assertTrue(serverB.get(1).isPresent());
+	}
+
+	/* 전체 삭제는 조립 중인 모든 고객의 저장을 막고, 버전 키는 지우지 않는다 */
+	@Test
+	void testEvictAllDiscardsEveryLoadInProgress() {
+		serverA.put(customer(2, "김철수"), serverA.version(2));
+		String loadedVersion = serverA.version(1);
+
+		serverB.evictAll();
+		serverA.put(customer(1, "변경 전"), loadedVersion);
+
+		assertTrue(serverB.get(1).isEmpty());
+		assertTrue(serverB.get(2).isEmpty());
+		assertNotEquals(loadedVersion, serverA.version(1));
+	}
+}
@@ -0,0 +1,66 @@
+package org.iot.hotelitybackend.customer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CustomerProfileCacheTests {
+
+	@Mock
+	private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, byte[]> valueOperations;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CustomerProfileCache customerProfileCache;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		meterRegistry = new SimpleMeterRegistry();
+		customerProfileCache = new CustomerProfileCache(binaryRedisTemplate, meterRegistry);
+	}
+
+	private double countRequests(String result) {
+		return meterRegistry.get("customer.profile.cache.requests").tag("result", result).counter().count();
+	}
+
+	/* 키가 없거나 Redis 조회가 실패하면 미적중으로 처리 */
+	@Test
+	void testMissAndRedisFailureReturnEmpty() {
+		assertTrue(customerProfileCache.get(1).isEmpty());
+
+		when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("connection refused"));
+		assertTrue(customerProfileCache.get(2).isEmpty());
+
+		assertEquals(1, countRequests("miss"));
+		assertEquals(1, countRequests("error"));
+	}
+
+	/* 버전을 읽지 못하면 삭제 여부를 확인할 수 없으므로 저장하지 않는다 */
+	@Test
+	void testVersionFailureSkipsPut() {
+		when(valueOperations.multiGet(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+		SelectCustomerDTO selectCustomerDTO = new SelectCustomerDTO();
+		selectCustomerDTO.setCustomerCodePk(1);
+		customerProfileCache.put(selectCustomerDTO, customerProfileCache.version(1));
+
+		verify(binaryRedisTemplate).opsForValue();
+		verifyNoMoreInteractions(binaryRedisTemplate);
+	}
+}
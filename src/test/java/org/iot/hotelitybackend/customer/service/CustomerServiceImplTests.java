@@ -1,14 +1,16 @@
 package org.iot.hotelitybackend.customer.service;
 
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.SectionExecutor;
 import org.iot.hotelitybackend.common.vo.CustomerCriteria;
 import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
+import org.iot.hotelitybackend.customer.aggregate.CustomerViewEntity;
 import org.iot.hotelitybackend.customer.dto.CustomerDTO;
 import org.iot.hotelitybackend.customer.dto.SelectCustomerDTO;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
 import org.iot.hotelitybackend.customer.repository.CustomerRepository;
+import org.iot.hotelitybackend.customer.repository.CustomerViewRepository;
+import org.iot.hotelitybackend.hotelmanagement.vo.RequestModifyCustomer;
 import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
 import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
 import org.iot.hotelitybackend.hotelservice.service.PaymentServiceImpl;
@@ -22,36 +24,44 @@ import org.iot.hotelitybackend.sales.repository.MembershipIssueRepository;
 import org.iot.hotelitybackend.sales.repository.MembershipRepository;
 import org.iot.hotelitybackend.sales.service.CouponIssueServiceImpl;
 import org.iot.hotelitybackend.sales.service.VocServiceImpl;
-import org.iot.hotelitybackend.customer.repository.NationRepository;
 import org.iot.hotelitybackend.sales.vo.CouponIssueSearchCriteria;
 import org.iot.hotelitybackend.sales.vo.VocSearchCriteria;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.iot.hotelitybackend.common.constant.Constant.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CustomerServiceImplTests {
@@ -63,7 +73,7 @@ class CustomerServiceImplTests {
 	private CustomerRepository customerRepository;
 
 	@Mock
-	private NationRepository nationRepository;
+	private CustomerViewRepository customerViewRepository;
 
 	@Mock
 	private MembershipRepository membershipRepository;
@@ -83,12 +93,26 @@ class CustomerServiceImplTests {
 	@Mock
 	private CouponIssueServiceImpl couponIssueService;
 
+	@Mock
+	private PageQueryExecutor pageQueryExecutor;
+
+	@Spy
+	private SectionExecutor sectionExecutor = new SectionExecutor(mock(PlatformTransactionManager.class));
+
+	@Mock
+	private CustomerProfileCache customerProfileCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private CustomerServiceImpl customerService;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(customerProfileCache.load(any())).thenAnswer(
+			invocation -> invocation.<Supplier<SelectCustomerDTO>>getArgument(0).get());
 	}
 
 	@Test
@@ -98,23 +122,56 @@ class CustomerServiceImplTests {
 		criteria.setOrderBy("customerCodePk");
 		criteria.setSortBy(1);
 
-		CustomerEntity customerEntity = new CustomerEntity();
-		Page<CustomerEntity> customerPage = new PageImpl<>(Arrays.asList(customerEntity));
-		when(customerRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(customerPage);
-		when(mapper.map(any(CustomerEntity.class), eq(CustomerDTO.class))).thenReturn(new CustomerDTO());
+		CustomerViewEntity customerView = CustomerViewEntity.builder()
+			.customerCodePk(1)
+			.customerName("홍길동")
+			.nationCodeFk(1)
+			.nationName("대한민국")
+			.membershipLevelName("VIP")
+			.build();
+		Page<CustomerViewEntity> customerPage = new PageImpl<>(Arrays.asList(customerView));
+		when(pageQueryExecutor.findPage(eq(CustomerViewEntity.class), any(Specification.class), any(Pageable.class), any(), any()))
+			.thenReturn(customerPage);
 
 		Map<String, Object> result = customerService.selectCustomersList(criteria);
 
 		assertNotNull(result);
-		verify(customerRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+		CustomerDTO customerDTO = ((List<CustomerDTO>)result.get(KEY_CONTENT)).get(0);
+		assertEquals("대한민국", customerDTO.getNationName());
+		assertEquals("VIP", customerDTO.getMembershipLevelName());
+		verify(pageQueryExecutor, times(1))
+			.findPage(eq(CustomerViewEntity.class), any(Specification.class), any(Pageable.class), any(), any());
+		// 국적, 멤버십은 뷰에서 함께 조회되므로 고객 건마다 추가 조회하지 않는다
+		verifyNoInteractions(customerRepository, membershipIssueRepository);
+	}
+
+	/* 정렬 방향(sortBy)이 없으면 오름차순, 고객 조회용 뷰에 없는 필드는 쿼리 실행 전에 거부 */
+	@Test
+	void testSelectCustomersListSortCriteria() {
+		when(pageQueryExecutor.findPage(eq(CustomerViewEntity.class), any(Specification.class), any(Pageable.class), any(), any()))
+			.thenReturn(new PageImpl<>(List.of()));
+
+		CustomerCriteria criteria = new CustomerCriteria();
+		criteria.setPageNum(0);
+		criteria.setOrderBy("customerName");
+		customerService.selectCustomersList(criteria);
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(pageQueryExecutor).findPage(eq(CustomerViewEntity.class), any(Specification.class),
+			pageableCaptor.capture(), any(), any());
+		assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("customerName").getDirection());
+
+		criteria.setOrderBy("customerPassword");
+		assertThrows(IllegalArgumentException.class, () -> customerService.selectCustomersList(criteria));
+		verifyNoMoreInteractions(pageQueryExecutor);
 	}
 
 	@Test
 	void testSelectCustomerByCustomerCodePk() {
 		Integer customerCodePk = 1;
-		CustomerEntity customerEntity = new CustomerEntity();
-		when(customerRepository.findById(customerCodePk)).thenReturn(Optional.of(customerEntity));
-		when(mapper.map(any(CustomerEntity.class), eq(SelectCustomerDTO.class))).thenReturn(new SelectCustomerDTO());
+		CustomerViewEntity customerView = CustomerViewEntity.builder().customerCodePk(customerCodePk).build();
+		when(customerViewRepository.findById(customerCodePk)).thenReturn(Optional.of(customerView));
+		when(mapper.map(any(CustomerViewEntity.class), eq(SelectCustomerDTO.class))).thenReturn(new SelectCustomerDTO());
 
 		Map<String, Object> paymentMap = new HashMap<>();
 		paymentMap.put(KEY_CONTENT, Arrays.asList(new PaymentDTO()));
@@ -135,46 +192,97 @@ class CustomerServiceImplTests {
 		SelectCustomerDTO result = customerService.selectCustomerByCustomerCodePk(customerCodePk);
 
 		assertNotNull(result);
-		verify(customerRepository, times(1)).findById(customerCodePk);
+		assertEquals(1, result.getStay().size());
+		assertTrue(result.getFailedSections().isEmpty());
+		verify(customerViewRepository, times(1)).findById(customerCodePk);
+		verify(customerProfileCache).put(eq(result), any());
 	}
 
+	/* 캐시에 있으면 DB 조회 없이 요청한 섹션만 남겨 반환 */
 	@Test
-	void testReadExcel() throws IOException {
-		Workbook workbook = new XSSFWorkbook();
-		Sheet sheet = workbook.createSheet();
-		Row row = sheet.createRow(0);
-		row.createCell(0).setCellValue("Name");
-		row.createCell(1).setCellValue("Email");
-		row.createCell(2).setCellValue("Phone");
-		row.createCell(3).setCellValue("English Name");
-		row.createCell(4).setCellValue("Address");
-		row.createCell(5).setCellValue(1);
-		row.createCell(6).setCellValue(1);
-		row.createCell(7).setCellValue(new Date());
-		row.createCell(8).setCellValue("Type");
-		row.createCell(9).setCellValue(1);
-		row.createCell(10).setCellValue("Gender");
-
-		row = sheet.createRow(1);
-		row.createCell(0).setCellValue("John Doe");
-		row.createCell(1).setCellValue("john.doe@example.com");
-		row.createCell(2).setCellValue("1234567890");
-		row.createCell(3).setCellValue("John");
-		row.createCell(4).setCellValue("123 Street");
-		row.createCell(5).setCellValue(1);
-		row.createCell(6).setCellValue(1);
-		row.createCell(7).setCellValue(new Date());
-		row.createCell(8).setCellValue("VIP");
-		row.createCell(9).setCellValue(1);
-		row.createCell(10).setCellValue("Male");
+	void testSelectCustomerByCustomerCodePkFromCache() {
+		SelectCustomerDTO cachedCustomer = new SelectCustomerDTO();
+		cachedCustomer.setCustomerCodePk(1);
+		cachedCustomer.setPayment(Arrays.asList(new PaymentDTO()));
+		cachedCustomer.setStay(Arrays.asList(new StayDTO()));
+		when(customerProfileCache.get(1)).thenReturn(Optional.of(cachedCustomer));
+
+		SelectCustomerDTO result = customerService.selectCustomerByCustomerCodePk(1, Set.of("stay"));
+
+		assertNull(result.getPayment());
+		assertEquals(1, result.getStay().size());
+		verifyNoInteractions(customerViewRepository, paymentService, vocService, stayService, couponIssueService);
+		verify(customerProfileCache, never()).put(any(), any());
+	}
 
-		when(customerRepository.save(any(CustomerEntity.class))).thenReturn(new CustomerEntity());
-		when(membershipIssueRepository.save(any(MembershipIssueEntity.class))).thenReturn(new MembershipIssueEntity());
+	/* 요청한 섹션만 조회하고, 실패한 섹션은 비워둔 채 나머지를 반환 */
+	@Test
+	void testSelectCustomerByCustomerCodePkWithSections() {
+		Integer customerCodePk = 1;
+		CustomerViewEntity customerView = CustomerViewEntity.builder().customerCodePk(customerCodePk).build();
+		when(customerViewRepository.findById(customerCodePk)).thenReturn(Optional.of(customerView));
+		when(mapper.map(any(CustomerViewEntity.class), eq(SelectCustomerDTO.class))).thenReturn(new SelectCustomerDTO());
 
-		Map<String, Object> result = customerService.readExcel(workbook);
+		Map<String, Object> paymentMap = new HashMap<>();
+		paymentMap.put(KEY_CONTENT, Arrays.asList(new PaymentDTO()));
+		when(paymentService.selectPaymentLogList(any(PaymentSearchCriteria.class))).thenReturn(paymentMap);
+		when(stayService.selectStaysList(any(StaySearchCriteria.class))).thenThrow(new IllegalStateException());
 
-		assertNotNull(result);
-		assertEquals("success", result.get(KEY_CONTENT));
+		SelectCustomerDTO result = customerService.selectCustomerByCustomerCodePk(customerCodePk,
+			Set.of("payment", "stay"));
+
+		assertEquals(1, result.getPayment().size());
+		assertNull(result.getStay());
+		assertEquals(List.of("stay"), result.getFailedSections());
+		verifyNoInteractions(vocService, couponIssueService);
+		verify(customerProfileCache, never()).put(any(), any());
+
+		assertThrows(IllegalArgumentException.class,
+			() -> customerService.selectCustomerByCustomerCodePk(customerCodePk, Set.of("reservation")));
+	}
+
+	/* 없는 고객은 지원하지 않는 섹션(400) 과 구분되도록 NoSuchElementException(404) */
+	@Test
+	void testSelectCustomerByCustomerCodePkNotFound() {
+		when(customerViewRepository.findById(99)).thenReturn(Optional.empty());
+
+		assertThrows(NoSuchElementException.class, () -> customerService.selectCustomerByCustomerCodePk(99));
+		verifyNoInteractions(paymentService, vocService, stayService, couponIssueService);
+	}
+
+	/* 수정 결과의 국적명, 멤버십 등급명은 반영 후 뷰에서 다시 읽은 값이다 */
+	@Test
+	void testModifyCustomerReturnsNamesFromView() {
+		Integer customerCodePk = 1;
+		CustomerEntity foundCustomer = CustomerEntity.builder()
+			.customerCodePk(customerCodePk)
+			.customerInfoAgreement(1)
+			.customerRegisteredDate(new Date())
+			.build();
+		when(customerRepository.findById(customerCodePk)).thenReturn(Optional.of(foundCustomer));
+		when(customerViewRepository.findById(customerCodePk)).thenReturn(Optional.of(CustomerViewEntity.builder()
+			.customerCodePk(customerCodePk)
+			.customerName("John Doe")
+			.nationCodeFk(2)
+			.nationName("Japan")
+			.membershipLevelName("GOLD")
+			.build()));
+
+		RequestModifyCustomer request = new RequestModifyCustomer();
+		request.setCustomerName("John Doe");
+		request.setNationCodeFk(2);
+		request.setMembershipLevelCode(3);
+
+		CustomerDTO result = customerService.modifyCustomerByCustomerCodePk(customerCodePk, request);
+
+		assertEquals("Japan", result.getNationName());
+		assertEquals("GOLD", result.getMembershipLevelName());
+		InOrder inOrder = inOrder(membershipIssueRepository, customerRepository, customerViewRepository);
+		inOrder.verify(membershipIssueRepository).deleteByCustomerCodeFk(customerCodePk);
+		inOrder.verify(membershipIssueRepository).saveAndFlush(any(MembershipIssueEntity.class));
+		inOrder.verify(customerRepository).saveAndFlush(any(CustomerEntity.class));
+		inOrder.verify(customerViewRepository).findById(customerCodePk);
+		verify(eventPublisher).publishEvent(CustomerProfileChangedEvent.of(customerCodePk));
 	}
 
 	@Test
@@ -201,6 +309,7 @@ class CustomerServiceImplTests {
 
 		assertNotNull(result);
 		assertEquals("success", result.get(KEY_CONTENT));
+		verify(eventPublisher).publishEvent(CustomerProfileChangedEvent.of(customerCodePk));
 	}
 
 	@Test
@@ -252,10 +361,12 @@ class CustomerServiceImplTests {
 
 
 	@Test
-	void testDownloadExcel() throws IOException {
-		List<CustomerEntity> customerEntities = Arrays.asList(new CustomerEntity());
-		when(customerRepository.findAll(any(Specification.class))).thenReturn(customerEntities);
-		when(mapper.map(any(CustomerEntity.class), eq(CustomerDTO.class))).thenReturn(new CustomerDTO());
+	void testStreamCustomersForExcel() {
+		List<CustomerViewEntity> customerViews = Arrays.asList(CustomerViewEntity.builder().customerCodePk(1).build());
+		when(pageQueryExecutor.stream(eq(CustomerViewEntity.class), any(Specification.class), any(Sort.class), anyInt(),
+			any(Function.class)))
+			.thenAnswer(invocation -> customerViews.stream()
+				.map(invocation.<Function<CustomerViewEntity, CustomerDTO>>getArgument(4)));
 
 		CustomerCriteria criteria = new CustomerCriteria();
 		criteria.setPageNum(1);
@@ -272,12 +383,12 @@ class CustomerServiceImplTests {
 		criteria.setNationName("USA");
 		criteria.setMembershipLevelName("VIP");
 
-		ByteArrayInputStream result = customerService.downloadExcel(criteria);
+		List<CustomerDTO> result;
+		try (Stream<CustomerDTO> customerStream = customerService.streamCustomersForExcel(criteria)) {
+			result = customerStream.toList();
+		}
 
-		assertNotNull(result);
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		result.transferTo(baos);
-		byte[] bytes = baos.toByteArray();
-		assertTrue(bytes.length > 0);
+		assertEquals(1, result.size());
+		assertEquals(1, result.get(0).getCustomerCodePk());
 	}
 }
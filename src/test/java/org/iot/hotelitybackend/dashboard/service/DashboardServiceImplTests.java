@@ -0,0 +1,108 @@
+package org.iot.hotelitybackend.dashboard.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.chatgpt.service.ChatGPTService;
+import org.iot.hotelitybackend.common.util.SectionExecutor;
+import org.iot.hotelitybackend.hotelservice.service.OccupancyAnalyticsService;
+import org.iot.hotelitybackend.hotelservice.service.PaymentSummaryService;
+import org.iot.hotelitybackend.hotelservice.service.ReservationService;
+import org.iot.hotelitybackend.hotelservice.service.StayService;
+import org.iot.hotelitybackend.sales.service.NoticeService;
+import org.iot.hotelitybackend.sales.service.VocService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DashboardServiceImplTests {
+
+	@Mock
+	private ReservationService reservationService;
+
+	@Mock
+	private StayService stayService;
+
+	@Mock
+	private VocService vocService;
+
+	@Mock
+	private NoticeService noticeService;
+
+	@Mock
+	private PaymentSummaryService paymentSummaryService;
+
+	@Mock
+	private OccupancyAnalyticsService occupancyAnalyticsService;
+
+	@Mock
+	private ChatGPTService chatGPTService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SectionExecutor sectionExecutor;
+
+	private DashboardServiceImpl dashboardService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		sectionExecutor = new SectionExecutor(transactionManager);
+		dashboardService = new DashboardServiceImpl(reservationService, stayService, vocService, noticeService,
+			paymentSummaryService, occupancyAnalyticsService, chatGPTService, sectionExecutor);
+
+		Map<String, Object> emptyContent = Map.of(KEY_CONTENT, List.of());
+		when(reservationService.selectLatestReservationList(any())).thenReturn(emptyContent);
+		when(vocService.selectLatestVocList(any())).thenReturn(emptyContent);
+		when(noticeService.selectLatestNoticeList(any())).thenReturn(emptyContent);
+		when(stayService.selectStayByReservationCheckinDate(anyString(), any())).thenReturn(emptyContent);
+		when(occupancyAnalyticsService.selectOccupancy(any(), any(), any())).thenReturn(Map.of("summary", List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		sectionExecutor.shutdown();
+	}
+
+	/* 지점 대시보드는 모든 항목을 해당 지점 조건으로 조회한다 */
+	@Test
+	void testBranchDashboardPassesBranchToEverySection() {
+		LocalDate today = LocalDate.now();
+
+		Map<String, Object> dashboardInfo = dashboardService.selectDashboard("HQ", false);
+
+		assertEquals(List.of(), dashboardInfo.get("failedSections"));
+		verify(reservationService).selectLatestReservationList("HQ");
+		verify(vocService).selectLatestVocList("HQ");
+		verify(noticeService).selectLatestNoticeList("HQ");
+		verify(stayService).selectStayByReservationCheckinDate(today.toString(), "HQ");
+		verify(paymentSummaryService).summarize("day", today, "HQ");
+		verify(occupancyAnalyticsService).selectOccupancy(today, today, "HQ");
+	}
+
+	/* 지점별로 따로 보관하므로 다른 지점은 다시 조회하고, 전 지점은 null 조건으로 조회한다 */
+	@Test
+	void testDashboardIsCachedPerBranch() {
+		dashboardService.selectDashboard("HQ", false);
+		dashboardService.selectDashboard("HQ", false);
+		dashboardService.selectDashboard("BS", false);
+		dashboardService.selectDashboard(null, false);
+
+		verify(vocService, times(1)).selectLatestVocList("HQ");
+		verify(vocService, times(1)).selectLatestVocList("BS");
+		verify(vocService, times(1)).selectLatestVocList(null);
+		verify(paymentSummaryService, never()).summarize(eq("day"), any(), eq("*"));
+	}
+}
@@ -0,0 +1,255 @@
+package org.iot.hotelitybackend.filedownload.service;
+
+import static org.iot.hotelitybackend.common.util.ExcelType.ANCILLARY;
+import static org.iot.hotelitybackend.common.util.ExcelType.ROOM;
+import static org.iot.hotelitybackend.common.util.ExportFormat.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.iot.hotelitybackend.common.util.SharedJobStore;
+import org.iot.hotelitybackend.filedownload.dto.ExcelExportJobDTO;
+import org.iot.hotelitybackend.hotelmanagement.dto.AncillaryDTO;
+import org.iot.hotelitybackend.hotelmanagement.vo.AncillarySearchCriteria;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ExcelExportServiceImplTests {
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private SharedJobStore sharedJobStore;
+
+	@TempDir
+	Path exportDirectory;
+
+	private ExcelExportServiceImpl excelExportService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		MockitoAnnotations.openMocks(this);
+		excelExportService = new ExcelExportServiceImpl(transactionManager, new ObjectMapper().findAndRegisterModules(),
+			1, 1, 30, exportDirectory.toString(), sharedJobStore);
+	}
+
+	@AfterEach
+	void tearDown() {
+		excelExportService.shutdown();
+	}
+
+	private AncillarySearchCriteria criteria(String ancillaryName) {
+		AncillarySearchCriteria criteria = new AncillarySearchCriteria();
+		criteria.setAncillaryName(ancillaryName);
+		return criteria;
+	}
+
+	private Stream<AncillaryDTO> ancillaryRows() {
+		AncillaryDTO ancillaryDTO = new AncillaryDTO();
+		ancillaryDTO.setAncillaryCodePk(1);
+		ancillaryDTO.setAncillaryName("수영장");
+		return Stream.of(ancillaryDTO);
+	}
+
+	private ExcelExportJobDTO awaitFinished(String jobId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			ExcelExportJobDTO exportJob = excelExportService.selectExportJob(jobId);
+			if (exportJob.getFinishedAt() != null) {
+				return exportJob;
+			}
+			Thread.sleep(50);
+		}
+		fail("엑셀 다운로드 작업이 끝나지 않았습니다.");
+		return null;
+	}
+
+	/* 같은 조건의 요청은 진행 중인 작업에 합류하고, 완료된 파일을 그대로 받는다 */
+	@Test
+	void testIdenticalRequestsShareOneJob() throws Exception {
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExcelExportJobDTO firstJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"), () -> {
+			loadCount.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return ancillaryRows();
+		});
+		ExcelExportJobDTO secondJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"), () -> {
+			loadCount.incrementAndGet();
+			return ancillaryRows();
+		});
+		release.countDown();
+
+		assertEquals(firstJob.getJobId(), secondJob.getJobId());
+
+		ExcelExportJobDTO finishedJob = awaitFinished(firstJob.getJobId());
+		assertEquals(ExcelExportJobDTO.STATUS_COMPLETED, finishedJob.getStatus());
+		assertEquals(1, finishedJob.getRowCount());
+		assertTrue(finishedJob.getDownloadAvailable());
+		assertEquals(1, loadCount.get());
+
+		ExcelExportJobDTO completedJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"),
+			this::ancillaryRows);
+		assertEquals(firstJob.getJobId(), completedJob.getJobId());
+
+		try (InputStream in = excelExportService.getExportFile(firstJob.getJobId()).getInputStream();
+			 Workbook workbook = new XSSFWorkbook(in)) {
+			assertEquals("수영장", workbook.getSheetAt(0).getRow(1).getCell(1).getStringCellValue());
+		}
+	}
+
+	@Test
+	void testDifferentCriteriaOrTypeCreatesNewJob() throws Exception {
+		ExcelExportJobDTO poolJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"), this::ancillaryRows);
+		awaitFinished(poolJob.getJobId());
+		ExcelExportJobDTO gymJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("헬스장"), this::ancillaryRows);
+		awaitFinished(gymJob.getJobId());
+		ExcelExportJobDTO roomJob = excelExportService.requestExport(ROOM, XLSX, criteria("수영장"), Stream::empty);
+
+		assertNotEquals(poolJob.getJobId(), gymJob.getJobId());
+		assertNotEquals(poolJob.getJobId(), roomJob.getJobId());
+	}
+
+	/* 같은 조건이라도 형식이 다르면 별도 작업, CSV 는 BOM + 한글 헤더로 쓰고 조회한 Stream 은 닫는다 */
+	@Test
+	void testCsvFormatsCreateSeparateJobs() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		ExcelExportJobDTO csvJob = excelExportService.requestExport(ANCILLARY, CSV, criteria("수영장"),
+			() -> ancillaryRows().onClose(() -> closed.set(true)));
+		ExcelExportJobDTO gzipJob = excelExportService.requestExport(ANCILLARY, CSV_GZ, criteria("수영장"),
+			this::ancillaryRows);
+
+		assertNotEquals(csvJob.getJobId(), gzipJob.getJobId());
+		assertEquals(ExcelExportJobDTO.STATUS_COMPLETED, awaitFinished(csvJob.getJobId()).getStatus());
+		assertEquals(ExcelExportJobDTO.STATUS_COMPLETED, awaitFinished(gzipJob.getJobId()).getStatus());
+		assertTrue(closed.get());
+		assertEquals("csv", csvJob.getFormat());
+		assertTrue(gzipJob.getFileName().endsWith(".csv.gz"));
+
+		byte[] csv = excelExportService.getExportFile(csvJob.getJobId()).getContentAsByteArray();
+		assertEquals((byte)0xEF, csv[0]);
+		String csvText = new String(csv, 3, csv.length - 3, StandardCharsets.UTF_8);
+		assertTrue(csvText.startsWith("부대시설코드,부대시설이름,"));
+		assertTrue(csvText.contains("\r\n1,수영장,"));
+
+		try (InputStream in = new GZIPInputStream(
+			excelExportService.getExportFile(gzipJob.getJobId()).getInputStream())) {
+			assertArrayEquals(csv, in.readAllBytes());
+		}
+	}
+
+	/* 다른 서버도 조회/다운로드할 수 있도록 상태와 완료된 파일을 공유 저장소에 올린다 */
+	@Test
+	void testFinishedJobIsShared() throws Exception {
+		ExcelExportJobDTO exportJob = excelExportService.requestExport(ANCILLARY, CSV, criteria("수영장"),
+			this::ancillaryRows);
+		awaitFinished(exportJob.getJobId());
+
+		verify(sharedJobStore).uploadFile(eq("excel-export"), eq(exportJob.getJobId()), any(Path.class));
+		verify(sharedJobStore, atLeastOnce()).save(eq("excel-export"), eq(exportJob.getJobId()),
+			argThat(job -> job instanceof ExcelExportJobDTO jobDTO
+				&& ExcelExportJobDTO.STATUS_COMPLETED.equals(jobDTO.getStatus())), any());
+	}
+
+	/* 이 서버가 실행하지 않은 작업은 공유 저장소의 상태와 파일로 응답한다 */
+	@Test
+	void testJobFromAnotherServerIsReadFromSharedStore() throws Exception {
+		ExcelExportJobDTO remoteJob = new ExcelExportJobDTO();
+		remoteJob.setJobId("remote-job");
+		remoteJob.setStatus(ExcelExportJobDTO.STATUS_COMPLETED);
+		remoteJob.setExpiresAt(LocalDateTime.now().plusMinutes(10));
+		when(sharedJobStore.find("excel-export", "remote-job", ExcelExportJobDTO.class))
+			.thenReturn(Optional.of(remoteJob));
+		when(sharedJobStore.openFile("excel-export", "remote-job"))
+			.thenReturn(new InputStreamResource(new ByteArrayInputStream("부대시설".getBytes(StandardCharsets.UTF_8))));
+
+		assertTrue(excelExportService.selectExportJob("remote-job").getDownloadAvailable());
+		assertEquals("부대시설",
+			new String(excelExportService.getExportFile("remote-job").getContentAsByteArray(), StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> excelExportService.selectExportJob("unknown-job"));
+	}
+
+	/* 다른 서버의 작업이라도 만료 시간이 지났으면 내려주지 않는다 */
+	@Test
+	void testExpiredJobFromAnotherServerIsNotDownloadable() {
+		ExcelExportJobDTO remoteJob = new ExcelExportJobDTO();
+		remoteJob.setJobId("remote-job");
+		remoteJob.setStatus(ExcelExportJobDTO.STATUS_COMPLETED);
+		remoteJob.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+		when(sharedJobStore.find("excel-export", "remote-job", ExcelExportJobDTO.class))
+			.thenReturn(Optional.of(remoteJob));
+
+		assertFalse(excelExportService.selectExportJob("remote-job").getDownloadAvailable());
+		assertThrows(IllegalArgumentException.class, () -> excelExportService.getExportFile("remote-job"));
+		verify(sharedJobStore, never()).openFile(any(), any());
+	}
+
+	/* 실패한 작업은 재사용하지 않고 다시 만든다 */
+	@Test
+	void testFailedJobIsRetried() throws Exception {
+		ExcelExportJobDTO failedJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"), () -> {
+			throw new IllegalStateException("조회 실패");
+		});
+		assertEquals(ExcelExportJobDTO.STATUS_FAILED, awaitFinished(failedJob.getJobId()).getStatus());
+		assertThrows(IllegalArgumentException.class, () -> excelExportService.getExportFile(failedJob.getJobId()));
+
+		ExcelExportJobDTO retriedJob = excelExportService.requestExport(ANCILLARY, XLSX, criteria("수영장"),
+			this::ancillaryRows);
+		assertNotEquals(failedJob.getJobId(), retriedJob.getJobId());
+		assertEquals(ExcelExportJobDTO.STATUS_COMPLETED, awaitFinished(retriedJob.getJobId()).getStatus());
+	}
+
+	/* 작업 스레드와 대기열이 모두 차면 요청을 거절한다 */
+	@Test
+	void testRejectsWhenQueueIsFull() {
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			for (String ancillaryName : List.of("수영장", "헬스장")) {
+				excelExportService.requestExport(ANCILLARY, XLSX, criteria(ancillaryName), () -> {
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return Stream.empty();
+				});
+			}
+
+			assertThrows(IllegalStateException.class,
+				() -> excelExportService.requestExport(ANCILLARY, XLSX, criteria("사우나"), Stream::empty));
+		} finally {
+			release.countDown();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package org.iot.hotelitybackend.hotelmanagement.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* 객실 조회용 뷰(RoomViewEntity)의 조인 컬럼과 조건/정렬이 실제 MariaDB 에서 맞게 동작하는지 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class RoomViewRepositoryTests {
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private RoomViewRepository roomViewRepository;
+
+	@BeforeEach
+	void setUp() {
+		execute(
+			"DELETE FROM room_tb",
+			"DELETE FROM room_category_tb",
+			"DELETE FROM room_level_tb",
+			"DELETE FROM branch_tb",
+			"INSERT INTO branch_tb (branch_code_pk, branch_name) VALUES ('HQ', '본점'), ('BS', '부산점')",
+			"INSERT INTO room_level_tb (room_level_code_pk, room_level_name) VALUES (1, '스탠다드'), (2, '스위트')",
+			"INSERT INTO room_category_tb (room_category_code_pk, room_name, room_sub_rooms_count, room_capacity, "
+				+ "room_price, room_level_code_fk) "
+				+ "VALUES (1, '디럭스', 1, 2, 120000, 1), (2, '로열 스위트', 3, 4, 450000, 2)",
+			"INSERT INTO room_tb (room_code_pk, branch_code_fk, room_number, room_category_code_fk, "
+				+ "room_current_status, room_view) "
+				+ "VALUES ('HQ_101', 'HQ', 101, 1, '이용가능', 'Ocean'), "
+				+ "('HQ_901', 'HQ', 901, 2, '이용가능', 'City'), "
+				+ "('BS_101', 'BS', 101, 1, '청소중', 'Ocean')");
+	}
+
+	// 외래 키 순서와 관계없이 정리할 수 있도록 같은 커넥션에서 검사를 끄고 실행
+	private void execute(String... sqls) {
+		new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				for (String sql : sqls) {
+					statement.execute(sql);
+				}
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+	}
+
+	private List<String> findRoomCodes(Specification<RoomViewEntity> spec, Sort sort) {
+		return roomViewRepository.findAll(spec, sort).stream().map(RoomViewEntity::getRoomCodePk).toList();
+	}
+
+	/* 카테고리, 등급, 지점 컬럼을 한 번의 조인으로 채운다 */
+	@Test
+	void testViewJoinsCategoryLevelAndBranch() {
+		RoomViewEntity room = roomViewRepository.findById("HQ_901").orElseThrow();
+
+		assertEquals("로열 스위트", room.getRoomName());
+		assertEquals(3, room.getRoomSubRoomsCount());
+		assertEquals(450000, room.getRoomPrice());
+		assertEquals("스위트", room.getRoomLevelName());
+		assertEquals("본점", room.getBranchName());
+	}
+
+	/* 카테고리/등급 조건은 미리 카테고리를 조회하지 않고 뷰 컬럼에 바로 건다 */
+	@Test
+	void testCategoryAndLevelFiltersApplyOnViewColumns() {
+		Sort byRoomCode = Sort.by("roomCodePk");
+
+		assertEquals(List.of("BS_101", "HQ_101"),
+			findRoomCodes(Specification.where(RoomViewSpecification.equalsRoomName("디럭스")), byRoomCode));
+		assertEquals(List.of("HQ_901"),
+			findRoomCodes(Specification.where(RoomViewSpecification.equalsRoomSubRoomsCount(3)), byRoomCode));
+		assertEquals(List.of("HQ_901"),
+			findRoomCodes(Specification.where(RoomViewSpecification.equalsRoomLevelName("스위트")), byRoomCode));
+		assertEquals(List.of("BS_101", "HQ_101"),
+			findRoomCodes(Specification.where(RoomViewSpecification.isRoomPriceBetween(100000, 200000)), byRoomCode));
+		assertEquals(List.of("HQ_101"),
+			findRoomCodes(Specification.where(RoomViewSpecification.equalsBranchCodeFk("HQ"))
+				.and(RoomViewSpecification.likeRoomView("Oce"))
+				.and(RoomViewSpecification.equalsRoomCapacity(2)), byRoomCode));
+	}
+
+	/* 조인 컬럼(가격)으로 정렬할 수 있다 */
+	@Test
+	void testSortByJoinedColumn() {
+		Specification<RoomViewEntity> hq = Specification.where(RoomViewSpecification.equalsBranchCodeFk("HQ"));
+
+		assertEquals(List.of("HQ_101", "HQ_901"), findRoomCodes(hq, Sort.by("roomPrice").ascending()));
+		assertEquals(List.of("HQ_901", "HQ_101"), findRoomCodes(hq, Sort.by("roomPrice").descending()));
+	}
+}
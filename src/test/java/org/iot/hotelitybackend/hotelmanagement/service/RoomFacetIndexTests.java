@@ -0,0 +1,109 @@
+package org.iot.hotelitybackend.hotelmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomFacetIndexTests {
+
+	private RoomFacetIndex facetIndex;
+
+	@BeforeEach
+	void setUp() {
+		facetIndex = new RoomFacetIndex();
+		facetIndex.put(room("B1-101", "B1", 1, "Deluxe", "Ocean View", 2, 120_000));
+		facetIndex.put(room("B1-102", "B1", 2, "Suite", "City View", 4, 250_000));
+		facetIndex.put(room("B2-201", "B2", 1, "Deluxe", "Ocean View", 2, 130_000));
+		facetIndex.put(room("B2-202", "B2", 2, "Suite", "Mountain", 4, null));
+	}
+
+	private static RoomViewEntity room(String roomCodePk, String branchCodeFk, Integer roomCategoryCodeFk,
+		String roomName, String roomView, Integer roomCapacity, Integer roomPrice) {
+		return RoomViewEntity.builder()
+			.roomCodePk(roomCodePk)
+			.branchCodeFk(branchCodeFk)
+			.roomCategoryCodeFk(roomCategoryCodeFk)
+			.roomName(roomName)
+			.roomView(roomView)
+			.roomCapacity(roomCapacity)
+			.roomPrice(roomPrice)
+			.roomCurrentStatus("AVAILABLE")
+			.build();
+	}
+
+	private static List<String> roomCodesOf(RoomFacetIndex.SearchResult result) {
+		return result.content().stream().map(RoomDTO::getRoomCodePk).toList();
+	}
+
+	/* 문자열 조건은 대소문자 구분 없이, 뷰는 부분 일치, 패싯 건수는 자기 자신의 조건을 뺀 나머지 조건으로 센다 */
+	@Test
+	void testSearchWithFacetCounts() {
+		RoomSearchCriteria criteria = new RoomSearchCriteria();
+		criteria.setBranchCodeFk("b1");
+		criteria.setRoomView("ocean");
+
+		RoomFacetIndex.SearchResult result = facetIndex.search(criteria, 0, Integer.MAX_VALUE);
+
+		assertEquals(List.of("B1-101"), roomCodesOf(result));
+		assertEquals(1, result.totalCount());
+		assertEquals(Map.of("B1", 1, "B2", 1), result.facetCounts().get("branchCodeFk"));
+		assertEquals(Map.of("Ocean View", 1, "City View", 1), result.facetCounts().get("roomView"));
+		assertEquals(Map.of("100000~149999", 1), result.facetCounts().get("roomPrice"));
+	}
+
+	@Test
+	void testSearchWithPriceRangeSkipsRoomsWithoutPrice() {
+		RoomSearchCriteria criteria = new RoomSearchCriteria();
+		criteria.setMinPrice(0);
+		criteria.setMaxPrice(200_000);
+
+		assertEquals(List.of("B1-101", "B2-201"), roomCodesOf(facetIndex.search(criteria, 0, Integer.MAX_VALUE)));
+	}
+
+	/* 같은 값은 객실코드 순, 가격이 없는 객실은 오름차순에서 맨 앞 */
+	@Test
+	void testSearchSortsAndPages() {
+		RoomSearchCriteria criteria = new RoomSearchCriteria();
+		criteria.setOrderBy("roomPrice");
+		criteria.setSortBy(1);
+
+		RoomFacetIndex.SearchResult firstPage = facetIndex.search(criteria, 0, 3);
+		assertEquals(List.of("B2-202", "B1-101", "B2-201"), roomCodesOf(firstPage));
+		assertEquals(4, firstPage.totalCount());
+		assertEquals(List.of("B1-102"), roomCodesOf(facetIndex.search(criteria, 3, 3)));
+
+		criteria.setSortBy(0);
+		criteria.setOrderBy("roomCapacity");
+		assertEquals(List.of("B1-102", "B2-202", "B1-101", "B2-201"),
+			roomCodesOf(facetIndex.search(criteria, 0, Integer.MAX_VALUE)));
+
+		criteria.setOrderBy("unknown");
+		assertThrows(IllegalArgumentException.class, () -> facetIndex.search(criteria, 0, 10));
+	}
+
+	/* 변경된 객실은 이전 패싯 값에서 빠지고, 삭제된 슬롯은 다음 객실이 다시 쓴다 */
+	@Test
+	void testPutAndRemoveUpdateFacets() {
+		facetIndex.put(room("B1-101", "B1", 2, "Suite", "City View", 4, 250_000));
+		facetIndex.remove("B2-201");
+		facetIndex.put(room("B3-301", "B3", 1, "Deluxe", "Garden", 2, 110_000));
+
+		RoomSearchCriteria criteria = new RoomSearchCriteria();
+		criteria.setRoomName("Deluxe");
+		RoomFacetIndex.SearchResult result = facetIndex.search(criteria, 0, Integer.MAX_VALUE);
+
+		assertEquals(List.of("B3-301"), roomCodesOf(result));
+		assertEquals(Map.of("Deluxe", 1, "Suite", 3), result.facetCounts().get("roomName"));
+		assertFalse(result.facetCounts().get("roomView").containsKey("Ocean View"));
+		assertEquals(4, facetIndex.size());
+		assertEquals(List.of("B1-101", "B1-102"), facetIndex.findRoomCodesByBranch("B1"));
+		assertEquals(List.of("B3-301"), facetIndex.findRoomCodesByCategory(1));
+	}
+}
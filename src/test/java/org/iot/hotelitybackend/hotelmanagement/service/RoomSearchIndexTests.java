@@ -0,0 +1,85 @@
+package org.iot.hotelitybackend.hotelmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.dto.RoomDTO;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RoomSearchIndexTests {
+
+	@Mock
+	private RoomViewRepository roomViewRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private RoomSearchIndex roomSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		roomSearchIndex = new RoomSearchIndex(roomViewRepository, redisTemplate, redisMessageListenerContainer);
+	}
+
+	private static RoomViewEntity createRoom(String roomCodePk) {
+		return RoomViewEntity.builder()
+			.roomCodePk(roomCodePk)
+			.branchCodeFk("HQ")
+			.roomCategoryCodeFk(1)
+			.roomName("디럭스")
+			.build();
+	}
+
+	private List<String> findRoomCodes() {
+		return roomSearchIndex.search(new RoomSearchCriteria(), 0, Integer.MAX_VALUE).orElseThrow()
+			.content().stream().map(RoomDTO::getRoomCodePk).toList();
+	}
+
+	/* 첫 적재 전에는 호출 측이 DB 를 조회하도록 empty */
+	@Test
+	void testSearchBeforeFirstRebuildIsEmpty() {
+		assertTrue(roomSearchIndex.search(new RoomSearchCriteria(), 0, Integer.MAX_VALUE).isEmpty());
+	}
+
+	/* 전체 재생성이 DB 를 읽는 동안 삭제된 객실은 새 인덱스로 바꾼 뒤에도 빠져 있어야 한다 */
+	@Test
+	void testRefreshDuringRebuildIsReplayedAfterSwap() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch deleted = new CountDownLatch(1);
+		// 재생성은 삭제 이전 스냅샷(HQ_102 있음)을 읽는다
+		when(roomViewRepository.findAll(any(Sort.class))).thenAnswer(invocation -> {
+			loading.countDown();
+			assertTrue(deleted.await(5, TimeUnit.SECONDS));
+			return List.of(createRoom("HQ_101"), createRoom("HQ_102"));
+		});
+		when(roomViewRepository.findAllById(List.of("HQ_102"))).thenReturn(List.of());
+
+		CompletableFuture<Void> rebuild = CompletableFuture.runAsync(roomSearchIndex::rebuild);
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		roomSearchIndex.refresh(RoomSearchIndex.TARGET_ROOM, List.of("HQ_102"));
+		deleted.countDown();
+		rebuild.get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of("HQ_101"), findRoomCodes());
+		verify(roomViewRepository, times(2)).findAllById(List.of("HQ_102"));
+	}
+}
@@ -0,0 +1,121 @@
+package org.iot.hotelitybackend.hotelmanagement.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomImageRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
+import org.iot.hotelitybackend.hotelmanagement.vo.RoomSearchCriteria;
+import org.iot.hotelitybackend.hotelservice.service.RoomAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class RoomServiceImplTests {
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	@Mock
+	private RoomViewRepository roomViewRepository;
+
+	@Mock
+	private RoomImageRepository roomImageRepository;
+
+	@Mock
+	private RoomAvailabilityIndex roomAvailabilityIndex;
+
+	@Mock
+	private RoomSearchIndex roomSearchIndex;
+
+	@Mock
+	private PageQueryExecutor pageQueryExecutor;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private RoomServiceImpl roomService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		roomService = new RoomServiceImpl(roomRepository, roomViewRepository, new ModelMapper(), roomImageRepository,
+			roomAvailabilityIndex, roomSearchIndex, pageQueryExecutor, eventPublisher);
+
+		// 인덱스가 준비되기 전 (DB 조회)
+		when(roomSearchIndex.search(any(), anyInt(), anyInt())).thenReturn(Optional.empty());
+	}
+
+	private static RoomSearchCriteria createCriteria(Integer pageNum, String orderBy, Integer sortBy) {
+		RoomSearchCriteria criteria = new RoomSearchCriteria();
+		criteria.setPageNum(pageNum);
+		criteria.setOrderBy(orderBy);
+		criteria.setSortBy(sortBy);
+		return criteria;
+	}
+
+	/* 같은 sortBy 에 대해 페이징 여부와 관계없이 같은 방향으로 정렬한다 (1: 오름차순, 그 외: 내림차순) */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testPagedAndUnpagedListSortInSameDirection() {
+		when(roomViewRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of());
+		when(pageQueryExecutor.findPage(eq(RoomViewEntity.class), any(Specification.class), any(Pageable.class),
+			any(), any())).thenReturn(new PageImpl<>(List.of()));
+
+		roomService.selectSearchedRoomsList(createCriteria(null, "roomPrice", 1));
+		roomService.selectSearchedRoomsList(createCriteria(null, "roomPrice", 2));
+		roomService.selectSearchedRoomsList(createCriteria(0, "roomPrice", 1));
+
+		ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+		verify(roomViewRepository, times(2)).findAll(any(Specification.class), sortCaptor.capture());
+		assertEquals(Sort.by("roomPrice").ascending().and(Sort.by("roomCodePk")), sortCaptor.getAllValues().get(0));
+		assertEquals(Sort.by("roomPrice").descending().and(Sort.by("roomCodePk")), sortCaptor.getAllValues().get(1));
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(pageQueryExecutor).findPage(eq(RoomViewEntity.class), any(Specification.class),
+			pageableCaptor.capture(), any(), any());
+		assertEquals(Sort.by("roomPrice").ascending().and(Sort.by("roomCodePk")),
+			pageableCaptor.getValue().getSort());
+	}
+
+	/* DB 조회 응답에도 인덱스 검색과 같이 패싯 키가 (빈 값으로) 있다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testDatabaseFallbackAlwaysHasFacets() {
+		when(roomViewRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of());
+
+		Map<String, Object> roomListInfo = roomService.selectSearchedRoomsList(createCriteria(null, null, null));
+
+		assertEquals(Map.of(), roomListInfo.get(KEY_FACETS));
+	}
+
+	/* 정렬 기준이 없으면 객실 코드 순 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testUnpagedListWithoutOrderBySortsByRoomCode() {
+		when(roomViewRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of());
+
+		roomService.selectSearchedRoomsList(createCriteria(null, null, 1));
+
+		verify(roomViewRepository).findAll(any(Specification.class), eq(Sort.by("roomCodePk")));
+	}
+}
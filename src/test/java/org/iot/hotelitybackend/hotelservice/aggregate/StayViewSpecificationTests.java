@@ -0,0 +1,150 @@
+package org.iot.hotelitybackend.hotelservice.aggregate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* 투숙 조회용 뷰(StayViewEntity) 목록과 조건 검사
+ * 투숙 1: 예약/고객/객실/지점/직원이 모두 있는 투숙
+ * 투숙 2: 예약은 있지만 고객/객실/지점/직원 행이 없는 투숙
+ * 투숙 3: 예약 행이 없는 투숙
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class StayViewSpecificationTests {
+
+	private static final LocalDateTime CHECKIN_DAY = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	private static boolean seeded = false;
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private StayViewRepository stayViewRepository;
+
+	@BeforeEach
+	void setUp() {
+		if (seeded) {
+			return;
+		}
+
+		jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("INSERT INTO branch_tb (branch_code_pk, branch_name) VALUES ('HQ', '본점')");
+				statement.execute("INSERT INTO room_level_tb (room_level_code_pk, room_level_name) VALUES (1, '디럭스')");
+				statement.execute("INSERT INTO room_category_tb (room_category_code_pk, room_name, room_capacity, "
+					+ "room_level_code_fk) VALUES (1, '스탠다드', 2, 1)");
+				statement.execute("INSERT INTO room_tb (room_code_pk, room_number, room_category_code_fk, "
+					+ "branch_code_fk) VALUES ('HQ_101', 101, 1, 'HQ')");
+				statement.execute("INSERT INTO customer_tb (customer_code_pk, customer_name) VALUES (1, '홍길동')");
+				statement.execute("INSERT INTO employee_tb (employee_code_pk, employee_name, permission_code_fk, "
+					+ "position_code_fk, rank_code_fk, department_code_fk, branch_code_fk) "
+					+ "VALUES (1, '김직원', 1, 1, 1, 1, 'HQ')");
+				statement.execute("INSERT INTO reservation_tb (reservation_code_pk, reservation_date, "
+					+ "reservation_checkin_date, reservation_checkout_date, customer_code_fk, room_code_fk, "
+					+ "branch_code_fk, reservation_cancel_status, reservation_personnel) VALUES "
+					+ "(1, '2024-04-01 10:00:00', '2024-05-01 15:00:00', '2024-05-03 11:00:00', 1, 'HQ_101', 'HQ', 0, 2), "
+					+ "(2, '2024-04-01 10:00:00', '2024-05-01 15:00:00', '2024-05-02 11:00:00', 99, 'HQ_999', 'XX', 0, 2)");
+				statement.execute("INSERT INTO stay_tb (stay_code_pk, stay_checkin_time, stay_people_count, "
+					+ "employee_code_fk, reservation_code_fk) VALUES "
+					+ "(1, '2024-05-01 15:10:00', 2, 1, 1), "
+					+ "(2, '2024-05-01 16:00:00', 2, 99, 2), "
+					+ "(3, '2024-05-01 17:00:00', 1, 1, 999)");
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+		seeded = true;
+	}
+
+	private List<Integer> findStayCodes(Specification<StayViewEntity> spec) {
+		return stayViewRepository.findAll(spec, Sort.by("stayCodePk"))
+			.stream()
+			.map(StayViewEntity::getStayCodePk)
+			.toList();
+	}
+
+	/* 조건이 없으면 조인된 행이 없는 투숙도 모두 조회하고, 있는 값은 한 번에 채운다 */
+	@Test
+	void testListContainsStaysWithMissingRows() {
+		List<StayViewEntity> stayViewList = stayViewRepository.findAll(Sort.by("stayCodePk"));
+
+		assertEquals(List.of(1, 2, 3), stayViewList.stream().map(StayViewEntity::getStayCodePk).toList());
+
+		StayViewEntity stayView = stayViewList.get(0);
+		assertEquals("홍길동", stayView.getCustomerName());
+		assertEquals(101, stayView.getRoomNumber());
+		assertEquals("스탠다드", stayView.getRoomName());
+		assertEquals("디럭스", stayView.getRoomLevelName());
+		assertEquals("김직원", stayView.getEmployeeName());
+		assertEquals("2박", stayView.getStayPeriod());
+
+		assertNull(stayViewList.get(1).getCustomerName());
+		assertNull(stayViewList.get(1).getRoomCodePk());
+		assertEquals("HQ_999", stayViewList.get(1).getRoomCodeFk());
+		assertNull(stayViewList.get(2).getCustomerCodeFk());
+	}
+
+	/* 예전 StaySpecification 의 inner join 처럼, 객실/지점 행이 없는 투숙은 객실코드/지점코드 조건에 걸리지 않는다 */
+	@Test
+	void testRoomAndBranchFiltersRequireJoinedRows() {
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.equalsRoomCodeFk("HQ_101")));
+		assertEquals(List.of(), findStayCodes(StayViewSpecification.equalsRoomCodeFk("HQ_999")));
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.equalsBranchCodeFk("HQ")));
+		assertEquals(List.of(), findStayCodes(StayViewSpecification.equalsBranchCodeFk("XX")));
+	}
+
+	/* 이름 조건은 조인된 행이 있는 투숙만, 예약 컬럼 조건은 예약 행이 있는 투숙만 */
+	@Test
+	void testNameAndReservationFilters() {
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.likeCustomerName("길")));
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.likeRoomName("스탠")));
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.likeRoomLevelName("디럭")));
+		assertEquals(List.of(1, 3), findStayCodes(StayViewSpecification.likeEmployeeName("김")));
+		assertEquals(List.of(2), findStayCodes(StayViewSpecification.equalsCustomerCodeFk(99)));
+		assertEquals(List.of(2), findStayCodes(
+			StayViewSpecification.equalsReservationCheckoutDate(LocalDateTime.of(2024, 5, 2, 0, 0))));
+		assertEquals(List.of(1, 2, 3), findStayCodes(StayViewSpecification.equalsStayCheckinTime(CHECKIN_DAY)));
+		assertEquals(List.of(1), findStayCodes(StayViewSpecification.equalsStayCheckinTime(CHECKIN_DAY)
+			.and(StayViewSpecification.equalsBranchCodeFk("HQ"))
+			.and(StayViewSpecification.likeCustomerName("홍"))));
+	}
+}
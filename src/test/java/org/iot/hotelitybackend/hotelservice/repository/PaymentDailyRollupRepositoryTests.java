@@ -0,0 +1,184 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* V3 마이그레이션의 결제 트리거가 payment_daily_rollup 을 실제 MariaDB 에서 맞게 유지하는지 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentDailyRollupRepositoryTests {
+
+	private static final LocalDate PAYMENT_DATE = LocalDate.of(2024, 5, 1);
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	private static boolean migrated = false;
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PaymentDailyRollupRepository paymentDailyRollupRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setUp() {
+		if (!migrated) {
+			Flyway.configure()
+				.dataSource(dataSource)
+				.baselineOnMigrate(true)
+				.baselineVersion("0")
+				.load()
+				.migrate();
+			migrated = true;
+		}
+
+		execute(
+			"DELETE FROM payment_log_tb",
+			"DELETE FROM reservation_tb",
+			"DELETE FROM payment_daily_rollup",
+			"INSERT INTO reservation_tb (reservation_code_pk, reservation_date, reservation_checkin_date, "
+				+ "reservation_checkout_date, customer_code_fk, room_code_fk, branch_code_fk, "
+				+ "reservation_cancel_status, reservation_personnel) "
+				+ "VALUES (1, TIMESTAMP '2024-04-01 00:00:00', TIMESTAMP '2024-05-01 15:00:00', "
+				+ "TIMESTAMP '2024-05-02 11:00:00', 1, 'HQ_101', 'HQ', 0, 2), "
+				+ "(2, TIMESTAMP '2024-04-01 00:00:00', TIMESTAMP '2024-05-01 15:00:00', "
+				+ "TIMESTAMP '2024-05-02 11:00:00', 2, 'BS_101', 'BS', 0, 2)");
+	}
+
+	// 외래 키 대상(고객, 결제 종류)은 만들지 않으므로 같은 커넥션에서 검사를 끄고 실행
+	private void execute(String... sqls) {
+		new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				for (String sql : sqls) {
+					statement.execute(sql);
+				}
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+	}
+
+	private static String insertPayment(int paymentCodePk, int reservationCodeFk, int amount) {
+		return "INSERT INTO payment_log_tb (payment_code_pk, reservation_code_fk, payment_amount, "
+			+ "payment_type_code_fk, payment_method, payment_date, customer_code_fk, payment_cancel_status) "
+			+ "VALUES (" + paymentCodePk + ", " + reservationCodeFk + ", " + amount + ", 1, '카드', "
+			+ "TIMESTAMP '2024-05-01 10:00:00', " + reservationCodeFk + ", 0)";
+	}
+
+	// 취소 여부 -> {건수, 금액}
+	private Map<Integer, List<Long>> findRollup(String branchCodeFk) {
+		return new JdbcTemplate(dataSource).query(
+			"SELECT payment_cancel_status, payment_count, payment_amount_sum FROM payment_daily_rollup "
+				+ "WHERE rollup_date = ? AND branch_code_fk = ? AND payment_type_code_fk = 1",
+			resultSet -> {
+				Map<Integer, List<Long>> rollup = new TreeMap<>();
+				while (resultSet.next()) {
+					rollup.put(resultSet.getInt(1), List.of(resultSet.getLong(2), resultSet.getLong(3)));
+				}
+				return rollup;
+			}, PAYMENT_DATE, branchCodeFk);
+	}
+
+	/* 등록은 예약 지점 기준으로 더해진다 */
+	@Test
+	void testInsertTriggerAddsToReservationBranch() {
+		execute(insertPayment(1, 1, 100000), insertPayment(2, 1, 50000), insertPayment(3, 2, 70000));
+
+		assertEquals(Map.of(0, List.of(2L, 150000L)), findRollup("HQ"));
+		assertEquals(Map.of(0, List.of(1L, 70000L)), findRollup("BS"));
+	}
+
+	/* 취소(UPDATE) 는 기존 행에서 빼고 취소 행으로 옮기며, 삭제는 해당 행에서 뺀다 */
+	@Test
+	void testUpdateAndDeleteTriggersMoveAndSubtract() {
+		execute(insertPayment(1, 1, 100000), insertPayment(2, 1, 50000));
+
+		execute("UPDATE payment_log_tb SET payment_cancel_status = 1 WHERE payment_code_pk = 1");
+		assertEquals(Map.of(0, List.of(1L, 50000L), 1, List.of(1L, 100000L)), findRollup("HQ"));
+
+		execute("UPDATE payment_log_tb SET payment_amount = 60000 WHERE payment_code_pk = 2");
+		assertEquals(Map.of(0, List.of(1L, 60000L), 1, List.of(1L, 100000L)), findRollup("HQ"));
+
+		execute("DELETE FROM payment_log_tb WHERE payment_code_pk = 2");
+		assertEquals(Map.of(0, List.of(0L, 0L), 1, List.of(1L, 100000L)), findRollup("HQ"));
+	}
+
+	/* 트리거가 유지한 값과 결제 내역에서 다시 집계한 값이 같다 */
+	@Test
+	void testTriggerRollupMatchesRebuild() {
+		execute(insertPayment(1, 1, 100000), insertPayment(2, 2, 70000),
+			"UPDATE payment_log_tb SET payment_cancel_status = 1 WHERE payment_code_pk = 2");
+		Map<Integer, List<Long>> hqByTrigger = findRollup("HQ");
+		Map<Integer, List<Long>> bsByTrigger = findRollup("BS");
+
+		execute("DELETE FROM payment_daily_rollup");
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+			paymentDailyRollupRepository.insertFromPaymentLog(PAYMENT_DATE.atStartOfDay(),
+				PAYMENT_DATE.plusDays(1).atStartOfDay()));
+
+		assertEquals(hqByTrigger, findRollup("HQ"));
+		// 취소로 비워진 (0건, 0원) 행은 재집계에서 만들어지지 않으므로 취소 행만 비교
+		assertEquals(Map.of(0, List.of(0L, 0L), 1, List.of(1L, 70000L)), bsByTrigger);
+		assertEquals(Map.of(1, List.of(1L, 70000L)), findRollup("BS"));
+	}
+
+	/* 지점 조건은 쿼리에서 거른다 */
+	@Test
+	void testSumByPeriodFiltersBranchInQuery() {
+		execute(insertPayment(1, 1, 100000), insertPayment(2, 2, 70000));
+
+		List<PaymentDailyRollupRepository.RollupTotal> bsTotals =
+			paymentDailyRollupRepository.sumByPeriod(PAYMENT_DATE, PAYMENT_DATE.plusDays(1), "BS");
+		List<PaymentDailyRollupRepository.RollupTotal> allTotals =
+			paymentDailyRollupRepository.sumByPeriod(PAYMENT_DATE, PAYMENT_DATE.plusDays(1), null);
+
+		assertEquals(List.of("BS"), bsTotals.stream().map(PaymentDailyRollupRepository.RollupTotal::getBranchCodeFk)
+			.toList());
+		assertEquals(70000L, bsTotals.get(0).getPaymentAmountSum());
+		assertEquals(2, allTotals.size());
+	}
+}
@@ -0,0 +1,24 @@
+package org.iot.hotelitybackend.hotelservice.repository;
+
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ReservationViewRepositoryTests {
+
+	/* 시각(나노초 포함)과 관계없이 [당일 0시, 다음날 0시) 로 조회 */
+	@Test
+	void testFindByReservationCheckinDateUsesHalfOpenDay() {
+		ReservationViewRepository reservationViewRepository = mock(ReservationViewRepository.class, CALLS_REAL_METHODS);
+		doReturn(List.of()).when(reservationViewRepository)
+			.findAllByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(any(), any());
+
+		reservationViewRepository.findByReservationCheckinDate(LocalDateTime.of(2024, 5, 1, 23, 59, 59, 500_000_000));
+
+		verify(reservationViewRepository).findAllByReservationCheckinDateGreaterThanEqualAndReservationCheckinDateLessThan(
+			LocalDateTime.of(2024, 5, 1, 0, 0), LocalDateTime.of(2024, 5, 2, 0, 0));
+	}
+}
@@ -0,0 +1,48 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class OccupancyAggregatorTests {
+
+	/* 기간 밖의 밤은 버리고, 결제 금액은 전체 숙박일 수로 나눠 담는다 */
+	@Test
+	void testAddSpreadsRevenueOverNightsInRange() {
+		OccupancyAggregator aggregator = new OccupancyAggregator(100, 3, 1);
+
+		// 99 ~ 102 (3박) 중 100, 101 만 기간 안
+		aggregator.add(0, 99, 102, 300_000);
+
+		assertEquals(1, aggregator.getRoomsSold(0, 0));
+		assertEquals(1, aggregator.getRoomsSold(0, 1));
+		assertEquals(0, aggregator.getRoomsSold(0, 2));
+		assertEquals(100_000, aggregator.getRoomRevenue(0, 0), 0.001);
+		assertEquals(0, aggregator.getRoomRevenue(0, 2), 0.001);
+	}
+
+	/* 당일 체크아웃은 체크인일 하루 판매로 보고 결제 금액을 모두 그날에 담는다 */
+	@Test
+	void testSameDayCheckoutCountsAsOneNight() {
+		OccupancyAggregator aggregator = new OccupancyAggregator(100, 3, 1);
+
+		aggregator.add(0, 101, 101, 50_000);
+
+		assertEquals(0, aggregator.getRoomsSold(0, 0));
+		assertEquals(1, aggregator.getRoomsSold(0, 1));
+		assertEquals(0, aggregator.getRoomsSold(0, 2));
+		assertEquals(50_000, aggregator.getRoomRevenue(0, 1), 0.001);
+	}
+
+	@Test
+	void testAddGrowsForUnknownBranch() {
+		OccupancyAggregator aggregator = new OccupancyAggregator(100, 2, 1);
+
+		aggregator.add(2, 100, 102, 20_000);
+
+		assertEquals(3, aggregator.getBranchCount());
+		assertEquals(0, aggregator.getRoomsSold(0, 0));
+		assertEquals(1, aggregator.getRoomsSold(2, 1));
+		assertEquals(10_000, aggregator.getRoomRevenue(2, 1), 0.001);
+	}
+}
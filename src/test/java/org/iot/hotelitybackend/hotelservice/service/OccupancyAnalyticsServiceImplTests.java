@@ -0,0 +1,96 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
+import org.iot.hotelitybackend.hotelservice.dto.OccupancyDTO;
+import org.iot.hotelitybackend.hotelservice.event.OccupancyChangedEvent;
+import org.iot.hotelitybackend.hotelservice.repository.OccupancyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class OccupancyAnalyticsServiceImplTests {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 10);
+
+	@Mock
+	private OccupancyRepository occupancyRepository;
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private OccupancyAnalyticsServiceImpl occupancyAnalyticsService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		occupancyAnalyticsService = new OccupancyAnalyticsServiceImpl(
+			occupancyRepository, roomRepository, redisTemplate, redisMessageListenerContainer);
+
+		RoomRepository.BranchRoomCount roomCount = mock(RoomRepository.BranchRoomCount.class);
+		when(roomCount.getBranchCodeFk()).thenReturn("HQ");
+		when(roomCount.getRoomCount()).thenReturn(10L);
+		when(roomRepository.countRoomsByBranch()).thenReturn(List.of(roomCount));
+	}
+
+	@SuppressWarnings("unchecked")
+	private long roomsSold(Map<String, Object> occupancyInfo) {
+		return ((List<OccupancyDTO>)occupancyInfo.get(KEY_CONTENT)).get(0).getRoomsSold();
+	}
+
+	/* 집계하는 동안 다른 서버의 변경으로 비워지면 집계 결과를 보관하지 않고 다음 조회에서 다시 읽는다 */
+	@Test
+	void testEvictDuringLoadDiscardsStaleSnapshot() {
+		doAnswer(invocation -> {
+			occupancyAnalyticsService.onMessage(new DefaultMessage(new byte[0],
+				"other-node:ALL".getBytes(StandardCharsets.UTF_8)), null);
+			invocation.<OccupancyRepository.OccupiedReservationHandler>getArgument(2)
+				.handle("HQ", DAY.toEpochDay(), DAY.toEpochDay() + 1, 100_000);
+			return null;
+		}).doAnswer(invocation -> {
+			invocation.<OccupancyRepository.OccupiedReservationHandler>getArgument(2)
+				.handle("HQ", DAY.toEpochDay(), DAY.toEpochDay() + 1, 100_000);
+			invocation.<OccupancyRepository.OccupiedReservationHandler>getArgument(2)
+				.handle("HQ", DAY.toEpochDay(), DAY.toEpochDay() + 1, 100_000);
+			return null;
+		}).when(occupancyRepository).streamOccupiedReservations(any(), any(), any());
+
+		assertEquals(1, roomsSold(occupancyAnalyticsService.selectOccupancy(DAY, DAY, null)));
+		assertEquals(2, roomsSold(occupancyAnalyticsService.selectOccupancy(DAY, DAY, null)));
+		verify(occupancyRepository, times(2)).streamOccupiedReservations(any(), any(), any());
+	}
+
+	/* 커밋된 변경은 이 서버의 스냅샷을 비우고 다른 서버에도 알린다 */
+	@Test
+	void testOccupancyChangeEvictsAndBroadcasts() {
+		occupancyAnalyticsService.selectOccupancy(DAY, DAY, null);
+		occupancyAnalyticsService.selectOccupancy(DAY, DAY, null);
+		verify(occupancyRepository, times(1)).streamOccupiedReservations(any(), any(), any());
+
+		occupancyAnalyticsService.onOccupancyChanged(OccupancyChangedEvent.of(1));
+		occupancyAnalyticsService.selectOccupancy(DAY, DAY, null);
+
+		verify(occupancyRepository, times(2)).streamOccupiedReservations(any(), any(), any());
+		verify(redisTemplate).convertAndSend(eq(REDIS_CHANNEL_OCCUPANCY), endsWith(":ALL"));
+	}
+}
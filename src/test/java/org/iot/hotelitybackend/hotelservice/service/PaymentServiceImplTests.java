@@ -0,0 +1,116 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.hotelservice.aggregate.PaymentEntity;
+import org.iot.hotelitybackend.hotelservice.dto.PaymentDTO;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentRepository;
+import org.iot.hotelitybackend.hotelservice.vo.PaymentSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class PaymentServiceImplTests {
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private PageQueryExecutor pageQueryExecutor;
+
+	private PaymentServiceImpl paymentService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		paymentService = new PaymentServiceImpl(paymentRepository, pageQueryExecutor);
+	}
+
+	private PaymentSearchCriteria createCriteria(Integer pageNum) {
+		return new PaymentSearchCriteria(pageNum, null, null, null, null, null, null, null, null, null, null);
+	}
+
+	private PaymentDTO createPaymentDTO(int paymentCodePk) {
+		PaymentDTO paymentDTO = new PaymentDTO();
+		paymentDTO.setPaymentCodePk(paymentCodePk);
+		paymentDTO.setCustomerName("고객" + paymentCodePk);
+		paymentDTO.setPaymentTypeName("객실");
+		return paymentDTO;
+	}
+
+	/* 페이징 조회는 DTO projection 한 번으로 끝나고 고객/결제 종류를 따로 조회하지 않는다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testPagedListUsesProjection() {
+		PaymentSearchCriteria criteria = createCriteria(0);
+		when(pageQueryExecutor.findPage(eq(PaymentEntity.class), eq(PaymentDTO.class),
+			any(PageQueryExecutor.Projection.class), any(Specification.class), any(Pageable.class), any(), any()))
+			.thenReturn(new PageImpl<>(List.of(createPaymentDTO(1), createPaymentDTO(2))));
+
+		Map<String, Object> paymentLogInfo = paymentService.selectPaymentLogList(criteria);
+
+		List<PaymentDTO> paymentDTOList = (List<PaymentDTO>)paymentLogInfo.get(KEY_CONTENT);
+		assertEquals(2, paymentDTOList.size());
+		assertEquals("고객1", paymentDTOList.get(0).getCustomerName());
+		verifyNoInteractions(paymentRepository);
+	}
+
+	/* 정렬 방향(sortBy)이 없으면 오름차순으로 조회한다 */
+	@Test
+	void testPagedListDefaultsMissingSortByToAscending() {
+		PaymentSearchCriteria criteria = createCriteria(0);
+		criteria.setOrderBy("paymentDate");
+		when(pageQueryExecutor.findPage(eq(PaymentEntity.class), eq(PaymentDTO.class),
+			any(PageQueryExecutor.Projection.class), any(Specification.class), any(Pageable.class), any(), any()))
+			.thenReturn(new PageImpl<>(List.of()));
+
+		paymentService.selectPaymentLogList(criteria);
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(pageQueryExecutor).findPage(eq(PaymentEntity.class), eq(PaymentDTO.class),
+			any(PageQueryExecutor.Projection.class), any(Specification.class), pageableCaptor.capture(), any(), any());
+		assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("paymentDate").getDirection());
+	}
+
+	/* 결제 내역에 없는 정렬 필드는 쿼리 실행 전에 거부 (컨트롤러에서 400) */
+	@Test
+	void testListRejectsUnknownSortField() {
+		PaymentSearchCriteria criteria = createCriteria(0);
+		criteria.setOrderBy("paymentTypeName");
+
+		assertThrows(IllegalArgumentException.class, () -> paymentService.selectPaymentLogList(criteria));
+		verifyNoInteractions(pageQueryExecutor, paymentRepository);
+	}
+
+	/* 페이징 없는 조회(엑셀 다운로드)도 같은 projection 을 fetch size 를 지정해 사용한다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testUnpagedListUsesProjectionWithFetchSize() {
+		when(pageQueryExecutor.findAll(eq(PaymentEntity.class), eq(PaymentDTO.class),
+			any(PageQueryExecutor.Projection.class), any(Specification.class), any(Sort.class), anyInt()))
+			.thenReturn(List.of(createPaymentDTO(1)));
+
+		Map<String, Object> paymentLogInfo = paymentService.selectPaymentLogList(createCriteria(null));
+
+		assertEquals(1, ((List<PaymentDTO>)paymentLogInfo.get(KEY_CONTENT)).size());
+		verify(pageQueryExecutor).findAll(eq(PaymentEntity.class), eq(PaymentDTO.class),
+			any(PageQueryExecutor.Projection.class), any(Specification.class), eq(Sort.by("paymentCodePk")),
+			eq(1000));
+		verifyNoInteractions(paymentRepository);
+	}
+}
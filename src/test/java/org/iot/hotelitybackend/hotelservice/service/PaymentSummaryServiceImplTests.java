@@ -0,0 +1,99 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.iot.hotelitybackend.hotelservice.dto.PaymentSummaryDTO;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentDailyRollupRepository;
+import org.iot.hotelitybackend.hotelservice.repository.PaymentTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class PaymentSummaryServiceImplTests {
+
+	@Mock
+	private PaymentDailyRollupRepository paymentDailyRollupRepository;
+
+	@Mock
+	private PaymentTypeRepository paymentTypeRepository;
+
+	private PaymentSummaryServiceImpl paymentSummaryService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		paymentSummaryService = new PaymentSummaryServiceImpl(paymentDailyRollupRepository, paymentTypeRepository);
+	}
+
+	private PaymentDailyRollupRepository.RollupTotal createRollupTotal(
+		String branchCodeFk, Integer paymentTypeCodeFk, Integer paymentCancelStatus, long count, long amount) {
+		return new PaymentDailyRollupRepository.RollupTotal() {
+			@Override
+			public String getBranchCodeFk() {
+				return branchCodeFk;
+			}
+
+			@Override
+			public Integer getPaymentTypeCodeFk() {
+				return paymentTypeCodeFk;
+			}
+
+			@Override
+			public Integer getPaymentCancelStatus() {
+				return paymentCancelStatus;
+			}
+
+			@Override
+			public Long getPaymentCount() {
+				return count;
+			}
+
+			@Override
+			public Long getPaymentAmountSum() {
+				return amount;
+			}
+		};
+	}
+
+	/* 월 합계는 [1일, 다음달 1일) 범위의 집계 행만 합산하고 취소 건은 따로 센다 */
+	@Test
+	void testMonthSummaryAddsRollupRows() {
+		LocalDate startDate = LocalDate.of(2024, 5, 1);
+		when(paymentDailyRollupRepository.sumByPeriod(startDate, LocalDate.of(2024, 6, 1), null)).thenReturn(List.of(
+			createRollupTotal("HQ", 1, 0, 3, 300000),
+			createRollupTotal("HQ", 2, 0, 1, 50000),
+			createRollupTotal("BS", 1, 0, 2, 200000),
+			createRollupTotal("BS", 1, 1, 1, 100000)
+		));
+
+		PaymentSummaryDTO paymentSummary = paymentSummaryService.summarize("month", LocalDate.of(2024, 5, 17), null);
+
+		assertEquals(startDate, paymentSummary.getStartDate());
+		assertEquals(6, paymentSummary.getPaymentCount());
+		assertEquals(550000, paymentSummary.getPaymentAmount());
+		assertEquals(1, paymentSummary.getCanceledCount());
+		assertEquals(100000, paymentSummary.getCanceledAmount());
+		assertEquals(350000, paymentSummary.getPaymentAmountByBranch().get("HQ"));
+	}
+
+	@Test
+	void testSummaryFiltersBranchAndRejectsUnknownPeriod() {
+		// 지점 조건은 쿼리에서 걸러지므로 해당 지점의 집계 행만 돌아온다
+		when(paymentDailyRollupRepository.sumByPeriod(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1), "BS"))
+			.thenReturn(List.of(createRollupTotal("BS", 1, 0, 2, 200000)));
+
+		PaymentSummaryDTO paymentSummary = paymentSummaryService.summarize("year", LocalDate.of(2024, 5, 17), "BS");
+
+		assertEquals(2, paymentSummary.getPaymentCount());
+		assertEquals(200000, paymentSummary.getPaymentAmount());
+		assertEquals(Map.of("BS", 200000L), paymentSummary.getPaymentAmountByBranch());
+		assertThrows(IllegalArgumentException.class,
+			() -> paymentSummaryService.summarize("week", LocalDate.of(2024, 5, 17), null));
+	}
+}
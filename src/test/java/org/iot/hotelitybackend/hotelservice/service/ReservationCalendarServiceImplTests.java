@@ -0,0 +1,153 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.ReservationCalendarDayDTO;
+import org.iot.hotelitybackend.hotelservice.dto.ReservationCalendarMonthDTO;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationCalendarRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ReservationCalendarServiceImplTests {
+
+	@Mock
+	private ReservationCalendarRepository reservationCalendarRepository;
+
+	@Mock
+	private ReservationViewRepository reservationViewRepository;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private ReservationCalendarServiceImpl reservationCalendarService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		reservationCalendarService = new ReservationCalendarServiceImpl(
+			reservationCalendarRepository, reservationViewRepository, redisMessageListenerContainer);
+	}
+
+	/* 투숙 중 건수는 월 시작 전날 투숙 중인 예약에 체크인 - 체크아웃을 누적한 값 */
+	@Test
+	void testMonthCalendarAccumulatesInHouseCount() {
+		when(reservationCalendarRepository.countByDay(eq("B1"), any(), any())).thenReturn(List.of(
+			new ReservationCalendarRepository.DailyReservationCount(LocalDate.of(2024, 5, 1), 2, 1, 1),
+			new ReservationCalendarRepository.DailyReservationCount(LocalDate.of(2024, 5, 3), 0, 2, 0)));
+		when(reservationCalendarRepository.countInHouseBefore("B1", LocalDate.of(2024, 5, 1))).thenReturn(3L);
+
+		ReservationCalendarMonthDTO month = (ReservationCalendarMonthDTO)reservationCalendarService
+			.selectReservationCalendarByMonth(2024, 5, "B1").get(KEY_CONTENT);
+
+		List<ReservationCalendarDayDTO> dayList = month.getDayList();
+		assertEquals(31, dayList.size());
+		assertEquals(4, dayList.get(0).getInHouseCount());
+		assertEquals(4, dayList.get(1).getInHouseCount());
+		assertEquals(2, dayList.get(2).getInHouseCount());
+		assertEquals(2, month.getCheckinCount());
+		assertEquals(3, month.getCheckoutCount());
+		assertEquals(1, month.getCancelCount());
+	}
+
+	/* 연간 조회는 한 번의 조회로 12개월을 채우고, 이후 월간 조회는 캐시를 사용 */
+	@Test
+	void testYearCalendarFillsMonthCache() {
+		when(reservationCalendarRepository.countByDay(any(), any(), any())).thenReturn(List.of());
+
+		reservationCalendarService.selectReservationCalendarByYear(2024, null);
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 7, null);
+
+		verify(reservationCalendarRepository, times(1))
+			.countByDay(null, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+
+		reservationCalendarService.evictMonth("B1", YearMonth.of(2024, 7));
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 7, null);
+
+		verify(reservationCalendarRepository, times(1))
+			.countByDay(null, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 8, 1));
+	}
+
+	/* 조회하는 동안 예약 변경 알림으로 비워지면 조회 결과를 보관하지 않고 다음 조회에서 다시 읽는다 */
+	@Test
+	void testEvictDuringLoadDiscardsStaleMonth() {
+		when(reservationCalendarRepository.countByDay(any(), any(), any())).thenAnswer(invocation -> {
+			reservationCalendarService.evictMonth("B1", YearMonth.of(2024, 5));
+			return List.of();
+		}).thenReturn(List.of());
+
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B1");
+
+		verify(reservationCalendarRepository, times(2))
+			.countByDay("B1", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+	}
+
+	private void sendReservationChanged(String payload) {
+		reservationCalendarService.onMessage(
+			new DefaultMessage(new byte[0], ("node:" + payload).getBytes(StandardCharsets.UTF_8)), null);
+	}
+
+	/* 일자가 바뀐 예약의 변경 전 월도 비워지도록 예약 지점의 월은 모두 다시 조회하고, 다른 지점은 캐시 유지 */
+	@Test
+	void testReservationChangeEvictsAllMonthsOfBranch() {
+		when(reservationCalendarRepository.countByDay(any(), any(), any())).thenReturn(List.of());
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 8, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B2");
+
+		// 5월 -> 8월로 옮긴 예약 (변경 후 값만 조회된다)
+		when(reservationViewRepository.findAllById(Set.of(1))).thenReturn(List.of(ReservationViewEntity.builder()
+			.reservationCodePk(1)
+			.branchCodeFk("B1")
+			.reservationCheckinDate(LocalDate.of(2024, 8, 1).atTime(15, 0))
+			.reservationCheckoutDate(LocalDate.of(2024, 8, 2).atTime(11, 0))
+			.build()));
+		sendReservationChanged("1");
+
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 8, "B1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B2");
+
+		verify(reservationCalendarRepository, times(2))
+			.countByDay("B1", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+		verify(reservationCalendarRepository, times(2))
+			.countByDay("B1", LocalDate.of(2024, 8, 1), LocalDate.of(2024, 9, 1));
+		verify(reservationCalendarRepository, times(1))
+			.countByDay("B2", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+	}
+
+	/* 삭제되어 조회되지 않는 예약은 지점을 알 수 없으므로 전체를 비우고, 객실 변경 알림은 무시 */
+	@Test
+	void testDeletedReservationEvictsAllMonths() {
+		when(reservationCalendarRepository.countByDay(any(), any(), any())).thenReturn(List.of());
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B2");
+
+		sendReservationChanged("ROOM:B2_101");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B2");
+		verify(reservationCalendarRepository, times(1))
+			.countByDay("B2", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+
+		when(reservationViewRepository.findAllById(Set.of(1))).thenReturn(List.of());
+		sendReservationChanged("1");
+		reservationCalendarService.selectReservationCalendarByMonth(2024, 5, "B2");
+		verify(reservationCalendarRepository, times(2))
+			.countByDay("B2", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1));
+	}
+}
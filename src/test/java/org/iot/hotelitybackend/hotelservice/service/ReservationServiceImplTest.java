@@ -1,126 +1,351 @@
-// package org.iot.hotelitybackend.hotelservice.service;
-//
-// import static org.assertj.core.api.Assertions.assertThat;
-// import static org.mockito.Mockito.*;
-//
-// import java.time.LocalDateTime;
-// import java.util.List;
-// import java.util.Map;
-//
-// import org.iot.hotelitybackend.customer.aggregate.CustomerEntity;
-// import org.iot.hotelitybackend.customer.repository.CustomerRepository;
-// import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomCategoryEntity;
-// import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomEntity;
-// import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomLevelEntity;
-// import org.iot.hotelitybackend.hotelmanagement.repository.RoomCategoryRepository;
-// import org.iot.hotelitybackend.hotelmanagement.repository.RoomLevelRepository;
-// import org.iot.hotelitybackend.hotelmanagement.repository.RoomRepository;
-// import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
-// import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
-// import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
-// import org.junit.jupiter.api.BeforeEach;
-// import org.junit.jupiter.api.DisplayName;
-// import org.junit.jupiter.api.Test;
-// import org.modelmapper.ModelMapper;
-// import org.springframework.beans.factory.annotation.Autowired;
-// import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-// import org.springframework.boot.test.context.SpringBootTest;
-// import org.springframework.boot.test.mock.mockito.MockBean;
-// import org.springframework.test.web.servlet.MockMvc;
-// import org.springframework.transaction.annotation.Transactional;
-//
-// @Transactional            // 테스트 후 rollback 처리를 위한 어노테이션
-// @SpringBootTest            // 통합 테스트 환경을 위해 스프링 컨텍스트에 등록된 Bean을 가져옴
-// @AutoConfigureMockMvc    // 실제 서버에 배포하지 않고 테스트하기 위한 MockMvc 환경을 자동 구성
-// class ReservationServiceImplTest {
-//
-// 	// 테스트할 서비스를 생성자 주입 받음
-// 	@Autowired
-// 	private ReservationService reservationService;
-// 	@Autowired
-// 	private MockMvc mockMvc;
-// 	@Autowired
-// 	ModelMapper mapper;
-//
-// 	// 해당 서비스의 메소드를 실행하기 위해 필요한 컴포넌트들을 MockBean으로 등록
-// 	@MockBean
-// 	ReservationRepository reservationRepository;
-// 	@MockBean
-// 	CustomerRepository customerRepository;
-// 	@MockBean
-// 	RoomRepository roomRepository;
-// 	@MockBean
-// 	RoomCategoryRepository roomCategoryRepository;
-// 	@MockBean
-// 	RoomLevelRepository roomLevelRepository;
-//
-// 	// 테스트 코드 실행 전 먼저 동작하는 코드
-// 	@BeforeEach
-// 	public void setup() {
-// 		ReservationEntity reservationEntity = ReservationEntity.builder()
-// 			.reservationCheckinDate(LocalDateTime.of(2023, 5, 5, 0, 0))
-// 			.build();
-//
-// 		when(reservationRepository.findByReservationCheckinDateBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-// 			.thenReturn(List.of(reservationEntity));
-//
-// 		CustomerEntity customerEntity = CustomerEntity.builder()
-// 			.customerCodePk(1)
-// 			.customerName("TestName")
-// 			.build();
-//
-// 		when(customerRepository.findById(any(Integer.class)))
-// 			.thenReturn(java.util.Optional.of(customerEntity));
-//
-// 		RoomEntity roomEntity = RoomEntity.builder()
-// 			.roomCategoryCodeFk(1)
-// 			.build();
-//
-// 		when(roomRepository.findById(any(String.class)))
-// 			.thenReturn(java.util.Optional.of(roomEntity));
-//
-// 		RoomCategoryEntity roomCategoryEntity = RoomCategoryEntity.builder()
-// 			.roomName("TestRoomName")
-// 			.roomLevelCodeFk(1)
-// 			.build();
-//
-// 		when(roomCategoryRepository.findById(any(Integer.class)))
-// 			.thenReturn(java.util.Optional.of(roomCategoryEntity));
-//
-// 		RoomLevelEntity roomLevelEntity = RoomLevelEntity.builder()
-// 			.roomLevelName("TestRoomLevelName")
-// 			.build();
-//
-// 		when(roomLevelRepository.findById(any(Integer.class)))
-// 			.thenReturn(java.util.Optional.of(roomLevelEntity));
-// 	}
-//
-// 	@DisplayName("월별 예약 내역 리스트 전체 조회 테스트")
-// 	@Test
-// 	public void selectReservationListByMonthTest() throws Exception {
-// 		// given
-// 		int year = 2024;
-// 		int month = 5;
-//
-// 		// when
-// 		// Map<String, Object> result = reservationService.selectReservationListByMonth(year, month);
-//
-// 		// then
-// 		// assertThat(result).isNotNull();							// 메소드 수행 결과가 null이 아닌지 검증
-// 		// assertThat(result.containsKey("content")).isTrue();
-// 		//
-// 		// List<ReservationDTO> reservationDTOList = (List<ReservationDTO>) result.get("content");
-// 		// assertThat(reservationDTOList).isNotEmpty();
-// 		//
-// 		// ReservationDTO reservationDTO = reservationDTOList.get(0);
-// 		// assertThat(reservationDTO.getCustomerName()).isEqualTo("TestName");
-// 		// assertThat(reservationDTO.getRoomName()).isEqualTo("TestRoomName");
-// 		// assertThat(reservationDTO.getRoomLevelName()).isEqualTo("TestRoomLevelName");
-// 	}
-//
-//
-// 	/* 일자별 예약 리스트 조회 */
-//
-// 	/* 예약 코드로 검색 */
-//
-// }
\ No newline at end of file
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.common.util.TotalCountCache;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.ReservationDTO;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationRepository;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.iot.hotelitybackend.hotelservice.vo.ReservationSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+class ReservationServiceImplTest {
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private ReservationViewRepository reservationViewRepository;
+
+	@Mock
+	private PageQueryExecutor pageQueryExecutor;
+
+	private ReservationServiceImpl reservationService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		reservationService = new ReservationServiceImpl(
+			reservationRepository, reservationViewRepository, new ModelMapper(), pageQueryExecutor);
+	}
+
+	private List<ReservationViewEntity> createReservationViews(int size) {
+		return IntStream.rangeClosed(1, size)
+			.mapToObj(i -> ReservationViewEntity.builder()
+				.reservationCodePk(i)
+				.customerCodeFk(i)
+				.customerName("고객" + i)
+				.roomCodeFk("HQ_" + i)
+				.roomName("스탠다드")
+				.roomLevelName("디럭스")
+				.roomCapacity(2)
+				.branchCodeFk("HQ")
+				.branchName("본점")
+				.reservationCheckinDate(LocalDateTime.of(2024, 5, 1 + i % 28, 15, 0))
+				.reservationCheckoutDate(LocalDateTime.of(2024, 5, 2 + i % 28, 11, 0))
+				.stayStatus(0)
+				.stayPeriod("1박")
+				.build())
+			.toList();
+	}
+
+	/* 정렬과 페이징은 DB 에서 처리되어야 한다 */
+	@ParameterizedTest
+	@ValueSource(ints = {1, 20, 500})
+	void testSelectReservationListByMonthPagesInDatabase(int size) {
+		List<ReservationViewEntity> reservationViews = createReservationViews(size);
+		when(pageQueryExecutor.findPage(eq(ReservationViewEntity.class), any(Specification.class), any(Pageable.class),
+			any(), any(), any()))
+			.thenAnswer(invocation -> {
+				Pageable pageable = invocation.getArgument(2);
+				List<ReservationViewEntity> content = reservationViews.stream()
+					.skip(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.toList();
+				return new PageImpl<>(content, pageable, reservationViews.size());
+			});
+
+		ReservationSearchCriteria criteria = new ReservationSearchCriteria();
+		criteria.setPageNum(0);
+		criteria.setOrderBy("customerName");
+		criteria.setSortBy(1);
+
+		Map<String, Object> result = reservationService.selectReservationListByMonth(
+			LocalDateTime.of(2024, 5, 1, 0, 0), 2024, 5, criteria);
+
+		List<ReservationDTO> reservationDTOList = (List<ReservationDTO>)result.get(KEY_CONTENT);
+		assertEquals(Math.min(size, PAGE_SIZE), reservationDTOList.size());
+		assertEquals((size + PAGE_SIZE - 1) / PAGE_SIZE, result.get(KEY_TOTAL_PAGES_COUNT));
+		assertEquals(0, result.get(KEY_CURRENT_PAGE_INDEX));
+		assertEquals("고객1", reservationDTOList.get(0).getCustomerName());
+		assertEquals("1박", reservationDTOList.get(0).getStayPeriod());
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(pageQueryExecutor, times(1)).findPage(eq(ReservationViewEntity.class), any(Specification.class),
+			pageableCaptor.capture(), any(), any(), any());
+		assertEquals(PAGE_SIZE, pageableCaptor.getValue().getPageSize());
+		assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("customerName").getDirection());
+		verifyNoInteractions(reservationViewRepository, reservationRepository);
+	}
+
+	/* 페이지 파라미터가 없으면 기존처럼 해당 월 전체를 페이지 정보 없이 반환한다 (정렬은 DB) */
+	@Test
+	void testSelectReservationListByMonthReturnsWholeMonthByDefault() {
+		when(reservationViewRepository.findAll(any(Specification.class), any(Sort.class)))
+			.thenReturn(createReservationViews(500));
+
+		ReservationSearchCriteria criteria = new ReservationSearchCriteria();
+		criteria.setOrderBy("roomLevelName");
+
+		Map<String, Object> result = reservationService.selectReservationListByMonth(
+			LocalDateTime.of(2024, 5, 1, 0, 0), 2024, 5, criteria);
+
+		assertEquals(500, ((List<ReservationDTO>)result.get(KEY_CONTENT)).size());
+		assertEquals(Set.of(KEY_CONTENT), result.keySet());
+
+		ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+		verify(reservationViewRepository, times(1)).findAll(any(Specification.class), sortCaptor.capture());
+		// sortBy 가 없으면 다른 목록과 같이 오름차순
+		assertEquals(Sort.Direction.ASC, sortCaptor.getValue().getOrderFor("roomLevelName").getDirection());
+		verifyNoInteractions(pageQueryExecutor);
+	}
+
+	@Test
+	void testSelectReservationListByMonthReturnsHasNextWithoutTotal() {
+		when(pageQueryExecutor.findPage(eq(ReservationViewEntity.class), any(Specification.class), any(Pageable.class),
+			eq(true), any(), any()))
+			.thenAnswer(invocation -> new SliceImpl<>(createReservationViews(PAGE_SIZE), invocation.getArgument(2), true));
+
+		ReservationSearchCriteria criteria = new ReservationSearchCriteria();
+		criteria.setPageNum(1);
+		criteria.setHasNextOnly(true);
+
+		Map<String, Object> result = reservationService.selectReservationListByMonth(
+			LocalDateTime.of(2024, 5, 1, 0, 0), 2024, 5, criteria);
+
+		assertEquals(PAGE_SIZE, ((List<ReservationDTO>)result.get(KEY_CONTENT)).size());
+		assertEquals(true, result.get(KEY_HAS_NEXT));
+		assertEquals(1, result.get(KEY_CURRENT_PAGE_INDEX));
+		assertFalse(result.containsKey(KEY_TOTAL_PAGES_COUNT));
+	}
+
+	@Test
+	void testSelectReservationListByMonthRejectsUnknownSortField() {
+		ReservationSearchCriteria criteria = new ReservationSearchCriteria();
+		criteria.setOrderBy("customerPhoneNumber");
+
+		assertThrows(IllegalArgumentException.class, () -> reservationService.selectReservationListByMonth(
+			LocalDateTime.of(2024, 5, 1, 0, 0), 2024, 5, criteria));
+
+		verifyNoInteractions(reservationViewRepository);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 20, 500})
+	void testSelectReservationListByDayRunsSingleQuery(int size) {
+		when(reservationViewRepository.findByReservationCheckinDate(any(LocalDateTime.class)))
+			.thenReturn(createReservationViews(size));
+
+		Map<String, Object> result =
+			reservationService.selectReservationListByDay(LocalDateTime.of(2024, 5, 5, 0, 0));
+
+		assertEquals(size, ((List<ReservationDTO>)result.get(KEY_CONTENT)).size());
+
+		verify(reservationViewRepository, times(1)).findByReservationCheckinDate(any(LocalDateTime.class));
+		verifyNoMoreInteractions(reservationViewRepository);
+		verifyNoInteractions(reservationRepository);
+	}
+
+	@Test
+	void testSelectReservationInfoByReservationCodePkRunsSingleQuery() {
+		when(reservationViewRepository.findById(1)).thenReturn(Optional.of(createReservationViews(1).get(0)));
+
+		Map<String, Object> result = reservationService.selectReseravtionInfoByReservationCodePk(1);
+
+		List<ReservationDTO> reservationDTOList = (List<ReservationDTO>)result.get(KEY_CONTENT);
+		assertEquals(1, reservationDTOList.size());
+		assertEquals("본점", reservationDTOList.get(0).getBranchName());
+
+		verify(reservationViewRepository, times(1)).findById(1);
+		verifyNoMoreInteractions(reservationViewRepository);
+		verifyNoInteractions(reservationRepository);
+	}
+
+	/* 실제 MariaDB 에서 Hibernate 가 실행한 SQL 문 수를 센다 (행 수와 관계없이 조회 1건)
+	 * Docker 가 없는 환경에서는 건너뛴다. */
+	@Nested
+	@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+	})
+	@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Testcontainers(disabledWithoutDocker = true)
+	class StatementCountTest {
+
+		@Container
+		static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+		private static boolean seeded = false;
+
+		@DynamicPropertySource
+		static void datasourceProperties(DynamicPropertyRegistry registry) {
+			registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+			registry.add("spring.datasource.username", mariaDB::getUsername);
+			registry.add("spring.datasource.password", mariaDB::getPassword);
+		}
+
+		@Autowired
+		private JdbcTemplate jdbcTemplate;
+
+		@Autowired
+		private EntityManager entityManager;
+
+		@Autowired
+		private EntityManagerFactory entityManagerFactory;
+
+		@Autowired
+		private ReservationRepository reservationRepository;
+
+		@Autowired
+		private ReservationViewRepository reservationViewRepository;
+
+		private ReservationServiceImpl reservationService;
+		private Statistics statistics;
+
+		@BeforeEach
+		void setUp() {
+			reservationService = new ReservationServiceImpl(reservationRepository, reservationViewRepository,
+				new ModelMapper(), new PageQueryExecutor(entityManager, new TotalCountCache()));
+			statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+			if (seeded) {
+				return;
+			}
+
+			// 2024-05-01 1건, 05-02 20건, 05-03 500건
+			jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+					statement.execute("INSERT INTO branch_tb (branch_code_pk, branch_name) VALUES ('HQ', '본점')");
+					statement.execute("INSERT INTO room_level_tb (room_level_code_pk, room_level_name) "
+						+ "VALUES (1, '디럭스')");
+					statement.execute("INSERT INTO room_category_tb (room_category_code_pk, room_name, room_capacity, "
+						+ "room_level_code_fk) VALUES (1, '스탠다드', 2, 1)");
+					statement.execute("INSERT INTO room_tb (room_code_pk, room_number, room_category_code_fk, "
+						+ "branch_code_fk) SELECT CONCAT('HQ_', seq), seq, 1, 'HQ' FROM seq_1_to_50");
+					statement.execute("INSERT INTO customer_tb (customer_code_pk, customer_name) "
+						+ "SELECT seq, CONCAT('고객', seq) FROM seq_1_to_500");
+					for (int[] day : new int[][] {{1, 1}, {2, 20}, {3, 500}}) {
+						statement.execute("INSERT INTO reservation_tb (reservation_date, reservation_checkin_date, "
+							+ "reservation_checkout_date, customer_code_fk, room_code_fk, branch_code_fk, "
+							+ "reservation_cancel_status, reservation_personnel) "
+							+ "SELECT TIMESTAMP '2024-04-01 10:00:00', "
+							+ "TIMESTAMP '2024-05-0" + day[0] + " 15:00:00', "
+							+ "TIMESTAMP '2024-05-0" + day[0] + " 15:00:00' + INTERVAL 1 DAY - INTERVAL 4 HOUR, "
+							+ "seq, CONCAT('HQ_', seq % 50 + 1), 'HQ', 0, 2 "
+							+ "FROM seq_1_to_" + day[1]);
+					}
+					statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+				}
+				return null;
+			});
+			seeded = true;
+		}
+
+		private long countStatements(Runnable query) {
+			statistics.clear();
+			query.run();
+			return statistics.getPrepareStatementCount();
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = {1, 2, 3})
+		void testSelectReservationListByDayRunsOneStatement(int day) {
+			int expectedSize = Map.of(1, 1, 2, 20, 3, 500).get(day);
+			AtomicReference<Map<String, Object>> result = new AtomicReference<>();
+
+			long statementCount = countStatements(() ->
+				result.set(reservationService.selectReservationListByDay(LocalDateTime.of(2024, 5, day, 0, 0))));
+
+			List<ReservationDTO> reservationDTOList = (List<ReservationDTO>)result.get().get(KEY_CONTENT);
+			assertEquals(expectedSize, reservationDTOList.size());
+			assertEquals("본점", reservationDTOList.get(0).getBranchName());
+			assertEquals("디럭스", reservationDTOList.get(0).getRoomLevelName());
+			assertEquals("1박", reservationDTOList.get(0).getStayPeriod());
+			assertEquals(1, statementCount);
+		}
+
+		@Test
+		void testSelectReservationListByMonthRunsOneStatementWithoutTotal() {
+			ReservationSearchCriteria criteria = new ReservationSearchCriteria();
+			criteria.setPageSize(200);
+			criteria.setHasNextOnly(true);
+			criteria.setOrderBy("customerName");
+
+			long statementCount = countStatements(() -> reservationService.selectReservationListByMonth(
+				LocalDateTime.of(2024, 5, 1, 0, 0), 2024, 5, criteria));
+
+			assertEquals(1, statementCount);
+		}
+
+		@Test
+		void testSelectReservationInfoAndSetDTOFieldRunOneStatement() {
+			assertEquals(1, countStatements(() -> reservationService.selectReseravtionInfoByReservationCodePk(1)));
+
+			List<ReservationEntity> reservationEntityList = reservationRepository.findAll();
+			AtomicReference<List<ReservationDTO>> reservationDTOList = new AtomicReference<>();
+			assertEquals(1, countStatements(() ->
+				reservationDTOList.set(reservationService.setDTOField(reservationEntityList))));
+			assertEquals(521, reservationDTOList.get().size());
+		}
+	}
+}
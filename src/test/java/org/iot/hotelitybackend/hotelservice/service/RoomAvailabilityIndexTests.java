@@ -0,0 +1,149 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.iot.hotelitybackend.hotelmanagement.aggregate.RoomViewEntity;
+import org.iot.hotelitybackend.hotelmanagement.repository.RoomViewRepository;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.AvailableRoomDTO;
+import org.iot.hotelitybackend.hotelservice.repository.ReservationViewRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RoomAvailabilityIndexTests {
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	@Mock
+	private RoomViewRepository roomViewRepository;
+
+	@Mock
+	private ReservationViewRepository reservationViewRepository;
+
+	@Mock
+	private StayViewRepository stayViewRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private RoomAvailabilityIndex roomAvailabilityIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		roomAvailabilityIndex = new RoomAvailabilityIndex(
+			roomViewRepository, reservationViewRepository, stayViewRepository, redisTemplate,
+			redisMessageListenerContainer);
+
+		when(roomViewRepository.findAll()).thenReturn(List.of(createRoom("HQ_101"), createRoom("HQ_102")));
+		// HQ_101 은 오늘부터 3박 예약
+		when(reservationViewRepository.findAllByReservationCheckoutDateAfter(any()))
+			.thenReturn(List.of(createReservation(1, "HQ_101", 0)));
+		when(stayViewRepository.findAllByReservationCodeFkIn(anyCollection())).thenReturn(List.of());
+	}
+
+	private static RoomViewEntity createRoom(String roomCodePk) {
+		return RoomViewEntity.builder()
+			.roomCodePk(roomCodePk)
+			.branchCodeFk("HQ")
+			.roomName("디럭스")
+			.roomCapacity(2)
+			.roomPrice(100_000)
+			.build();
+	}
+
+	private static ReservationViewEntity createReservation(int reservationCodePk, String roomCodeFk,
+		int cancelStatus) {
+		return ReservationViewEntity.builder()
+			.reservationCodePk(reservationCodePk)
+			.roomCodeFk(roomCodeFk)
+			.branchCodeFk("HQ")
+			.reservationCheckinDate(TODAY.atTime(15, 0))
+			.reservationCheckoutDate(TODAY.plusDays(3).atTime(11, 0))
+			.reservationCancelStatus(cancelStatus)
+			.build();
+	}
+
+	private List<String> findAvailableRoomCodes(LocalDate checkinDate, LocalDate checkoutDate) {
+		return roomAvailabilityIndex.findAvailableRooms("HQ", checkinDate, checkoutDate, room -> true)
+			.stream()
+			.map(AvailableRoomDTO::getRoomCodePk)
+			.toList();
+	}
+
+	/* 예약된 밤이 하나라도 겹치면 제외, 체크아웃 날짜부터는 다시 빈 객실 */
+	@Test
+	void testFindAvailableRoomsExcludesBookedNights() {
+		roomAvailabilityIndex.rebuild();
+
+		assertEquals(List.of("HQ_102"), findAvailableRoomCodes(TODAY, TODAY.plusDays(1)));
+		assertEquals(List.of("HQ_102"), findAvailableRoomCodes(TODAY.plusDays(2), TODAY.plusDays(5)));
+		assertEquals(List.of("HQ_101", "HQ_102"), findAvailableRoomCodes(TODAY.plusDays(3), TODAY.plusDays(4)));
+		assertEquals(List.of("HQ_101", "HQ_102"), findAvailableRoomCodes(TODAY.minusDays(1), TODAY));
+	}
+
+	/* 기준일(어제) 이전 날짜는 점유 현황이 없으므로 빈 객실로 보이지 않고 거부된다 */
+	@Test
+	void testFindAvailableRoomsRejectsDatesBeforeIndexWindow() {
+		roomAvailabilityIndex.rebuild();
+
+		assertThrows(IllegalArgumentException.class,
+			() -> findAvailableRoomCodes(TODAY.minusDays(2), TODAY.plusDays(1)));
+	}
+
+	/* 객실 변경은 해당 객실만 다시 읽는다 (삭제된 객실은 빠지고 전체 재생성은 하지 않는다) */
+	@Test
+	void testNotifyRoomsChangedRefreshesOnlyGivenRooms() {
+		roomAvailabilityIndex.rebuild();
+		when(roomViewRepository.findAllById(List.of("HQ_102"))).thenReturn(List.of());
+		when(reservationViewRepository.findAllByRoomCodeFkInAndReservationCheckoutDateAfter(anyCollection(), any()))
+			.thenReturn(List.of());
+
+		roomAvailabilityIndex.notifyRoomsChanged(List.of("HQ_102"));
+
+		assertEquals(List.of(), findAvailableRoomCodes(TODAY, TODAY.plusDays(1)));
+		verify(roomViewRepository, times(1)).findAll();
+	}
+
+	/* 전체 재생성이 DB 를 읽는 동안 취소된 예약은 새 인덱스로 바꾼 뒤에도 취소 상태로 남아야 한다 */
+	@Test
+	void testRefreshDuringRebuildIsReplayedAfterSwap() throws Exception {
+		roomAvailabilityIndex.rebuild();
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch canceled = new CountDownLatch(1);
+		// 재생성은 취소 이전 스냅샷(예약 1 유효)을 읽는다
+		when(roomViewRepository.findAll()).thenAnswer(invocation -> {
+			loading.countDown();
+			assertTrue(canceled.await(5, TimeUnit.SECONDS));
+			return List.of(createRoom("HQ_101"), createRoom("HQ_102"));
+		});
+		when(reservationViewRepository.findAllById(List.of(1)))
+			.thenReturn(List.of(createReservation(1, "HQ_101", 1)));
+
+		CompletableFuture<Void> rebuild = CompletableFuture.runAsync(roomAvailabilityIndex::rebuild);
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		roomAvailabilityIndex.refreshReservation(1);
+		canceled.countDown();
+		rebuild.get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of("HQ_101", "HQ_102"), findAvailableRoomCodes(TODAY, TODAY.plusDays(1)));
+	}
+}
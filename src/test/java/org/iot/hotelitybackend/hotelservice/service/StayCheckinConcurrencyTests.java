@@ -0,0 +1,211 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.hotelservice.repository.StayCheckoutBatchRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 여러 프런트 단말이 동시에 체크인하는 상황을 실제 MariaDB 에서 재현한다.
+ * 같은 예약을 동시에 체크인해도 투숙 내역은 한 건만 생기는지, 아침 피크처럼 많은 예약을 한꺼번에 처리할 때의 처리량을 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@Slf4j
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class StayCheckinConcurrencyTests {
+
+	private static final int TERMINALS = 16;
+	private static final int SEED_RESERVATIONS = 1000;
+	private static final int EMPLOYEE_CODE = 1;
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	private static boolean seeded = false;
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private StayRepository stayRepository;
+
+	@Autowired
+	private StayViewRepository stayViewRepository;
+
+	private StayServiceImpl stayService;
+
+	@BeforeEach
+	void setUp() {
+		stayService = new StayServiceImpl(stayRepository, stayViewRepository, new ModelMapper(),
+			mock(RoomAvailabilityIndex.class), mock(PageQueryExecutor.class), mock(StayCheckoutBatchRepository.class),
+			mock(ApplicationEventPublisher.class));
+
+		if (seeded) {
+			return;
+		}
+
+		Flyway.configure()
+			.dataSource(dataSource)
+			.baselineOnMigrate(true)
+			.baselineVersion("0")
+			.load()
+			.migrate();
+
+		new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("INSERT INTO employee_tb (employee_code_pk, employee_name, permission_code_fk, "
+					+ "position_code_fk, rank_code_fk, department_code_fk, branch_code_fk) "
+					+ "VALUES (" + EMPLOYEE_CODE + ", '프런트', 1, 1, 1, 1, 'HQ')");
+				statement.execute("INSERT INTO room_level_tb (room_level_code_pk, room_level_name) "
+					+ "VALUES (1, '스탠다드')");
+				statement.execute("INSERT INTO room_category_tb (room_category_code_pk, room_name, room_capacity, "
+					+ "room_level_code_fk) VALUES (1, '디럭스', 4, 1)");
+				statement.execute("INSERT INTO room_tb (room_code_pk, branch_code_fk, room_number, "
+					+ "room_category_code_fk) VALUES ('HQ_101', 'HQ', 101, 1)");
+				statement.execute("INSERT INTO reservation_tb (reservation_date, reservation_checkin_date, "
+					+ "reservation_checkout_date, customer_code_fk, room_code_fk, branch_code_fk, "
+					+ "reservation_cancel_status, reservation_personnel) "
+					+ "SELECT TIMESTAMP '2024-05-01 00:00:00', TIMESTAMP '2024-05-01 15:00:00', "
+					+ "TIMESTAMP '2024-05-02 11:00:00', seq, 'HQ_101', 'HQ', 0, 2 "
+					+ "FROM seq_1_to_" + SEED_RESERVATIONS);
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+
+		seeded = true;
+	}
+
+	/* 모든 단말이 같은 예약을 동시에 체크인 */
+	@Test
+	void testConcurrentCheckinOfSameReservationCreatesOneStay() throws Exception {
+		int reservationCodeFk = 1;
+
+		List<Map<String, Object>> results = runOnTerminals(TERMINALS, terminal ->
+			stayService.registStayByReservationCodePk(reservationCodeFk, EMPLOYEE_CODE, 2));
+
+		long created = results.stream().filter(result -> !result.isEmpty()).count();
+		assertEquals(1, created);
+		assertEquals(1, countStays(reservationCodeFk, reservationCodeFk));
+	}
+
+	/* 아침 피크: 단말마다 서로 다른 예약을 연속으로 체크인하면서, 같은 예약을 다른 단말이 한 번씩 더 시도한다 */
+	@Test
+	void testCheckinThroughputWithManyTerminals() throws Exception {
+		int firstReservation = 2;
+		int reservationsPerTerminal = (SEED_RESERVATIONS - firstReservation + 1) / TERMINALS;
+		int totalReservations = reservationsPerTerminal * TERMINALS;
+
+		long startedAt = System.nanoTime();
+		List<Map<String, Object>> results = runOnTerminals(TERMINALS, terminal -> {
+			int created = 0;
+			for (int i = 0; i < reservationsPerTerminal; i++) {
+				int own = firstReservation + terminal * reservationsPerTerminal + i;
+				int neighbour = firstReservation + ((terminal + 1) % TERMINALS) * reservationsPerTerminal + i;
+				created += stayService.registStayByReservationCodePk(own, EMPLOYEE_CODE, 2).isEmpty() ? 0 : 1;
+				created += stayService.registStayByReservationCodePk(neighbour, EMPLOYEE_CODE, 2).isEmpty() ? 0 : 1;
+			}
+			return Map.of("created", created);
+		});
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		int created = results.stream().mapToInt(result -> (Integer)result.get("created")).sum();
+		int lastReservation = firstReservation + totalReservations - 1;
+
+		assertEquals(totalReservations, created);
+		assertEquals(totalReservations, countStays(firstReservation, lastReservation));
+
+		log.info("체크인 {}건 (시도 {}건, 단말 {}대): {}ms, {}건/초",
+			totalReservations, totalReservations * 2, TERMINALS, elapsedMillis,
+			String.format("%.1f", totalReservations * 2 * 1000.0 / Math.max(elapsedMillis, 1)));
+	}
+
+	private interface Terminal {
+		Map<String, Object> run(int terminal);
+	}
+
+	// 모든 단말이 준비된 뒤 동시에 시작
+	private List<Map<String, Object>> runOnTerminals(int terminals, Terminal task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(terminals);
+		CountDownLatch ready = new CountDownLatch(terminals);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<Map<String, Object>>> futures = new ArrayList<>();
+			for (int terminal = 0; terminal < terminals; terminal++) {
+				int terminalNo = terminal;
+				Callable<Map<String, Object>> callable = () -> {
+					ready.countDown();
+					start.await();
+					return task.run(terminalNo);
+				};
+				futures.add(executor.submit(callable));
+			}
+
+			ready.await();
+			start.countDown();
+
+			List<Map<String, Object>> results = new ArrayList<>();
+			for (Future<Map<String, Object>> future : futures) {
+				results.add(future.get(60, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private int countStays(int fromReservation, int toReservation) {
+		return new JdbcTemplate(dataSource).queryForObject(
+			"SELECT COUNT(*) FROM stay_tb WHERE reservation_code_fk BETWEEN ? AND ?",
+			Integer.class, fromReservation, toReservation);
+	}
+}
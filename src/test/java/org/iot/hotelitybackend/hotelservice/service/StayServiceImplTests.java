@@ -0,0 +1,383 @@
+package org.iot.hotelitybackend.hotelservice.service;
+
+import static org.iot.hotelitybackend.common.constant.Constant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.iot.hotelitybackend.common.util.PageQueryExecutor;
+import org.iot.hotelitybackend.customer.event.CustomerProfileChangedEvent;
+import org.iot.hotelitybackend.hotelservice.aggregate.ReservationViewEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayEntity;
+import org.iot.hotelitybackend.hotelservice.aggregate.StayViewEntity;
+import org.iot.hotelitybackend.hotelservice.dto.StayCheckoutResultDTO;
+import org.iot.hotelitybackend.hotelservice.dto.StayDTO;
+import org.iot.hotelitybackend.hotelservice.event.OccupancyChangedEvent;
+import org.iot.hotelitybackend.hotelservice.repository.StayCheckoutBatchRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayRepository;
+import org.iot.hotelitybackend.hotelservice.repository.StayViewRepository;
+import org.iot.hotelitybackend.hotelservice.vo.RequestBatchCheckout;
+import org.iot.hotelitybackend.hotelservice.vo.RequestModifyStay;
+import org.iot.hotelitybackend.hotelservice.vo.StaySearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class StayServiceImplTests {
+
+	@Mock
+	private StayRepository stayRepository;
+
+	@Mock
+	private StayViewRepository stayViewRepository;
+
+	@Mock
+	private RoomAvailabilityIndex roomAvailabilityIndex;
+
+	@Mock
+	private PageQueryExecutor pageQueryExecutor;
+
+	@Mock
+	private StayCheckoutBatchRepository stayCheckoutBatchRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private StayServiceImpl stayService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		stayService = new StayServiceImpl(
+			stayRepository, stayViewRepository, new ModelMapper(), roomAvailabilityIndex, pageQueryExecutor,
+			stayCheckoutBatchRepository, eventPublisher);
+	}
+
+	private StayRepository.CheckinTarget createCheckinTarget(int stayStatus) {
+		ReservationViewEntity reservation = ReservationViewEntity.builder()
+			.reservationCodePk(1)
+			.customerCodeFk(7)
+			.customerName("홍길동")
+			.roomCodeFk("HQ_1")
+			.roomNumber(101)
+			.roomName("디럭스")
+			.roomLevelName("스탠다드")
+			.roomCapacity(2)
+			.branchCodeFk("HQ")
+			.reservationCheckoutDate(LocalDateTime.of(2024, 5, 3, 11, 0))
+			.stayStatus(stayStatus)
+			.stayPeriod("2박")
+			.build();
+
+		return new StayRepository.CheckinTarget() {
+			@Override
+			public ReservationViewEntity getReservation() {
+				return reservation;
+			}
+
+			@Override
+			public String getEmployeeName() {
+				return "김직원";
+			}
+		};
+	}
+
+	/* 체크인 정보 조회 1회 + INSERT 1회로 끝나고, 응답 DTO 를 위해 다시 조회하지 않는다 */
+	@Test
+	void testCheckinRunsOneLookupAndOneInsert() {
+		when(stayRepository.findCheckinTarget(1, 3)).thenReturn(Optional.of(createCheckinTarget(0)));
+		when(stayRepository.saveAndFlush(any(StayEntity.class))).thenAnswer(invocation -> {
+			StayEntity stayEntity = invocation.getArgument(0);
+			return StayEntity.builder()
+				.stayCodePk(10)
+				.stayCheckinTime(stayEntity.getStayCheckinTime())
+				.stayPeopleCount(stayEntity.getStayPeopleCount())
+				.employeeCodeFk(stayEntity.getEmployeeCodeFk())
+				.reservationCodeFk(stayEntity.getReservationCodeFk())
+				.build();
+		});
+
+		Map<String, Object> registStayInfo = stayService.registStayByReservationCodePk(1, 3, 2);
+		StayDTO stayDTO = (StayDTO)registStayInfo.get(KEY_CONTENT);
+
+		assertEquals(10, stayDTO.getStayCodePk());
+		assertEquals(2, stayDTO.getStayPeopleCount());
+		assertEquals("김직원", stayDTO.getPICEmployeeName());
+		assertEquals("홍길동", stayDTO.getCustomerName());
+		assertEquals(101, stayDTO.getRoomNumber());
+
+		verify(stayRepository).findCheckinTarget(1, 3);
+		verify(stayRepository).saveAndFlush(any(StayEntity.class));
+		verify(roomAvailabilityIndex).notifyReservationChanged(1);
+		verify(eventPublisher).publishEvent(CustomerProfileChangedEvent.of(7));
+		verifyNoMoreInteractions(stayRepository);
+		verifyNoInteractions(stayViewRepository);
+	}
+
+	@Test
+	void testCheckinOfAlreadyStayedReservationSkipsInsert() {
+		when(stayRepository.findCheckinTarget(1, 3)).thenReturn(Optional.of(createCheckinTarget(1)));
+
+		assertTrue(stayService.registStayByReservationCodePk(1, 3, 2).isEmpty());
+		verify(stayRepository, never()).saveAndFlush(any(StayEntity.class));
+	}
+
+	/* 조회 이후 다른 단말이 먼저 등록해 유니크 제약에 걸린 경우 */
+	@Test
+	void testCheckinLosingRaceIsTreatedAsAlreadyStayed() {
+		when(stayRepository.findCheckinTarget(1, 3)).thenReturn(Optional.of(createCheckinTarget(0)));
+		when(stayRepository.saveAndFlush(any(StayEntity.class)))
+			.thenThrow(new DataIntegrityViolationException("Duplicate entry '1' for key 'uk_stay_reservation_code_fk'"));
+		when(stayRepository.existsByReservationCodeFk(1)).thenReturn(true);
+
+		assertTrue(stayService.registStayByReservationCodePk(1, 3, 2).isEmpty());
+		verify(roomAvailabilityIndex, never()).notifyReservationChanged(any());
+	}
+
+	@Test
+	void testCheckinOverRoomCapacityThrows() {
+		when(stayRepository.findCheckinTarget(1, 3)).thenReturn(Optional.of(createCheckinTarget(0)));
+
+		assertThrows(IllegalArgumentException.class, () -> stayService.registStayByReservationCodePk(1, 3, 5));
+		verify(stayRepository, never()).saveAndFlush(any(StayEntity.class));
+	}
+
+	private StayEntity createStay(int stayCodePk, LocalDateTime stayCheckoutTime) {
+		return StayEntity.builder()
+			.stayCodePk(stayCodePk)
+			.stayCheckinTime(LocalDateTime.of(2024, 5, 1, 15, 0))
+			.stayCheckoutTime(stayCheckoutTime)
+			.stayPeopleCount(2)
+			.employeeCodeFk(3)
+			.reservationCodeFk(stayCodePk + 100)
+			.build();
+	}
+
+	/* 건별 결과를 돌려주고, 체크아웃 된 건만 모아 변경 알림은 한 번만 보낸다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testBatchCheckoutReturnsPerItemResults() {
+		LocalDateTime checkedOutBefore = LocalDateTime.of(2024, 5, 2, 10, 0);
+		when(stayRepository.findAllById(List.of(1, 2, 3, 4)))
+			.thenReturn(List.of(createStay(1, null), createStay(2, checkedOutBefore), createStay(4, null)));
+		// 4번은 조회 이후 다른 요청에서 먼저 체크아웃 됨
+		when(stayCheckoutBatchRepository.checkoutAll(eq(List.of(1, 4)), any(LocalDateTime.class)))
+			.thenReturn(new int[] {1, 0});
+		LocalDateTime checkedOutByOther = LocalDateTime.of(2024, 5, 2, 10, 30);
+		when(stayCheckoutBatchRepository.findCheckoutTimes(List.of(4))).thenReturn(Map.of(4, checkedOutByOther));
+
+		RequestBatchCheckout request = new RequestBatchCheckout();
+		request.setStayCodePkList(List.of(1, 2, 3, 4, 1));
+
+		Map<String, Object> checkoutStayInfo = stayService.modifyStaysCheckoutInBatch(request);
+		List<StayCheckoutResultDTO> results = (List<StayCheckoutResultDTO>)checkoutStayInfo.get(KEY_CONTENT);
+
+		assertEquals(List.of(
+			StayCheckoutResultDTO.RESULT_CHECKED_OUT,
+			StayCheckoutResultDTO.RESULT_ALREADY_CHECKED_OUT,
+			StayCheckoutResultDTO.RESULT_NOT_FOUND,
+			StayCheckoutResultDTO.RESULT_ALREADY_CHECKED_OUT
+		), results.stream().map(StayCheckoutResultDTO::getResult).toList());
+		assertEquals(checkedOutBefore, results.get(1).getStayCheckoutTime());
+		assertEquals(checkedOutByOther, results.get(3).getStayCheckoutTime());
+		assertEquals(1, checkoutStayInfo.get(KEY_CHECKED_OUT_COUNT));
+
+		verify(roomAvailabilityIndex).notifyReservationsChanged(List.of(101));
+		verify(roomAvailabilityIndex, never()).notifyReservationChanged(any());
+		verify(eventPublisher).publishEvent(OccupancyChangedEvent.of(101));
+	}
+
+	@Test
+	void testBatchCheckoutForBranchUsesDueTodayStays() {
+		when(stayViewRepository.findStayCodesDueForCheckout(eq("HQ"), any(LocalDateTime.class),
+			any(LocalDateTime.class))).thenReturn(List.of(1));
+		when(stayRepository.findAllById(List.of(1))).thenReturn(List.of(createStay(1, null)));
+		when(stayCheckoutBatchRepository.checkoutAll(eq(List.of(1)), any(LocalDateTime.class)))
+			.thenReturn(new int[] {Statement.SUCCESS_NO_INFO});
+
+		RequestBatchCheckout request = new RequestBatchCheckout();
+		request.setBranchCodeFk("HQ");
+
+		assertEquals(1, stayService.modifyStaysCheckoutInBatch(request).get(KEY_CHECKED_OUT_COUNT));
+	}
+
+	/* 일자별 조회는 [당일 0시, 다음날 0시) 로 조회해 23:59:59 이후 체크인도 포함한다 */
+	@Test
+	void testCheckinDateQueryUsesHalfOpenRange() {
+		LocalDateTime start = LocalDateTime.of(2024, 5, 1, 0, 0);
+		LocalDateTime end = LocalDateTime.of(2024, 5, 2, 0, 0);
+
+		stayService.selectStayByReservationCheckinDate("2024-05-01");
+		stayService.selectStayByReservationCheckinDate("2024-05-01", "HQ");
+
+		verify(stayViewRepository).findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThan(start, end);
+		verify(stayViewRepository)
+			.findAllByStayCheckinTimeGreaterThanEqualAndStayCheckinTimeLessThanAndBranchCodeFk(start, end, "HQ");
+	}
+
+	/* 단건 체크아웃도 체크아웃 시간이 비어 있는 경우에만 UPDATE 하고, 변경 알림은 한 번씩만 보낸다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testCheckoutUsesGuardedUpdate() {
+		when(stayRepository.findById(1)).thenReturn(Optional.of(createStay(1, null)));
+		when(stayCheckoutBatchRepository.checkoutAll(eq(List.of(1)), any(LocalDateTime.class)))
+			.thenReturn(new int[] {1});
+		when(stayViewRepository.findById(1)).thenReturn(Optional.of(StayViewEntity.builder()
+			.stayCodePk(1)
+			.reservationCodeFk(101)
+			.customerCodeFk(7)
+			.build()));
+
+		List<StayDTO> stayDTOList = (List<StayDTO>)stayService.modifyStayCheckoutDate(1).get(KEY_CONTENT);
+
+		assertEquals(7, stayDTOList.get(0).getCustomerCodeFk());
+		verify(stayRepository, never()).save(any(StayEntity.class));
+		verify(roomAvailabilityIndex).notifyReservationChanged(101);
+		verify(eventPublisher).publishEvent(OccupancyChangedEvent.of(101));
+		verify(eventPublisher).publishEvent(CustomerProfileChangedEvent.of(List.of(7)));
+	}
+
+	/* 조회 이후 다른 요청이 먼저 체크아웃 한 경우 반영하지 않고 알리지도 않는다 */
+	@Test
+	void testCheckoutLosingRaceReturnsEmpty() {
+		when(stayRepository.findById(1)).thenReturn(Optional.of(createStay(1, null)));
+		when(stayCheckoutBatchRepository.checkoutAll(eq(List.of(1)), any(LocalDateTime.class)))
+			.thenReturn(new int[] {0});
+
+		assertTrue(stayService.modifyStayCheckoutDate(1).isEmpty());
+		verify(roomAvailabilityIndex, never()).notifyReservationChanged(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void testCheckoutOfUnknownStayThrows() {
+		when(stayRepository.findById(1)).thenReturn(Optional.empty());
+
+		assertThrows(NoSuchElementException.class, () -> stayService.modifyStayCheckoutDate(1));
+		verifyNoInteractions(stayCheckoutBatchRepository);
+	}
+
+	@Test
+	void testBatchCheckoutWithoutTargetThrows() {
+		assertThrows(IllegalArgumentException.class,
+			() -> stayService.modifyStaysCheckoutInBatch(new RequestBatchCheckout()));
+	}
+
+	/* 예약이 바뀌면 응답은 반영 후 뷰에서 읽은 값이고, 변경 전/후 고객과 예약 모두 알린다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testModifyStayReadsViewAfterFlushAndNotifiesBothCustomers() {
+		when(stayRepository.findById(1)).thenReturn(Optional.of(createStay(1, null)));
+		when(stayViewRepository.findCustomerCodesByStayCodePkIn(List.of(1))).thenReturn(List.of(7));
+		when(stayRepository.saveAndFlush(any(StayEntity.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		when(stayViewRepository.findAllById(List.of(1))).thenReturn(List.of(StayViewEntity.builder()
+			.stayCodePk(1)
+			.reservationCodeFk(202)
+			.customerCodeFk(8)
+			.build()));
+
+		RequestModifyStay request = new RequestModifyStay();
+		request.setStayPeopleCount(3);
+		request.setReservationCodeFk(202);
+
+		List<StayDTO> stayDTOList = (List<StayDTO>)stayService.modifyStayInfo(request, 1).get(KEY_CONTENT);
+
+		assertEquals(8, stayDTOList.get(0).getCustomerCodeFk());
+		assertEquals(202, stayDTOList.get(0).getReservationCodeFk());
+		InOrder inOrder = inOrder(stayRepository, stayViewRepository);
+		inOrder.verify(stayRepository).saveAndFlush(any(StayEntity.class));
+		inOrder.verify(stayViewRepository).findAllById(List.of(1));
+		verify(eventPublisher).publishEvent(CustomerProfileChangedEvent.of(List.of(7, 8)));
+		verify(eventPublisher).publishEvent(OccupancyChangedEvent.of(List.of(101, 202)));
+	}
+
+	private StaySearchCriteria createListCriteria(Integer pageNum, String orderBy, Integer sortBy) {
+		return new StaySearchCriteria(pageNum, null, null, null, null, null, null, null, null, null, null, null, null,
+			null, null, null, null, null, orderBy, sortBy);
+	}
+
+	/* 정렬 방향(sortBy)이 없으면 오름차순 (오프셋 페이징) */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testPagedListDefaultsMissingSortByToAscending() {
+		when(pageQueryExecutor.findPage(eq(StayViewEntity.class), any(Specification.class), any(Pageable.class),
+			any(), any()))
+			.thenReturn(new PageImpl<>(List.of()));
+
+		stayService.selectStaysList(createListCriteria(0, "roomNumber", null));
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(pageQueryExecutor).findPage(eq(StayViewEntity.class), any(Specification.class),
+			pageableCaptor.capture(), any(), any());
+		assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("roomNumber").getDirection());
+	}
+
+	/* 정렬 방향(sortBy)이 없어도 키셋 페이징이 실패하지 않는다 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testKeysetListAcceptsMissingSortBy() {
+		when(stayViewRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(List.of());
+		StaySearchCriteria criteria = createListCriteria(null, "roomNumber", null);
+		criteria.setCursor("");
+
+		Map<String, Object> stayListInfo = stayService.selectStaysList(criteria);
+
+		assertEquals(List.of(), stayListInfo.get(KEY_CONTENT));
+		assertNull(stayListInfo.get(KEY_NEXT_CURSOR));
+	}
+
+	/* 허용되지 않은 정렬 필드는 쿼리 실행 전에 거부 (컨트롤러에서 400) */
+	@Test
+	void testListRejectsUnknownSortField() {
+		StaySearchCriteria pagedCriteria = createListCriteria(0, "customerPhoneNumber", 1);
+		StaySearchCriteria keysetCriteria = createListCriteria(null, "customerPhoneNumber", 1);
+		keysetCriteria.setCursor("");
+
+		assertThrows(IllegalArgumentException.class, () -> stayService.selectStaysList(pagedCriteria));
+		assertThrows(IllegalArgumentException.class, () -> stayService.selectStaysList(keysetCriteria));
+		verifyNoInteractions(pageQueryExecutor, stayViewRepository);
+	}
+
+	/* 다운로드는 목록과 같은 정렬에 투숙 코드를 더해 순서를 고정하고, 기준이 없으면 최근 체크인 순 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testStreamUsesListSort() {
+		when(pageQueryExecutor.stream(eq(StayViewEntity.class), any(Specification.class), any(Sort.class), anyInt(),
+			any(Function.class))).thenReturn(Stream.empty());
+
+		stayService.streamStaysList(createListCriteria(null, "roomNumber", 2));
+		stayService.streamStaysList(createListCriteria(null, null, null));
+
+		ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+		verify(pageQueryExecutor, times(2)).stream(eq(StayViewEntity.class), any(Specification.class),
+			sortCaptor.capture(), anyInt(), any(Function.class));
+		assertEquals(Sort.by(Sort.Direction.DESC, "roomNumber").and(Sort.by("stayCodePk")),
+			sortCaptor.getAllValues().get(0));
+		assertEquals(Sort.by("stayCheckinTime").descending().and(Sort.by("stayCodePk")),
+			sortCaptor.getAllValues().get(1));
+		assertThrows(IllegalArgumentException.class,
+			() -> stayService.streamStaysList(createListCriteria(null, "customerPhoneNumber", 1)));
+	}
+}
@@ -0,0 +1,92 @@
+package org.iot.hotelitybackend.sales.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.iot.hotelitybackend.sales.aggregate.MembershipIssueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* 고객별 최근 멤버십 발급 이력 조회가 실제 MariaDB 에서 고객 조회용 뷰와 같은 건을 고르는지 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다. */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class MembershipIssueRepositoryTests {
+
+	@Container
+	static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:10.11");
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+		registry.add("spring.datasource.username", mariaDB::getUsername);
+		registry.add("spring.datasource.password", mariaDB::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MembershipIssueRepository membershipIssueRepository;
+
+	@BeforeEach
+	void setUp() {
+		execute(
+			"DELETE FROM membership_issue_tb",
+			"INSERT INTO membership_issue_tb (membership_issue_code_pk, customer_code_fk, membership_issue_date, "
+				+ "membership_level_code_fk) "
+				+ "VALUES (1, 1, TIMESTAMP '2024-01-01 00:00:00', 1), "
+				+ "(2, 1, TIMESTAMP '2024-03-01 00:00:00', 2), "
+				+ "(3, 2, TIMESTAMP '2024-02-01 00:00:00', 1), "
+				+ "(4, 3, TIMESTAMP '2024-02-01 00:00:00', 3)");
+	}
+
+	// 외래 키 대상(고객, 멤버십)은 만들지 않으므로 같은 커넥션에서 검사를 끄고 실행
+	private void execute(String... sqls) {
+		new JdbcTemplate(dataSource).execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				for (String sql : sqls) {
+					statement.execute(sql);
+				}
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+	}
+
+	/* 요청한 고객마다 발급 코드가 가장 큰 이력 한 건만 돌려준다 */
+	@Test
+	void testFindLatestByCustomerCodeFkInReturnsOneIssuePerCustomer() {
+		List<MembershipIssueEntity> latestIssues = membershipIssueRepository.findLatestByCustomerCodeFkIn(List.of(1, 2));
+
+		Map<Integer, Integer> levelByCustomer = latestIssues.stream()
+			.collect(Collectors.toMap(MembershipIssueEntity::getCustomerCodeFk,
+				MembershipIssueEntity::getMembershipLevelCodeFk));
+		assertEquals(Map.of(1, 2, 2, 1), levelByCustomer);
+	}
+}